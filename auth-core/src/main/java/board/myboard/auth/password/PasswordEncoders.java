@@ -0,0 +1,159 @@
+package board.myboard.auth.password;
+
+import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.LdapShaPasswordEncoder;
+import org.springframework.security.crypto.password.Md4PasswordEncoder;
+import org.springframework.security.crypto.password.MessageDigestPasswordEncoder;
+import org.springframework.security.crypto.password.NoOpPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
+import org.springframework.security.crypto.password.StandardPasswordEncoder;
+import org.springframework.security.crypto.scrypt.SCryptPasswordEncoder;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 설정 가능한 DelegatingPasswordEncoder 생성.
+ *
+ * PasswordEncoderFactories.createDelegatingPasswordEncoder()는 bcrypt(strength 10) 고정이라
+ * 알고리즘, 비용을 바꿀 수 없어서 직접 만든다.
+ *
+ * - algorithm : 새로 암호화할 때 쓸 id (bcrypt, pbkdf2, scrypt, argon2)
+ *   scrypt, argon2 는 BouncyCastle(bcprov) 구현을 사용한다.
+ * - 검증용 id는 PasswordEncoderFactories와 같다. (ldap, MD4, MD5, SHA-1, SHA-256, sha256, noop 포함)
+ *   -> 이전에 어떤 id로 저장된 해시든 로그인할 수 있고, 로그인 시 현재 알고리즘으로 재암호화된다.
+ * - {pbkdf2} 는 PasswordEncoderFactories와 같은 스프링 기본값 (salt 8 byte, 185000번, 256 bit)
+ * - 새로 pbkdf2로 암호화할 때는 반복 횟수가 해시에 저장되지 않으므로 id에 넣는다. ({pbkdf2@310000}, salt 16 byte)
+ *   pbkdf2-iterations를 바꿔도 기존 해시는 저장된 반복 횟수로 검증되고, 로그인 시 새 반복 횟수로 재암호화된다.
+ * - upgradeEncoding() : id가 다르거나, bcrypt strength가 설정보다 낮으면 true -> 로그인 시 재암호화
+ * - isEncoded() : 지원하는 id + 형식이 맞는 해시인지 (외부에서 받은 해시를 그대로 저장해도 되는지)
+ */
+public final class PasswordEncoders {
+
+    public static final String BCRYPT = "bcrypt";
+    public static final String PBKDF2 = "pbkdf2";
+    public static final String SCRYPT = "scrypt";
+    public static final String ARGON2 = "argon2";
+    private static final String NOOP = "noop";
+    // 새로 암호화할 때 쓸 수 있는 id (나머지는 검증만)
+    private static final Set<String> ENCODING_IDS = Set.of(BCRYPT, PBKDF2, SCRYPT, ARGON2);
+
+    private static final String PBKDF2_ITERATIONS_PREFIX = PBKDF2 + "@";
+    // 저장된 값으로 검증할 때 허용하는 최대 반복 횟수 (잘못된 값으로 요청이 오래 걸리지 않도록)
+    private static final int PBKDF2_MAX_ITERATIONS = 10_000_000;
+
+    // {id} 또는 {pbkdf2@N} 접두사 + 해시
+    private static final Pattern PREFIXED = Pattern.compile("\\{([a-z0-9]+)(@[1-9][0-9]{0,7})?}(.+)");
+    // id별 해시 형식 (noop 은 평문이므로 없음)
+    private static final Map<String, Pattern> HASH_FORMATS = Map.of(
+            BCRYPT, Pattern.compile("\\$2[aby]?\\$\\d{2}\\$[./A-Za-z0-9]{53}"),
+            // {pbkdf2} : salt 8 byte + hash 32 byte (hex)
+            PBKDF2, Pattern.compile("[0-9a-f]{80}"),
+            SCRYPT, Pattern.compile("\\$[0-9a-f]+\\$[A-Za-z0-9+/]+=*\\$[A-Za-z0-9+/]+=*"),
+            ARGON2, Pattern.compile("\\$argon2(id|i|d)\\$v=\\d+\\$m=\\d+,t=\\d+,p=\\d+\\$[A-Za-z0-9+/]+=*\\$[A-Za-z0-9+/]+=*"));
+    // {pbkdf2@N} : salt 16 byte + hash 32 byte (hex)
+    private static final Pattern PBKDF2_ITERATIONS_FORMAT = Pattern.compile("[0-9a-f]{96}");
+
+    private PasswordEncoders() {
+    }
+
+    /**
+     * 이 애플리케이션이 검증할 수 있는 해시인지. ({noop}, 모르는 id, 형식이 틀린 해시는 false)
+     */
+    public static boolean isEncoded(String password) {
+        Matcher matcher = PREFIXED.matcher(password);
+        if (!matcher.matches()) {
+            return false;
+        }
+        String id = matcher.group(1);
+        if (matcher.group(2) != null) {
+            return PBKDF2.equals(id) && PBKDF2_ITERATIONS_FORMAT.matcher(matcher.group(3)).matches();
+        }
+        Pattern format = HASH_FORMATS.get(id);
+        return format != null && format.matcher(matcher.group(3)).matches();
+    }
+
+    public static PasswordEncoder create(String algorithm, int bcryptStrength, int pbkdf2Iterations) {
+        if (!ENCODING_IDS.contains(algorithm)) {
+            throw new IllegalArgumentException("지원하지 않는 비밀번호 암호화 알고리즘입니다. " + algorithm);
+        }
+        Map<String, PasswordEncoder> encoders = factoryEncoders();
+        encoders.put(BCRYPT, new BCryptPasswordEncoder(bcryptStrength));
+        encoders.put(pbkdf2Id(pbkdf2Iterations), pbkdf2(pbkdf2Iterations));
+
+        String encodingId = PBKDF2.equals(algorithm) ? pbkdf2Id(pbkdf2Iterations) : algorithm;
+        DelegatingPasswordEncoder delegating = new DelegatingPasswordEncoder(encodingId, encoders);
+        // 현재 설정과 반복 횟수가 다른 {pbkdf2@N} 해시
+        delegating.setDefaultPasswordEncoderForMatches(new Pbkdf2IterationsMatcher());
+        return delegating;
+    }
+
+    /**
+     * PasswordEncoderFactories.createDelegatingPasswordEncoder()와 같은 id -> encoder.
+     * (map을 꺼낼 수 없으므로 같은 내용으로 만든다. 스프링 버전을 올리면 함께 확인)
+     */
+    @SuppressWarnings("deprecation")
+    private static Map<String, PasswordEncoder> factoryEncoders() {
+        Map<String, PasswordEncoder> encoders = new HashMap<>();
+        encoders.put(BCRYPT, new BCryptPasswordEncoder());
+        encoders.put("ldap", new LdapShaPasswordEncoder());
+        encoders.put("MD4", new Md4PasswordEncoder());
+        encoders.put("MD5", new MessageDigestPasswordEncoder("MD5"));
+        encoders.put(NOOP, NoOpPasswordEncoder.getInstance());
+        encoders.put(PBKDF2, new Pbkdf2PasswordEncoder());
+        encoders.put(SCRYPT, new SCryptPasswordEncoder());
+        encoders.put("SHA-1", new MessageDigestPasswordEncoder("SHA-1"));
+        encoders.put("SHA-256", new MessageDigestPasswordEncoder("SHA-256"));
+        encoders.put("sha256", new StandardPasswordEncoder());
+        encoders.put(ARGON2, new Argon2PasswordEncoder());
+        return encoders;
+    }
+
+    private static String pbkdf2Id(int iterations) {
+        return PBKDF2_ITERATIONS_PREFIX + iterations;
+    }
+
+    private static Pbkdf2PasswordEncoder pbkdf2(int iterations) {
+        return new Pbkdf2PasswordEncoder("", 16, iterations, 256);
+    }
+
+    /**
+     * 등록되지 않은 id의 해시 검증. {pbkdf2@N} 이면 N번 반복하는 encoder로 검증, 나머지는 예외.
+     * (DelegatingPasswordEncoder가 {id} 접두사를 포함한 값을 그대로 넘긴다)
+     */
+    private static class Pbkdf2IterationsMatcher implements PasswordEncoder {
+
+        private final Map<Integer, Pbkdf2PasswordEncoder> encoders = new ConcurrentHashMap<>();
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            throw new UnsupportedOperationException("검증 전용입니다.");
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String prefixEncodedPassword) {
+            int end = prefixEncodedPassword == null ? -1 : prefixEncodedPassword.indexOf('}');
+            if (end < 0 || !prefixEncodedPassword.startsWith("{" + PBKDF2_ITERATIONS_PREFIX)) {
+                throw new IllegalArgumentException("지원하지 않는 비밀번호 해시 형식입니다.");
+            }
+            int iterations;
+            try {
+                iterations = Integer.parseInt(prefixEncodedPassword.substring(PBKDF2_ITERATIONS_PREFIX.length() + 1, end));
+            } catch (NumberFormatException e) {
+                return false;
+            }
+            if (iterations <= 0 || iterations > PBKDF2_MAX_ITERATIONS) {
+                return false;
+            }
+            return encoders.computeIfAbsent(iterations, PasswordEncoders::pbkdf2)
+                    .matches(rawPassword, prefixEncodedPassword.substring(end + 1));
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package board.myboard.auth.ratelimit;
+
+import org.springframework.security.core.AuthenticationException;
+
+/**
+ * 로그인 시도 제한 초과 -> LoginFailHandler에서 429 (Retry-After) 응답
+ */
+public class LoginRateLimitException extends AuthenticationException {
+
+    private final long retryAfterSeconds;
+
+    public LoginRateLimitException(String msg, long retryAfterMillis) {
+        super(msg);
+        this.retryAfterSeconds = Math.max(1, (retryAfterMillis + 999) / 1000);
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -0,0 +1,76 @@
+package board.myboard.auth.ratelimit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 로그인 시도 제한 / 잠금.
+ *
+ * - IP : window 동안 로그인 시도 ip-limit 회 초과 시 거부
+ * - username : window 동안 로그인 실패 username-failure-limit 회 초과 시 잠금
+ *
+ * 회원 조회, BCrypt 비교 전에 확인하므로 거부된 요청은 DB, 해시 비용이 들지 않는다.
+ * 노드 메모리에서 세므로 제한은 노드(메인 애플리케이션, 게이트웨이)마다 따로 적용된다.
+ *
+ * 메트릭 : login.rate_limit.rejected (key=ip|username), login.rate_limit.failures
+ */
+public class LoginRateLimiter {
+
+    private final boolean enabled;
+    private final SlidingWindowRateLimiter ipLimiter;
+    private final SlidingWindowRateLimiter usernameLimiter;
+
+    private final Counter ipRejected;
+    private final Counter usernameRejected;
+    private final Counter failures;
+
+    public LoginRateLimiter(MeterRegistry meterRegistry, boolean enabled, long windowMillis,
+                            int ipLimit, int usernameFailureLimit, int stripes) {
+        this.enabled = enabled;
+        this.ipLimiter = new SlidingWindowRateLimiter(ipLimit, windowMillis, stripes, System::currentTimeMillis);
+        this.usernameLimiter = new SlidingWindowRateLimiter(usernameFailureLimit, windowMillis, stripes, System::currentTimeMillis);
+
+        this.ipRejected = rejected(meterRegistry, "ip");
+        this.usernameRejected = rejected(meterRegistry, "username");
+        this.failures = Counter.builder("login.rate_limit.failures")
+                .description("기록된 로그인 실패 수")
+                .register(meterRegistry);
+    }
+
+    private static Counter rejected(MeterRegistry meterRegistry, String key) {
+        return Counter.builder("login.rate_limit.rejected")
+                .description("시도 제한으로 거부된 로그인 요청 수")
+                .tag("key", key)
+                .register(meterRegistry);
+    }
+
+    public void checkIp(String ip) {
+        if (!enabled) {
+            return;
+        }
+        long retryAfter = ipLimiter.tryAcquire(ip);
+        if (retryAfter > 0) {
+            ipRejected.increment();
+            throw new LoginRateLimitException("로그인 시도가 너무 많습니다.", retryAfter);
+        }
+    }
+
+    public void checkUsername(String username) {
+        if (!enabled || username == null) {
+            return;
+        }
+        long retryAfter = usernameLimiter.check(username);
+        if (retryAfter > 0) {
+            usernameRejected.increment();
+            throw new LoginRateLimitException("로그인 실패가 많아 잠긴 계정입니다.", retryAfter);
+        }
+    }
+
+    public void recordFailure(String username) {
+        if (!enabled || username == null) {
+            return;
+        }
+        usernameLimiter.record(username);
+        failures.increment();
+    }
+}
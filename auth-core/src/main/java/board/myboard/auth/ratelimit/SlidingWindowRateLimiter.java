@@ -0,0 +1,116 @@
+package board.myboard.auth.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.LongSupplier;
+
+/**
+ * 락 없이(CAS) 동작하는 슬라이딩 윈도우 카운터.
+ *
+ * - 키마다 카운터를 만들지 않고, 키의 해시로 고정 개수(stripes)의 카운터 중 하나를 사용 -> 메모리 고정.
+ *   (해시가 겹치는 키끼리는 카운트를 공유하므로 제한이 더 빨리 걸릴 수는 있지만, 덜 걸리지는 않는다.)
+ * - 카운터 하나 = long 하나 : [윈도우 번호 32bit][이전 윈도우 카운트 16bit][현재 윈도우 카운트 16bit]
+ * - 추정치 = 이전 카운트 * (현재 윈도우의 남은 비율) + 현재 카운트
+ *
+ * 반환값은 모두 "다시 시도할 수 있을 때까지 남은 시간(ms)" 이고, 0이면 허용.
+ */
+public class SlidingWindowRateLimiter {
+
+    private static final long COUNT_MASK = 0xFFFFL;
+    private static final int MAX_COUNT = 0xFFFF;
+
+    private final int limit;
+    private final long windowMillis;
+    private final AtomicLongArray counters;
+    private final int mask;
+    private final LongSupplier clock;
+
+    public SlidingWindowRateLimiter(int limit, long windowMillis, int stripes, LongSupplier clock) {
+        if (limit <= 0 || limit > MAX_COUNT) {
+            throw new IllegalArgumentException("limit은 1 ~ " + MAX_COUNT + " 이어야 합니다. " + limit);
+        }
+        if (Integer.bitCount(stripes) != 1) {
+            throw new IllegalArgumentException("stripes는 2의 거듭제곱이어야 합니다. " + stripes);
+        }
+        this.limit = limit;
+        this.windowMillis = windowMillis;
+        this.counters = new AtomicLongArray(stripes);
+        this.mask = stripes - 1;
+        this.clock = clock;
+    }
+
+    // 허용되면 카운트를 올린다.
+    public long tryAcquire(String key) {
+        int index = index(key);
+        while (true) {
+            long now = clock.getAsLong();
+            long state = counters.get(index);
+            long current = roll(state, now / windowMillis);
+
+            long retryAfter = retryAfterMillis(now, current);
+            if (retryAfter > 0) {
+                return retryAfter;
+            }
+            if (counters.compareAndSet(index, state, increment(current))) {
+                return 0;
+            }
+        }
+    }
+
+    // 확인만 하고 카운트는 올리지 않는다.
+    public long check(String key) {
+        long now = clock.getAsLong();
+        return retryAfterMillis(now, roll(counters.get(index(key)), now / windowMillis));
+    }
+
+    // 허용 여부와 상관없이 카운트만 올린다.
+    public void record(String key) {
+        int index = index(key);
+        while (true) {
+            long state = counters.get(index);
+            long current = roll(state, clock.getAsLong() / windowMillis);
+            if (counters.compareAndSet(index, state, increment(current))) {
+                return;
+            }
+        }
+    }
+
+    private int index(String key) {
+        int h = key.hashCode() * 0x9E3779B9;
+        return (h ^ (h >>> 16)) & mask;
+    }
+
+    // 윈도우가 바뀌었으면 현재 카운트를 이전 카운트로 넘긴다.
+    private static long roll(long state, long window) {
+        long stateWindow = state >>> 32;
+        long currentWindow = window & 0xFFFFFFFFL;
+        if (stateWindow == currentWindow) {
+            return state;
+        }
+        long previous = ((stateWindow + 1) & 0xFFFFFFFFL) == currentWindow ? state & COUNT_MASK : 0;
+        return (currentWindow << 32) | (previous << 16);
+    }
+
+    private static long increment(long state) {
+        long count = state & COUNT_MASK;
+        return count == MAX_COUNT ? state : state + 1;
+    }
+
+    private long retryAfterMillis(long now, long state) {
+        int previous = (int) ((state >>> 16) & COUNT_MASK);
+        int current = (int) (state & COUNT_MASK);
+        long elapsed = now % windowMillis;
+        double remainingRatio = (windowMillis - elapsed) / (double) windowMillis;
+
+        if (previous * remainingRatio + current + 1 <= limit) {
+            return 0;
+        }
+        if (current + 1 > limit) {
+            // 다음 윈도우에서 current * (1 - f) + 1 <= limit 이 되는 시점
+            double f = 1 - (double) (limit - 1) / current;
+            return (windowMillis - elapsed) + (long) Math.ceil(f * windowMillis);
+        }
+        // 현재 윈도우에서 previous * (1 - f) + current + 1 <= limit 이 되는 시점
+        double f = 1 - (double) (limit - current - 1) / previous;
+        return Math.max(1, (long) Math.ceil(f * windowMillis) - elapsed);
+    }
+}
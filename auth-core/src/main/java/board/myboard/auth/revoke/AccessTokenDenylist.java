@@ -0,0 +1,226 @@
+package board.myboard.auth.revoke;
+
+import board.myboard.jwt.verifier.JwtClaims;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.util.Date;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.LongSupplier;
+
+/**
+ * 폐기된 AccessToken(jti) 목록. 만료 전 토큰을 막기 위해 인증 필터가 요청마다 확인.
+ * (메인 애플리케이션 JwtAuthenticationProcessingFilter, 게이트웨이 JwtReactiveAuthenticationManager)
+ *
+ * - Bloom filter로 먼저 거르고(대부분 "없음"에서 끝남), 있을 수도 있으면 지문 집합(FingerprintSet)으로 확인.
+ *   -> 조회는 O(1), 락/할당 없음 (Bloom filter를 통과한 경우만 스트라이프 lock)
+ *   -> 10M건 폐기 시 Bloom filter 약 12MB + 지문 집합 약 268MB (건당 약 28 byte)
+ * - 토큰 만료 시각 기준으로 window(= AccessToken 유효 시간) 단위 세대(generation)에 담는다.
+ *   window가 끝나면 그 세대의 토큰은 모두 만료됐으므로 세대를 통째로 버린다. -> 메모리는 유효 시간 동안의 폐기 건수만큼.
+ * - 만료 시각은 최대 now + window 이므로 살아있는 세대는 많아야 2개. (슬롯 3개를 돌려 씀)
+ * - 회원 단위 폐기(revokeAll) : username -> 시각. 그 시각(초) 이전에 발급된(iat) 토큰을 모두 거부한다.
+ *   (토큰 재사용 감지, 권한/비밀번호 변경처럼 발급된 jti를 모두 알 수 없는 경우)
+ *   iat는 초 단위이므로 같은 초에 발급된 토큰도 함께 폐기된다. 유효 시간이 지나면 purge에서 버린다.
+ * - 노드 메모리에만 있으므로 여러 노드라면 폐기 이벤트를 각 노드에 전달해야 한다.
+ *   (각 애플리케이션의 AccessTokenRevocations 가 access_token_revocation 테이블로 주고받음)
+ * - 스프링 빈이 아니다. 각 애플리케이션에서 빈으로 등록하고 purge()를 주기적으로 호출해야 한다.
+ *
+ * 메트릭 : jwt.revocation.size, jwt.revocation.memory (byte) (MeterBinder 빈으로 등록하면 자동 등록)
+ */
+public class AccessTokenDenylist implements MeterBinder {
+
+    private static final int SLOTS = 3;
+
+    private final boolean enabled;
+    private final long windowMillis;
+    private final long expectedRevocations;
+    private final double fpp;
+    private final LongSupplier clock;
+
+    private final AtomicReferenceArray<Generation> generations = new AtomicReferenceArray<>(SLOTS);
+    // username -> 이 시각(epoch second) 이하에 발급된 토큰 폐기
+    private final ConcurrentHashMap<String, Long> revokedBefore = new ConcurrentHashMap<>();
+
+    /**
+     * @param windowMillis AccessToken 유효 시간 (ms)
+     */
+    public AccessTokenDenylist(boolean enabled, long windowMillis, long expectedRevocations, double fpp, LongSupplier clock) {
+        this.enabled = enabled;
+        this.windowMillis = Math.max(1, windowMillis);
+        this.expectedRevocations = expectedRevocations;
+        this.fpp = fpp;
+        this.clock = clock;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry meterRegistry) {
+        Gauge.builder("jwt.revocation.size", this, AccessTokenDenylist::size)
+                .description("폐기된(만료 전) AccessToken 수")
+                .register(meterRegistry);
+        Gauge.builder("jwt.revocation.memory", this, AccessTokenDenylist::memoryBytes)
+                .description("폐기 목록 메모리 (Bloom filter + 지문 집합)")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    /**
+     * jti가 없거나(이전에 발급된 토큰) 이미 만료된 토큰은 기록하지 않는다.
+     */
+    public void revoke(DecodedJWT accessToken) {
+        Date expiresAt = accessToken.getExpiresAt();
+        if (accessToken.getId() != null && expiresAt != null) {
+            revoke(accessToken.getId(), expiresAt.getTime());
+        }
+    }
+
+    public void revoke(String jti, long expiresAtMillis) {
+        if (!enabled || expiresAtMillis <= clock.getAsLong()) {
+            return;
+        }
+        generation(expiresAtMillis / windowMillis).add(jti);
+    }
+
+    /**
+     * 회원의 지금까지 발급된 AccessToken 전체 폐기
+     */
+    public void revokeAll(String username) {
+        revokeAll(username, clock.getAsLong() / 1000);
+    }
+
+    /**
+     * 다른 노드에서 받은 회원 단위 폐기 (revokedBeforeSeconds 이하에 발급된 토큰 폐기)
+     */
+    public void revokeAll(String username, long revokedBeforeSeconds) {
+        if (!enabled || username == null) {
+            return;
+        }
+        revokedBefore.merge(username, revokedBeforeSeconds, Math::max);
+    }
+
+    public boolean isRevoked(DecodedJWT accessToken) {
+        Date expiresAt = accessToken.getExpiresAt();
+        if (expiresAt == null) {
+            return false;
+        }
+        return isRevoked(accessToken.getId(), expiresAt.getTime()) || isRevokedByMember(accessToken);
+    }
+
+    // 회원 단위 폐기가 없으면(대부분) 클레임을 읽지 않는다. iat가 없는 (이전에 발급된) 토큰은 폐기된 것으로 본다.
+    private boolean isRevokedByMember(DecodedJWT accessToken) {
+        if (!enabled || revokedBefore.isEmpty()) {
+            return false;
+        }
+        String username = accessToken.getClaim(JwtClaims.USERNAME).asString();
+        Long revokedBeforeSeconds = username == null ? null : revokedBefore.get(username);
+        if (revokedBeforeSeconds == null) {
+            return false;
+        }
+        Date issuedAt = accessToken.getIssuedAt();
+        return issuedAt == null || issuedAt.getTime() / 1000 <= revokedBeforeSeconds;
+    }
+
+    public boolean isRevoked(String jti, long expiresAtMillis) {
+        if (!enabled || jti == null) {
+            return false;
+        }
+        long window = expiresAtMillis / windowMillis;
+        Generation generation = generations.get(slot(window));
+        return generation != null && generation.window == window && generation.contains(jti);
+    }
+
+    /**
+     * 끝난 window의 세대를 버린다. (새 세대가 슬롯을 덮어쓰기 전에 메모리를 먼저 돌려줌)
+     */
+    public void purge() {
+        // 폐기 시각 이전에 발급된 토큰이 모두 만료된 회원
+        long now = clock.getAsLong();
+        revokedBefore.values().removeIf(seconds -> (seconds + 1) * 1000 + windowMillis <= now);
+
+        long currentWindow = now / windowMillis;
+        for (int i = 0; i < SLOTS; i++) {
+            Generation generation = generations.get(i);
+            if (generation != null && generation.window < currentWindow) {
+                generations.compareAndSet(i, generation, null);
+            }
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public long size() {
+        long size = 0;
+        for (int i = 0; i < SLOTS; i++) {
+            Generation generation = generations.get(i);
+            if (generation != null) {
+                size += generation.fingerprints.size();
+            }
+        }
+        return size;
+    }
+
+    public long memoryBytes() {
+        long bytes = 0;
+        for (int i = 0; i < SLOTS; i++) {
+            Generation generation = generations.get(i);
+            if (generation != null) {
+                bytes += generation.bloomFilter.memoryBytes() + generation.fingerprints.memoryBytes();
+            }
+        }
+        return bytes;
+    }
+
+    private Generation generation(long window) {
+        int slot = slot(window);
+        while (true) {
+            Generation generation = generations.get(slot);
+            if (generation != null && generation.window == window) {
+                return generation;
+            }
+            // 비어있거나 끝난 window의 세대 -> 새 세대로 교체
+            if (generation == null || generation.window < window) {
+                Generation created = new Generation(window, expectedRevocations, fpp);
+                if (generations.compareAndSet(slot, generation, created)) {
+                    return created;
+                }
+            } else {
+                // 더 새로운 세대가 이미 있음 (window가 SLOTS 이상 차이나는 경우는 없음)
+                return generation;
+            }
+        }
+    }
+
+    private static int slot(long window) {
+        return (int) (window % SLOTS);
+    }
+
+    private static class Generation {
+
+        private final long window;
+        private final BloomFilter bloomFilter;
+        private final FingerprintSet fingerprints;
+
+        Generation(long window, long expectedRevocations, double fpp) {
+            this.window = window;
+            this.bloomFilter = new BloomFilter(expectedRevocations, fpp);
+            this.fingerprints = new FingerprintSet();
+        }
+
+        void add(String jti) {
+            long high = JtiHash.high(jti);
+            // 지문을 먼저 넣어야 Bloom filter가 true일 때 항상 지문이 있다.
+            fingerprints.add(high, JtiHash.low(jti));
+            bloomFilter.put(high);
+        }
+
+        // 지문의 나머지 64bit는 Bloom filter를 통과했을 때만 계산
+        boolean contains(String jti) {
+            long high = JtiHash.high(jti);
+            return bloomFilter.mightContain(high) && fingerprints.contains(high, JtiHash.low(jti));
+        }
+    }
+}
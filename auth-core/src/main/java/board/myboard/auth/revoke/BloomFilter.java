@@ -0,0 +1,70 @@
+package board.myboard.auth.revoke;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 락 없는(CAS) Bloom filter.
+ *
+ * - false : 확실히 없음 / true : 있을 수도 있음 (오탐률 fpp)
+ * - 해시 함수 k개는 64bit 해시 하나에서 두 값을 만들어 섞는다. (h1 + i * h2, Kirsch-Mitzenmacher)
+ *   -> 대부분의 조회("없음")는 jti 문자열을 한 번만 읽는다.
+ * - 비트 수 m = -n ln(p) / (ln 2)^2, k = m / n * ln 2 (n = expectedInsertions)
+ */
+class BloomFilter {
+
+    private final AtomicLongArray bits;
+    private final long bitCount;
+    private final int hashCount;
+
+    BloomFilter(long expectedInsertions, double fpp) {
+        if (expectedInsertions <= 0 || fpp <= 0 || fpp >= 1) {
+            throw new IllegalArgumentException("expectedInsertions > 0, 0 < fpp < 1 이어야 합니다.");
+        }
+        long words = Math.max(1, (long) Math.ceil(-expectedInsertions * Math.log(fpp) / (Math.log(2) * Math.log(2)) / 64));
+        if (words > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Bloom filter가 너무 큽니다. expectedInsertions: " + expectedInsertions);
+        }
+        this.bits = new AtomicLongArray((int) words);
+        this.bitCount = words * 64;
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / expectedInsertions * Math.log(2)));
+    }
+
+    void put(long hash) {
+        long second = secondHash(hash);
+        for (int i = 0; i < hashCount; i++) {
+            long bit = bitIndex(hash, second, i);
+            int word = (int) (bit >>> 6);
+            long mask = 1L << bit;
+            long current;
+            do {
+                current = bits.get(word);
+                if ((current & mask) != 0) {
+                    break;
+                }
+            } while (!bits.compareAndSet(word, current, current | mask));
+        }
+    }
+
+    boolean mightContain(long hash) {
+        long second = secondHash(hash);
+        for (int i = 0; i < hashCount; i++) {
+            long bit = bitIndex(hash, second, i);
+            if ((bits.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    long memoryBytes() {
+        return bitCount / 8;
+    }
+
+    private long bitIndex(long hash, long second, int i) {
+        return ((hash + i * second) & Long.MAX_VALUE) % bitCount;
+    }
+
+    private static long secondHash(long hash) {
+        return JtiHash.mix(hash + 0x9e3779b97f4a7c15L) | 1;
+    }
+}
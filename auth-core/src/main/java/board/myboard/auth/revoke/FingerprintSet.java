@@ -0,0 +1,130 @@
+package board.myboard.auth.revoke;
+
+/**
+ * 128bit 해시(jti 지문) 집합. Bloom filter가 true일 때만 조회하는 정확한 확인용.
+ *
+ * - 문자열을 그대로 담는 대신 long 두 개만 저장 (open addressing, 선형 탐사)
+ *   -> 항목당 32 ~ 43 byte, 객체 할당 없음.
+ * - 스트라이프마다 lock. 조회는 Bloom filter를 통과한 요청(폐기된 토큰 + 오탐)에서만 일어난다.
+ */
+class FingerprintSet {
+
+    private static final int STRIPES = 64;
+    private static final double LOAD_FACTOR = 0.75;
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final Stripe[] stripes = new Stripe[STRIPES];
+
+    // 폐기가 거의 없는 평소에는 작게 시작해서 필요할 때 늘린다.
+    FingerprintSet() {
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new Stripe(INITIAL_CAPACITY);
+        }
+    }
+
+    boolean add(long high, long low) {
+        Stripe stripe = stripes[stripe(low)];
+        synchronized (stripe) {
+            return stripe.add(high, low);
+        }
+    }
+
+    boolean contains(long high, long low) {
+        Stripe stripe = stripes[stripe(low)];
+        synchronized (stripe) {
+            return stripe.contains(high, low);
+        }
+    }
+
+    long size() {
+        long size = 0;
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                size += stripe.size;
+            }
+        }
+        return size;
+    }
+
+    long memoryBytes() {
+        long bytes = 0;
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                bytes += (long) stripe.keys.length * Long.BYTES;
+            }
+        }
+        return bytes;
+    }
+
+    private static int stripe(long low) {
+        return (int) (low >>> 58) & (STRIPES - 1);
+    }
+
+    /**
+     * keys[2i] = high, keys[2i + 1] = low. (0, 0) 은 빈 슬롯.
+     */
+    private static class Stripe {
+
+        private long[] keys;
+        private int mask;
+        private int size;
+
+        Stripe(int capacity) {
+            this.keys = new long[capacity * 2];
+            this.mask = capacity - 1;
+        }
+
+        boolean add(long high, long low) {
+            if (high == 0 && low == 0) {
+                low = 1;
+            }
+            int slot = find(keys, mask, high, low);
+            if (keys[slot * 2] != 0 || keys[slot * 2 + 1] != 0) {
+                return false;
+            }
+            keys[slot * 2] = high;
+            keys[slot * 2 + 1] = low;
+            if (++size > (mask + 1) * LOAD_FACTOR) {
+                resize();
+            }
+            return true;
+        }
+
+        boolean contains(long high, long low) {
+            if (high == 0 && low == 0) {
+                low = 1;
+            }
+            int slot = find(keys, mask, high, low);
+            return keys[slot * 2] != 0 || keys[slot * 2 + 1] != 0;
+        }
+
+        // 같은 값이 있는 슬롯 또는 첫 빈 슬롯
+        private static int find(long[] keys, int mask, long high, long low) {
+            int slot = (int) JtiHash.mix(high ^ low) & mask;
+            while (true) {
+                long storedHigh = keys[slot * 2];
+                long storedLow = keys[slot * 2 + 1];
+                if ((storedHigh == 0 && storedLow == 0) || (storedHigh == high && storedLow == low)) {
+                    return slot;
+                }
+                slot = (slot + 1) & mask;
+            }
+        }
+
+        private void resize() {
+            int capacity = (mask + 1) * 2;
+            long[] resized = new long[capacity * 2];
+            int resizedMask = capacity - 1;
+            for (int i = 0; i < keys.length; i += 2) {
+                if (keys[i] != 0 || keys[i + 1] != 0) {
+                    int slot = find(resized, resizedMask, keys[i], keys[i + 1]);
+                    resized[slot * 2] = keys[i];
+                    resized[slot * 2 + 1] = keys[i + 1];
+                }
+            }
+            keys = resized;
+            mask = resizedMask;
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package board.myboard.auth.revoke;
+
+/**
+ * jti 문자열의 128bit 해시 (상위/하위 64bit).
+ * String.getBytes() 등 할당 없이 char를 직접 읽는다.
+ */
+final class JtiHash {
+
+    private JtiHash() {
+    }
+
+    // FNV-1a
+    static long high(String jti) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < jti.length(); i++) {
+            hash ^= jti.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        return mix(hash);
+    }
+
+    // 다른 seed, 다른 곱수를 쓰는 다항식 해시
+    static long low(String jti) {
+        long hash = 0x9e3779b97f4a7c15L;
+        for (int i = 0; i < jti.length(); i++) {
+            hash = hash * 0xc6a4a7935bd1e995L + jti.charAt(i);
+        }
+        return mix(hash ^ jti.length());
+    }
+
+    // murmur3 fmix64 (비트를 고르게 섞음)
+    static long mix(long hash) {
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
@@ -0,0 +1,79 @@
+package board.myboard.auth.token;
+
+import board.myboard.jwt.verifier.JwtClaims;
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.JWTCreator;
+import com.auth0.jwt.algorithms.Algorithm;
+
+import java.util.Date;
+import java.util.UUID;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * AccessToken, RefreshToken 발급. (메인 애플리케이션 JwtServicelmpl, 게이트웨이 ReactiveJwtServiceImpl)
+ *
+ * 두 애플리케이션이 발급한 토큰은 서로 구분되지 않아야 한다. (같은 클레임 : JwtClaims)
+ * - AccessToken : sub, iat, exp, jti, username (+ memberId, role)
+ *   iat : 회원 단위 폐기(AccessTokenDenylist.revokeAll) 시 이 시각 이전 발급 토큰을 거부
+ *   jti : 폐기(AccessTokenDenylist) 시 토큰 식별자
+ * - RefreshToken : sub, exp, jti (같은 시각에 발급된 토큰도 서로 다른 값(=다른 해시)이 되도록)
+ *
+ * signingAlgorithm은 토큰마다 한 번만 읽는다. (키 교체 중에도 kid 헤더와 서명 키가 같은 키)
+ */
+public class JwtTokenIssuer {
+
+    private final Supplier<Algorithm> signingAlgorithm;
+    private final long accessTokenValidityInSeconds;
+    private final long refreshTokenValidityInSeconds;
+    private final LongSupplier clock;
+
+    public JwtTokenIssuer(Supplier<Algorithm> signingAlgorithm,
+                          long accessTokenValidityInSeconds, long refreshTokenValidityInSeconds) {
+        this(signingAlgorithm, accessTokenValidityInSeconds, refreshTokenValidityInSeconds, System::currentTimeMillis);
+    }
+
+    public JwtTokenIssuer(Supplier<Algorithm> signingAlgorithm,
+                          long accessTokenValidityInSeconds, long refreshTokenValidityInSeconds, LongSupplier clock) {
+        this.signingAlgorithm = signingAlgorithm;
+        this.accessTokenValidityInSeconds = accessTokenValidityInSeconds;
+        this.refreshTokenValidityInSeconds = refreshTokenValidityInSeconds;
+        this.clock = clock;
+    }
+
+    /**
+     * memberId, role이 null이면 클레임을 넣지 않는다. (username만 있는 토큰)
+     */
+    public String createAccessToken(String username, Long memberId, String role) {
+        long now = clock.getAsLong();
+        JWTCreator.Builder builder = JWT.create()
+                .withSubject(JwtClaims.ACCESS_TOKEN_SUBJECT)
+                .withIssuedAt(new Date(now))
+                .withExpiresAt(new Date(now + accessTokenValidityInSeconds * 1000))
+                .withJWTId(UUID.randomUUID().toString())
+                .withClaim(JwtClaims.USERNAME, username);
+        if (memberId != null) {
+            builder.withClaim(JwtClaims.MEMBER_ID, memberId);
+        }
+        if (role != null) {
+            builder.withClaim(JwtClaims.ROLE, role);
+        }
+        return builder.sign(signingAlgorithm.get());
+    }
+
+    public String createRefreshToken() {
+        return JWT.create()
+                .withSubject(JwtClaims.REFRESH_TOKEN_SUBJECT)
+                .withExpiresAt(new Date(clock.getAsLong() + refreshTokenValidityInSeconds * 1000))
+                .withJWTId(UUID.randomUUID().toString())
+                .sign(signingAlgorithm.get());
+    }
+
+    public long getAccessTokenValidityInSeconds() {
+        return accessTokenValidityInSeconds;
+    }
+
+    public long getRefreshTokenValidityInSeconds() {
+        return refreshTokenValidityInSeconds;
+    }
+}
@@ -0,0 +1,38 @@
+package board.myboard.auth.token;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * RefreshToken은 원문 대신 SHA-256 해시로 저장한다. (refresh_token.token_hash)
+ * 메인 애플리케이션(JPA)과 게이트웨이(R2DBC)가 같은 행을 찾을 수 있도록 같은 함수를 사용.
+ */
+public final class RefreshTokenHash {
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private RefreshTokenHash() {
+    }
+
+    // 토큰 원문 -> SHA-256 hex (64자)
+    public static String hash(String token) {
+        byte[] digest = digest(token);
+        char[] hex = new char[digest.length * 2];
+        for (int i = 0; i < digest.length; i++) {
+            hex[i * 2] = HEX[(digest[i] >> 4) & 0xF];
+            hex[i * 2 + 1] = HEX[digest[i] & 0xF];
+        }
+        return new String(hex);
+    }
+
+    // 토큰 원문 -> SHA-256 (32 byte)
+    public static byte[] digest(String token) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            // 모든 JVM은 SHA-256을 지원해야 한다.
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package board.myboard.auth.ratelimit;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class SlidingWindowRateLimiterTest {
+
+    private static final long WINDOW = 60_000;
+
+    AtomicLong now = new AtomicLong(WINDOW * 1000);
+
+    @Test
+    public void 제한까지_허용후_거부() throws Exception {
+        //given
+        SlidingWindowRateLimiter limiter = new SlidingWindowRateLimiter(3, WINDOW, 16, now::get);
+
+        //when, then
+        Assertions.assertThat(limiter.tryAcquire("127.0.0.1")).isZero();
+        Assertions.assertThat(limiter.tryAcquire("127.0.0.1")).isZero();
+        Assertions.assertThat(limiter.tryAcquire("127.0.0.1")).isZero();
+        Assertions.assertThat(limiter.tryAcquire("127.0.0.1")).isPositive();
+    }
+
+    @Test
+    public void 윈도우_지나면_다시_허용() throws Exception {
+        //given
+        SlidingWindowRateLimiter limiter = new SlidingWindowRateLimiter(2, WINDOW, 16, now::get);
+        limiter.tryAcquire("key");
+        limiter.tryAcquire("key");
+        long retryAfter = limiter.tryAcquire("key");
+
+        //when
+        now.addAndGet(retryAfter);
+
+        //then
+        Assertions.assertThat(limiter.tryAcquire("key")).isZero();
+        // 두 윈도우가 지나면 이전 카운트도 사라진다.
+        now.addAndGet(WINDOW * 2);
+        Assertions.assertThat(limiter.check("key")).isZero();
+    }
+
+    @Test
+    public void 이전_윈도우_카운트_반영() throws Exception {
+        //given
+        SlidingWindowRateLimiter limiter = new SlidingWindowRateLimiter(4, WINDOW, 16, now::get);
+        for (int i = 0; i < 4; i++) {
+            limiter.record("key");
+        }
+
+        //when
+        // 다음 윈도우의 1/4 지점 : 추정치 = 4 * 0.75 = 3
+        now.addAndGet(WINDOW + WINDOW / 4);
+
+        //then
+        Assertions.assertThat(limiter.tryAcquire("key")).isZero();
+        Assertions.assertThat(limiter.tryAcquire("key")).isPositive();
+    }
+
+    @Test
+    public void check는_카운트하지_않음() throws Exception {
+        //given
+        SlidingWindowRateLimiter limiter = new SlidingWindowRateLimiter(1, WINDOW, 16, now::get);
+
+        //when
+        limiter.check("key");
+        limiter.check("key");
+
+        //then
+        Assertions.assertThat(limiter.tryAcquire("key")).isZero();
+        Assertions.assertThat(limiter.check("key")).isPositive();
+    }
+
+    @Test
+    public void 동시_64스레드_정확히_제한만큼_허용() throws Exception {
+        //given
+        int threads = 64;
+        int attemptsPerThread = 1_000;
+        int limit = 10_000;
+        SlidingWindowRateLimiter limiter = new SlidingWindowRateLimiter(limit, WINDOW, 1024, now::get);
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger permitted = new AtomicInteger();
+        List<Future<?>> futures = new ArrayList<>();
+
+        //when
+        for (int t = 0; t < threads; t++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < attemptsPerThread; i++) {
+                    if (limiter.tryAcquire("10.0.0.1") == 0) {
+                        permitted.incrementAndGet();
+                    }
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        //then
+        Assertions.assertThat(permitted.get()).isEqualTo(limit);
+    }
+}
@@ -0,0 +1,127 @@
+package board.myboard.auth.revoke;
+
+import board.myboard.jwt.verifier.JwtClaims;
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+class AccessTokenDenylistTest {
+
+    private static final long WINDOW = 60_000;
+
+    private final AtomicLong now = new AtomicLong(WINDOW * 100);
+    private final AccessTokenDenylist denylist = new AccessTokenDenylist(true, WINDOW, 1000, 0.01, now::get);
+
+    @Test
+    public void 폐기한_jti만_폐기됨() throws Exception {
+        //given
+        long expiresAt = now.get() + WINDOW;
+        List<String> revoked = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            String jti = UUID.randomUUID().toString();
+            revoked.add(jti);
+            denylist.revoke(jti, expiresAt);
+        }
+
+        //when, then
+        // 예상(1000건)보다 많아져 Bloom filter 오탐이 늘어도 지문 집합으로 정확히 확인
+        for (String jti : revoked) {
+            Assertions.assertThat(denylist.isRevoked(jti, expiresAt)).isTrue();
+        }
+        for (int i = 0; i < 5000; i++) {
+            Assertions.assertThat(denylist.isRevoked(UUID.randomUUID().toString(), expiresAt)).isFalse();
+        }
+        Assertions.assertThat(denylist.size()).isEqualTo(5000);
+    }
+
+    @Test
+    public void 만료된_토큰은_기록하지_않음() throws Exception {
+        //when
+        denylist.revoke("expired", now.get() - 1);
+
+        //then
+        Assertions.assertThat(denylist.size()).isZero();
+    }
+
+    @Test
+    public void window가_끝나면_세대를_버림() throws Exception {
+        //given
+        long expiresAt = now.get() + WINDOW / 2;
+        denylist.revoke("jti", expiresAt);
+        long memory = denylist.memoryBytes();
+
+        //when
+        now.addAndGet(WINDOW * 2);
+        denylist.purge();
+
+        //then
+        Assertions.assertThat(memory).isPositive();
+        Assertions.assertThat(denylist.size()).isZero();
+        Assertions.assertThat(denylist.memoryBytes()).isZero();
+    }
+
+    @Test
+    public void 세대가_바뀌어도_이전_window의_폐기_유지() throws Exception {
+        //given
+        long firstExpiresAt = now.get() + WINDOW / 2;
+        denylist.revoke("first", firstExpiresAt);
+
+        //when
+        now.addAndGet(WINDOW / 2);
+        long secondExpiresAt = now.get() + WINDOW;
+        denylist.revoke("second", secondExpiresAt);
+        denylist.purge();
+
+        //then
+        Assertions.assertThat(denylist.isRevoked("first", firstExpiresAt)).isTrue();
+        Assertions.assertThat(denylist.isRevoked("second", secondExpiresAt)).isTrue();
+    }
+
+    @Test
+    public void 회원_단위_폐기는_이전에_발급된_토큰만_폐기() throws Exception {
+        //given
+        DecodedJWT before = accessToken("member", now.get());
+        DecodedJWT other = accessToken("other", now.get());
+
+        //when
+        denylist.revokeAll("member");
+        now.addAndGet(1000);
+        DecodedJWT after = accessToken("member", now.get());
+
+        //then
+        Assertions.assertThat(denylist.isRevoked(before)).isTrue();
+        Assertions.assertThat(denylist.isRevoked(other)).isFalse();
+        Assertions.assertThat(denylist.isRevoked(after)).isFalse();
+    }
+
+    @Test
+    public void 회원_단위_폐기는_유효_시간이_지나면_버림() throws Exception {
+        //given
+        denylist.revokeAll("member");
+        DecodedJWT issuedBefore = accessToken("member", now.get());
+
+        //when
+        now.addAndGet(WINDOW + 1000);
+        denylist.purge();
+
+        //then (이미 만료된 토큰이므로 폐기 기록이 없어도 됨)
+        Assertions.assertThat(denylist.isRevoked(issuedBefore)).isFalse();
+    }
+
+    private DecodedJWT accessToken(String username, long issuedAt) {
+        return JWT.decode(JWT.create()
+                .withIssuedAt(new Date(issuedAt))
+                .withExpiresAt(new Date(issuedAt + WINDOW))
+                .withJWTId(UUID.randomUUID().toString())
+                .withClaim(JwtClaims.USERNAME, username)
+                .sign(Algorithm.HMAC512("secret")));
+    }
+}
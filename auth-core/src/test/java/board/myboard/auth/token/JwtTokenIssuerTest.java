@@ -0,0 +1,55 @@
+package board.myboard.auth.token;
+
+import board.myboard.jwt.verifier.JwtClaims;
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class JwtTokenIssuerTest {
+
+    private static final long NOW = 1_700_000_000_000L;
+
+    private final Algorithm algorithm = Algorithm.HMAC512("secret");
+    private final JwtTokenIssuer issuer = new JwtTokenIssuer(() -> algorithm, 3600, 7200, () -> NOW);
+
+    @Test
+    public void AccessToken_클레임() throws Exception {
+        //when
+        DecodedJWT accessToken = JWT.require(algorithm).build()
+                .verify(issuer.createAccessToken("username", 1L, "USER"));
+
+        //then
+        Assertions.assertThat(accessToken.getSubject()).isEqualTo(JwtClaims.ACCESS_TOKEN_SUBJECT);
+        Assertions.assertThat(accessToken.getIssuedAt().getTime()).isEqualTo(NOW);
+        Assertions.assertThat(accessToken.getExpiresAt().getTime()).isEqualTo(NOW + 3600 * 1000);
+        Assertions.assertThat(accessToken.getId()).isNotBlank();
+        Assertions.assertThat(accessToken.getClaim(JwtClaims.USERNAME).asString()).isEqualTo("username");
+        Assertions.assertThat(accessToken.getClaim(JwtClaims.MEMBER_ID).asLong()).isEqualTo(1L);
+        Assertions.assertThat(accessToken.getClaim(JwtClaims.ROLE).asString()).isEqualTo("USER");
+    }
+
+    @Test
+    public void memberId_role이_없으면_클레임_없음() throws Exception {
+        //when
+        DecodedJWT accessToken = JWT.decode(issuer.createAccessToken("username", null, null));
+
+        //then
+        Assertions.assertThat(accessToken.getClaim(JwtClaims.USERNAME).asString()).isEqualTo("username");
+        Assertions.assertThat(accessToken.getClaim(JwtClaims.MEMBER_ID).isNull()).isTrue();
+        Assertions.assertThat(accessToken.getClaim(JwtClaims.ROLE).isNull()).isTrue();
+    }
+
+    @Test
+    public void RefreshToken은_매번_다른_값() throws Exception {
+        //when
+        String refreshToken1 = issuer.createRefreshToken();
+        String refreshToken2 = issuer.createRefreshToken();
+
+        //then
+        Assertions.assertThat(refreshToken1).isNotEqualTo(refreshToken2);
+        Assertions.assertThat(RefreshTokenHash.hash(refreshToken1)).hasSize(64).isNotEqualTo(RefreshTokenHash.hash(refreshToken2));
+        Assertions.assertThat(JWT.decode(refreshToken1).getSubject()).isEqualTo(JwtClaims.REFRESH_TOKEN_SUBJECT);
+    }
+}
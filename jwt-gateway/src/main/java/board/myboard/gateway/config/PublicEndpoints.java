@@ -0,0 +1,20 @@
+package board.myboard.gateway.config;
+
+import org.springframework.http.HttpMethod;
+import org.springframework.security.web.server.util.matcher.OrServerWebExchangeMatcher;
+import org.springframework.security.web.server.util.matcher.ServerWebExchangeMatcher;
+import org.springframework.security.web.server.util.matcher.ServerWebExchangeMatchers;
+
+/**
+ * 인증 없이 접근하는 경로. (SecurityConfig permitAll 과 JwtAuthenticationWebFilter 가 같은 matcher 사용)
+ */
+public final class PublicEndpoints {
+
+    public static final ServerWebExchangeMatcher PERMIT_ALL = new OrServerWebExchangeMatcher(
+            ServerWebExchangeMatchers.pathMatchers("/login", "/signUp", "/"),
+            ServerWebExchangeMatchers.pathMatchers(HttpMethod.GET, "/actuator/health", "/actuator/health/**")
+    );
+
+    private PublicEndpoints() {
+    }
+}
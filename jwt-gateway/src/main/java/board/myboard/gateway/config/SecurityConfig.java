@@ -0,0 +1,127 @@
+package board.myboard.gateway.config;
+
+import board.myboard.auth.password.PasswordEncoders;
+import board.myboard.auth.ratelimit.LoginRateLimiter;
+import board.myboard.auth.revoke.AccessTokenDenylist;
+import board.myboard.gateway.filter.JwtAuthenticationWebFilter;
+import board.myboard.gateway.filter.JwtReactiveAuthenticationManager;
+import board.myboard.gateway.jwt.ReactiveJwtService;
+import board.myboard.gateway.login.JsonLoginAuthenticationConverter;
+import board.myboard.gateway.login.LoginFailHandler;
+import board.myboard.gateway.login.LoginSuccessJWTProviderHandler;
+import board.myboard.gateway.member.MemberPrincipalCache;
+import board.myboard.gateway.member.MemberUserDetailsService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.authentication.UserDetailsRepositoryReactiveAuthenticationManager;
+import org.springframework.security.config.annotation.web.reactive.EnableWebFluxSecurity;
+import org.springframework.security.config.web.server.SecurityWebFiltersOrder;
+import org.springframework.security.config.web.server.ServerHttpSecurity;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.web.server.SecurityWebFilterChain;
+import org.springframework.security.web.server.authentication.AuthenticationWebFilter;
+import org.springframework.security.web.server.authentication.HttpStatusServerEntryPoint;
+import org.springframework.security.web.server.context.NoOpServerSecurityContextRepository;
+import org.springframework.security.web.server.util.matcher.ServerWebExchangeMatchers;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * 메인 애플리케이션 SecurityConfig 의 WebFlux 버전.
+ *
+ * POST /login : AuthenticationWebFilter (JSON 본문 -> UserDetailsRepositoryReactiveAuthenticationManager)
+ *               시도 제한(LoginRateLimiter)은 본문을 읽을 때 확인
+ * 그 외       : JwtAuthenticationWebFilter (AccessToken 인증, RefreshToken 재발급)
+ * 세션, SecurityContext 저장 없음. (요청마다 토큰으로 인증)
+ */
+@Configuration
+@EnableWebFluxSecurity
+@RequiredArgsConstructor
+public class SecurityConfig {
+
+    private final ReactiveJwtService jwtService;
+    private final MemberPrincipalCache memberPrincipalCache;
+    private final MemberUserDetailsService memberUserDetailsService;
+    private final ObjectMapper objectMapper;
+    private final AccessTokenDenylist accessTokenDenylist;
+    private final LoginRateLimiter loginRateLimiter;
+
+    @Value("${jwt.access.stateless:false}")
+    private boolean stateless;
+
+    // 메인 애플리케이션과 같은 설정 (같은 member.password 를 검증)
+    @Value("${security.password.algorithm:bcrypt}")
+    private String passwordAlgorithm;
+
+    @Value("${security.password.bcrypt-strength:10}")
+    private int bcryptStrength;
+
+    @Value("${security.password.pbkdf2-iterations:310000}")
+    private int pbkdf2Iterations;
+
+    @Value("${login.max-body-size:4096}")
+    private int loginMaxBodySize;
+
+    @Bean
+    public SecurityWebFilterChain securityWebFilterChain(ServerHttpSecurity http) {
+        return http
+                .csrf().disable()
+                .httpBasic().disable()
+                .formLogin().disable()
+                .logout().disable()
+                .securityContextRepository(NoOpServerSecurityContextRepository.getInstance())
+                // 메인 애플리케이션과 같이 인증 실패 시 403
+                .exceptionHandling().authenticationEntryPoint(new HttpStatusServerEntryPoint(HttpStatus.FORBIDDEN))
+                .and()
+                .authorizeExchange()
+                .matchers(PublicEndpoints.PERMIT_ALL).permitAll()
+                .anyExchange().authenticated()
+                .and()
+                .addFilterAt(jsonLoginWebFilter(), SecurityWebFiltersOrder.AUTHENTICATION)
+                .addFilterAfter(jwtAuthenticationWebFilter(), SecurityWebFiltersOrder.AUTHENTICATION)
+                .build();
+    }
+
+    /**
+     * 메인 애플리케이션과 같은 DelegatingPasswordEncoder. ({pbkdf2@N}, scrypt, argon2 등 메인 애플리케이션이 저장한 해시를 모두 검증)
+     * 재암호화는 메인 애플리케이션 로그인에서만 한다.
+     */
+    @Bean
+    public PasswordEncoder passwordEncoder() {
+        return PasswordEncoders.create(passwordAlgorithm, bcryptStrength, pbkdf2Iterations);
+    }
+
+    /**
+     * 비밀번호 해시 비교는 CPU 작업이므로 이벤트 루프가 아닌 코어 수 크기의 스케줄러에서 실행.
+     */
+    @Bean(destroyMethod = "dispose")
+    public Scheduler loginScheduler() {
+        return Schedulers.newParallel("login", Runtime.getRuntime().availableProcessors());
+    }
+
+    private AuthenticationWebFilter jsonLoginWebFilter() {
+        UserDetailsRepositoryReactiveAuthenticationManager authenticationManager =
+                new UserDetailsRepositoryReactiveAuthenticationManager(memberUserDetailsService);
+        authenticationManager.setPasswordEncoder(passwordEncoder());
+        authenticationManager.setScheduler(loginScheduler());
+
+        AuthenticationWebFilter filter = new AuthenticationWebFilter(authenticationManager);
+        filter.setRequiresAuthenticationMatcher(ServerWebExchangeMatchers.pathMatchers(HttpMethod.POST, "/login"));
+        filter.setServerAuthenticationConverter(
+                new JsonLoginAuthenticationConverter(objectMapper, loginMaxBodySize, loginRateLimiter));
+        filter.setAuthenticationSuccessHandler(new LoginSuccessJWTProviderHandler(jwtService));
+        filter.setAuthenticationFailureHandler(new LoginFailHandler(loginRateLimiter));
+        filter.setSecurityContextRepository(NoOpServerSecurityContextRepository.getInstance());
+        return filter;
+    }
+
+    private JwtAuthenticationWebFilter jwtAuthenticationWebFilter() {
+        return new JwtAuthenticationWebFilter(jwtService,
+                new JwtReactiveAuthenticationManager(jwtService, memberPrincipalCache, accessTokenDenylist, stateless));
+    }
+}
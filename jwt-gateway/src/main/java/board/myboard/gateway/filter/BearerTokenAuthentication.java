@@ -0,0 +1,27 @@
+package board.myboard.gateway.filter;
+
+import org.springframework.security.authentication.AbstractAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+
+/**
+ * 검증 전 AccessToken. (JwtReactiveAuthenticationManager 입력)
+ */
+public class BearerTokenAuthentication extends AbstractAuthenticationToken {
+
+    private final String accessToken;
+
+    public BearerTokenAuthentication(String accessToken) {
+        super(AuthorityUtils.NO_AUTHORITIES);
+        this.accessToken = accessToken;
+    }
+
+    @Override
+    public Object getCredentials() {
+        return accessToken;
+    }
+
+    @Override
+    public Object getPrincipal() {
+        return accessToken;
+    }
+}
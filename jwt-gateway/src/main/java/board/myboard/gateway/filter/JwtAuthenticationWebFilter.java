@@ -0,0 +1,72 @@
+package board.myboard.gateway.filter;
+
+import board.myboard.gateway.config.PublicEndpoints;
+import board.myboard.gateway.jwt.ReactiveJwtService;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.authentication.ReactiveAuthenticationManager;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+import java.util.Optional;
+
+/**
+ * 메인 애플리케이션 JwtAuthenticationProcessingFilter 의 WebFlux 버전.
+ *
+ * 1. 인증이 필요없는 경로(PublicEndpoints)는 토큰을 보지 않고 통과
+ * 2. 유효한 RefreshToken이 오면 재발급(rotation) 후 응답 -> 필터 진행 X
+ *    (사용할 수 없는 토큰이면 401)
+ * 3. AccessToken이 오면 ReactiveAuthenticationManager로 인증 후 ReactiveSecurityContextHolder(Reactor Context)에 저장
+ *    인증에 실패하면 인증 없이 다음 필터 진행 -> 인가 단계에서 403
+ *
+ * 요청 스레드를 점유하지 않으므로 회원 조회, RefreshToken 조회 중에도 이벤트 루프가 다른 연결을 처리한다.
+ */
+public class JwtAuthenticationWebFilter implements WebFilter {
+
+    private final ReactiveJwtService jwtService;
+    private final ReactiveAuthenticationManager authenticationManager;
+
+    public JwtAuthenticationWebFilter(ReactiveJwtService jwtService, ReactiveAuthenticationManager authenticationManager) {
+        this.jwtService = jwtService;
+        this.authenticationManager = authenticationManager;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        return PublicEndpoints.PERMIT_ALL.matches(exchange)
+                .flatMap(match -> match.isMatch() ? chain.filter(exchange) : authenticate(exchange, chain));
+    }
+
+    private Mono<Void> authenticate(ServerWebExchange exchange, WebFilterChain chain) {
+        Optional<String> refreshToken = jwtService.extractRefreshToken(exchange.getRequest())
+                .filter(jwtService::isTokenValid);
+        if (refreshToken.isPresent()) {
+            return reissue(exchange, refreshToken.get());
+        }
+
+        return Mono.justOrEmpty(jwtService.extractAccessToken(exchange.getRequest()))
+                .<Authentication>map(BearerTokenAuthentication::new)
+                .flatMap(authenticationManager::authenticate)
+                .map(Optional::of)
+                .defaultIfEmpty(Optional.empty())
+                // chain.filter()는 항상 empty 이므로 switchIfEmpty 대신 Optional로 분기 (체인 두 번 실행 방지)
+                .flatMap(authentication -> authentication
+                        .map(value -> chain.filter(exchange)
+                                .contextWrite(ReactiveSecurityContextHolder.withAuthentication(value)))
+                        .orElseGet(() -> chain.filter(exchange)));
+    }
+
+    private Mono<Void> reissue(ServerWebExchange exchange, String refreshToken) {
+        return jwtService.reissue(refreshToken)
+                .doOnNext(tokens -> jwtService.sendAccessAndRefreshToken(exchange.getResponse(), tokens))
+                .map(tokens -> HttpStatus.OK)
+                .defaultIfEmpty(HttpStatus.UNAUTHORIZED)
+                .flatMap(status -> {
+                    exchange.getResponse().setStatusCode(status);
+                    return exchange.getResponse().setComplete();
+                });
+    }
+}
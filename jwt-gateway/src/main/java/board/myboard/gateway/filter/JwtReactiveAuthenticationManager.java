@@ -0,0 +1,69 @@
+package board.myboard.gateway.filter;
+
+import board.myboard.auth.revoke.AccessTokenDenylist;
+import board.myboard.gateway.jwt.ReactiveJwtService;
+import board.myboard.gateway.member.MemberPrincipalCache;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import org.springframework.security.authentication.ReactiveAuthenticationManager;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import reactor.core.publisher.Mono;
+
+import java.util.Optional;
+
+/**
+ * AccessToken(BearerTokenAuthentication) -> 인증.
+ *
+ * stateless=true  : username, role 클레임만으로 인증 (회원 조회 X)
+ * stateless=false : MemberPrincipalCache 에서 회원 조회 (캐시 미스는 R2DBC, 스레드를 막지 않음)
+ * 올바르지 않은 토큰, 폐기된 토큰(AccessTokenDenylist), 없는 회원이면 empty (인증 없이 다음 필터 진행)
+ */
+public class JwtReactiveAuthenticationManager implements ReactiveAuthenticationManager {
+
+    private final ReactiveJwtService jwtService;
+    private final MemberPrincipalCache memberPrincipalCache;
+    private final AccessTokenDenylist accessTokenDenylist;
+    private final boolean stateless;
+
+    public JwtReactiveAuthenticationManager(ReactiveJwtService jwtService, MemberPrincipalCache memberPrincipalCache,
+                                            AccessTokenDenylist accessTokenDenylist, boolean stateless) {
+        this.jwtService = jwtService;
+        this.memberPrincipalCache = memberPrincipalCache;
+        this.accessTokenDenylist = accessTokenDenylist;
+        this.stateless = stateless;
+    }
+
+    @Override
+    public Mono<Authentication> authenticate(Authentication authentication) {
+        return Mono.justOrEmpty(jwtService.verifyAccessToken((String) authentication.getCredentials()))
+                // 로그아웃, 비밀번호/권한 변경 등으로 폐기된 토큰 (메인 애플리케이션에서 폐기한 토큰 포함)
+                .filter(accessToken -> !accessTokenDenylist.isRevoked(accessToken))
+                .flatMap(this::authenticate);
+    }
+
+    private Mono<Authentication> authenticate(DecodedJWT accessToken) {
+        Optional<String> username = jwtService.extractUsername(accessToken);
+        Optional<String> role = jwtService.extractRole(accessToken);
+
+        // role 클레임이 없는 (이전에 발급된) 토큰은 stateless 모드여도 회원을 조회한다.
+        if (stateless && username.isPresent() && role.isPresent()) {
+            return Mono.just(authenticated(username.get(), role.get()));
+        }
+
+        return Mono.justOrEmpty(username)
+                .flatMap(memberPrincipalCache::get)
+                .map(member -> authenticated(member.getUsername(), member.getRole()));
+    }
+
+    private Authentication authenticated(String username, String role) {
+        // 인증 이후에는 비밀번호가 필요없으므로 빈 값으로 둔다.
+        UserDetails user = User.builder()
+                .username(username)
+                .password("")
+                .roles(role)
+                .build();
+        return new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities());
+    }
+}
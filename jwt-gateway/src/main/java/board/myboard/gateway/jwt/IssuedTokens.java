@@ -0,0 +1,18 @@
+package board.myboard.gateway.jwt;
+
+import lombok.Getter;
+
+/**
+ * 로그인, RefreshToken 재발급(rotation) 결과. 새 AccessToken + 새 RefreshToken
+ */
+@Getter
+public class IssuedTokens {
+
+    private final String accessToken;
+    private final String refreshToken;
+
+    public IssuedTokens(String accessToken, String refreshToken) {
+        this.accessToken = accessToken;
+        this.refreshToken = refreshToken;
+    }
+}
@@ -0,0 +1,51 @@
+package board.myboard.gateway.jwt;
+
+import board.myboard.gateway.member.MemberPrincipal;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import reactor.core.publisher.Mono;
+
+import java.util.Optional;
+
+/**
+ * 메인 애플리케이션 JwtService의 논블로킹 버전.
+ *
+ * 서명, 검증은 CPU 작업(수 µs)이라 바로 값을 돌려주고,
+ * 저장소(refresh_token 테이블)를 거치는 발급, 재발급만 Mono로 돌려준다.
+ */
+public interface ReactiveJwtService {
+
+    String createAccessToken(MemberPrincipal member);
+    String createRefreshToken();
+
+    /**
+     * 로그인 : AccessToken + RefreshToken 발급 (RefreshToken은 새 계열로 저장)
+     */
+    Mono<IssuedTokens> issue(MemberPrincipal member);
+
+    /**
+     * RefreshToken 재발급(rotation). 사용할 수 없는 토큰이면 empty
+     */
+    Mono<IssuedTokens> reissue(String refreshToken);
+
+    void sendAccessAndRefreshToken(ServerHttpResponse response, IssuedTokens tokens);
+
+    Optional<String> extractAccessToken(ServerHttpRequest request);
+    Optional<String> extractRefreshToken(ServerHttpRequest request);
+
+    /**
+     * 서명, 만료 시간 검증. 올바르지 않으면 empty
+     */
+    Optional<DecodedJWT> verify(String token);
+
+    /**
+     * AccessToken 검증 (subject 확인 포함)
+     */
+    Optional<DecodedJWT> verifyAccessToken(String accessToken);
+
+    Optional<String> extractUsername(DecodedJWT accessToken);
+    Optional<String> extractRole(DecodedJWT accessToken);
+
+    boolean isTokenValid(String token);
+}
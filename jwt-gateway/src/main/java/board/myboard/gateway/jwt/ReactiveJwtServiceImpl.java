@@ -0,0 +1,186 @@
+package board.myboard.gateway.jwt;
+
+import board.myboard.auth.token.JwtTokenIssuer;
+import board.myboard.gateway.jwt.revoke.AccessTokenRevocations;
+import board.myboard.gateway.jwt.store.RefreshTokenStore;
+import board.myboard.gateway.member.MemberPrincipal;
+import board.myboard.gateway.member.MemberPrincipalCache;
+import board.myboard.jwt.verifier.JwtClaims;
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.JWTVerifier;
+import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.exceptions.JWTVerificationException;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 메인 애플리케이션 JwtServicelmpl(jwt.signing.mode=hmac)과 같은 토큰을 발급, 검증한다.
+ * (같은 jwt.secret, 같은 발급 구현 : JwtTokenIssuer)
+ *
+ * RefreshToken 재발급도 같은 규칙 : 사용한 토큰은 used 로 표시, 다시 사용되면 토큰 계열 전체 삭제 + 회원의 AccessToken 폐기.
+ * 같은 토큰으로 동시에 온 재발급 요청은 jwt.refresh.reuse-grace 동안 같은 결과(Mono.cache)를 받는다.
+ */
+@Slf4j
+@Service
+public class ReactiveJwtServiceImpl implements ReactiveJwtService {
+
+    private final RefreshTokenStore refreshTokenStore;
+    private final MemberPrincipalCache memberPrincipalCache;
+    private final AccessTokenRevocations accessTokenRevocations;
+
+    private final JwtTokenIssuer tokenIssuer;
+    private final JWTVerifier verifier;
+    private final JWTVerifier accessTokenVerifier;
+
+    private final long refreshTokenValidityInSeconds;
+    private final String accessHeader;
+    private final String refreshHeader;
+    private final Duration reuseGrace;
+
+    // RefreshToken 원문 -> 진행 중이거나 방금 끝난 재발급
+    private final ConcurrentHashMap<String, Mono<IssuedTokens>> reissuing = new ConcurrentHashMap<>();
+
+    public ReactiveJwtServiceImpl(RefreshTokenStore refreshTokenStore,
+                                  MemberPrincipalCache memberPrincipalCache,
+                                  AccessTokenRevocations accessTokenRevocations,
+                                  @Value("${jwt.secret}") String secret,
+                                  @Value("${jwt.access.expiration}") long accessTokenValidityInSeconds,
+                                  @Value("${jwt.refresh.expiration}") long refreshTokenValidityInSeconds,
+                                  @Value("${jwt.access.header}") String accessHeader,
+                                  @Value("${jwt.refresh.header}") String refreshHeader,
+                                  @Value("${jwt.refresh.reuse-grace:2000}") long reuseGraceMillis) {
+        this.refreshTokenStore = refreshTokenStore;
+        this.memberPrincipalCache = memberPrincipalCache;
+        this.accessTokenRevocations = accessTokenRevocations;
+        Algorithm algorithm = Algorithm.HMAC512(secret);
+        this.tokenIssuer = new JwtTokenIssuer(() -> algorithm, accessTokenValidityInSeconds, refreshTokenValidityInSeconds);
+        this.verifier = JWT.require(algorithm).build();
+        this.accessTokenVerifier = JWT.require(algorithm).withSubject(JwtClaims.ACCESS_TOKEN_SUBJECT).build();
+        this.refreshTokenValidityInSeconds = refreshTokenValidityInSeconds;
+        this.accessHeader = accessHeader;
+        this.refreshHeader = refreshHeader;
+        this.reuseGrace = Duration.ofMillis(reuseGraceMillis);
+    }
+
+    @Override
+    public String createAccessToken(MemberPrincipal member) {
+        return tokenIssuer.createAccessToken(member.getUsername(), member.getId(), member.getRole());
+    }
+
+    @Override
+    public String createRefreshToken() {
+        return tokenIssuer.createRefreshToken();
+    }
+
+    @Override
+    public Mono<IssuedTokens> issue(MemberPrincipal member) {
+        return issue(member, UUID.randomUUID().toString());
+    }
+
+    @Override
+    public Mono<IssuedTokens> reissue(String refreshToken) {
+        return Mono.defer(() -> reissuing.computeIfAbsent(refreshToken, token -> rotate(token)
+                .doFinally(signal -> Mono.delay(reuseGrace).subscribe(ignored -> reissuing.remove(token)))
+                .cache()));
+    }
+
+    private Mono<IssuedTokens> rotate(String refreshToken) {
+        return refreshTokenStore.find(refreshToken)
+                .filter(stored -> !stored.isExpired(Instant.now()))
+                .flatMap(stored -> {
+                    if (stored.isUsed()) {
+                        return reuseDetected(stored.getUsername(), stored.getFamilyId());
+                    }
+                    return refreshTokenStore.markUsed(refreshToken).flatMap(marked -> marked
+                            ? memberPrincipalCache.get(stored.getUsername())
+                                .flatMap(member -> issue(member, stored.getFamilyId()))
+                            : reuseDetected(stored.getUsername(), stored.getFamilyId()));
+                });
+    }
+
+    // 이미 사용된 RefreshToken이 다시 사용됨 -> 탈취로 보고 계열 전체 삭제
+    // 탈취한 쪽이 이미 받은 AccessToken도 폐기 (AccessToken에는 계열이 없으므로 회원의 토큰 전체)
+    private Mono<IssuedTokens> reuseDetected(String username, String familyId) {
+        return refreshTokenStore.deleteByFamilyId(familyId)
+                .doOnNext(deleted -> log.warn("이미 사용된 RefreshToken이 다시 사용되었습니다. username: {}, 삭제: {}",
+                        username, deleted))
+                .then(accessTokenRevocations.revokeAll(username))
+                .then(Mono.empty());
+    }
+
+    private Mono<IssuedTokens> issue(MemberPrincipal member, String familyId) {
+        String accessToken = createAccessToken(member);
+        String refreshToken = createRefreshToken();
+        Instant expiresAt = Instant.now().plusSeconds(refreshTokenValidityInSeconds);
+        return refreshTokenStore.save(refreshToken, member.getUsername(), familyId, expiresAt)
+                .thenReturn(new IssuedTokens(accessToken, refreshToken));
+    }
+
+    @Override
+    public void sendAccessAndRefreshToken(ServerHttpResponse response, IssuedTokens tokens) {
+        response.setStatusCode(HttpStatus.OK);
+        response.getHeaders().set(accessHeader, tokens.getAccessToken());
+        response.getHeaders().set(refreshHeader, tokens.getRefreshToken());
+    }
+
+    @Override
+    public Optional<String> extractAccessToken(ServerHttpRequest request) {
+        return extractToken(request, accessHeader);
+    }
+
+    @Override
+    public Optional<String> extractRefreshToken(ServerHttpRequest request) {
+        return extractToken(request, refreshHeader);
+    }
+
+    private Optional<String> extractToken(ServerHttpRequest request, String header) {
+        return Optional.ofNullable(request.getHeaders().getFirst(header))
+                .filter(value -> value.startsWith(JwtClaims.BEARER))
+                .map(value -> value.substring(JwtClaims.BEARER.length()));
+    }
+
+    @Override
+    public Optional<DecodedJWT> verify(String token) {
+        return verify(verifier, token);
+    }
+
+    @Override
+    public Optional<DecodedJWT> verifyAccessToken(String accessToken) {
+        return verify(accessTokenVerifier, accessToken);
+    }
+
+    private Optional<DecodedJWT> verify(JWTVerifier jwtVerifier, String token) {
+        try {
+            return Optional.of(jwtVerifier.verify(token));
+        } catch (JWTVerificationException e) {
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public Optional<String> extractUsername(DecodedJWT accessToken) {
+        return Optional.ofNullable(accessToken.getClaim(JwtClaims.USERNAME).asString());
+    }
+
+    @Override
+    public Optional<String> extractRole(DecodedJWT accessToken) {
+        return Optional.ofNullable(accessToken.getClaim(JwtClaims.ROLE).asString());
+    }
+
+    @Override
+    public boolean isTokenValid(String token) {
+        return verify(token).isPresent();
+    }
+}
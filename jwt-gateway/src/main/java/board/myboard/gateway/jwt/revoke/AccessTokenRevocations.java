@@ -0,0 +1,141 @@
+package board.myboard.gateway.jwt.revoke;
+
+import board.myboard.auth.revoke.AccessTokenDenylist;
+import io.r2dbc.spi.Row;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.time.Duration;
+
+/**
+ * 메인 애플리케이션 AccessTokenRevocations 의 R2DBC 버전. (같은 access_token_revocation 테이블)
+ *
+ * - 메인 애플리케이션의 폐기(로그아웃, 비밀번호/권한 변경, RefreshToken 재사용)를 jwt.revocation.sync-interval 마다 읽어 반영
+ *   (시작 시에는 만료되지 않은 행 전체). id 순서와 커밋 순서가 다를 수 있으므로 마지막 SYNC_OVERLAP 건은 다시 읽는다.
+ * - 게이트웨이의 폐기(RefreshToken 재사용)는 바로 반영하고 테이블에 기록 -> 메인 애플리케이션에도 전달
+ * - jwt.revocation.purge-interval 마다 끝난 세대(AccessTokenDenylist.purge)와 만료된 행 삭제
+ *
+ * 주기 작업은 이전 작업이 끝나기 전의 tick은 버린다. 실패하면 로그만 남기고 다음 주기에 다시 읽는다.
+ */
+@Slf4j
+@Component
+public class AccessTokenRevocations {
+
+    private static final int SYNC_OVERLAP = 100;
+
+    private final AccessTokenDenylist accessTokenDenylist;
+    private final DatabaseClient databaseClient;
+    private final long accessTokenValidityMillis;
+    private final Duration syncInterval;
+    private final Duration purgeInterval;
+
+    // 마지막으로 반영한 행 id (sync는 한 번에 하나만 실행)
+    private volatile long lastId;
+    private Disposable sync;
+    private Disposable purge;
+
+    public AccessTokenRevocations(AccessTokenDenylist accessTokenDenylist, DatabaseClient databaseClient,
+                                  @Value("${jwt.access.expiration}") long accessTokenValidityInSeconds,
+                                  @Value("${jwt.revocation.sync-interval:1000}") long syncIntervalMillis,
+                                  @Value("${jwt.revocation.purge-interval:60000}") long purgeIntervalMillis) {
+        this.accessTokenDenylist = accessTokenDenylist;
+        this.databaseClient = databaseClient;
+        this.accessTokenValidityMillis = accessTokenValidityInSeconds * 1000;
+        this.syncInterval = Duration.ofMillis(syncIntervalMillis);
+        this.purgeInterval = Duration.ofMillis(purgeIntervalMillis);
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!accessTokenDenylist.isEnabled()) {
+            return;
+        }
+        sync = Flux.interval(Duration.ZERO, syncInterval)
+                .onBackpressureDrop()
+                .concatMap(tick -> sync().onErrorResume(e -> {
+                    log.warn("AccessToken 폐기 목록을 읽지 못했습니다.", e);
+                    return Mono.empty();
+                }))
+                .subscribe();
+        purge = Flux.interval(purgeInterval, purgeInterval)
+                .onBackpressureDrop()
+                .concatMap(tick -> purge().onErrorResume(e -> {
+                    log.warn("만료된 AccessToken 폐기 기록을 정리하지 못했습니다.", e);
+                    return Mono.empty();
+                }))
+                .subscribe();
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (sync != null) {
+            sync.dispose();
+            purge.dispose();
+        }
+    }
+
+    /**
+     * 회원의 지금까지 발급된 AccessToken 전체 폐기 (AccessTokenDenylist.revokeAll)
+     */
+    public Mono<Void> revokeAll(String username) {
+        if (!accessTokenDenylist.isEnabled() || username == null) {
+            return Mono.empty();
+        }
+        return Mono.defer(() -> {
+            long revokedBefore = System.currentTimeMillis() / 1000;
+            accessTokenDenylist.revokeAll(username, revokedBefore);
+            return databaseClient.sql("insert into access_token_revocation (username, revoked_before, expires_at) "
+                            + "values (:username, :revokedBefore, :expiresAt)")
+                    .bind("username", username)
+                    .bind("revokedBefore", revokedBefore)
+                    // 이 시각 이하에 발급된 토큰이 모두 만료되는 시각
+                    .bind("expiresAt", (revokedBefore + 1) * 1000 + accessTokenValidityMillis)
+                    .then();
+        });
+    }
+
+    public Mono<Void> sync() {
+        return Mono.defer(() -> databaseClient.sql("select id, jti, username, revoked_before, expires_at "
+                        + "from access_token_revocation where id > :lastId and expires_at > :now order by id")
+                .bind("lastId", Math.max(0, lastId - SYNC_OVERLAP))
+                .bind("now", System.currentTimeMillis())
+                .map((row, metadata) -> apply(row))
+                .all()
+                .doOnNext(id -> lastId = Math.max(lastId, id))
+                .then());
+    }
+
+    // 행을 폐기 목록에 반영하고 id를 돌려준다.
+    private long apply(Row row) {
+        String jti = row.get("jti", String.class);
+        if (jti != null) {
+            accessTokenDenylist.revoke(jti, row.get("expires_at", Long.class));
+        } else {
+            accessTokenDenylist.revokeAll(row.get("username", String.class), row.get("revoked_before", Long.class));
+        }
+        return row.get("id", Long.class);
+    }
+
+    public Mono<Void> purge() {
+        return Mono.defer(() -> {
+            accessTokenDenylist.purge();
+            return databaseClient.sql("delete from access_token_revocation where expires_at <= :now")
+                    .bind("now", System.currentTimeMillis())
+                    .fetch()
+                    .rowsUpdated()
+                    .doOnNext(deleted -> {
+                        if (deleted > 0) {
+                            log.debug("만료된 AccessToken 폐기 기록 {}건을 정리합니다.", deleted);
+                        }
+                    })
+                    .then();
+        });
+    }
+}
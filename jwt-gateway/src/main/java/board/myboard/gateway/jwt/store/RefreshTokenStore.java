@@ -0,0 +1,63 @@
+package board.myboard.gateway.jwt.store;
+
+import board.myboard.auth.token.RefreshTokenHash;
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * refresh_token 테이블 (R2DBC, 메인 애플리케이션의 RefreshToken 엔티티와 같은 테이블)
+ *
+ * 토큰 원문 대신 SHA-256 hex(64자)를 PK(token_hash)로 저장하는 것도 같다. (RefreshTokenHash, auth-core)
+ */
+@Repository
+@RequiredArgsConstructor
+public class RefreshTokenStore {
+
+    private final DatabaseClient databaseClient;
+
+    public Mono<Void> save(String refreshToken, String username, String familyId, Instant expiresAt) {
+        return databaseClient.sql("insert into refresh_token (token_hash, username, family_id, expires_at, used) "
+                        + "values (:tokenHash, :username, :familyId, :expiresAt, false)")
+                .bind("tokenHash", RefreshTokenHash.hash(refreshToken))
+                .bind("username", username)
+                .bind("familyId", familyId)
+                .bind("expiresAt", LocalDateTime.ofInstant(expiresAt, ZoneId.systemDefault()))
+                .then();
+    }
+
+    public Mono<StoredRefreshToken> find(String refreshToken) {
+        return databaseClient.sql("select username, family_id, expires_at, used from refresh_token "
+                        + "where token_hash = :tokenHash")
+                .bind("tokenHash", RefreshTokenHash.hash(refreshToken))
+                .map((row, metadata) -> new StoredRefreshToken(
+                        row.get("username", String.class),
+                        row.get("family_id", String.class),
+                        row.get("expires_at", LocalDateTime.class).atZone(ZoneId.systemDefault()).toInstant(),
+                        Boolean.TRUE.equals(row.get("used", Boolean.class))))
+                .one();
+    }
+
+    /**
+     * 사용되지 않은 토큰만 사용됨으로 변경. (조건부 UPDATE 이므로 동시에 와도 한 요청만 true)
+     */
+    public Mono<Boolean> markUsed(String refreshToken) {
+        return databaseClient.sql("update refresh_token set used = true where token_hash = :tokenHash and used = false")
+                .bind("tokenHash", RefreshTokenHash.hash(refreshToken))
+                .fetch()
+                .rowsUpdated()
+                .map(updated -> updated == 1);
+    }
+
+    public Mono<Integer> deleteByFamilyId(String familyId) {
+        return databaseClient.sql("delete from refresh_token where family_id = :familyId")
+                .bind("familyId", familyId)
+                .fetch()
+                .rowsUpdated();
+    }
+}
@@ -0,0 +1,25 @@
+package board.myboard.gateway.jwt.store;
+
+import lombok.Getter;
+
+import java.time.Instant;
+
+@Getter
+public class StoredRefreshToken {
+
+    private final String username;
+    private final String familyId;
+    private final Instant expiresAt;
+    private final boolean used;
+
+    public StoredRefreshToken(String username, String familyId, Instant expiresAt, boolean used) {
+        this.username = username;
+        this.familyId = familyId;
+        this.expiresAt = expiresAt;
+        this.used = used;
+    }
+
+    public boolean isExpired(Instant now) {
+        return !expiresAt.isAfter(now);
+    }
+}
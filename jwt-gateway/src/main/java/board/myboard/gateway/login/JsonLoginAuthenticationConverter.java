@@ -0,0 +1,94 @@
+package board.myboard.gateway.login;
+
+import board.myboard.auth.ratelimit.LoginRateLimitException;
+import board.myboard.auth.ratelimit.LoginRateLimiter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.core.io.buffer.DataBufferLimitException;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.security.authentication.AuthenticationServiceException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.web.server.authentication.ServerAuthenticationConverter;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetSocketAddress;
+import java.util.Map;
+
+/**
+ * 메인 애플리케이션 JsonUsernamePasswordAuthFilter 의 요청 파싱 부분.
+ * {"username": "...", "password": "..."} 본문을 읽어 UsernamePasswordAuthenticationToken 으로 변환.
+ *
+ * 본문은 login.max-body-size 까지만 모은다. (초과하면 바로 실패, 큰 본문으로 메모리를 쓰지 않도록)
+ *
+ * 시도 제한(LoginRateLimiter)도 메인 애플리케이션과 같다.
+ * IP는 본문을 읽기 전에, username은 회원 조회, 비밀번호 비교 전에 확인한다. (초과 시 LoginRateLimitException -> LoginFailHandler)
+ */
+public class JsonLoginAuthenticationConverter implements ServerAuthenticationConverter {
+
+    private static final String USERNAME_KEY = "username";
+    private static final String PASSWORD_KEY = "password";
+
+    // LoginFailHandler에서 실패 횟수를 기록할 username
+    public static final String USERNAME_ATTRIBUTE = JsonLoginAuthenticationConverter.class.getName() + ".username";
+
+    private final ObjectMapper objectMapper;
+    private final int maxBodySize;
+    private final LoginRateLimiter loginRateLimiter;
+
+    public JsonLoginAuthenticationConverter(ObjectMapper objectMapper, int maxBodySize, LoginRateLimiter loginRateLimiter) {
+        this.objectMapper = objectMapper;
+        this.maxBodySize = maxBodySize;
+        this.loginRateLimiter = loginRateLimiter;
+    }
+
+    @Override
+    public Mono<Authentication> convert(ServerWebExchange exchange) {
+        try {
+            loginRateLimiter.checkIp(remoteAddress(exchange.getRequest()));
+        } catch (LoginRateLimitException e) {
+            return Mono.error(e);
+        }
+
+        MediaType contentType = exchange.getRequest().getHeaders().getContentType();
+        if (contentType == null || !MediaType.APPLICATION_JSON.isCompatibleWith(contentType)) {
+            return Mono.error(new AuthenticationServiceException("Authentication Content-Type not supported: " + contentType));
+        }
+
+        return DataBufferUtils.join(exchange.getRequest().getBody(), maxBodySize)
+                .map(buffer -> {
+                    try (InputStream body = buffer.asInputStream(true)) {
+                        return (Authentication) toAuthentication(objectMapper.readValue(body, Map.class));
+                    } catch (IOException e) {
+                        throw new AuthenticationServiceException("로그인 요청을 읽을 수 없습니다.", e);
+                    }
+                })
+                .onErrorMap(DataBufferLimitException.class,
+                        e -> new AuthenticationServiceException("로그인 요청이 너무 큽니다.", e))
+                .map(authentication -> {
+                    exchange.getAttributes().put(USERNAME_ATTRIBUTE, authentication.getName());
+                    loginRateLimiter.checkUsername(authentication.getName());
+                    return authentication;
+                });
+    }
+
+    private static String remoteAddress(ServerHttpRequest request) {
+        InetSocketAddress remoteAddress = request.getRemoteAddress();
+        if (remoteAddress == null) {
+            return "";
+        }
+        return remoteAddress.getAddress() == null ? remoteAddress.getHostString() : remoteAddress.getAddress().getHostAddress();
+    }
+
+    private UsernamePasswordAuthenticationToken toAuthentication(Map<?, ?> usernamePasswordMap) {
+        Object username = usernamePasswordMap.get(USERNAME_KEY);
+        Object password = usernamePasswordMap.get(PASSWORD_KEY);
+        return new UsernamePasswordAuthenticationToken(
+                username == null ? "" : username.toString(),
+                password == null ? "" : password.toString());
+    }
+}
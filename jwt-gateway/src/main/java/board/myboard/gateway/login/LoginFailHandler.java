@@ -0,0 +1,53 @@
+package board.myboard.gateway.login;
+
+import board.myboard.auth.ratelimit.LoginRateLimitException;
+import board.myboard.auth.ratelimit.LoginRateLimiter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.web.server.WebFilterExchange;
+import org.springframework.security.web.server.authentication.ServerAuthenticationFailureHandler;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 메인 애플리케이션 LoginFailHandler 와 같이 200 + "fail" 응답.
+ * 시도 제한 초과는 429 (Retry-After), 아이디/비밀번호가 틀리면 실패 횟수 기록.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class LoginFailHandler implements ServerAuthenticationFailureHandler {
+
+    private static final byte[] FAIL = "fail".getBytes(StandardCharsets.UTF_8);
+
+    private final LoginRateLimiter loginRateLimiter;
+
+    @Override
+    public Mono<Void> onAuthenticationFailure(WebFilterExchange webFilterExchange, AuthenticationException exception) {
+        ServerWebExchange exchange = webFilterExchange.getExchange();
+        ServerHttpResponse response = exchange.getResponse();
+        // 시도 제한 초과 -> 429
+        if (exception instanceof LoginRateLimitException) {
+            response.setStatusCode(HttpStatus.TOO_MANY_REQUESTS);
+            response.getHeaders().set("Retry-After", String.valueOf(((LoginRateLimitException) exception).getRetryAfterSeconds()));
+            log.info("로그인 시도 제한을 초과했습니다.");
+            return response.setComplete();
+        }
+
+        // 아이디, 비밀번호가 틀린 경우 실패 횟수 기록 (없는 아이디도 BadCredentialsException)
+        if (exception instanceof BadCredentialsException) {
+            loginRateLimiter.recordFailure(exchange.getAttribute(JsonLoginAuthenticationConverter.USERNAME_ATTRIBUTE));
+        }
+
+        response.setStatusCode(HttpStatus.OK); // 일단 보안을 위해 로그인 오류지만 200반환.
+        log.info("로그인에 실패합니다.");
+        DataBuffer body = response.bufferFactory().wrap(FAIL);
+        return response.writeWith(Mono.just(body));
+    }
+}
@@ -0,0 +1,33 @@
+package board.myboard.gateway.login;
+
+import board.myboard.gateway.jwt.ReactiveJwtService;
+import board.myboard.gateway.member.MemberUserDetails;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.web.server.WebFilterExchange;
+import org.springframework.security.web.server.authentication.ServerAuthenticationSuccessHandler;
+import reactor.core.publisher.Mono;
+
+/**
+ * 로그인 성공 시 AccessToken + RefreshToken 발급. (응답 헤더)
+ * 인증 시 조회한 회원 정보(MemberUserDetails)를 그대로 사용하므로 회원을 다시 조회하지 않는다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class LoginSuccessJWTProviderHandler implements ServerAuthenticationSuccessHandler {
+
+    private final ReactiveJwtService jwtService;
+
+    @Override
+    public Mono<Void> onAuthenticationSuccess(WebFilterExchange webFilterExchange, Authentication authentication) {
+        MemberUserDetails userDetails = (MemberUserDetails) authentication.getPrincipal();
+        return jwtService.issue(userDetails.getMember())
+                .flatMap(tokens -> {
+                    jwtService.sendAccessAndRefreshToken(webFilterExchange.getExchange().getResponse(), tokens);
+                    // 토큰 값은 로그에 남기지 않는다. (로그 유출 = 토큰 유출)
+                    log.info("로그인에 성공합니다. username: {}", userDetails.getUsername());
+                    return webFilterExchange.getExchange().getResponse().setComplete();
+                });
+    }
+}
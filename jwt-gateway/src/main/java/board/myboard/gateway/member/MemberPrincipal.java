@@ -0,0 +1,20 @@
+package board.myboard.gateway.member;
+
+import lombok.Getter;
+
+/**
+ * 인증에 필요한 회원 정보. (비밀번호 제외, 캐시에 저장)
+ */
+@Getter
+public class MemberPrincipal {
+
+    private final Long id;
+    private final String username;
+    private final String role;
+
+    public MemberPrincipal(Long id, String username, String role) {
+        this.id = id;
+        this.username = username;
+        this.role = role;
+    }
+}
@@ -0,0 +1,42 @@
+package board.myboard.gateway.member;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+/**
+ * JWT 인증 시 회원 조회 캐시. (jwt.access.stateless=false 일 때)
+ *
+ * Caffeine AsyncCache에 CompletableFuture를 저장하므로 캐시 미스에도 스레드를 막지 않고,
+ * 같은 username으로 동시에 온 요청은 조회 한 번을 같이 기다린다.
+ * 없는 회원(empty)은 저장하지 않는다.
+ */
+@Component
+public class MemberPrincipalCache {
+
+    private final ReactiveMemberRepository memberRepository;
+    private final AsyncCache<String, MemberPrincipal> cache;
+
+    public MemberPrincipalCache(ReactiveMemberRepository memberRepository,
+                                @Value("${jwt.principal-cache.maximum-size:10000}") long maximumSize,
+                                @Value("${jwt.principal-cache.ttl:30}") long ttlSeconds) {
+        this.memberRepository = memberRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .buildAsync();
+    }
+
+    public Mono<MemberPrincipal> get(String username) {
+        return Mono.fromFuture(() -> cache.get(username,
+                (key, executor) -> memberRepository.findPrincipalByUsername(key).toFuture()));
+    }
+
+    public void evict(String username) {
+        cache.synchronous().invalidate(username);
+    }
+}
@@ -0,0 +1,19 @@
+package board.myboard.gateway.member;
+
+import lombok.Getter;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.userdetails.User;
+
+/**
+ * 로그인 인증용. 로그인 성공 후 토큰 발급 시 회원을 다시 조회하지 않도록 MemberPrincipal을 같이 들고 있다.
+ */
+@Getter
+public class MemberUserDetails extends User {
+
+    private final MemberPrincipal member;
+
+    public MemberUserDetails(MemberPrincipal member, String password) {
+        super(member.getUsername(), password, AuthorityUtils.createAuthorityList("ROLE_" + member.getRole()));
+        this.member = member;
+    }
+}
@@ -0,0 +1,22 @@
+package board.myboard.gateway.member;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.userdetails.ReactiveUserDetailsService;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+/**
+ * 로그인 시 회원 조회. (비밀번호가 필요하므로 캐시를 쓰지 않음)
+ */
+@Service
+@RequiredArgsConstructor
+public class MemberUserDetailsService implements ReactiveUserDetailsService {
+
+    private final ReactiveMemberRepository memberRepository;
+
+    @Override
+    public Mono<UserDetails> findByUsername(String username) {
+        return memberRepository.findUserDetailsByUsername(username).cast(UserDetails.class);
+    }
+}
@@ -0,0 +1,38 @@
+package board.myboard.gateway.member;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+/**
+ * member 테이블 조회 (R2DBC, 메인 애플리케이션의 Member 엔티티와 같은 테이블)
+ */
+@Repository
+@RequiredArgsConstructor
+public class ReactiveMemberRepository {
+
+    private final DatabaseClient databaseClient;
+
+    public Mono<MemberPrincipal> findPrincipalByUsername(String username) {
+        return databaseClient.sql("select member_id, username, role from member where username = :username")
+                .bind("username", username)
+                .map((row, metadata) -> new MemberPrincipal(
+                        row.get("member_id", Long.class),
+                        row.get("username", String.class),
+                        row.get("role", String.class)))
+                .one();
+    }
+
+    public Mono<MemberUserDetails> findUserDetailsByUsername(String username) {
+        return databaseClient.sql("select member_id, username, password, role from member where username = :username")
+                .bind("username", username)
+                .map((row, metadata) -> new MemberUserDetails(
+                        new MemberPrincipal(
+                                row.get("member_id", Long.class),
+                                row.get("username", String.class),
+                                row.get("role", String.class)),
+                        row.get("password", String.class)))
+                .one();
+    }
+}
@@ -0,0 +1,31 @@
+package board.myboard.gateway.web;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 인증된 회원 정보 (토큰 확인용)
+ */
+@RestController
+public class MemberInfoController {
+
+    @GetMapping("/member/me")
+    public Mono<Map<String, Object>> me() {
+        return ReactiveSecurityContextHolder.getContext()
+                .map(context -> {
+                    Map<String, Object> me = new LinkedHashMap<>();
+                    me.put("username", context.getAuthentication().getName());
+                    me.put("authorities", context.getAuthentication().getAuthorities().stream()
+                            .map(GrantedAuthority::getAuthority)
+                            .collect(Collectors.toList()));
+                    return me;
+                });
+    }
+}
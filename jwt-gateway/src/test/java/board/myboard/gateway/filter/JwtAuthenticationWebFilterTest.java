@@ -0,0 +1,235 @@
+package board.myboard.gateway.filter;
+
+import board.myboard.auth.password.PasswordEncoders;
+import board.myboard.gateway.jwt.revoke.AccessTokenRevocations;
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.util.Map;
+
+@AutoConfigureWebTestClient
+@SpringBootTest(properties = {
+        "spring.r2dbc.url=r2dbc:h2:mem:///gateway;DB_CLOSE_DELAY=-1",
+        "spring.sql.init.mode=always",
+        "jwt.refresh.reuse-grace=0"
+})
+class JwtAuthenticationWebFilterTest {
+
+    private static final String USERNAME = "gatewayUser";
+    private static final String PASSWORD = "123456789";
+    private static final String BEARER = "Bearer ";
+
+    @Autowired
+    WebTestClient webTestClient;
+
+    @Autowired
+    DatabaseClient databaseClient;
+
+    @Autowired
+    PasswordEncoder passwordEncoder;
+
+    @Autowired
+    AccessTokenRevocations accessTokenRevocations;
+
+    @Value("${jwt.access.header}")
+    private String accessHeader;
+
+    @Value("${jwt.refresh.header}")
+    private String refreshHeader;
+
+    @BeforeEach
+    public void init() {
+        insertMember(1L, USERNAME);
+    }
+
+    @AfterEach
+    public void clear() {
+        databaseClient.sql("delete from access_token_revocation").then().block();
+        databaseClient.sql("delete from refresh_token").then().block();
+        databaseClient.sql("delete from member").then().block();
+    }
+
+    @Test
+    public void 로그인_성공_토큰_발급() {
+        //when
+        HttpHeaders headers = login(PASSWORD);
+
+        //then
+        Assertions.assertThat(headers.getFirst(accessHeader)).isNotBlank();
+        Assertions.assertThat(headers.getFirst(refreshHeader)).isNotBlank();
+        // 회원 단위 폐기(revokeAll)에 필요한 iat (메인 애플리케이션과 같은 발급 구현)
+        Assertions.assertThat(JWT.decode(headers.getFirst(accessHeader)).getIssuedAt()).isNotNull();
+    }
+
+    @Test
+    public void 메인_애플리케이션의_pbkdf2_해시_로그인() {
+        //given : 메인 애플리케이션이 security.password.algorithm=pbkdf2 로 저장한 해시 ({pbkdf2@N})
+        String encoded = PasswordEncoders.create(PasswordEncoders.PBKDF2, 10, 1000).encode(PASSWORD);
+        databaseClient.sql("update member set password = :password where username = :username")
+                .bind("password", encoded)
+                .bind("username", USERNAME)
+                .then()
+                .block();
+
+        //when
+        HttpHeaders headers = login(PASSWORD);
+
+        //then
+        Assertions.assertThat(encoded).startsWith("{pbkdf2@1000}");
+        Assertions.assertThat(headers.getFirst(accessHeader)).isNotBlank();
+    }
+
+    @Test
+    public void 로그인_실패_제한_초과시_429() {
+        //given : login.rate-limit.username-failure-limit = 5
+        Map<String, String> wrong = Map.of("username", "lockedUser", "password", "wrong-password");
+        for (int i = 0; i < 5; i++) {
+            webTestClient.post().uri("/login")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .bodyValue(wrong)
+                    .exchange()
+                    .expectStatus().isOk();
+        }
+
+        //when, then
+        webTestClient.post().uri("/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(wrong)
+                .exchange()
+                .expectStatus().isEqualTo(429)
+                .expectHeader().exists("Retry-After");
+    }
+
+    @Test
+    public void 로그인_실패() {
+        //when, then
+        webTestClient.post().uri("/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(Map.of("username", USERNAME, "password", "wrong-password"))
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().doesNotExist(accessHeader)
+                .expectBody(String.class).isEqualTo("fail");
+    }
+
+    @Test
+    public void AccessToken_인증() {
+        //given
+        String accessToken = login(PASSWORD).getFirst(accessHeader);
+
+        //when, then
+        webTestClient.get().uri("/member/me")
+                .header(accessHeader, BEARER + accessToken)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.username").isEqualTo(USERNAME)
+                .jsonPath("$.authorities[0]").isEqualTo("ROLE_USER");
+    }
+
+    @Test
+    public void 메인_애플리케이션에서_폐기한_AccessToken_403() {
+        //given : 메인 애플리케이션 로그아웃 (AccessTokenRevocations.revoke)
+        DecodedJWT accessToken = JWT.decode(login(PASSWORD).getFirst(accessHeader));
+        databaseClient.sql("insert into access_token_revocation (jti, expires_at) values (:jti, :expiresAt)")
+                .bind("jti", accessToken.getId())
+                .bind("expiresAt", accessToken.getExpiresAt().getTime())
+                .then()
+                .block();
+
+        //when
+        accessTokenRevocations.sync().block();
+
+        //then
+        webTestClient.get().uri("/member/me")
+                .header(accessHeader, BEARER + accessToken.getToken())
+                .exchange()
+                .expectStatus().isForbidden();
+    }
+
+    @Test
+    public void 토큰없이_요청_403() {
+        //when, then
+        webTestClient.get().uri("/member/me")
+                .exchange()
+                .expectStatus().isForbidden();
+
+        webTestClient.get().uri("/member/me")
+                .header(accessHeader, BEARER + "invalid")
+                .exchange()
+                .expectStatus().isForbidden();
+    }
+
+    @Test
+    public void RefreshToken_재발급_재사용시_계열_폐기() {
+        //given : 재사용 감지 시 회원의 AccessToken이 모두 폐기되므로 다른 테스트와 다른 회원
+        String username = "reuseUser";
+        insertMember(2L, username);
+        HttpHeaders issued = login(username, PASSWORD);
+        String refreshToken = issued.getFirst(refreshHeader);
+
+        //when
+        HttpHeaders reissued = webTestClient.get().uri("/member/me")
+                .header(refreshHeader, BEARER + refreshToken)
+                .exchange()
+                .expectStatus().isOk()
+                .returnResult(Void.class)
+                .getResponseHeaders();
+        String newRefreshToken = reissued.getFirst(refreshHeader);
+
+        //then
+        Assertions.assertThat(reissued.getFirst(accessHeader)).isNotBlank();
+        Assertions.assertThat(newRefreshToken).isNotBlank().isNotEqualTo(refreshToken);
+
+        // 이미 사용한 토큰 재사용 -> 거부, 새로 받은 토큰까지 폐기
+        webTestClient.get().uri("/member/me")
+                .header(refreshHeader, BEARER + refreshToken)
+                .exchange()
+                .expectStatus().isUnauthorized();
+        webTestClient.get().uri("/member/me")
+                .header(refreshHeader, BEARER + newRefreshToken)
+                .exchange()
+                .expectStatus().isUnauthorized();
+        // 이미 받은 AccessToken도 폐기
+        webTestClient.get().uri("/member/me")
+                .header(accessHeader, BEARER + issued.getFirst(accessHeader))
+                .exchange()
+                .expectStatus().isForbidden();
+    }
+
+    private void insertMember(Long id, String username) {
+        databaseClient.sql("insert into member (member_id, username, password, role) values (:id, :username, :password, 'USER')")
+                .bind("id", id)
+                .bind("username", username)
+                .bind("password", passwordEncoder.encode(PASSWORD))
+                .then()
+                .block();
+    }
+
+    private HttpHeaders login(String password) {
+        return login(USERNAME, password);
+    }
+
+    private HttpHeaders login(String username, String password) {
+        return webTestClient.post().uri("/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(Map.of("username", username, "password", password))
+                .exchange()
+                .expectStatus().isOk()
+                .returnResult(Void.class)
+                .getResponseHeaders();
+    }
+}
@@ -0,0 +1,23 @@
+-- 메인 애플리케이션(JPA)이 만드는 테이블 중 게이트웨이가 사용하는 컬럼
+create table if not exists member (
+    member_id bigint primary key,
+    username varchar(30) not null unique,
+    password varchar(255),
+    role varchar(255)
+);
+
+create table if not exists refresh_token (
+    token_hash varchar(64) primary key,
+    username varchar(30) not null,
+    family_id varchar(36) not null,
+    expires_at timestamp not null,
+    used boolean not null
+);
+
+create table if not exists access_token_revocation (
+    id bigint generated by default as identity primary key,
+    jti varchar(36),
+    username varchar(30),
+    revoked_before bigint,
+    expires_at bigint not null
+);
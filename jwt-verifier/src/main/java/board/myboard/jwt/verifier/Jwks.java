@@ -0,0 +1,111 @@
+package board.myboard.jwt.verifier;
+
+import java.math.BigInteger;
+import java.security.AlgorithmParameters;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.PublicKey;
+import java.security.interfaces.ECPublicKey;
+import java.security.interfaces.RSAPublicKey;
+import java.security.spec.ECGenParameterSpec;
+import java.security.spec.ECParameterSpec;
+import java.security.spec.ECPoint;
+import java.security.spec.ECPublicKeySpec;
+import java.security.spec.RSAPublicKeySpec;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 공개키 <-> JWK (RFC 7517) 변환.
+ * 지원 : EC P-256 (ES256), RSA (RS256)
+ */
+public final class Jwks {
+
+    private static final String EC_CURVE = "P-256";
+    private static final int EC_COORDINATE_SIZE = 32;
+
+    private Jwks() {
+    }
+
+    /**
+     * {"keys": [...]} 형태의 JWK Set
+     */
+    public static Map<String, Object> toJwkSet(Map<String, ? extends PublicKey> publicKeys) {
+        List<Map<String, Object>> keys = new ArrayList<>();
+        publicKeys.forEach((kid, publicKey) -> keys.add(toJwk(kid, publicKey)));
+        Map<String, Object> jwkSet = new LinkedHashMap<>();
+        jwkSet.put("keys", keys);
+        return jwkSet;
+    }
+
+    public static Map<String, Object> toJwk(String kid, PublicKey publicKey) {
+        Map<String, Object> jwk = new LinkedHashMap<>();
+        jwk.put("kid", kid);
+        jwk.put("use", "sig");
+        if (publicKey instanceof ECPublicKey) {
+            ECPoint point = ((ECPublicKey) publicKey).getW();
+            jwk.put("kty", "EC");
+            jwk.put("alg", "ES256");
+            jwk.put("crv", EC_CURVE);
+            jwk.put("x", encode(point.getAffineX(), EC_COORDINATE_SIZE));
+            jwk.put("y", encode(point.getAffineY(), EC_COORDINATE_SIZE));
+        } else if (publicKey instanceof RSAPublicKey) {
+            RSAPublicKey rsaPublicKey = (RSAPublicKey) publicKey;
+            jwk.put("kty", "RSA");
+            jwk.put("alg", "RS256");
+            jwk.put("n", encode(rsaPublicKey.getModulus(), 0));
+            jwk.put("e", encode(rsaPublicKey.getPublicExponent(), 0));
+        } else {
+            throw new IllegalArgumentException("지원하지 않는 공개키입니다. " + publicKey.getAlgorithm());
+        }
+        return jwk;
+    }
+
+    public static PublicKey fromJwk(Map<String, Object> jwk) {
+        String kty = (String) jwk.get("kty");
+        try {
+            if ("EC".equals(kty)) {
+                if (!EC_CURVE.equals(jwk.get("crv"))) {
+                    throw new IllegalArgumentException("지원하지 않는 curve 입니다. " + jwk.get("crv"));
+                }
+                AlgorithmParameters parameters = AlgorithmParameters.getInstance("EC");
+                parameters.init(new ECGenParameterSpec("secp256r1"));
+                ECPoint point = new ECPoint(decode(jwk.get("x")), decode(jwk.get("y")));
+                return KeyFactory.getInstance("EC").generatePublic(
+                        new ECPublicKeySpec(point, parameters.getParameterSpec(ECParameterSpec.class)));
+            }
+            if ("RSA".equals(kty)) {
+                return KeyFactory.getInstance("RSA").generatePublic(
+                        new RSAPublicKeySpec(decode(jwk.get("n")), decode(jwk.get("e"))));
+            }
+        } catch (GeneralSecurityException e) {
+            throw new IllegalArgumentException("JWK를 공개키로 바꿀 수 없습니다. kid: " + jwk.get("kid"), e);
+        }
+        throw new IllegalArgumentException("지원하지 않는 kty 입니다. " + kty);
+    }
+
+    // base64url (unsigned big-endian, size > 0 이면 그 길이로 맞춤)
+    private static String encode(BigInteger value, int size) {
+        byte[] bytes = value.toByteArray();
+        if (bytes.length > 1 && bytes[0] == 0) {
+            bytes = Arrays.copyOfRange(bytes, 1, bytes.length);
+        }
+        if (size > bytes.length) {
+            byte[] padded = new byte[size];
+            System.arraycopy(bytes, 0, padded, size - bytes.length, bytes.length);
+            bytes = padded;
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    private static BigInteger decode(Object value) {
+        if (!(value instanceof String)) {
+            throw new IllegalArgumentException("JWK 값이 올바르지 않습니다. " + value);
+        }
+        return new BigInteger(1, Base64.getUrlDecoder().decode((String) value));
+    }
+}
@@ -0,0 +1,169 @@
+package board.myboard.jwt.verifier;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.security.PublicKey;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * JWKS 엔드포인트의 공개키 캐시 (kid -> 공개키)
+ *
+ * - 조회는 불변 Map을 읽기만 하므로 lock이 없다.
+ * - refresh-interval(또는 응답의 Cache-Control max-age)이 지나면 If-None-Match(ETag)로 다시 요청.
+ *   304 Not Modified 면 기존 키를 그대로 쓴다.
+ * - 갱신은 한 스레드만 하고(tryLock), 나머지 스레드는 기존 키로 바로 검증한다.
+ * - 모르는 kid가 오면 (키 교체 직후) min-refresh-interval 에 한 번까지 즉시 다시 가져온다.
+ * - 요청이 실패하면 기존 키를 유지하고 min-refresh-interval 뒤에 다시 시도.
+ */
+public class JwksKeyCache {
+
+    private static final System.Logger log = System.getLogger(JwksKeyCache.class.getName());
+    private static final Pattern MAX_AGE = Pattern.compile("max-age=(\\d+)");
+
+    private final HttpClient httpClient;
+    private final URI jwksUri;
+    private final Duration refreshInterval;
+    private final Duration minRefreshInterval;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ReentrantLock refreshLock = new ReentrantLock();
+
+    private volatile Map<String, PublicKey> keys = Collections.emptyMap();
+    private volatile String etag;
+    private volatile long nextRefreshNanos;
+    private volatile long lastFetchNanos;
+    private volatile boolean fetched;
+
+    public JwksKeyCache(URI jwksUri, Duration refreshInterval, Duration minRefreshInterval) {
+        this(HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build(),
+                jwksUri, refreshInterval, minRefreshInterval);
+    }
+
+    public JwksKeyCache(HttpClient httpClient, URI jwksUri, Duration refreshInterval, Duration minRefreshInterval) {
+        this.httpClient = httpClient;
+        this.jwksUri = jwksUri;
+        this.refreshInterval = refreshInterval;
+        this.minRefreshInterval = minRefreshInterval;
+        this.nextRefreshNanos = System.nanoTime();
+        this.lastFetchNanos = nextRefreshNanos - minRefreshInterval.toNanos();
+    }
+
+    /**
+     * 없는 kid면 null
+     */
+    public PublicKey getPublicKey(String kid) {
+        if (kid == null) {
+            return null;
+        }
+        if (System.nanoTime() - nextRefreshNanos >= 0) {
+            // 처음에는 키가 있어야 하므로 기다리고, 이후에는 다른 스레드가 갱신 중이면 기존 키 사용
+            refreshQuietly(!fetched);
+        }
+
+        PublicKey publicKey = keys.get(kid);
+        if (publicKey == null && System.nanoTime() - lastFetchNanos >= minRefreshInterval.toNanos()) {
+            refreshQuietly(true);
+            publicKey = keys.get(kid);
+        }
+        return publicKey;
+    }
+
+    public Map<String, PublicKey> getKeys() {
+        return keys;
+    }
+
+    /**
+     * JWKS를 다시 가져온다. (ETag가 같으면 304)
+     */
+    public void refresh() throws IOException, InterruptedException {
+        HttpRequest.Builder request = HttpRequest.newBuilder(jwksUri)
+                .timeout(Duration.ofSeconds(5))
+                .header("Accept", "application/json")
+                .GET();
+        String currentEtag = etag;
+        if (currentEtag != null) {
+            request.header("If-None-Match", currentEtag);
+        }
+
+        HttpResponse<byte[]> response = httpClient.send(request.build(), HttpResponse.BodyHandlers.ofByteArray());
+        lastFetchNanos = System.nanoTime();
+        if (response.statusCode() == 304) {
+            scheduleNextRefresh(response);
+            return;
+        }
+        if (response.statusCode() != 200) {
+            throw new IOException("JWKS 응답 오류입니다. status: " + response.statusCode());
+        }
+
+        Map<String, List<Map<String, Object>>> jwkSet = objectMapper.readValue(response.body(),
+                new TypeReference<Map<String, List<Map<String, Object>>>>() {});
+        Map<String, PublicKey> loaded = new HashMap<>();
+        for (Map<String, Object> jwk : jwkSet.getOrDefault("keys", List.of())) {
+            Object kid = jwk.get("kid");
+            if (!(kid instanceof String)) {
+                continue;
+            }
+            try {
+                loaded.put((String) kid, Jwks.fromJwk(jwk));
+            } catch (IllegalArgumentException e) {
+                // 지원하지 않는 키만 건너뜀
+                log.log(System.Logger.Level.WARNING, "JWK를 건너뜁니다. " + e.getMessage());
+            }
+        }
+
+        keys = Collections.unmodifiableMap(loaded);
+        etag = response.headers().firstValue("ETag").orElse(null);
+        fetched = true;
+        scheduleNextRefresh(response);
+    }
+
+    private void refreshQuietly(boolean wait) {
+        long startNanos = System.nanoTime();
+        if (wait) {
+            refreshLock.lock();
+        } else if (!refreshLock.tryLock()) {
+            return;
+        }
+        try {
+            // 기다리는 동안 다른 스레드가 이미 갱신했으면 다시 요청하지 않음
+            if (wait && lastFetchNanos - startNanos >= 0) {
+                return;
+            }
+            refresh();
+        } catch (IOException e) {
+            log.log(System.Logger.Level.WARNING, "JWKS를 가져오지 못했습니다. " + e.getMessage());
+            lastFetchNanos = System.nanoTime();
+            nextRefreshNanos = lastFetchNanos + minRefreshInterval.toNanos();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    private void scheduleNextRefresh(HttpResponse<?> response) {
+        long intervalNanos = maxAge(response)
+                .map(Duration::toNanos)
+                .orElse(refreshInterval.toNanos());
+        nextRefreshNanos = System.nanoTime() + Math.max(intervalNanos, minRefreshInterval.toNanos());
+    }
+
+    private static Optional<Duration> maxAge(HttpResponse<?> response) {
+        return response.headers().firstValue("Cache-Control").map(MAX_AGE::matcher)
+                .filter(Matcher::find)
+                .map(matcher -> Duration.ofSeconds(Long.parseLong(matcher.group(1))));
+    }
+}
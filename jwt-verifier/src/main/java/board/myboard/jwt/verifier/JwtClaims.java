@@ -0,0 +1,17 @@
+package board.myboard.jwt.verifier;
+
+/**
+ * 토큰 발급(JwtServicelmpl)과 검증이 함께 쓰는 이름들.
+ */
+public final class JwtClaims {
+
+    public static final String ACCESS_TOKEN_SUBJECT = "AccessToken";
+    public static final String REFRESH_TOKEN_SUBJECT = "RefreshToken";
+    public static final String USERNAME = "username";
+    public static final String MEMBER_ID = "memberId";
+    public static final String ROLE = "role";
+    public static final String BEARER = "Bearer ";
+
+    private JwtClaims() {
+    }
+}
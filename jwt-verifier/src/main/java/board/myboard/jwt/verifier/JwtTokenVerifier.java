@@ -0,0 +1,110 @@
+package board.myboard.jwt.verifier;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.JWTVerifier;
+import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.exceptions.JWTVerificationException;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import com.auth0.jwt.interfaces.ECDSAKeyProvider;
+import com.auth0.jwt.interfaces.RSAKeyProvider;
+
+import java.security.PublicKey;
+import java.security.interfaces.ECPrivateKey;
+import java.security.interfaces.ECPublicKey;
+import java.security.interfaces.RSAPrivateKey;
+import java.security.interfaces.RSAPublicKey;
+import java.util.Optional;
+
+/**
+ * 공개키(JWKS)만으로 AccessToken을 검증. (서명 X)
+ *
+ * JWTVerifier는 한 번만 만들고, 토큰의 kid로 JwksKeyCache에서 공개키를 찾는다.
+ * 검증(서명 + 만료 + subject)은 토큰당 한 번, 클레임은 검증된 DecodedJWT에서 꺼낸다.
+ */
+public class JwtTokenVerifier {
+
+    private final JWTVerifier verifier;
+
+    /**
+     * @param algorithm ES256 | RS256 (발급하는 쪽의 jwt.signing.mode)
+     */
+    public JwtTokenVerifier(JwksKeyCache keyCache, String algorithm) {
+        this.verifier = JWT.require(algorithm(keyCache, algorithm))
+                .withSubject(JwtClaims.ACCESS_TOKEN_SUBJECT)
+                .build();
+    }
+
+    /**
+     * 서명, 만료 시간, subject가 올바르지 않으면 empty
+     */
+    public Optional<DecodedJWT> verify(String accessToken) {
+        try {
+            return Optional.of(verifier.verify(accessToken));
+        } catch (JWTVerificationException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Authorization 헤더 값에서 토큰 추출 (Bearer 제거)
+     */
+    public Optional<String> extractAccessToken(String authorizationHeader) {
+        return Optional.ofNullable(authorizationHeader)
+                .filter(header -> header.startsWith(JwtClaims.BEARER))
+                .map(header -> header.substring(JwtClaims.BEARER.length()));
+    }
+
+    public Optional<String> extractUsername(DecodedJWT accessToken) {
+        return Optional.ofNullable(accessToken.getClaim(JwtClaims.USERNAME).asString());
+    }
+
+    public Optional<String> extractRole(DecodedJWT accessToken) {
+        return Optional.ofNullable(accessToken.getClaim(JwtClaims.ROLE).asString());
+    }
+
+    public Optional<Long> extractMemberId(DecodedJWT accessToken) {
+        return Optional.ofNullable(accessToken.getClaim(JwtClaims.MEMBER_ID).asLong());
+    }
+
+    private static Algorithm algorithm(JwksKeyCache keyCache, String algorithm) {
+        if ("ES256".equalsIgnoreCase(algorithm)) {
+            return Algorithm.ECDSA256(new ECDSAKeyProvider() {
+                @Override
+                public ECPublicKey getPublicKeyById(String keyId) {
+                    PublicKey publicKey = keyCache.getPublicKey(keyId);
+                    return publicKey instanceof ECPublicKey ? (ECPublicKey) publicKey : null;
+                }
+
+                @Override
+                public ECPrivateKey getPrivateKey() {
+                    return null;
+                }
+
+                @Override
+                public String getPrivateKeyId() {
+                    return null;
+                }
+            });
+        }
+        if ("RS256".equalsIgnoreCase(algorithm)) {
+            return Algorithm.RSA256(new RSAKeyProvider() {
+                @Override
+                public RSAPublicKey getPublicKeyById(String keyId) {
+                    PublicKey publicKey = keyCache.getPublicKey(keyId);
+                    return publicKey instanceof RSAPublicKey ? (RSAPublicKey) publicKey : null;
+                }
+
+                @Override
+                public RSAPrivateKey getPrivateKey() {
+                    return null;
+                }
+
+                @Override
+                public String getPrivateKeyId() {
+                    return null;
+                }
+            });
+        }
+        throw new IllegalArgumentException("지원하지 않는 알고리즘입니다. " + algorithm);
+    }
+}
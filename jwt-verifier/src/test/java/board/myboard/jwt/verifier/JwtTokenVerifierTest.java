@@ -0,0 +1,176 @@
+package board.myboard.jwt.verifier;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import com.sun.net.httpserver.HttpServer;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.interfaces.ECPrivateKey;
+import java.security.interfaces.ECPublicKey;
+import java.security.spec.ECGenParameterSpec;
+import java.time.Duration;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 로컬 JWKS 스텁 서버(com.sun.net.httpserver)로 검증 전용 모드 확인.
+ */
+class JwtTokenVerifierTest {
+
+    private HttpServer server;
+    private final Map<String, ECPublicKey> publishedKeys = new LinkedHashMap<>();
+    private final AtomicInteger requests = new AtomicInteger();
+    private final AtomicInteger notModified = new AtomicInteger();
+    private volatile String etag = "\"v1\"";
+
+    private URI jwksUri;
+    private JwksKeyCache keyCache;
+    private JwtTokenVerifier verifier;
+
+    @BeforeEach
+    public void init() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/.well-known/jwks.json", exchange -> {
+            requests.incrementAndGet();
+            if (etag.equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+                notModified.incrementAndGet();
+                exchange.sendResponseHeaders(304, -1);
+                exchange.close();
+                return;
+            }
+            byte[] body = toJson(Jwks.toJwkSet(publishedKeys)).getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("ETag", etag);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream outputStream = exchange.getResponseBody()) {
+                outputStream.write(body);
+            }
+        });
+        server.start();
+
+        jwksUri = URI.create("http://127.0.0.1:" + server.getAddress().getPort() + "/.well-known/jwks.json");
+        keyCache = new JwksKeyCache(jwksUri, Duration.ZERO, Duration.ZERO);
+        verifier = new JwtTokenVerifier(keyCache, "ES256");
+    }
+
+    @AfterEach
+    public void clear() {
+        server.stop(0);
+    }
+
+    private static KeyPair ecKeyPair() throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+        generator.initialize(new ECGenParameterSpec("secp256r1"));
+        return generator.generateKeyPair();
+    }
+
+    private static String accessToken(String kid, KeyPair keyPair, String subject) {
+        return JWT.create()
+                .withKeyId(kid)
+                .withSubject(subject)
+                .withExpiresAt(new Date(System.currentTimeMillis() + 60_000))
+                .withClaim(JwtClaims.USERNAME, "username")
+                .withClaim(JwtClaims.ROLE, "USER")
+                .sign(Algorithm.ECDSA256((ECPublicKey) keyPair.getPublic(), (ECPrivateKey) keyPair.getPrivate()));
+    }
+
+    // 테스트용 최소 JSON 직렬화 (문자열 값만 있음)
+    @SuppressWarnings("unchecked")
+    private static String toJson(Map<String, Object> jwkSet) {
+        StringBuilder json = new StringBuilder("{\"keys\":[");
+        String separator = "";
+        for (Map<String, Object> jwk : (Iterable<Map<String, Object>>) jwkSet.get("keys")) {
+            json.append(separator).append('{');
+            String fieldSeparator = "";
+            for (Map.Entry<String, Object> entry : jwk.entrySet()) {
+                json.append(fieldSeparator).append('"').append(entry.getKey()).append("\":\"")
+                        .append(entry.getValue()).append('"');
+                fieldSeparator = ",";
+            }
+            json.append('}');
+            separator = ",";
+        }
+        return json.append("]}").toString();
+    }
+
+    @Test
+    public void JWKS_공개키로_검증_후_클레임_추출() throws Exception {
+        //given
+        KeyPair keyPair = ecKeyPair();
+        publishedKeys.put("k1", (ECPublicKey) keyPair.getPublic());
+        String accessToken = accessToken("k1", keyPair, JwtClaims.ACCESS_TOKEN_SUBJECT);
+
+        //when
+        Optional<DecodedJWT> decoded = verifier.extractAccessToken(JwtClaims.BEARER + accessToken).flatMap(verifier::verify);
+
+        //then
+        Assertions.assertThat(decoded).isPresent();
+        Assertions.assertThat(verifier.extractUsername(decoded.get())).contains("username");
+        Assertions.assertThat(verifier.extractRole(decoded.get())).contains("USER");
+    }
+
+    @Test
+    public void 다른_키로_서명된_토큰_RefreshToken_검증_실패() throws Exception {
+        //given
+        KeyPair published = ecKeyPair();
+        publishedKeys.put("k1", (ECPublicKey) published.getPublic());
+
+        //when, then
+        Assertions.assertThat(verifier.verify(accessToken("k1", ecKeyPair(), JwtClaims.ACCESS_TOKEN_SUBJECT))).isEmpty();
+        Assertions.assertThat(verifier.verify(accessToken("k1", published, JwtClaims.REFRESH_TOKEN_SUBJECT))).isEmpty();
+        Assertions.assertThat(verifier.verify(accessToken("unknown", published, JwtClaims.ACCESS_TOKEN_SUBJECT))).isEmpty();
+    }
+
+    @Test
+    public void ETag가_같으면_304로_기존_키_사용() throws Exception {
+        //given
+        KeyPair keyPair = ecKeyPair();
+        publishedKeys.put("k1", (ECPublicKey) keyPair.getPublic());
+        String accessToken = accessToken("k1", keyPair, JwtClaims.ACCESS_TOKEN_SUBJECT);
+
+        //when
+        // refresh-interval = 0 이므로 매번 조건부 요청
+        for (int i = 0; i < 3; i++) {
+            Assertions.assertThat(verifier.verify(accessToken)).isPresent();
+        }
+
+        //then
+        Assertions.assertThat(requests.get()).isEqualTo(3);
+        Assertions.assertThat(notModified.get()).isEqualTo(2);
+    }
+
+    @Test
+    public void 키_교체_후_모르는_kid면_다시_가져옴() throws Exception {
+        //given
+        KeyPair oldKeyPair = ecKeyPair();
+        publishedKeys.put("k1", (ECPublicKey) oldKeyPair.getPublic());
+        // 주기 갱신은 하지 않도록 refresh-interval을 길게
+        keyCache = new JwksKeyCache(jwksUri, Duration.ofHours(1), Duration.ZERO);
+        verifier = new JwtTokenVerifier(keyCache, "ES256");
+        Assertions.assertThat(verifier.verify(accessToken("k1", oldKeyPair, JwtClaims.ACCESS_TOKEN_SUBJECT))).isPresent();
+
+        //when
+        KeyPair newKeyPair = ecKeyPair();
+        publishedKeys.put("k2", (ECPublicKey) newKeyPair.getPublic());
+        etag = "\"v2\"";
+
+        //then
+        Assertions.assertThat(verifier.verify(accessToken("k2", newKeyPair, JwtClaims.ACCESS_TOKEN_SUBJECT))).isPresent();
+        Assertions.assertThat(keyCache.getKeys()).containsOnlyKeys("k1", "k2");
+        Assertions.assertThat(requests.get()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,110 @@
+package board.myboard.domain.member.service;
+
+import board.myboard.MyboardApplication;
+import board.myboard.domain.member.dto.MemberImportFormat;
+import board.myboard.domain.member.dto.MemberImportResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 회원 memberCount 명 CSV 일괄 등록 (H2 in-memory)
+ *
+ * batchSize=1   : JDBC batch 없이 INSERT 한 건씩
+ * batchSize=100 : hibernate.jdbc.batch_size=100 (기본 설정)
+ * 두 경우 모두 id는 member_seq pooled-lo (100건당 시퀀스 조회 1번)
+ *
+ * 비밀번호는 미리 암호화한 값을 넣어 INSERT 비용만 측정한다.
+ *  ./gradlew jmh -Pjmh.includes=MemberImportBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class MemberImportBenchmark {
+
+    @Param("1000000")
+    private int memberCount;
+
+    @Param({"1", "100"})
+    private int batchSize;
+
+    private ConfigurableApplicationContext context;
+    private MemberImportService memberImportService;
+    private JdbcTemplate jdbcTemplate;
+    private Path csv;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        context = new SpringApplicationBuilder(MyboardApplication.class)
+                .web(WebApplicationType.NONE)
+                .run("--spring.datasource.url=jdbc:h2:mem:member_import_bench;DB_CLOSE_DELAY=-1",
+                        "--spring.jpa.properties.hibernate.jdbc.batch_size=" + batchSize,
+                        "--member.import.batch-size=" + Math.max(batchSize, 100),
+                        "--decorator.datasource.p6spy.enable-logging=false",
+                        "--logging.level.root=warn",
+                        "--logging.level.org.hibernate.SQL=warn",
+                        "--logging.level.org.hibernate.type=warn");
+        memberImportService = context.getBean(MemberImportService.class);
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+
+        String encodedPassword = context.getBean(PasswordEncoder.class).encode("benchmark-password");
+        csv = Files.createTempFile("member-import", ".csv");
+        try (BufferedWriter writer = Files.newBufferedWriter(csv, StandardCharsets.UTF_8)) {
+            writer.write("username,password,name,nickName,age\n");
+            for (int i = 0; i < memberCount; i++) {
+                writer.write("bench" + i + "," + encodedPassword + ",name" + i + ",nick" + i + ",20\n");
+            }
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void truncate() {
+        // post.member_id 외래 키가 참조하는 테이블은 truncate 할 수 없으므로 잠시 끔 (게시글 없음)
+        jdbcTemplate.execute("set referential_integrity false");
+        jdbcTemplate.execute("truncate table member");
+        jdbcTemplate.execute("set referential_integrity true");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        context.close();
+        Files.deleteIfExists(csv);
+    }
+
+    @Benchmark
+    public MemberImportResult importCsv() throws IOException {
+        try (BufferedReader reader = Files.newBufferedReader(csv, StandardCharsets.UTF_8)) {
+            MemberImportResult result = memberImportService.importMembers(reader, MemberImportFormat.CSV);
+            if (result.getImported() != memberCount) {
+                throw new IllegalStateException("저장된 회원 수가 다릅니다. " + result.getImported());
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package board.myboard.domain.member.service;
+
+import board.myboard.MyboardApplication;
+import board.myboard.domain.member.dto.MemberImportFormat;
+import board.myboard.domain.member.dto.MemberImportResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 평문 비밀번호 memberCount 건 일괄 등록 (BCrypt 암호화 포함, H2 in-memory)
+ *
+ * hashThreads=1 : 한 스레드에서 순서대로 암호화 (회원가입을 반복하는 것과 같음)
+ * hashThreads=0 : CPU 코어 수 크기의 ForkJoinPool
+ * 결과의 처리량(회원/초)이 코어 수에 비례해서 늘어나는지 확인한다.
+ *  ./gradlew jmh -Pjmh.includes=MemberImportHashingBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 2)
+@Fork(1)
+public class MemberImportHashingBenchmark {
+
+    @Param("2000")
+    private int memberCount;
+
+    @Param({"1", "0"})
+    private int hashThreads;
+
+    private ConfigurableApplicationContext context;
+    private MemberImportService memberImportService;
+    private JdbcTemplate jdbcTemplate;
+    private String csv;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(MyboardApplication.class)
+                .web(WebApplicationType.NONE)
+                .run("--spring.datasource.url=jdbc:h2:mem:member_import_hashing_bench;DB_CLOSE_DELAY=-1",
+                        "--member.import.hash-threads=" + hashThreads,
+                        "--decorator.datasource.p6spy.enable-logging=false",
+                        "--logging.level.root=warn",
+                        "--logging.level.org.hibernate.SQL=warn",
+                        "--logging.level.org.hibernate.type=warn");
+        memberImportService = context.getBean(MemberImportService.class);
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+
+        StringBuilder lines = new StringBuilder();
+        for (int i = 0; i < memberCount; i++) {
+            lines.append("hash").append(i).append(",password").append(i).append(",name,nick,20\n");
+        }
+        csv = lines.toString();
+    }
+
+    @Setup(Level.Iteration)
+    public void truncate() {
+        // post.member_id 외래 키가 참조하는 테이블은 truncate 할 수 없으므로 잠시 끔 (게시글 없음)
+        jdbcTemplate.execute("set referential_integrity false");
+        jdbcTemplate.execute("truncate table member");
+        jdbcTemplate.execute("set referential_integrity true");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public MemberImportResult importCsv() throws IOException {
+        MemberImportResult result = memberImportService.importMembers(new StringReader(csv), MemberImportFormat.CSV);
+        if (result.getImported() != memberCount) {
+            throw new IllegalStateException("저장된 회원 수가 다릅니다. " + result.getImported());
+        }
+        return result;
+    }
+}
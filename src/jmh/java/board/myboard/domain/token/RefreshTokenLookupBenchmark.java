@@ -0,0 +1,135 @@
+package board.myboard.domain.token;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * RefreshToken 재발급 조회 비교 (H2 in-memory, 회원 memberCount 명)
+ *
+ * columnScan : 기존 방식. member.refresh_token (varchar 1000, 인덱스 없음) = ?  -> 전체 스캔
+ * hashedPk   : refresh_token.token_hash (SHA-256, PK) = ?                      -> 인덱스 한 건 조회
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(java.util.concurrent.TimeUnit.MICROSECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class RefreshTokenLookupBenchmark {
+
+    private static final int BATCH_SIZE = 10_000;
+
+    @Param("1000000")
+    private int memberCount;
+
+    private Connection connection;
+    private PreparedStatement columnScan;
+    private PreparedStatement hashedPk;
+    private String[] tokens;
+
+    @Setup(Level.Trial)
+    public void seed() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:refresh_token_bench;DB_CLOSE_DELAY=-1", "sa", "");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("create table member (member_id bigint primary key, username varchar(30) not null, refresh_token varchar(1000))");
+            statement.execute("create table refresh_token (token_hash varchar(64) primary key, username varchar(30) not null, "
+                    + "family_id varchar(36) not null, expires_at timestamp not null)");
+        }
+
+        // 조회 대상으로 쓸 토큰 일부만 보관
+        tokens = new String[Math.min(memberCount, 1024)];
+        int stride = memberCount / tokens.length;
+        Timestamp expiresAt = Timestamp.valueOf(LocalDateTime.now().plusDays(1));
+
+        connection.setAutoCommit(false);
+        try (PreparedStatement member = connection.prepareStatement("insert into member values (?, ?, ?)");
+             PreparedStatement refreshToken = connection.prepareStatement("insert into refresh_token values (?, ?, ?, ?)")) {
+            for (int i = 0; i < memberCount; i++) {
+                String username = "member" + i;
+                String token = fakeRefreshToken();
+                if (i % stride == 0 && i / stride < tokens.length) {
+                    tokens[i / stride] = token;
+                }
+
+                member.setLong(1, i);
+                member.setString(2, username);
+                member.setString(3, token);
+                member.addBatch();
+
+                refreshToken.setString(1, RefreshToken.hash(token));
+                refreshToken.setString(2, username);
+                refreshToken.setString(3, UUID.randomUUID().toString());
+                refreshToken.setTimestamp(4, expiresAt);
+                refreshToken.addBatch();
+
+                if ((i + 1) % BATCH_SIZE == 0) {
+                    member.executeBatch();
+                    refreshToken.executeBatch();
+                    connection.commit();
+                }
+            }
+            member.executeBatch();
+            refreshToken.executeBatch();
+            connection.commit();
+        }
+        connection.setAutoCommit(true);
+
+        columnScan = connection.prepareStatement("select username from member where refresh_token = ?");
+        hashedPk = connection.prepareStatement("select username from refresh_token where token_hash = ?");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("drop all objects");
+        }
+        connection.close();
+    }
+
+    @Benchmark
+    public String columnScan() throws SQLException {
+        columnScan.setString(1, randomToken());
+        return firstUsername(columnScan);
+    }
+
+    @Benchmark
+    public String hashedPk() throws SQLException {
+        hashedPk.setString(1, RefreshToken.hash(randomToken()));
+        return firstUsername(hashedPk);
+    }
+
+    private String randomToken() {
+        return tokens[ThreadLocalRandom.current().nextInt(tokens.length)];
+    }
+
+    private static String firstUsername(PreparedStatement statement) throws SQLException {
+        try (ResultSet resultSet = statement.executeQuery()) {
+            return resultSet.next() ? resultSet.getString(1) : null;
+        }
+    }
+
+    // 실제 RefreshToken과 비슷한 길이(약 200자)의 문자열
+    private static String fakeRefreshToken() {
+        return "eyJ0eXAiOiJKV1QiLCJhbGciOiJIUzUxMiJ9."
+                + UUID.randomUUID() + UUID.randomUUID() + UUID.randomUUID()
+                + "." + UUID.randomUUID() + UUID.randomUUID();
+    }
+}
@@ -0,0 +1,68 @@
+package board.myboard.global.config;
+
+import board.myboard.MyboardApplication;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import javax.servlet.Filter;
+import javax.servlet.ServletException;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 스프링 시큐리티 필터 체인(springSecurityFilterChain)을 통과하는 처리량. (컨트롤러 호출 X)
+ *
+ * path=/actuator/health : 보안 필터가 없는 전용 체인
+ * path=/                : permitAll 경로 (JWT 필터는 건너뜀)
+ * path=/member/info     : 인증이 필요한 경로 (토큰이 없으므로 403)
+ *
+ * 실제 HTTP 처리량은 부하 테스트로 측정.
+ *  예) ./gradlew loadTest -Ploadtest.mix=0,0,0,100
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class SecurityFilterChainBenchmark {
+
+    @Param({"/actuator/health", "/", "/member/info"})
+    private String path;
+
+    private ConfigurableApplicationContext context;
+    private Filter springSecurityFilterChain;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(MyboardApplication.class)
+                .run("--server.port=0",
+                        "--spring.datasource.url=jdbc:h2:mem:filterchain",
+                        "--logging.level.root=warn");
+        springSecurityFilterChain = context.getBean("springSecurityFilterChain", Filter.class);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public MockHttpServletResponse doFilter() throws ServletException, IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", path);
+        request.setServletPath(path);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        springSecurityFilterChain.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+}
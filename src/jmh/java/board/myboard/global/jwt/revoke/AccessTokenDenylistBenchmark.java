@@ -0,0 +1,70 @@
+package board.myboard.global.jwt.revoke;
+
+import board.myboard.auth.revoke.AccessTokenDenylist;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 폐기 목록 조회 비용 (10M건 폐기 상태)
+ *
+ * notRevoked : 대부분의 요청 (Bloom filter에서 끝남)
+ * revoked    : 폐기된 토큰 재사용 (Bloom filter + 지문 집합)
+ *
+ * 메모리는 setup에서 memoryBytes()를 출력. (-Xmx 여유 필요, 예: -Pjmh.jvmArgs)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Threads(4)
+public class AccessTokenDenylistBenchmark {
+
+    private static final long WINDOW = TimeUnit.HOURS.toMillis(1);
+
+    @Param({"10000000"})
+    private int revocations;
+
+    private AccessTokenDenylist denylist;
+    private long expiresAt;
+    private String revokedJti;
+    private String notRevokedJti;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        long now = System.currentTimeMillis();
+        expiresAt = now + WINDOW / 2;
+        denylist = new AccessTokenDenylist(true, WINDOW, revocations, 0.01, () -> now);
+
+        for (int i = 0; i < revocations; i++) {
+            String jti = UUID.randomUUID().toString();
+            denylist.revoke(jti, expiresAt);
+            if (i == revocations / 2) {
+                revokedJti = jti;
+            }
+        }
+        notRevokedJti = UUID.randomUUID().toString();
+
+        System.out.printf("%n폐기 %,d건 : %,d byte (%.1f byte/건)%n",
+                denylist.size(), denylist.memoryBytes(), (double) denylist.memoryBytes() / denylist.size());
+    }
+
+    @Benchmark
+    public boolean notRevoked() {
+        return denylist.isRevoked(notRevokedJti, expiresAt);
+    }
+
+    @Benchmark
+    public boolean revoked() {
+        return denylist.isRevoked(revokedJti, expiresAt);
+    }
+}
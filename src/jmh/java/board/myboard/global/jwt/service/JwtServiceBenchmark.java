@@ -0,0 +1,65 @@
+package board.myboard.global.jwt.service;
+
+import com.auth0.jwt.interfaces.DecodedJWT;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtServicelmpl 메서드별 비용. (ns/op, gc.alloc.rate.norm B/op)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class JwtServiceBenchmark {
+
+    private JwtServicelmpl jwtService;
+    private String accessToken;
+    private DecodedJWT decodedAccessToken;
+    private MockHttpServletRequest request;
+
+    @Setup
+    public void setUp() {
+        jwtService = JwtServiceFixture.jwtService();
+        accessToken = jwtService.createAccessToken("username");
+        decodedAccessToken = jwtService.verify(accessToken).orElseThrow();
+
+        request = new MockHttpServletRequest("GET", "/member/info");
+        request.addHeader(JwtServiceFixture.ACCESS_HEADER, "Bearer " + accessToken);
+    }
+
+    @Benchmark
+    public String createAccessToken() {
+        return jwtService.createAccessToken("username");
+    }
+
+    @Benchmark
+    public boolean isTokenValid() {
+        return jwtService.isTokenValid(accessToken);
+    }
+
+    // 검증 + 클레임 추출
+    @Benchmark
+    public Optional<String> extractUsername() {
+        return jwtService.extractUsername(accessToken);
+    }
+
+    // 이미 검증된 토큰에서 클레임만 꺼내는 비용
+    @Benchmark
+    public Optional<String> extractUsernameFromDecoded() {
+        return jwtService.extractUsername(decodedAccessToken);
+    }
+
+    @Benchmark
+    public Optional<String> extractAccessToken() {
+        return jwtService.extractAccessToken(request);
+    }
+}
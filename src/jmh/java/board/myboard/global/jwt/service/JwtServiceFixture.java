@@ -0,0 +1,32 @@
+package board.myboard.global.jwt.service;
+
+import board.myboard.global.metrics.AuthMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * 스프링 컨텍스트 없이 JwtServicelmpl을 만들기 위한 벤치마크용 픽스처.
+ * (@Value 필드는 application.yml과 같은 값으로 직접 주입)
+ */
+public final class JwtServiceFixture {
+
+    public static final String SECRET = "ZG9uZ2h1bi1zaGFycC1kYnJ1YS13ZWItcHJvamVjdC11c2luZy1qd3Qtc2VjcmV0LURvbmdodW4tc3ByaW5nLWJvb3Qtand0LWJhY2stZW5kLWFuZC1qcy1jb2xsYWJv";
+    public static final String ACCESS_HEADER = "Authorization";
+    public static final String REFRESH_HEADER = "Authorization-refresh";
+
+    private JwtServiceFixture() {
+    }
+
+    public static JwtServicelmpl jwtService() {
+        // 폐기(AccessTokenRevocations)는 벤치마크하지 않으므로 null
+        JwtServicelmpl jwtService = new JwtServicelmpl(null, null, null, new AuthMetrics(new SimpleMeterRegistry()), null, null);
+        ReflectionTestUtils.setField(jwtService, "secret", SECRET);
+        ReflectionTestUtils.setField(jwtService, "signingMode", "hmac");
+        ReflectionTestUtils.setField(jwtService, "accessTokenValidityInSeconds", 3600L);
+        ReflectionTestUtils.setField(jwtService, "refreshTokenValidityInSeconds", 3600L);
+        ReflectionTestUtils.setField(jwtService, "accessHeader", ACCESS_HEADER);
+        ReflectionTestUtils.setField(jwtService, "refreshHeader", REFRESH_HEADER);
+        jwtService.init();
+        return jwtService;
+    }
+}
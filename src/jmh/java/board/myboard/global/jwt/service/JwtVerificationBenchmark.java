@@ -0,0 +1,44 @@
+package board.myboard.global.jwt.service;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.algorithms.Algorithm;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Optional;
+
+/**
+ * 인증된 요청 1건당 토큰 검증 비용 비교 (verifications/sec)
+ *
+ * legacy : 기존 방식. 요청마다 Algorithm, JWTVerifier를 새로 만들고 isTokenValid + extractUsername 으로 두 번 검증.
+ * cached : 시작 시 만든 verifier로 한 번만 검증하고, 디코딩된 결과에서 username 추출.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+public class JwtVerificationBenchmark {
+
+    private JwtServicelmpl jwtService;
+    private String accessToken;
+
+    @Setup
+    public void setUp() {
+        jwtService = JwtServiceFixture.jwtService();
+        accessToken = jwtService.createAccessToken("username");
+    }
+
+    @Benchmark
+    public String legacy() {
+        JWT.require(Algorithm.HMAC512(JwtServiceFixture.SECRET)).build().verify(accessToken);
+        return JWT.require(Algorithm.HMAC512(JwtServiceFixture.SECRET)).build()
+                .verify(accessToken).getClaim("username").asString();
+    }
+
+    @Benchmark
+    public Optional<String> cached() {
+        return jwtService.verify(accessToken).flatMap(jwtService::extractUsername);
+    }
+}
@@ -0,0 +1,91 @@
+package board.myboard.global.login.filter;
+
+import board.myboard.auth.revoke.AccessTokenDenylist;
+import board.myboard.domain.member.MemberPrincipal;
+import board.myboard.domain.member.Role;
+import board.myboard.domain.member.repository.MemberRepository;
+import board.myboard.global.jwt.service.JwtServiceFixture;
+import board.myboard.global.jwt.service.JwtServicelmpl;
+import board.myboard.global.login.cache.MemberPrincipalCache;
+import board.myboard.global.metrics.AuthMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import javax.servlet.ServletException;
+import java.io.IOException;
+import java.lang.reflect.Proxy;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 인증된 요청 1건이 JwtAuthenticationProcessingFilter를 통과하는 비용.
+ * (Mock 서블릿 객체 사용, DB 대신 고정된 회원을 돌려주는 MemberRepository)
+ *
+ * stateless=true  : AccessToken 클레임만으로 인증
+ * stateless=false : MemberPrincipalCache 조회 (워밍업 이후에는 캐시 히트)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class JwtAuthenticationFilterBenchmark {
+
+    @Param({"true", "false"})
+    private boolean stateless;
+
+    private JwtAuthenticationProcessingFilter filter;
+    private String accessToken;
+
+    @Setup
+    public void setUp() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        AuthMetrics authMetrics = new AuthMetrics(meterRegistry);
+        MemberRepository memberRepository = memberRepository(new MemberPrincipal(1L, "username", Role.USER));
+        MemberPrincipalCache memberPrincipalCache = new MemberPrincipalCache(
+                memberRepository, meterRegistry, authMetrics, true, 10000, 30);
+
+        JwtServicelmpl jwtService = JwtServiceFixture.jwtService();
+        AccessTokenDenylist accessTokenDenylist = new AccessTokenDenylist(true, 3600L * 1000, 1_000_000, 0.01,
+                System::currentTimeMillis);
+        filter = new JwtAuthenticationProcessingFilter(jwtService, memberPrincipalCache, authMetrics,
+                accessTokenDenylist);
+        filter.setStateless(stateless);
+
+        accessToken = jwtService.createAccessToken("username");
+    }
+
+    @Benchmark
+    public MockHttpServletResponse doFilterInternal() throws ServletException, IOException {
+        // 요청마다 새 Mock 객체를 쓰는 것은 실제 컨테이너의 요청 객체 생성 비용에 해당
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/member/info");
+        request.addHeader(JwtServiceFixture.ACCESS_HEADER, "Bearer " + accessToken);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilterInternal(request, response, new MockFilterChain());
+        SecurityContextHolder.clearContext();
+        return response;
+    }
+
+    // findPrincipalByUsername만 구현한 MemberRepository (나머지 메서드는 호출되지 않음)
+    private static MemberRepository memberRepository(MemberPrincipal principal) {
+        return (MemberRepository) Proxy.newProxyInstance(
+                MemberRepository.class.getClassLoader(),
+                new Class<?>[]{MemberRepository.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("findPrincipalByUsername")) {
+                        return Optional.of(principal);
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+    }
+}
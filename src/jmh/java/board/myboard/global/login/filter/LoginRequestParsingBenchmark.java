@@ -0,0 +1,53 @@
+package board.myboard.global.login.filter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.util.StreamUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로그인 요청 본문 파싱 비교.
+ * 로그인 1건당 할당량은 gc 프로파일러의 gc.alloc.rate.norm (B/op) 으로 확인. (build.gradle jmh.profilers)
+ *
+ * legacy    : 기존 방식. StreamUtils.copyToString -> objectMapper.readValue(Map.class)
+ * streaming : LoginRequestParser (JsonParser로 스트림에서 바로 읽음)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class LoginRequestParsingBenchmark {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private LoginRequestParser loginRequestParser;
+    private byte[] body;
+
+    @Setup
+    public void setUp() {
+        loginRequestParser = new LoginRequestParser(objectMapper.getFactory(), 4096);
+        body = "{\"username\":\"username\",\"password\":\"123456789\"}".getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    @SuppressWarnings("unchecked")
+    public String legacy() throws IOException {
+        String messageBody = StreamUtils.copyToString(new ByteArrayInputStream(body), StandardCharsets.UTF_8);
+        Map<String, String> usernamePasswordMap = objectMapper.readValue(messageBody, Map.class);
+        return usernamePasswordMap.get("username");
+    }
+
+    @Benchmark
+    public String streaming() throws IOException {
+        return loginRequestParser.parse(new ByteArrayInputStream(body)).getUsername();
+    }
+}
@@ -0,0 +1,79 @@
+package board.myboard.loadtest;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 한 클라이언트 스레드가 한 종류의 요청에 대해 기록한 응답 시간(ns).
+ * 스레드마다 따로 두고 마지막에 merge 하므로 동기화가 필요없다.
+ */
+class LatencyRecorder {
+
+    private long[] latencies = new long[1024];
+    private int size;
+    private long errors;
+
+    void record(long nanos, boolean success) {
+        if (size == latencies.length) {
+            latencies = Arrays.copyOf(latencies, size * 2);
+        }
+        latencies[size++] = nanos;
+        if (!success) {
+            errors++;
+        }
+    }
+
+    void merge(LatencyRecorder other) {
+        if (size + other.size > latencies.length) {
+            latencies = Arrays.copyOf(latencies, Math.max(latencies.length * 2, size + other.size));
+        }
+        System.arraycopy(other.latencies, 0, latencies, size, other.size);
+        size += other.size;
+        errors += other.errors;
+    }
+
+    long count() {
+        return size;
+    }
+
+    long errors() {
+        return errors;
+    }
+
+    /**
+     * count, errors, throughput(req/s), p50/p95/p99/p999/max (ms)
+     */
+    Map<String, Object> summary(double durationSeconds) {
+        long[] sorted = Arrays.copyOf(latencies, size);
+        Arrays.sort(sorted);
+
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("count", size);
+        summary.put("errors", errors);
+        summary.put("throughput", round(size / durationSeconds));
+        summary.put("p50Ms", percentile(sorted, 0.50));
+        summary.put("p95Ms", percentile(sorted, 0.95));
+        summary.put("p99Ms", percentile(sorted, 0.99));
+        summary.put("p999Ms", percentile(sorted, 0.999));
+        summary.put("maxMs", sorted.length == 0 ? 0 : toMillis(sorted[sorted.length - 1]));
+        return summary;
+    }
+
+    // nearest-rank
+    private static double percentile(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(percentile * sorted.length);
+        return toMillis(sorted[Math.max(0, rank - 1)]);
+    }
+
+    private static double toMillis(long nanos) {
+        return round(nanos / 1_000_000.0);
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 1000) / 1000.0;
+    }
+}
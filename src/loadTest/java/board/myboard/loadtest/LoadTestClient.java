@@ -0,0 +1,172 @@
+package board.myboard.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 가상 사용자 1명. 자기 회원으로 로그인한 뒤 종료 시각까지 mix 비율대로 요청을 보낸다.
+ * warmup 동안의 요청은 기록하지 않는다.
+ */
+class LoadTestClient implements Runnable {
+
+    enum Operation {
+        LOGIN, AUTHENTICATED_GET, REFRESH, HEALTH
+    }
+
+    private static final String ACCESS_HEADER = "Authorization";
+    private static final String REFRESH_HEADER = "Authorization-refresh";
+    private static final String BEARER = "Bearer ";
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+
+    private final HttpClient httpClient;
+    private final String baseUrl;
+    private final String username;
+    private final String password;
+    private final int[] mix;
+    private final long measureStartNanos;
+    private final long endNanos;
+
+    private final Map<Operation, LatencyRecorder> recorders = new EnumMap<>(Operation.class);
+
+    private String accessToken;
+    private String refreshToken;
+
+    LoadTestClient(HttpClient httpClient, String baseUrl, String username, String password,
+                   int[] mix, long measureStartNanos, long endNanos) {
+        this.httpClient = httpClient;
+        this.baseUrl = baseUrl;
+        this.username = username;
+        this.password = password;
+        this.mix = mix;
+        this.measureStartNanos = measureStartNanos;
+        this.endNanos = endNanos;
+        for (Operation operation : Operation.values()) {
+            recorders.put(operation, new LatencyRecorder());
+        }
+    }
+
+    Map<Operation, LatencyRecorder> getRecorders() {
+        return recorders;
+    }
+
+    @Override
+    public void run() {
+        // 첫 로그인은 토큰 준비용 (기록 X)
+        login();
+        while (System.nanoTime() < endNanos) {
+            Operation operation = next();
+            long start = System.nanoTime();
+            boolean success = execute(operation);
+            long end = System.nanoTime();
+            if (start >= measureStartNanos && end <= endNanos) {
+                recorders.get(operation).record(end - start, success);
+            }
+        }
+    }
+
+    private Operation next() {
+        int total = 0;
+        for (int weight : mix) {
+            total += weight;
+        }
+        int value = ThreadLocalRandom.current().nextInt(total);
+        for (Operation operation : Operation.values()) {
+            value -= mix[operation.ordinal()];
+            if (value < 0) {
+                return operation;
+            }
+        }
+        return Operation.HEALTH;
+    }
+
+    private boolean execute(Operation operation) {
+        try {
+            switch (operation) {
+                case LOGIN:
+                    return login();
+                case AUTHENTICATED_GET:
+                    return authenticatedGet();
+                case REFRESH:
+                    return refresh();
+                default:
+                    return health();
+            }
+        } catch (IOException e) {
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private boolean login() {
+        String body = "{\"username\":\"" + username + "\",\"password\":\"" + password + "\"}";
+        HttpRequest request = request("/login")
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+        try {
+            HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+            Optional<String> issuedAccessToken = response.headers().firstValue(ACCESS_HEADER);
+            Optional<String> issuedRefreshToken = response.headers().firstValue(REFRESH_HEADER);
+            if (response.statusCode() != 200 || issuedAccessToken.isEmpty() || issuedRefreshToken.isEmpty()) {
+                return false;
+            }
+            accessToken = issuedAccessToken.get();
+            refreshToken = issuedRefreshToken.get();
+            return true;
+        } catch (IOException e) {
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    // 매핑된 컨트롤러가 없으므로 인증에 성공하면 404, 실패하면 403
+    private boolean authenticatedGet() throws IOException, InterruptedException {
+        if (accessToken == null) {
+            return false;
+        }
+        HttpRequest request = request("/member/info")
+                .header(ACCESS_HEADER, BEARER + accessToken)
+                .GET()
+                .build();
+        int status = httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+        return status == 404 || status == 200;
+    }
+
+    private boolean refresh() throws IOException, InterruptedException {
+        if (refreshToken == null) {
+            return false;
+        }
+        HttpRequest request = request("/member/info")
+                .header(REFRESH_HEADER, BEARER + refreshToken)
+                .GET()
+                .build();
+        HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+        Optional<String> reissuedAccessToken = response.headers().firstValue(ACCESS_HEADER);
+        // RefreshToken rotation : 다음 재발급에는 새 RefreshToken을 사용해야 한다.
+        Optional<String> reissuedRefreshToken = response.headers().firstValue(REFRESH_HEADER);
+        reissuedAccessToken.ifPresent(token -> accessToken = token);
+        reissuedRefreshToken.ifPresent(token -> refreshToken = token);
+        return response.statusCode() == 200 && reissuedAccessToken.isPresent();
+    }
+
+    private boolean health() throws IOException, InterruptedException {
+        HttpRequest request = request("/actuator/health").GET().build();
+        return httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200;
+    }
+
+    private HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path)).timeout(TIMEOUT);
+    }
+}
@@ -0,0 +1,232 @@
+package board.myboard.loadtest;
+
+import board.myboard.MyboardApplication;
+import board.myboard.domain.member.Member;
+import board.myboard.domain.member.Role;
+import board.myboard.domain.member.repository.MemberRepository;
+import board.myboard.loadtest.LoadTestClient.Operation;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.Profiles;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 부하 테스트. (./gradlew loadTest)
+ *
+ * MyboardApplication을 랜덤 포트 + 인메모리 H2로 띄우고, 회원 N명을 저장한 뒤
+ * 동시 클라이언트들이 로그인 / 인증된 GET / RefreshToken 재발급 / health 요청을 섞어서 보낸다.
+ * 결과(처리량, p50/p95/p99/p999)는 JSON 파일로 남긴다.
+ *
+ * 설정 (시스템 프로퍼티, gradle -P로 전달)
+ *  - loadtest.members  : 저장할 회원 수 (기본 1000)
+ *  - loadtest.clients  : 동시 클라이언트 수 (기본 64)
+ *  - loadtest.warmup   : 워밍업 시간, 초 (기본 10, 기록 X)
+ *  - loadtest.duration : 측정 시간, 초 (기본 30)
+ *  - loadtest.mix      : login,get,refresh,health 비율 (기본 5,80,10,5)
+ *                        (health check 처리량만 볼 때는 0,0,0,100)
+ *  - loadtest.output   : 결과 파일 (기본 build/loadtest/result.json)
+ *  - loadtest.quiet    : SQL 로그, p6spy 로그를 끔 (기본 true)
+ *
+ * 애플리케이션 설정은 program arguments로 덮어쓴다. (비교 실행용)
+ *  예) ./gradlew loadTest -PappArgs="--jwt.access.stateless=true --jwt.refresh.store=mapped"
+ *
+ * 플랫폼 스레드 풀 / 가상 스레드 비교 : ./gradlew loadTestCompare (둘 다 JDK 21에서 실행)
+ * dev / prod 프로필 비교 : ./gradlew loadTestProfileCompare
+ */
+public class LoadTestRunner {
+
+    private static final String PASSWORD = "loadtest-password";
+    private static final int SEED_BATCH_SIZE = 1000;
+
+    public static void main(String[] args) throws Exception {
+        int members = Integer.getInteger("loadtest.members", 1000);
+        int clients = Integer.getInteger("loadtest.clients", 64);
+        int warmupSeconds = Integer.getInteger("loadtest.warmup", 10);
+        int durationSeconds = Integer.getInteger("loadtest.duration", 30);
+        int[] mix = parseMix(System.getProperty("loadtest.mix", "5,80,10,5"));
+        File output = new File(System.getProperty("loadtest.output", "build/loadtest/result.json"));
+
+        try (ConfigurableApplicationContext context = start(args)) {
+            seed(context, members);
+            String baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+
+            Map<Operation, LatencyRecorder> result = run(baseUrl, members, clients, warmupSeconds, durationSeconds, mix);
+
+            Map<String, Object> config = new LinkedHashMap<>();
+            config.put("members", members);
+            config.put("clients", clients);
+            config.put("warmupSeconds", warmupSeconds);
+            config.put("durationSeconds", durationSeconds);
+            config.put("mix", mix(mix));
+            config.put("appArgs", Arrays.asList(args));
+            config.put("javaVersion", System.getProperty("java.version"));
+            // virtual 프로필이면 Tomcat 요청을 가상 스레드에서 처리 (VirtualThreadConfig)
+            config.put("requestThreads", context.getEnvironment().acceptsProfiles(Profiles.of("virtual"))
+                    ? "virtual" : "platform");
+            config.put("profiles", profiles(context.getEnvironment()));
+            config.put("availableProcessors", Runtime.getRuntime().availableProcessors());
+
+            write(output, report(config, result, durationSeconds));
+        }
+    }
+
+    /**
+     * 기본값은 인메모리 H2 + 로그 최소화.
+     * 기본값도 커맨드라인 인자로 넘겨야 application.yml보다 우선한다. (defaultProperties는 application.yml보다 낮음)
+     * 같은 키를 직접 넘기면 기본값은 빠지므로 필요한 값만 덮어쓰면 된다.
+     *
+     * loadtest.quiet=false 이면 로그 설정은 프로필(application.yml)을 그대로 사용한다. (dev / prod 비교)
+     */
+    private static ConfigurableApplicationContext start(String[] args) {
+        Map<String, Object> defaults = new LinkedHashMap<>();
+        defaults.put("server.port", 0);
+        defaults.put("spring.datasource.url", "jdbc:h2:mem:loadtest;DB_CLOSE_DELAY=-1");
+        if (Boolean.parseBoolean(System.getProperty("loadtest.quiet", "true"))) {
+            defaults.put("decorator.datasource.p6spy.enable-logging", false);
+            defaults.put("logging.level.root", "warn");
+            defaults.put("logging.level.org.hibernate.SQL", "warn");
+            defaults.put("logging.level.org.hibernate.type", "warn");
+        }
+        // 모든 요청이 127.0.0.1 에서 오므로 IP 제한을 끈다.
+        defaults.put("login.rate-limit.enabled", false);
+
+        return new SpringApplicationBuilder(MyboardApplication.class)
+                .run(withDefaults(args, defaults));
+    }
+
+    // 활성 프로필이 없으면 spring.profiles.default (dev)
+    private static List<String> profiles(Environment environment) {
+        String[] active = environment.getActiveProfiles();
+        return Arrays.asList(active.length > 0 ? active : environment.getDefaultProfiles());
+    }
+
+    private static String[] withDefaults(String[] args, Map<String, Object> defaults) {
+        List<String> merged = new ArrayList<>();
+        defaults.forEach((key, value) -> {
+            boolean overridden = Arrays.stream(args).anyMatch(arg -> arg.startsWith("--" + key + "="));
+            if (!overridden) {
+                merged.add("--" + key + "=" + value);
+            }
+        });
+        merged.addAll(Arrays.asList(args));
+        return merged.toArray(new String[0]);
+    }
+
+    // 비밀번호 해시는 한 번만 만들어 모든 회원이 같이 쓴다. (seed 시간 단축)
+    private static void seed(ConfigurableApplicationContext context, int members) {
+        MemberRepository memberRepository = context.getBean(MemberRepository.class);
+        String encodedPassword = context.getBean(PasswordEncoder.class).encode(PASSWORD);
+
+        List<Member> batch = new ArrayList<>(SEED_BATCH_SIZE);
+        for (int i = 0; i < members; i++) {
+            batch.add(Member.builder().username(username(i)).password(encodedPassword)
+                    .name("loadtest" + i).nickName("loadtest" + i).role(Role.USER).age(20).build());
+            if (batch.size() == SEED_BATCH_SIZE) {
+                memberRepository.saveAll(batch);
+                batch.clear();
+            }
+        }
+        memberRepository.saveAll(batch);
+    }
+
+    private static Map<Operation, LatencyRecorder> run(String baseUrl, int members, int clients,
+                                                       int warmupSeconds, int durationSeconds, int[] mix)
+            throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(clients);
+        HttpClient httpClient = HttpClient.newBuilder()
+                .executor(executor)
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+
+        long measureStartNanos = System.nanoTime() + TimeUnit.SECONDS.toNanos(warmupSeconds);
+        long endNanos = measureStartNanos + TimeUnit.SECONDS.toNanos(durationSeconds);
+
+        List<LoadTestClient> loadTestClients = new ArrayList<>(clients);
+        List<Thread> threads = new ArrayList<>(clients);
+        for (int i = 0; i < clients; i++) {
+            LoadTestClient client = new LoadTestClient(httpClient, baseUrl, username(i % members), PASSWORD,
+                    mix, measureStartNanos, endNanos);
+            Thread thread = new Thread(client, "loadtest-client-" + i);
+            loadTestClients.add(client);
+            threads.add(thread);
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        executor.shutdownNow();
+
+        Map<Operation, LatencyRecorder> merged = new LinkedHashMap<>();
+        for (Operation operation : Operation.values()) {
+            LatencyRecorder recorder = new LatencyRecorder();
+            loadTestClients.forEach(client -> recorder.merge(client.getRecorders().get(operation)));
+            merged.put(operation, recorder);
+        }
+        return merged;
+    }
+
+    private static Map<String, Object> report(Map<String, Object> config, Map<Operation, LatencyRecorder> result,
+                                              int durationSeconds) {
+        LatencyRecorder total = new LatencyRecorder();
+        Map<String, Object> operations = new LinkedHashMap<>();
+        result.forEach((operation, recorder) -> {
+            operations.put(operation.name().toLowerCase(), recorder.summary(durationSeconds));
+            total.merge(recorder);
+        });
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("timestamp", Instant.now().toString());
+        report.put("config", config);
+        report.put("total", total.summary(durationSeconds));
+        report.put("operations", operations);
+        return report;
+    }
+
+    private static void write(File output, Map<String, Object> report) throws IOException {
+        File parent = output.getAbsoluteFile().getParentFile();
+        if (!parent.exists() && !parent.mkdirs()) {
+            throw new IOException("결과 디렉토리를 만들 수 없습니다. " + parent);
+        }
+        ObjectMapper objectMapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+        objectMapper.writeValue(output, report);
+        System.out.println(objectMapper.writeValueAsString(report.get("total")));
+        System.out.println("결과 : " + output.getAbsolutePath());
+    }
+
+    private static int[] parseMix(String mix) {
+        int[] weights = Arrays.stream(mix.split(",")).map(String::trim).mapToInt(Integer::parseInt).toArray();
+        if (weights.length != Operation.values().length || Arrays.stream(weights).sum() <= 0) {
+            throw new IllegalArgumentException("loadtest.mix 는 login,get,refresh,health 비율입니다. " + mix);
+        }
+        return weights;
+    }
+
+    private static Map<String, Integer> mix(int[] weights) {
+        Map<String, Integer> mix = new LinkedHashMap<>();
+        for (Operation operation : Operation.values()) {
+            mix.put(operation.name().toLowerCase(), weights[operation.ordinal()]);
+        }
+        return mix;
+    }
+
+    private static String username(int index) {
+        return "loadtest" + index;
+    }
+}
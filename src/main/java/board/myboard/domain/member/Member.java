@@ -2,10 +2,14 @@ package board.myboard.domain.member;
 
 
 import board.myboard.domain.BaseTimeEntity;
+import board.myboard.global.jwt.revoke.AccessTokenRevokeListener;
+import board.myboard.global.login.cache.MemberPrincipalCacheEvictListener;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 import javax.persistence.*;
@@ -22,11 +26,22 @@ import javax.persistence.*;
 
 
 @Entity
+@EntityListeners({MemberPrincipalCacheEvictListener.class, AccessTokenRevokeListener.class})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Member extends BaseTimeEntity {
 
-    @Id @GeneratedValue
+    // member_seq 한 번 조회로 id 100개 할당 (pooled-lo : 조회한 값부터 +99 까지 사용)
+    // -> 대량 저장 시 INSERT 마다 시퀀스를 조회하지 않고, JDBC batch로 묶을 수 있다. (hibernate.jdbc.batch_size)
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "member_seq_generator")
+    @GenericGenerator(name = "member_seq_generator",
+            strategy = "org.hibernate.id.enhanced.SequenceStyleGenerator",
+            parameters = {
+                    @Parameter(name = "sequence_name", value = "member_seq"),
+                    @Parameter(name = "increment_size", value = "100"),
+                    @Parameter(name = "optimizer", value = "pooled-lo")
+            })
     @Column(name = "member_id")
     private Long id; //PK
 
@@ -47,21 +62,21 @@ public class Member extends BaseTimeEntity {
     @Enumerated(EnumType.STRING)
     private Role role; // 권한
 
-    // RefreshToken 추가
-    @Column(length = 1000)
-    private String refreshToken;
+    // RefreshToken은 refresh_token 테이블(RefreshToken 엔티티)에 해시로 저장.
 
-    public void updateRefreshToken(String refreshToken){
-        this.refreshToken = refreshToken;
-    }
-
-    public void deleteRefreshToken(){
-        this.refreshToken = null;
-    }
+    // 비밀번호/권한이 변경됨 -> 커밋 후 발급된 AccessToken 폐기 (AccessTokenRevokeListener)
+    @Transient
+    private boolean credentialsChanged;
 
     //정보 수정
     public void updatePassword(PasswordEncoder passwordEncoder, String password){
         this.password = passwordEncoder.encode(password);
+        this.credentialsChanged = true;
+    }
+
+    // 이미 암호화된 비밀번호로 변경 (로그인 시 해시 업그레이드, 비밀번호 자체는 같으므로 토큰은 유지)
+    public void updateEncodedPassword(String encodedPassword){
+        this.password = encodedPassword;
     }
 
     public void updateName(String name){
@@ -76,6 +91,11 @@ public class Member extends BaseTimeEntity {
         this.age = age;
     }
 
+    public void updateRole(Role role){
+        this.role = role;
+        this.credentialsChanged = true;
+    }
+
     // 패스워드 암호화.
     public void encodePassword(PasswordEncoder passwordEncoder){
         this.password = passwordEncoder.encode(password);
@@ -0,0 +1,79 @@
+package board.myboard.domain.member;
+
+import board.myboard.domain.BaseTimeEntity;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * 회원 일괄 등록 작업. (재시작 지점 저장)
+ *
+ * checkpointLine : 저장이 끝난 마지막 줄 번호. batch INSERT와 같은 트랜잭션에서 갱신하므로
+ *                  중간에 실패해도 같은 파일로 다시 요청하면 그 다음 줄부터 이어서 저장한다.
+ * imported, skipped, failed : 재시작 전 실행까지 포함한 누적 건수
+ * heartbeatAt    : 실행 중인 작업이 마지막으로 chunk를 저장한 시각. 오래 갱신되지 않은 RUNNING 작업은
+ *                  서버가 종료되어 멈춘 것으로 보고 다시 시작할 수 있다.
+ */
+@Entity
+@Table(name = "member_import_job")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class MemberImportJob extends BaseTimeEntity {
+
+    public enum Status {
+        RUNNING, COMPLETED, FAILED
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "member_import_job_seq_generator")
+    @SequenceGenerator(name = "member_import_job_seq_generator", sequenceName = "member_import_job_seq", allocationSize = 1)
+    @Column(name = "member_import_job_id")
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private Status status = Status.RUNNING;
+
+    @Column(name = "checkpoint_line", nullable = false)
+    private long checkpointLine;
+
+    @Column(nullable = false)
+    private long imported;
+
+    @Column(nullable = false)
+    private long skipped;
+
+    @Column(nullable = false)
+    private long failed;
+
+    @Column(name = "heartbeat_at")
+    private LocalDateTime heartbeatAt;
+
+    public static MemberImportJob start() {
+        MemberImportJob job = new MemberImportJob();
+        job.heartbeatAt = LocalDateTime.now();
+        return job;
+    }
+
+    /**
+     * 실패한 작업, 또는 staleBefore 이후로 진행이 없는 RUNNING 작업 (실행하던 서버가 종료됨)
+     * 실제 재시작은 MemberImportJobRepository.resume (조건부 UPDATE)으로 한 요청만 성공한다.
+     */
+    public boolean isResumable(LocalDateTime staleBefore) {
+        if (status == Status.FAILED) {
+            return true;
+        }
+        return status == Status.RUNNING && (heartbeatAt == null || heartbeatAt.isBefore(staleBefore));
+    }
+
+    public void complete() {
+        this.status = Status.COMPLETED;
+    }
+
+    public void fail() {
+        this.status = Status.FAILED;
+    }
+}
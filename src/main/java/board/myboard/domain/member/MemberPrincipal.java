@@ -0,0 +1,21 @@
+package board.myboard.domain.member;
+
+import lombok.Getter;
+
+/**
+ * 인증에 필요한 회원 정보만 담은 가벼운 스냅샷.
+ * (password 등 인증 이후 필요없는 컬럼은 읽지 않는다.)
+ */
+@Getter
+public class MemberPrincipal {
+
+    private final Long id;
+    private final String username;
+    private final Role role;
+
+    public MemberPrincipal(Long id, String username, Role role) {
+        this.id = id;
+        this.username = username;
+        this.role = role;
+    }
+}
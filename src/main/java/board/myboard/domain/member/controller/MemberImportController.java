@@ -0,0 +1,74 @@
+package board.myboard.domain.member.controller;
+
+import board.myboard.domain.member.dto.MemberImportFormat;
+import board.myboard.domain.member.dto.MemberImportResult;
+import board.myboard.domain.member.service.MemberImportService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import javax.servlet.http.HttpServletRequest;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+
+/**
+ * 회원 일괄 등록 (ADMIN 전용, SecurityConfig 참고)
+ *
+ * POST /admin/members/import
+ *  Content-Type: text/csv             -> username,password,name,nickName,age
+ *  Content-Type: application/x-ndjson -> 한 줄에 JSON 하나
+ *  ?jobId=1                           -> 실패한(또는 서버 종료로 멈춘) 작업을 같은 파일로 이어서 저장
+ *
+ * GET /admin/members/import/{jobId} : 진행 상황 (읽은 줄, 해시, 저장 건수, 초당 처리량)
+ *
+ * 요청 본문을 그대로 스트리밍으로 읽는다. (@RequestBody로 전체를 메모리에 올리지 않음)
+ */
+@RestController
+@RequiredArgsConstructor
+public class MemberImportController {
+
+    private final MemberImportService memberImportService;
+
+    @PostMapping(path = "/admin/members/import", consumes = {"text/csv", "application/x-ndjson"})
+    public ResponseEntity<MemberImportResult> importMembers(HttpServletRequest request,
+                                                            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+                                                            @RequestParam(required = false) Long jobId) throws IOException {
+        if (jobId != null) {
+            Optional<MemberImportResult> job = memberImportService.findProgress(jobId);
+            if (job.isEmpty()) {
+                return ResponseEntity.notFound().build();
+            }
+            // 완료됐거나 실행 중인 작업
+            if (!memberImportService.isResumable(jobId)) {
+                return ResponseEntity.status(HttpStatus.CONFLICT).body(job.get());
+            }
+        }
+
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(request.getInputStream(), StandardCharsets.UTF_8))) {
+            return ResponseEntity.ok(memberImportService.importMembers(reader, MemberImportFormat.from(contentType), jobId));
+        }
+    }
+
+    @GetMapping("/admin/members/import/{jobId}")
+    public ResponseEntity<MemberImportResult> progress(@PathVariable Long jobId) {
+        return ResponseEntity.of(memberImportService.findProgress(jobId));
+    }
+
+    // 같은 작업을 동시에 다시 시작해서 다른 요청이 먼저 시작한 경우
+    @ExceptionHandler(IllegalStateException.class)
+    public ResponseEntity<String> conflict(IllegalStateException e) {
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getMessage());
+    }
+}
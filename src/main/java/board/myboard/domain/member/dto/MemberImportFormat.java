@@ -0,0 +1,31 @@
+package board.myboard.domain.member.dto;
+
+import org.springframework.http.MediaType;
+
+import java.util.Arrays;
+
+/**
+ * 회원 일괄 등록 파일 형식 (Content-Type)
+ */
+public enum MemberImportFormat {
+
+    CSV("text/csv"),
+    JSON_LINES("application/x-ndjson");
+
+    private final MediaType mediaType;
+
+    MemberImportFormat(String mediaType) {
+        this.mediaType = MediaType.parseMediaType(mediaType);
+    }
+
+    /**
+     * @throws IllegalArgumentException 지원하지 않는 Content-Type
+     */
+    public static MemberImportFormat from(String contentType) {
+        MediaType requested = MediaType.parseMediaType(contentType);
+        return Arrays.stream(values())
+                .filter(format -> format.mediaType.isCompatibleWith(requested))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("지원하지 않는 형식입니다. " + contentType));
+    }
+}
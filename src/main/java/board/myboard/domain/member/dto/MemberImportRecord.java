@@ -0,0 +1,70 @@
+package board.myboard.domain.member.dto;
+
+import board.myboard.domain.member.Member;
+import board.myboard.domain.member.Role;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 회원 일괄 등록 한 줄. (CSV 한 행, JSON lines 한 줄)
+ *
+ * CSV : username,password,name,nickName,age (첫 줄이 username 으로 시작하면 헤더로 보고 건너뜀)
+ * JSON : {"username": "...", "password": "...", "name": "...", "nickName": "...", "age": 20}
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class MemberImportRecord {
+
+    private String username;
+    private String password;
+    private String name;
+    private String nickName;
+    private int age;
+
+    public MemberImportRecord(String username, String password, String name, String nickName, int age) {
+        this.username = username;
+        this.password = password;
+        this.name = name;
+        this.nickName = nickName;
+        this.age = age;
+    }
+
+    /**
+     * @return 올바르지 않으면 이유, 올바르면 null
+     */
+    public String validate() {
+        if (isBlank(username) || username.length() > 30) {
+            return "username은 1~30자여야 합니다.";
+        }
+        if (isBlank(password)) {
+            return "password가 없습니다.";
+        }
+        if (isBlank(name) || name.length() > 30) {
+            return "name은 1~30자여야 합니다.";
+        }
+        if (isBlank(nickName) || nickName.length() > 30) {
+            return "nickName은 1~30자여야 합니다.";
+        }
+        if (age < 0) {
+            return "age는 0 이상이어야 합니다.";
+        }
+        return null;
+    }
+
+    // 일괄 등록도 회원가입과 같이 USER 권한만 (ADMIN은 직접 DB를 통해 지정)
+    public Member toMember(String encodedPassword) {
+        return Member.builder()
+                .username(username)
+                .password(encodedPassword)
+                .name(name)
+                .nickName(nickName)
+                .age(age)
+                .role(Role.USER)
+                .build();
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+}
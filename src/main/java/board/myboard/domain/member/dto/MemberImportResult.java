@@ -0,0 +1,48 @@
+package board.myboard.domain.member.dto;
+
+import board.myboard.domain.member.MemberImportJob;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 회원 일괄 등록 결과, 진행 상황.
+ *
+ * imported : 저장된 회원 수
+ * skipped  : 이미 있는 username (파일 안에서 중복된 경우 포함)
+ * failed   : 형식이 잘못된 줄. errors 에는 이번 실행에서 앞에서부터 최대 100건만 담는다.
+ * imported, skipped, failed, checkpointLine 은 재시작 전 실행까지 포함한 누적 값.
+ *
+ * linesRead, hashed, membersPerSecond : 이번 실행 기준
+ */
+@Getter
+public class MemberImportResult {
+
+    private final Long jobId;
+    private final MemberImportJob.Status status;
+    private final long checkpointLine;
+    private final long linesRead;
+    private final long hashed;
+    private final long imported;
+    private final long skipped;
+    private final long failed;
+    private final List<String> errors;
+    private final long elapsedMillis;
+    private final long membersPerSecond;
+
+    public MemberImportResult(Long jobId, MemberImportJob.Status status, long checkpointLine, long linesRead,
+                              long hashed, long imported, long skipped, long failed, List<String> errors,
+                              long elapsedMillis, long membersPerSecond) {
+        this.jobId = jobId;
+        this.status = status;
+        this.checkpointLine = checkpointLine;
+        this.linesRead = linesRead;
+        this.hashed = hashed;
+        this.imported = imported;
+        this.skipped = skipped;
+        this.failed = failed;
+        this.errors = errors;
+        this.elapsedMillis = elapsedMillis;
+        this.membersPerSecond = membersPerSecond;
+    }
+}
@@ -0,0 +1,32 @@
+package board.myboard.domain.member.repository;
+
+import board.myboard.domain.member.MemberImportJob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+
+public interface MemberImportJobRepository extends JpaRepository<MemberImportJob, Long> {
+
+    // batch INSERT와 같은 트랜잭션에서 재시작 지점, 누적 건수 갱신 (엔티티 조회 없이 UPDATE 한 번)
+    @Modifying
+    @Query("update MemberImportJob j set j.checkpointLine = :checkpointLine, "
+            + "j.imported = j.imported + :imported, j.skipped = j.skipped + :skipped, j.failed = j.failed + :failed, "
+            + "j.heartbeatAt = :now "
+            + "where j.id = :id")
+    int checkpoint(@Param("id") Long id, @Param("checkpointLine") long checkpointLine,
+                   @Param("imported") long imported, @Param("skipped") long skipped, @Param("failed") long failed,
+                   @Param("now") LocalDateTime now);
+
+    // 실패했거나 staleBefore 이후 진행이 없는 작업만 RUNNING으로 바꾼다. (MemberImportJob.isResumable 과 같은 조건)
+    // 조건부 UPDATE라 동시에 같은 작업을 다시 시작해도 한 요청만 1을 받는다.
+    @Modifying(clearAutomatically = true)
+    @Query("update MemberImportJob j set j.status = board.myboard.domain.member.MemberImportJob.Status.RUNNING, "
+            + "j.heartbeatAt = :now "
+            + "where j.id = :id and (j.status = board.myboard.domain.member.MemberImportJob.Status.FAILED "
+            + "or (j.status = board.myboard.domain.member.MemberImportJob.Status.RUNNING "
+            + "and (j.heartbeatAt is null or j.heartbeatAt < :staleBefore)))")
+    int resume(@Param("id") Long id, @Param("now") LocalDateTime now, @Param("staleBefore") LocalDateTime staleBefore);
+}
@@ -1,13 +1,24 @@
 package board.myboard.domain.member.repository;
 
 import board.myboard.domain.member.Member;
+import board.myboard.domain.member.MemberPrincipal;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface MemberRepository extends JpaRepository<Member, Long> {
 
     Optional<Member> findByUsername(String username);
 
-    Optional<Member> findByRefreshToken(String refreshToken);
+    // 인증용 스냅샷 (password 등 인증 후 필요없는 컬럼은 조회하지 않음)
+    @Query("select new board.myboard.domain.member.MemberPrincipal(m.id, m.username, m.role) from Member m where m.username = :username")
+    Optional<MemberPrincipal> findPrincipalByUsername(@Param("username") String username);
+
+    // 일괄 등록 시 이미 있는 username 확인 (batch 단위로 한 번에 조회)
+    @Query("select m.username from Member m where m.username in :usernames")
+    List<String> findUsernamesIn(@Param("usernames") Collection<String> usernames);
 }
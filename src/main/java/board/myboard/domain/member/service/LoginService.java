@@ -2,25 +2,35 @@ package board.myboard.domain.member.service;
 
 import board.myboard.domain.member.Member;
 import board.myboard.domain.member.repository.MemberRepository;
+import board.myboard.global.metrics.AuthMetrics;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
 
 @Service
 @RequiredArgsConstructor
-public class LoginService implements UserDetailsService {
+public class LoginService implements UserDetailsService, UserDetailsPasswordService {
 
     private final MemberRepository memberRepository;
+    private final AuthMetrics authMetrics;
 
     // DB에서 User정보를 찾아서 반환.
     // 성공처리와 실패처리를 할 Handler 구현필요.
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
 
-        Member member = memberRepository.findByUsername(username).orElseThrow(
+        long start = System.nanoTime();
+        Optional<Member> findMember = memberRepository.findByUsername(username);
+        authMetrics.recordMemberLookup(AuthMetrics.LOGIN, findMember.isPresent(), start);
+
+        Member member = findMember.orElseThrow(
                 () -> new UsernameNotFoundException("해당 아이디가 없습니다.")
         );
 
@@ -29,4 +39,17 @@ public class LoginService implements UserDetailsService {
                 .roles(member.getRole().name())
                 .build();
     }
+
+    // DaoAuthenticationProvider가 로그인 성공 후 해시 업그레이드가 필요할 때 호출.
+    // newPassword : 현재 설정으로 다시 암호화된 비밀번호
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        Member member = memberRepository.findByUsername(user.getUsername()).orElseThrow(
+                () -> new UsernameNotFoundException("해당 아이디가 없습니다.")
+        );
+        member.updateEncodedPassword(newPassword);
+
+        return User.withUserDetails(user).password(newPassword).build();
+    }
 }
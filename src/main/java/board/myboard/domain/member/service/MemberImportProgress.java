@@ -0,0 +1,81 @@
+package board.myboard.domain.member.service;
+
+import board.myboard.domain.member.MemberImportJob;
+import board.myboard.domain.member.dto.MemberImportResult;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 실행 중인 일괄 등록의 단계별 진행 상황. (읽기, 해시, 저장 스레드가 각각 갱신)
+ */
+class MemberImportProgress {
+
+    private static final int MAX_ERRORS = 100;
+
+    private final Long jobId;
+    private final long startNanos = System.nanoTime();
+
+    private final AtomicLong linesRead = new AtomicLong();
+    private final AtomicLong hashed = new AtomicLong();
+    // 이번 실행에서 저장 단계까지 끝난 건수 (처리량 계산)
+    private final AtomicLong written = new AtomicLong();
+
+    // 누적 값 (재시작 전 실행 포함)
+    private volatile long checkpointLine;
+    private volatile long imported;
+    private volatile long skipped;
+    private volatile long failed;
+    private volatile MemberImportJob.Status status = MemberImportJob.Status.RUNNING;
+
+    private final List<String> errors = Collections.synchronizedList(new ArrayList<>());
+
+    MemberImportProgress(MemberImportJob job) {
+        this.jobId = job.getId();
+        this.checkpointLine = job.getCheckpointLine();
+        this.imported = job.getImported();
+        this.skipped = job.getSkipped();
+        this.failed = job.getFailed();
+    }
+
+    void lineRead() {
+        linesRead.incrementAndGet();
+    }
+
+    void error(long lineNumber, String error) {
+        if (errors.size() < MAX_ERRORS) {
+            errors.add(lineNumber + ": " + error);
+        }
+    }
+
+    void hashed(int count) {
+        hashed.addAndGet(count);
+    }
+
+    // 저장 스레드 하나만 호출
+    void checkpoint(long line, int imported, int skipped, int failed) {
+        this.checkpointLine = line;
+        this.imported += imported;
+        this.skipped += skipped;
+        this.failed += failed;
+        written.addAndGet(imported + skipped);
+    }
+
+    void finish(MemberImportJob.Status status) {
+        this.status = status;
+    }
+
+    MemberImportResult snapshot() {
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+        long membersPerSecond = elapsedMillis == 0 ? 0 : written.get() * 1000 / elapsedMillis;
+        List<String> errorsCopy;
+        synchronized (errors) {
+            errorsCopy = new ArrayList<>(errors);
+        }
+        return new MemberImportResult(jobId, status, checkpointLine, linesRead.get(), hashed.get(),
+                imported, skipped, failed, errorsCopy, elapsedMillis, membersPerSecond);
+    }
+}
@@ -0,0 +1,394 @@
+package board.myboard.domain.member.service;
+
+import board.myboard.auth.password.PasswordEncoders;
+import board.myboard.domain.member.Member;
+import board.myboard.domain.member.MemberImportJob;
+import board.myboard.domain.member.dto.MemberImportFormat;
+import board.myboard.domain.member.dto.MemberImportRecord;
+import board.myboard.domain.member.dto.MemberImportResult;
+import board.myboard.domain.member.repository.MemberImportJobRepository;
+import board.myboard.domain.member.repository.MemberRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PreDestroy;
+import javax.persistence.EntityManager;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 회원 일괄 등록. 파일을 스트리밍으로 읽어 3단계로 처리한다.
+ *
+ * 1. 읽기 (reader 스레드)  : 한 줄씩 파싱해서 batch-size 건씩 묶음(chunk)으로 만든다.
+ * 2. 해시 (ForkJoinPool)   : chunk 단위로 비밀번호 암호화. 풀 크기는 hash-threads (0 : CPU 코어 수)
+ * 3. 저장 (요청 스레드)     : 읽은 순서대로 chunk마다 한 트랜잭션으로 batch INSERT + 재시작 지점 저장
+ *
+ * 1 -> 3 사이는 크기가 max-in-flight 인 큐. 해시나 저장이 밀리면 큐가 차서 읽기가 멈추므로
+ * 파일 크기와 상관없이 메모리에는 최대 max-in-flight 개의 chunk만 있다.
+ *
+ * - id는 member_seq pooled-lo (100건당 시퀀스 조회 1번)
+ * - 이미 있는 username은 chunk 단위 IN 조회로 건너뜀
+ * - 비밀번호가 지원하는 {id} 접두사 + 형식이 맞는 해시면 그대로 저장, 아니면 암호화
+ *   ({noop}, 모르는 id, 형식이 틀린 해시처럼 { 로 시작하지만 해시가 아닌 값은 평문이 그대로 저장되지 않도록 실패 처리)
+ * - 재시작 지점(MemberImportJob.checkpointLine)은 INSERT와 같은 트랜잭션에서 갱신된다.
+ *   실패하면 jobId와 같은 파일로 다시 요청해서 이어서 저장한다.
+ * - 실행하던 서버가 종료되어 RUNNING으로 남은 작업도 stale-after-seconds 동안 진행이 없으면 이어서 저장할 수 있다.
+ */
+@Slf4j
+@Service
+public class MemberImportService {
+
+    private static final String CSV_HEADER_PREFIX = "username,";
+    private static final long PROGRESS_LOG_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(10);
+
+    private final MemberRepository memberRepository;
+    private final MemberImportJobRepository memberImportJobRepository;
+    private final EntityManager em;
+    private final PasswordEncoder passwordEncoder;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final int maxInFlight;
+    private final long staleAfterSeconds;
+
+    private final ForkJoinPool hashPool;
+    private final ExecutorService readerExecutor;
+
+    // 실행 중인 작업의 진행 상황 (jobId -> progress)
+    private final ConcurrentHashMap<Long, MemberImportProgress> running = new ConcurrentHashMap<>();
+
+    public MemberImportService(MemberRepository memberRepository,
+                               MemberImportJobRepository memberImportJobRepository,
+                               EntityManager em,
+                               PasswordEncoder passwordEncoder,
+                               ObjectMapper objectMapper,
+                               PlatformTransactionManager transactionManager,
+                               @Value("${member.import.batch-size:100}") int batchSize,
+                               @Value("${member.import.hash-threads:0}") int hashThreads,
+                               @Value("${member.import.max-in-flight:0}") int maxInFlight,
+                               @Value("${member.import.stale-after-seconds:300}") long staleAfterSeconds) {
+        this.memberRepository = memberRepository;
+        this.memberImportJobRepository = memberImportJobRepository;
+        this.em = em;
+        this.passwordEncoder = passwordEncoder;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.staleAfterSeconds = staleAfterSeconds;
+
+        // 0이면 CPU 코어 수 (해시는 CPU 작업이므로 코어 수 이상은 의미 없음)
+        int parallelism = hashThreads > 0 ? hashThreads : Runtime.getRuntime().availableProcessors();
+        // 0이면 해시 스레드마다 chunk 2개 (하나를 해시하는 동안 다음 chunk가 대기)
+        this.maxInFlight = maxInFlight > 0 ? maxInFlight : parallelism * 2;
+        AtomicInteger hashThreadNumber = new AtomicInteger();
+        this.hashPool = new ForkJoinPool(parallelism, pool -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setName("member-import-hash-" + hashThreadNumber.incrementAndGet());
+            return thread;
+        }, null, false);
+        AtomicInteger readerThreadNumber = new AtomicInteger();
+        this.readerExecutor = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "member-import-reader-" + readerThreadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        readerExecutor.shutdownNow();
+        hashPool.shutdownNow();
+    }
+
+    public MemberImportResult importMembers(Reader reader, MemberImportFormat format) throws IOException {
+        return importMembers(reader, format, null);
+    }
+
+    /**
+     * @param jobId 실패한(또는 멈춘) 작업을 이어서 할 때 (같은 파일), 새 작업이면 null
+     * @throws IllegalArgumentException 없는 작업
+     * @throws IllegalStateException    다시 시작할 수 없는 작업 (완료, 실행 중, 다른 요청이 먼저 다시 시작함)
+     */
+    public MemberImportResult importMembers(Reader reader, MemberImportFormat format, Long jobId) throws IOException {
+        MemberImportJob job = transactionTemplate.execute(status -> {
+            if (jobId == null) {
+                return memberImportJobRepository.save(MemberImportJob.start());
+            }
+            // 이 서버에서 실행 중인 작업은 진행이 느려도 다시 시작하지 않음
+            LocalDateTime now = LocalDateTime.now();
+            if (running.containsKey(jobId) || memberImportJobRepository.resume(jobId, now, staleBefore(now)) == 0) {
+                MemberImportJob existing = memberImportJobRepository.findById(jobId)
+                        .orElseThrow(() -> new IllegalArgumentException("없는 작업입니다. " + jobId));
+                throw new IllegalStateException("다시 시작할 수 없는 작업입니다. 현재 상태 : " + existing.getStatus());
+            }
+            return memberImportJobRepository.findById(jobId).orElseThrow();
+        });
+
+        MemberImportProgress progress = new MemberImportProgress(job);
+        running.put(job.getId(), progress);
+        if (jobId != null) {
+            log.info("회원 일괄 등록을 {}번째 줄 다음부터 이어서 합니다. jobId: {}", job.getCheckpointLine(), job.getId());
+        }
+
+        BlockingQueue<CompletableFuture<ImportChunk>> chunks = new ArrayBlockingQueue<>(maxInFlight);
+        Future<?> readerTask = readerExecutor.submit(() -> read(reader, format, job.getCheckpointLine(), chunks, progress));
+        try {
+            write(job.getId(), chunks, progress);
+            readerTask.get();
+            finish(job.getId(), progress, MemberImportJob.Status.COMPLETED);
+        } catch (RuntimeException | ExecutionException | InterruptedException e) {
+            readerTask.cancel(true);
+            finish(job.getId(), progress, MemberImportJob.Status.FAILED);
+            log.warn("회원 일괄 등록에 실패했습니다. jobId: {}, 저장된 마지막 줄: {}", job.getId(),
+                    progress.snapshot().getCheckpointLine(), e);
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            Throwable cause = unwrap(e);
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            throw cause instanceof RuntimeException ? (RuntimeException) cause : new IllegalStateException(cause);
+        } finally {
+            running.remove(job.getId());
+        }
+
+        MemberImportResult result = progress.snapshot();
+        log.info("회원 일괄 등록 : 저장 {}, 건너뜀 {}, 실패 {}, {}ms ({}/s)", result.getImported(), result.getSkipped(),
+                result.getFailed(), result.getElapsedMillis(), result.getMembersPerSecond());
+        return result;
+    }
+
+    /**
+     * 실패했거나, 실행하던 서버가 종료되어 멈춘 작업
+     */
+    public boolean isResumable(Long jobId) {
+        if (running.containsKey(jobId)) {
+            return false;
+        }
+        return memberImportJobRepository.findById(jobId)
+                .map(job -> job.isResumable(staleBefore(LocalDateTime.now())))
+                .orElse(false);
+    }
+
+    /**
+     * 실행 중이면 현재 진행 상황, 끝난 작업이면 저장된 결과
+     */
+    public Optional<MemberImportResult> findProgress(Long jobId) {
+        MemberImportProgress progress = running.get(jobId);
+        if (progress != null) {
+            return Optional.of(progress.snapshot());
+        }
+        return memberImportJobRepository.findById(jobId)
+                .map(job -> new MemberImportResult(job.getId(), job.getStatus(), job.getCheckpointLine(), 0, 0,
+                        job.getImported(), job.getSkipped(), job.getFailed(), List.of(), 0, 0));
+    }
+
+    // 1. 읽기 : chunk를 해시 풀에 넘기고, 결과(future)를 읽은 순서대로 큐에 넣는다. (큐가 가득 차면 대기)
+    private void read(Reader reader, MemberImportFormat format, long resumeAfterLine,
+                      BlockingQueue<CompletableFuture<ImportChunk>> chunks, MemberImportProgress progress) {
+        try {
+            BufferedReader lines = reader instanceof BufferedReader ? (BufferedReader) reader : new BufferedReader(reader);
+            ImportChunk chunk = new ImportChunk(batchSize);
+            String line;
+            long lineNumber = 0;
+            while ((line = lines.readLine()) != null) {
+                lineNumber++;
+                // 이전 실행에서 저장한 줄
+                if (lineNumber <= resumeAfterLine) {
+                    continue;
+                }
+                progress.lineRead();
+                chunk.endLine = lineNumber;
+                if (line.isBlank() || (lineNumber == 1 && format == MemberImportFormat.CSV && line.startsWith(CSV_HEADER_PREFIX))) {
+                    continue;
+                }
+
+                String error;
+                MemberImportRecord record = null;
+                try {
+                    record = parse(line, format);
+                    error = record.validate();
+                    if (error == null && record.getPassword().startsWith("{") && !PasswordEncoders.isEncoded(record.getPassword())) {
+                        error = "지원하지 않는 비밀번호 해시 형식입니다.";
+                    }
+                } catch (IllegalArgumentException | JsonProcessingException e) {
+                    error = "형식이 올바르지 않습니다.";
+                }
+                if (error != null) {
+                    chunk.failed++;
+                    progress.error(lineNumber, error);
+                    continue;
+                }
+
+                chunk.records.add(record);
+                if (chunk.records.size() == batchSize) {
+                    chunks.put(hash(chunk, progress));
+                    chunk = new ImportChunk(batchSize);
+                }
+            }
+            // 마지막 chunk (빈 줄, 실패한 줄만 있어도 재시작 지점 저장)
+            if (chunk.endLine > 0) {
+                chunks.put(hash(chunk, progress));
+            }
+            chunks.put(CompletableFuture.completedFuture(ImportChunk.END));
+        } catch (InterruptedException e) {
+            // 저장 단계가 실패해서 취소됨
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            // 저장 단계가 앞의 chunk를 모두 저장한 뒤 실패하도록 같은 큐로 전달
+            try {
+                chunks.put(CompletableFuture.failedFuture(e));
+            } catch (InterruptedException interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    // 2. 해시 : chunk 하나를 해시 풀의 작업 하나로 실행
+    private CompletableFuture<ImportChunk> hash(ImportChunk chunk, MemberImportProgress progress) {
+        return CompletableFuture.supplyAsync(() -> {
+            for (MemberImportRecord record : chunk.records) {
+                chunk.members.add(record.toMember(encode(record.getPassword())));
+            }
+            progress.hashed(chunk.records.size());
+            return chunk;
+        }, hashPool);
+    }
+
+    // 3. 저장 : 읽은 순서대로 chunk를 꺼내 저장 (재시작 지점이 순서대로 증가하도록)
+    private void write(Long jobId, BlockingQueue<CompletableFuture<ImportChunk>> chunks,
+                       MemberImportProgress progress) throws InterruptedException {
+        long lastLogNanos = System.nanoTime();
+        while (true) {
+            ImportChunk chunk = chunks.take().join();
+            if (chunk == ImportChunk.END) {
+                return;
+            }
+            int imported = save(jobId, chunk);
+            progress.checkpoint(chunk.endLine, imported, chunk.members.size() - imported, chunk.failed);
+
+            if (System.nanoTime() - lastLogNanos >= PROGRESS_LOG_INTERVAL_NANOS) {
+                lastLogNanos = System.nanoTime();
+                MemberImportResult snapshot = progress.snapshot();
+                log.info("회원 일괄 등록 진행 중 : jobId {}, {}번째 줄까지 저장, 저장 {}, 해시 대기 {}, {}/s",
+                        jobId, snapshot.getCheckpointLine(), snapshot.getImported(),
+                        snapshot.getLinesRead() - snapshot.getHashed(), snapshot.getMembersPerSecond());
+            }
+        }
+    }
+
+    private MemberImportRecord parse(String line, MemberImportFormat format) throws JsonProcessingException {
+        if (format == MemberImportFormat.JSON_LINES) {
+            return objectMapper.readValue(line, MemberImportRecord.class);
+        }
+        String[] fields = line.split(",", -1);
+        if (fields.length != 5) {
+            throw new IllegalArgumentException("CSV 항목 수가 올바르지 않습니다.");
+        }
+        return new MemberImportRecord(fields[0].trim(), fields[1], fields[2].trim(), fields[3].trim(),
+                Integer.parseInt(fields[4].trim()));
+    }
+
+    /**
+     * chunk 저장 + 재시작 지점 갱신 (한 트랜잭션)
+     * @return 저장된 건수
+     */
+    private int save(Long jobId, ImportChunk chunk) {
+        Integer saved = transactionTemplate.execute(status -> {
+            int count = 0;
+            if (!chunk.members.isEmpty()) {
+                Set<String> usernames = new HashSet<>();
+                chunk.members.forEach(member -> usernames.add(member.getUsername()));
+                Set<String> existing = new HashSet<>(memberRepository.findUsernamesIn(usernames));
+
+                for (Member member : chunk.members) {
+                    // 이미 있거나, 이 chunk 안에서 앞에 나온 username
+                    if (!existing.add(member.getUsername())) {
+                        continue;
+                    }
+                    em.persist(member);
+                    count++;
+                }
+                em.flush();
+                em.clear();
+            }
+            memberImportJobRepository.checkpoint(jobId, chunk.endLine, count, chunk.members.size() - count, chunk.failed,
+                    LocalDateTime.now());
+            return count;
+        });
+        return saved == null ? 0 : saved;
+    }
+
+    private void finish(Long jobId, MemberImportProgress progress, MemberImportJob.Status status) {
+        progress.finish(status);
+        transactionTemplate.executeWithoutResult(transaction -> memberImportJobRepository.findById(jobId)
+                .ifPresent(job -> {
+                    if (status == MemberImportJob.Status.COMPLETED) {
+                        job.complete();
+                    } else {
+                        job.fail();
+                    }
+                }));
+    }
+
+    private LocalDateTime staleBefore(LocalDateTime now) {
+        return now.minusSeconds(staleAfterSeconds);
+    }
+
+    private String encode(String password) {
+        return PasswordEncoders.isEncoded(password) ? password : passwordEncoder.encode(password);
+    }
+
+    private static Throwable unwrap(Throwable e) {
+        while ((e instanceof ExecutionException || e instanceof CompletionException) && e.getCause() != null) {
+            e = e.getCause();
+        }
+        return e;
+    }
+
+    /**
+     * 읽기 -> 해시 -> 저장 단계 사이에 넘기는 묶음.
+     * endLine : 이 chunk에 포함된 마지막 줄 번호 (저장 후 재시작 지점)
+     */
+    private static class ImportChunk {
+
+        static final ImportChunk END = new ImportChunk(0);
+
+        final List<MemberImportRecord> records;
+        final List<Member> members;
+        long endLine;
+        int failed;
+
+        ImportChunk(int batchSize) {
+            this.records = new ArrayList<>(batchSize);
+            this.members = new ArrayList<>(batchSize);
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package board.myboard.domain.post;
+
+import board.myboard.domain.BaseTimeEntity;
+import board.myboard.domain.member.Member;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+
+import javax.persistence.*;
+
+/**
+ * 게시글.
+ *
+ * 목록은 (CreatedDate desc, id desc) 순서로 cursor 페이징한다. (PostRepository, idx_post_created_date_id)
+ * 작성자는 지연 로딩. 목록에서는 hibernate.default_batch_fetch_size 만큼 IN 조회로 한 번에 가져온다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class Post extends BaseTimeEntity {
+
+    // Member와 같이 post_seq 한 번 조회로 id 100개 할당 (pooled-lo)
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "post_seq_generator")
+    @GenericGenerator(name = "post_seq_generator",
+            strategy = "org.hibernate.id.enhanced.SequenceStyleGenerator",
+            parameters = {
+                    @Parameter(name = "sequence_name", value = "post_seq"),
+                    @Parameter(name = "increment_size", value = "100"),
+                    @Parameter(name = "optimizer", value = "pooled-lo")
+            })
+    @Column(name = "post_id")
+    private Long id;
+
+    @Column(nullable = false, length = 100)
+    private String title;
+
+    @Column(nullable = false, length = 2000)
+    private String content;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "member_id", nullable = false)
+    private Member author; // 작성자
+
+    @Builder
+    public Post(String title, String content, Member author) {
+        this.title = title;
+        this.content = content;
+        this.author = author;
+    }
+}
@@ -0,0 +1,59 @@
+package board.myboard.domain.post.controller;
+
+import board.myboard.domain.post.dto.PostCreateRequest;
+import board.myboard.domain.post.dto.PostPage;
+import board.myboard.domain.post.dto.PostResponse;
+import board.myboard.domain.post.service.PostService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import javax.validation.Valid;
+import java.net.URI;
+
+/**
+ * 게시글 (로그인 필요)
+ *
+ * GET  /posts?cursor=...&size=20 : 최신순 목록. 응답의 nextCursor를 다음 요청의 cursor로 넘긴다.
+ *                                  (OFFSET 페이지 번호 대신 cursor를 쓰므로 깊은 페이지도 첫 페이지와 비용이 같다)
+ * GET  /posts/{id}               : 상세
+ * POST /posts                    : 작성 {"title": "...", "content": "..."}
+ */
+@RestController
+@RequiredArgsConstructor
+public class PostController {
+
+    private final PostService postService;
+
+    @GetMapping("/posts")
+    public PostPage posts(@RequestParam(required = false) String cursor,
+                          @RequestParam(defaultValue = "" + PostService.DEFAULT_PAGE_SIZE) int size) {
+        return postService.findPosts(cursor, size);
+    }
+
+    @GetMapping("/posts/{id}")
+    public ResponseEntity<PostResponse> post(@PathVariable Long id) {
+        return ResponseEntity.of(postService.findPost(id));
+    }
+
+    @PostMapping("/posts")
+    public ResponseEntity<Void> write(@AuthenticationPrincipal UserDetails user,
+                                      @Valid @RequestBody PostCreateRequest request) {
+        Long id = postService.write(user.getUsername(), request);
+        return ResponseEntity.created(URI.create("/posts/" + id)).build();
+    }
+
+    // 잘못된 cursor
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<String> badRequest(IllegalArgumentException e) {
+        return ResponseEntity.badRequest().body(e.getMessage());
+    }
+}
@@ -0,0 +1,26 @@
+package board.myboard.domain.post.dto;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.Size;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PostCreateRequest {
+
+    @NotBlank
+    @Size(max = 100)
+    private String title;
+
+    @NotBlank
+    @Size(max = 2000)
+    private String content;
+
+    public PostCreateRequest(String title, String content) {
+        this.title = title;
+        this.content = content;
+    }
+}
@@ -0,0 +1,55 @@
+package board.myboard.domain.post.dto;
+
+import board.myboard.domain.post.Post;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 게시글 목록 cursor. 마지막으로 본 글의 (CreatedDate, id)
+ *
+ * 클라이언트에는 Base64(URL-safe) 문자열로만 주고 받는다. (형식은 바뀔 수 있으므로 해석하지 않도록)
+ */
+@Getter
+public class PostCursor {
+
+    private static final char SEPARATOR = '_';
+
+    private final LocalDateTime createdDate;
+    private final Long id;
+
+    public PostCursor(LocalDateTime createdDate, Long id) {
+        this.createdDate = createdDate;
+        this.id = id;
+    }
+
+    public static PostCursor of(Post post) {
+        return new PostCursor(post.getCreatedDate(), post.getId());
+    }
+
+    public String encode() {
+        String value = createdDate.toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @throws IllegalArgumentException 형식이 잘못된 cursor
+     */
+    public static PostCursor decode(String cursor) {
+        try {
+            String value = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = value.lastIndexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new IllegalArgumentException("잘못된 cursor 입니다.");
+            }
+            return new PostCursor(LocalDateTime.parse(value.substring(0, separator)),
+                    Long.parseLong(value.substring(separator + 1)));
+        } catch (DateTimeParseException e) {
+            // NumberFormatException은 IllegalArgumentException
+            throw new IllegalArgumentException("잘못된 cursor 입니다.", e);
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package board.myboard.domain.post.dto;
+
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 게시글 목록 한 페이지.
+ *
+ * nextCursor : 다음 페이지 요청에 그대로 넘길 값 (GET /posts?cursor=...). 마지막 페이지면 null
+ */
+@Getter
+public class PostPage {
+
+    private final List<PostSummary> posts;
+    private final String nextCursor;
+
+    public PostPage(List<PostSummary> posts, String nextCursor) {
+        this.posts = posts;
+        this.nextCursor = nextCursor;
+    }
+
+    public boolean isHasNext() {
+        return nextCursor != null;
+    }
+}
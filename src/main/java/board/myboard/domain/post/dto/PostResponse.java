@@ -0,0 +1,26 @@
+package board.myboard.domain.post.dto;
+
+import board.myboard.domain.post.Post;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+public class PostResponse {
+
+    private final Long id;
+    private final String title;
+    private final String content;
+    private final String authorNickName;
+    private final LocalDateTime createdDate;
+    private final LocalDateTime lastModifiedDate;
+
+    public PostResponse(Post post) {
+        this.id = post.getId();
+        this.title = post.getTitle();
+        this.content = post.getContent();
+        this.authorNickName = post.getAuthor().getNickName();
+        this.createdDate = post.getCreatedDate();
+        this.lastModifiedDate = post.getLastModifiedDate();
+    }
+}
@@ -0,0 +1,25 @@
+package board.myboard.domain.post.dto;
+
+import board.myboard.domain.post.Post;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 목록 한 건 (본문 제외)
+ */
+@Getter
+public class PostSummary {
+
+    private final Long id;
+    private final String title;
+    private final String authorNickName;
+    private final LocalDateTime createdDate;
+
+    public PostSummary(Post post) {
+        this.id = post.getId();
+        this.title = post.getTitle();
+        this.authorNickName = post.getAuthor().getNickName();
+        this.createdDate = post.getCreatedDate();
+    }
+}
@@ -0,0 +1,25 @@
+package board.myboard.domain.post.repository;
+
+import board.myboard.domain.post.Post;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface PostRepository extends JpaRepository<Post, Long> {
+
+    // 첫 페이지 : idx_post_created_date_id 순서대로 읽다가 limit(pageable) 에서 멈춤
+    @Query("select p from Post p order by p.CreatedDate desc, p.id desc")
+    List<Post> findLatest(Pageable pageable);
+
+    // cursor(마지막으로 본 글) 다음 페이지. OFFSET처럼 앞 페이지 행을 읽고 버리지 않으므로 깊은 페이지도 비용이 같다.
+    // CreatedDate <= :createdDate 로 인덱스 범위를 시작하고, 같은 시각에 쓴 글은 id로 구분
+    @Query("select p from Post p where p.CreatedDate <= :createdDate "
+            + "and (p.CreatedDate < :createdDate or p.id < :id) "
+            + "order by p.CreatedDate desc, p.id desc")
+    List<Post> findLatestBefore(@Param("createdDate") LocalDateTime createdDate, @Param("id") Long id,
+                                Pageable pageable);
+}
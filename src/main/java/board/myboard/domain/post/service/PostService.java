@@ -0,0 +1,77 @@
+package board.myboard.domain.post.service;
+
+import board.myboard.domain.member.Member;
+import board.myboard.domain.member.repository.MemberRepository;
+import board.myboard.domain.post.Post;
+import board.myboard.domain.post.dto.PostCreateRequest;
+import board.myboard.domain.post.dto.PostCursor;
+import board.myboard.domain.post.dto.PostPage;
+import board.myboard.domain.post.dto.PostResponse;
+import board.myboard.domain.post.dto.PostSummary;
+import board.myboard.domain.post.repository.PostRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class PostService {
+
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    public static final int MAX_PAGE_SIZE = 100;
+
+    private final PostRepository postRepository;
+    private final MemberRepository memberRepository;
+
+    /**
+     * @throws IllegalArgumentException 작성자(username) 회원이 없는 경우
+     */
+    @Transactional
+    public Long write(String username, PostCreateRequest request) {
+        Member author = memberRepository.findByUsername(username)
+                .orElseThrow(() -> new IllegalArgumentException("회원이 없습니다. : " + username));
+
+        Post post = Post.builder()
+                .title(request.getTitle())
+                .content(request.getContent())
+                .author(author)
+                .build();
+        return postRepository.save(post).getId();
+    }
+
+    public Optional<PostResponse> findPost(Long id) {
+        return postRepository.findById(id).map(PostResponse::new);
+    }
+
+    /**
+     * 최신순 목록. cursor가 없으면 첫 페이지.
+     * size + 1 건을 조회해서 다음 페이지가 있는지 확인한다. (count 쿼리 X)
+     *
+     * @throws IllegalArgumentException 형식이 잘못된 cursor
+     */
+    public PostPage findPosts(String cursor, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+
+        List<Post> posts;
+        if (cursor == null || cursor.isEmpty()) {
+            posts = postRepository.findLatest(limit);
+        } else {
+            PostCursor after = PostCursor.decode(cursor);
+            posts = postRepository.findLatestBefore(after.getCreatedDate(), after.getId(), limit);
+        }
+
+        boolean hasNext = posts.size() > pageSize;
+        List<Post> page = hasNext ? posts.subList(0, pageSize) : posts;
+        String nextCursor = hasNext ? PostCursor.of(page.get(pageSize - 1)).encode() : null;
+
+        return new PostPage(page.stream().map(PostSummary::new).collect(Collectors.toList()), nextCursor);
+    }
+}
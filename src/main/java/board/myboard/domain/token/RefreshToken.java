@@ -0,0 +1,89 @@
+package board.myboard.domain.token;
+
+import board.myboard.auth.token.RefreshTokenHash;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * RefreshToken 저장소.
+ *
+ * 토큰 원문 대신 SHA-256 해시(64자 고정 길이)를 PK로 저장한다.
+ * => 재발급 시 길이 1000 컬럼 전체 스캔 대신 PK 인덱스로 한 건만 조회. (O(log n))
+ *
+ * familyId : 로그인 한 번에 발급된 토큰 계열. (재발급 시 같은 familyId 유지)
+ * used : 재발급에 사용된 토큰. 다시 사용되면 탈취로 보고 계열 전체를 삭제한다.
+ */
+@Entity
+@Table(name = "refresh_token", indexes = {
+        @Index(name = "idx_refresh_token_username", columnList = "username"),
+        @Index(name = "idx_refresh_token_family_id", columnList = "family_id"),
+        @Index(name = "idx_refresh_token_expires_at", columnList = "expires_at")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class RefreshToken implements Persistable<String> {
+
+    @Id
+    @Column(name = "token_hash", length = 64)
+    private String tokenHash;
+
+    @Column(nullable = false, length = 30)
+    private String username;
+
+    @Column(name = "family_id", nullable = false, length = 36)
+    private String familyId;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    @Column(nullable = false)
+    private boolean used;
+
+    // PK를 직접 지정하므로 save() 시 merge(SELECT 후 INSERT)가 아닌 persist가 되도록 함.
+    @Transient
+    private boolean isNew = true;
+
+    @Builder
+    public RefreshToken(String token, String username, String familyId, LocalDateTime expiresAt) {
+        this.tokenHash = hash(token);
+        this.username = username;
+        this.familyId = familyId;
+        this.expiresAt = expiresAt;
+    }
+
+    public boolean isExpired(LocalDateTime now) {
+        return !expiresAt.isAfter(now);
+    }
+
+    @Override
+    public String getId() {
+        return tokenHash;
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+
+    // 토큰 원문 -> SHA-256 hex (64자). 게이트웨이와 같은 함수 (auth-core)
+    public static String hash(String token) {
+        return RefreshTokenHash.hash(token);
+    }
+
+    // 토큰 원문 -> SHA-256 (32 byte)
+    public static byte[] digest(String token) {
+        return RefreshTokenHash.digest(token);
+    }
+}
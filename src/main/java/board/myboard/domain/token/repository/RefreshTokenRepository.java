@@ -0,0 +1,34 @@
+package board.myboard.domain.token.repository;
+
+import board.myboard.domain.token.RefreshToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface RefreshTokenRepository extends JpaRepository<RefreshToken, String> {
+
+    List<RefreshToken> findByUsername(String username);
+
+    // 파생 삭제(deleteBy...)는 한 건씩 조회 후 삭제하므로 벌크 삭제
+    @Modifying
+    @Query("delete from RefreshToken t where t.username = :username")
+    void deleteByUsername(@Param("username") String username);
+
+    // 사용되지 않은 토큰일 때만 변경 (조건부 UPDATE라 동시에 실행되어도 한 건만 1을 반환)
+    @Modifying
+    @Query("update RefreshToken t set t.used = true where t.tokenHash = :tokenHash and t.used = false")
+    int markUsed(@Param("tokenHash") String tokenHash);
+
+    @Modifying
+    @Query("delete from RefreshToken t where t.familyId = :familyId")
+    int deleteByFamilyId(@Param("familyId") String familyId);
+
+    // 한 건씩 조회 후 삭제하지 않고 벌크 삭제
+    @Modifying
+    @Query("delete from RefreshToken t where t.expiresAt <= :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
@@ -0,0 +1,12 @@
+package board.myboard.global.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+
+/**
+ * @Async 사용 (virtual 프로필이면 가상 스레드에서 실행, VirtualThreadConfig 참고)
+ */
+@Configuration
+@EnableAsync
+public class AsyncConfig {
+}
@@ -0,0 +1,38 @@
+package board.myboard.global.config;
+
+import board.myboard.auth.ratelimit.LoginRateLimiter;
+import board.myboard.auth.revoke.AccessTokenDenylist;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * auth-core 모듈(게이트웨이와 공유) 빈 등록.
+ *
+ * - AccessTokenDenylist : MeterBinder 이므로 jwt.revocation.* 메트릭은 자동 등록.
+ *   정리(purge)와 다른 노드의 폐기 반영은 AccessTokenRevocations 에서 한다.
+ * - LoginRateLimiter : login.rate-limit.*
+ */
+@Configuration
+public class AuthCoreConfig {
+
+    @Bean
+    public AccessTokenDenylist accessTokenDenylist(@Value("${jwt.revocation.enabled:true}") boolean enabled,
+                                                   @Value("${jwt.access.expiration}") long accessTokenValidityInSeconds,
+                                                   @Value("${jwt.revocation.expected-revocations:1000000}") long expectedRevocations,
+                                                   @Value("${jwt.revocation.fpp:0.01}") double fpp) {
+        return new AccessTokenDenylist(enabled, accessTokenValidityInSeconds * 1000, expectedRevocations, fpp,
+                System::currentTimeMillis);
+    }
+
+    @Bean
+    public LoginRateLimiter loginRateLimiter(MeterRegistry meterRegistry,
+                                             @Value("${login.rate-limit.enabled:true}") boolean enabled,
+                                             @Value("${login.rate-limit.window:60000}") long windowMillis,
+                                             @Value("${login.rate-limit.ip-limit:100}") int ipLimit,
+                                             @Value("${login.rate-limit.username-failure-limit:5}") int usernameFailureLimit,
+                                             @Value("${login.rate-limit.stripes:65536}") int stripes) {
+        return new LoginRateLimiter(meterRegistry, enabled, windowMillis, ipLimit, usernameFailureLimit, stripes);
+    }
+}
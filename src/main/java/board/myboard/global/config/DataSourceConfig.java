@@ -0,0 +1,53 @@
+package board.myboard.global.config;
+
+import board.myboard.global.datasource.HikariPoolSizer;
+import board.myboard.global.datasource.SlowQueryDataSource;
+import board.myboard.global.datasource.SlowQuerySampler;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+
+/**
+ * 운영(prod 프로필) DataSource 설정.
+ *
+ * - datasource.pool.size-by-cores : Hikari 풀 크기를 코어 수에 맞춤 (HikariPoolSizer)
+ * - datasource.slow-query.*       : 느린 쿼리 표본 로그 (SlowQuerySampler)
+ *
+ * BeanPostProcessor는 다른 빈보다 먼저 만들어져야 하므로 static 메서드로 등록한다.
+ */
+@Configuration
+public class DataSourceConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "datasource.pool.size-by-cores", havingValue = "true")
+    public static HikariPoolSizer hikariPoolSizer(Environment environment) {
+        return new HikariPoolSizer(Runtime.getRuntime().availableProcessors(),
+                environment.containsProperty("spring.datasource.hikari.maximum-pool-size"));
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "datasource.slow-query.enabled", havingValue = "true")
+    public static SlowQuerySampler slowQuerySampler(@Value("${datasource.slow-query.threshold:200}") long threshold,
+                                                    @Value("${datasource.slow-query.sample-rate:0.1}") double sampleRate) {
+        return new SlowQuerySampler(threshold, sampleRate);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "datasource.slow-query.enabled", havingValue = "true")
+    public static BeanPostProcessor slowQueryDataSourcePostProcessor(SlowQuerySampler slowQuerySampler) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource && !(bean instanceof SlowQueryDataSource)) {
+                    return new SlowQueryDataSource((DataSource) bean, slowQuerySampler);
+                }
+                return bean;
+            }
+        };
+    }
+}
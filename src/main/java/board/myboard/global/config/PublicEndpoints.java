@@ -0,0 +1,41 @@
+package board.myboard.global.config;
+
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+import org.springframework.security.web.util.matcher.OrRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+
+/**
+ * 인증 없이 접근하는 경로. (SecurityConfig permitAll 과 JwtAuthenticationProcessingFilter 가 같은 matcher 사용)
+ *
+ * 시작 시 한 번만 만들어 재사용한다. (AntPathRequestMatcher는 와일드카드가 없는 경로를 문자열 비교로 처리)
+ * 여기에 해당하는 요청은 JWT 필터에서 토큰 추출, 검증, 회원 조회를 하지 않는다.
+ * -> RefreshToken 재발급 요청은 인증이 필요한 경로로 보내야 한다.
+ */
+public final class PublicEndpoints {
+
+    /**
+     * health check 전용 필터 체인 (보안 필터 없음, SecurityContext도 만들지 않음)
+     */
+    public static final RequestMatcher HEALTH = new OrRequestMatcher(
+            new AntPathRequestMatcher("/actuator/health", "GET"),
+            new AntPathRequestMatcher("/actuator/health/**", "GET")
+    );
+
+    public static final RequestMatcher PERMIT_ALL = new OrRequestMatcher(
+            // 로그인, 회원가입, 메인페이지
+            new AntPathRequestMatcher("/login"),
+            new AntPathRequestMatcher("/signUp"),
+            new AntPathRequestMatcher("/"),
+            // 정적 리소스
+            new AntPathRequestMatcher("/favicon.ico"),
+            new AntPathRequestMatcher("/css/**"),
+            new AntPathRequestMatcher("/js/**"),
+            new AntPathRequestMatcher("/images/**"),
+            // 인프라 (/actuator/prometheus 는 ADMIN 전용, SecurityConfig 참고)
+            new AntPathRequestMatcher("/.well-known/jwks.json"),
+            HEALTH
+    );
+
+    private PublicEndpoints() {
+    }
+}
@@ -0,0 +1,12 @@
+package board.myboard.global.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * @Scheduled 사용 (만료된 RefreshToken 정리 등)
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
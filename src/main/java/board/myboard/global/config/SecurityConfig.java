@@ -1,17 +1,29 @@
 package board.myboard.global.config;
 
+import board.myboard.auth.password.PasswordEncoders;
+import board.myboard.auth.ratelimit.LoginRateLimiter;
+import board.myboard.auth.revoke.AccessTokenDenylist;
 import board.myboard.domain.member.repository.MemberRepository;
 import board.myboard.domain.member.service.LoginService;
 import board.myboard.global.jwt.service.JwtService;
+import board.myboard.global.login.cache.MemberPrincipalCache;
+import board.myboard.global.login.executor.LoginExecutor;
 import board.myboard.global.login.filter.JsonUsernamePasswordAuthFilter;
 import board.myboard.global.login.filter.JwtAuthenticationProcessingFilter;
+import board.myboard.global.login.handler.JwtLogoutHandler;
 import board.myboard.global.login.handler.LoginFailHandler;
 import board.myboard.global.login.handler.LoginSuccessJWTProviderHandler;
+import board.myboard.global.metrics.AuthMetrics;
+import board.myboard.global.security.TimedPasswordEncoder;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import org.apache.tomcat.util.net.openssl.ciphers.Authentication;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.ProviderManager;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
@@ -20,10 +32,12 @@ import org.springframework.security.config.annotation.web.configuration.EnableWe
 import org.springframework.security.config.annotation.web.configuration.WebSecurityConfiguration;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
-import org.springframework.security.crypto.factory.PasswordEncoderFactories;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.web.DefaultSecurityFilterChain;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.logout.HttpStatusReturningLogoutSuccessHandler;
 import org.springframework.security.web.authentication.logout.LogoutFilter;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
 
 
 /**
@@ -49,6 +63,30 @@ public class SecurityConfig {
 
     private final JwtService jwtService;
     private final MemberRepository memberRepository;
+    private final MemberPrincipalCache memberPrincipalCache;
+    private final LoginExecutor loginExecutor;
+    private final LoginRateLimiter loginRateLimiter;
+    private final MeterRegistry meterRegistry;
+    private final AuthMetrics authMetrics;
+    private final AccessTokenDenylist accessTokenDenylist;
+
+    // AccessToken 클레임만으로 인증 (요청마다 회원 조회 X)
+    @Value("${jwt.access.stateless:false}")
+    private boolean statelessAuthentication;
+
+    // 비밀번호 암호화 알고리즘, 비용 (변경하면 다음 로그인 시 재암호화)
+    @Value("${security.password.algorithm:bcrypt}")
+    private String passwordAlgorithm;
+
+    @Value("${security.password.bcrypt-strength:10}")
+    private int bcryptStrength;
+
+    @Value("${security.password.pbkdf2-iterations:310000}")
+    private int pbkdf2Iterations;
+
+    // 로그인 요청 본문 최대 크기 (byte)
+    @Value("${login.max-body-size:4096}")
+    private int loginMaxBodySize;
 
     /**
      * JSON을 통해 로그인을 진행
@@ -60,8 +98,15 @@ public class SecurityConfig {
      * 세선은 상태를 유지하지 않음으로 설정.
      * => SessionCreationPolicy.STATELESS
      *
-     * antMatchers("/login","/singUp","/").permitAll()
-     * => 로그인, 회원가입, 메인페이지에 대해서는 인증없이도 접근가능하도록 설정.
+     * requestMatchers(PublicEndpoints.PERMIT_ALL).permitAll()
+     * => 로그인, 회원가입, 메인페이지, 정적 리소스, 인프라 경로는 인증없이도 접근가능하도록 설정.
+     *    (JwtAuthenticationProcessingFilter도 같은 matcher로 건너뜀)
+     *
+     * antMatchers("/admin/**", "/actuator/prometheus").hasRole("ADMIN")
+     * => 관리 기능(회원 일괄 등록 등), 메트릭은 ADMIN 권한만 접근 가능.
+     *    (메트릭에는 로그인 실패, 요청 경로 등 운영 정보가 있으므로 공개하지 않음)
+     *
+     * logout() : POST /logout 으로 AccessToken 폐기, RefreshToken 계열 삭제 후 200 반환. (JwtLogoutHandler)
      *
      */
     @Bean
@@ -74,8 +119,14 @@ public class SecurityConfig {
                 .sessionManagement().sessionCreationPolicy(SessionCreationPolicy.STATELESS)
                 .and()
                 .authorizeRequests()
-                .antMatchers("/login", "/signUp","/").permitAll()
-                .anyRequest().authenticated();
+                .requestMatchers(PublicEndpoints.PERMIT_ALL).permitAll()
+                .antMatchers("/admin/**", "/actuator/prometheus").hasRole("ADMIN")
+                .anyRequest().authenticated()
+                .and()
+                .logout()
+                .logoutRequestMatcher(new AntPathRequestMatcher("/logout", "POST"))
+                .addLogoutHandler(jwtLogoutHandler())
+                .logoutSuccessHandler(new HttpStatusReturningLogoutSuccessHandler());
 
                 http.addFilterAfter(jsonUsernamePasswordAuthFilter(), LogoutFilter.class);
                 http.addFilterBefore(jwtAuthenticationProcessingFilter(), JsonUsernamePasswordAuthFilter.class);
@@ -83,10 +134,22 @@ public class SecurityConfig {
                 return http.build();
     }
 
-    // 1 - PasswordEncoder 등록
+    /**
+     * health check 전용 필터 체인. 보안 필터가 하나도 없으므로 SecurityContext 생성, 헤더 처리 등을 하지 않는다.
+     * (로드밸런서, 쿠버네티스 probe 가 자주 호출)
+     */
+    @Bean
+    @Order(0)
+    public SecurityFilterChain healthFilterChain() {
+        return new DefaultSecurityFilterChain(PublicEndpoints.HEALTH);
+    }
+
+    // 1 - PasswordEncoder 등록 (해시 시간 측정 : password.hash)
     @Bean
     public PasswordEncoder passwordEncoder(){
-        return PasswordEncoderFactories.createDelegatingPasswordEncoder();
+        return new TimedPasswordEncoder(
+                PasswordEncoders.create(passwordAlgorithm, bcryptStrength, pbkdf2Iterations),
+                meterRegistry);
     }
 
     // 2 - AuthenticationManager 등록
@@ -94,9 +157,11 @@ public class SecurityConfig {
     public AuthenticationManager authenticationManager(){
         // DaoAuthenticationProvider 사용
         DaoAuthenticationProvider provider = new DaoAuthenticationProvider();
-        // PasswordEncoder로는 PasswordEncoderFactories.createDelegatingPasswordEncoder() 사용
+        // PasswordEncoder로는 PasswordEncoders.create() (설정 가능한 DelegatingPasswordEncoder) 사용
         provider.setPasswordEncoder(passwordEncoder());
         provider.setUserDetailsService(loginService);
+        // 로그인 성공 시 해시 알고리즘/비용이 현재 설정과 다르면 재암호화해서 저장
+        provider.setUserDetailsPasswordService(loginService);
 
         return new ProviderManager(provider);
     }
@@ -107,29 +172,57 @@ public class SecurityConfig {
         return new LoginSuccessJWTProviderHandler(jwtService, memberRepository);
     }
 
+    @Bean
+    public JwtLogoutHandler jwtLogoutHandler(){
+        return new JwtLogoutHandler(jwtService);
+    }
+
     @Bean
     public LoginFailHandler loginFailHandler(){
-        return new LoginFailHandler();
+        return new LoginFailHandler(loginRateLimiter);
     }
 
     @Bean
     public JsonUsernamePasswordAuthFilter jsonUsernamePasswordAuthFilter(){
         JsonUsernamePasswordAuthFilter jsonUsernamePasswordLoginFilter =
-                new JsonUsernamePasswordAuthFilter(objectMapper);
+                new JsonUsernamePasswordAuthFilter(objectMapper, loginMaxBodySize);
 
         //추가
         jsonUsernamePasswordLoginFilter.setAuthenticationManager(authenticationManager());
         jsonUsernamePasswordLoginFilter.setAuthenticationSuccessHandler(loginSuccessJWTProviderHandler());
         jsonUsernamePasswordLoginFilter.setAuthenticationFailureHandler(loginFailHandler());
+        // 인증(BCrypt)은 LoginExecutor 에서 실행
+        jsonUsernamePasswordLoginFilter.setLoginExecutor(loginExecutor);
+        // IP, 계정별 로그인 시도 제한 (DB 조회, BCrypt 전에 확인)
+        jsonUsernamePasswordLoginFilter.setLoginRateLimiter(loginRateLimiter);
 
         return jsonUsernamePasswordLoginFilter;
     }
 
+    // Filter 타입 Bean은 스프링 부트가 서블릿 필터로도 등록하므로, 시큐리티 필터 체인에서만 실행되도록 등록을 끈다.
+    // (그렇지 않으면 health check, permitAll 경로에서도 필터가 실행됨)
+    @Bean
+    public FilterRegistrationBean<JsonUsernamePasswordAuthFilter> jsonUsernamePasswordAuthFilterRegistration(
+            JsonUsernamePasswordAuthFilter filter) {
+        FilterRegistrationBean<JsonUsernamePasswordAuthFilter> registration = new FilterRegistrationBean<>(filter);
+        registration.setEnabled(false);
+        return registration;
+    }
+
+    @Bean
+    public FilterRegistrationBean<JwtAuthenticationProcessingFilter> jwtAuthenticationProcessingFilterRegistration(
+            JwtAuthenticationProcessingFilter filter) {
+        FilterRegistrationBean<JwtAuthenticationProcessingFilter> registration = new FilterRegistrationBean<>(filter);
+        registration.setEnabled(false);
+        return registration;
+    }
+
     @Bean
     public JwtAuthenticationProcessingFilter jwtAuthenticationProcessingFilter(){
         JwtAuthenticationProcessingFilter jsonUsernamePasswordLoginFilter = new JwtAuthenticationProcessingFilter(
-                jwtService,memberRepository
+                jwtService,memberPrincipalCache,authMetrics,accessTokenDenylist
         );
+        jsonUsernamePasswordLoginFilter.setStateless(statelessAuthentication);
         return jsonUsernamePasswordLoginFilter;
     }
 }
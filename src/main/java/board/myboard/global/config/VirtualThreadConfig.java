@@ -0,0 +1,78 @@
+package board.myboard.global.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+import org.springframework.scheduling.annotation.AsyncAnnotationBeanPostProcessor;
+
+import javax.annotation.PreDestroy;
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * virtual 프로필 : Tomcat 요청 처리와 @Async 작업을 가상 스레드(JDK 21 이상)에서 실행.
+ * (./gradlew bootRun -PvirtualThreads)
+ *
+ * 요청 스레드가 JDBC(MemberRepository 등) 에서 대기하는 동안 캐리어 스레드를 놓아주므로
+ * 동시 요청 수가 Tomcat 스레드 풀 크기(server.tomcat.threads.max)에 묶이지 않는다.
+ * -> 대신 DB 커넥션 풀이 실제 동시성 한도가 된다.
+ *
+ * 로그인의 BCrypt 비교는 CPU 작업이라 가상 스레드로 옮겨도 이득이 없으므로 LoginExecutor(코어 수 크기)에 그대로 둔다.
+ *
+ * 빌드는 Java 11 이므로 Executors.newVirtualThreadPerTaskExecutor 는 리플렉션으로 호출.
+ */
+@Slf4j
+@Profile("virtual")
+@Configuration
+public class VirtualThreadConfig {
+
+    private final ExecutorService executor = newVirtualThreadPerTaskExecutor();
+
+    @Bean
+    public TomcatProtocolHandlerCustomizer<?> virtualThreadProtocolHandlerCustomizer() {
+        log.info("Tomcat 요청을 가상 스레드에서 처리합니다.");
+        return protocolHandler -> protocolHandler.setExecutor(executor);
+    }
+
+    /**
+     * @Async, Spring MVC 비동기 요청에서 사용하는 실행기.
+     * (기본 ThreadPoolTaskExecutor 대신 등록됨)
+     */
+    @Bean(name = {TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME,
+            AsyncAnnotationBeanPostProcessor.DEFAULT_TASK_EXECUTOR_BEAN_NAME})
+    public AsyncTaskExecutor applicationTaskExecutor() {
+        return new TaskExecutorAdapter(executor);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    // JDK 19, 20 에도 메서드는 있지만 preview 기능이라 --enable-preview 없이는 예외 발생
+    public static boolean isSupported() {
+        return Runtime.version().feature() >= 21;
+    }
+
+    /**
+     * @throws IllegalStateException JDK 21 미만인 경우
+     */
+    public static ExecutorService newVirtualThreadPerTaskExecutor() {
+        if (!isSupported()) {
+            throw new IllegalStateException("가상 스레드는 JDK 21 이상에서 사용할 수 있습니다. 현재 : "
+                    + System.getProperty("java.version"));
+        }
+        try {
+            Method factoryMethod = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) factoryMethod.invoke(null);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("가상 스레드 실행기를 만들 수 없습니다.", e);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package board.myboard.global.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+/**
+ * Hikari 커넥션 풀 크기를 CPU 코어 수에 맞춘다. (prod 프로필, datasource.pool.size-by-cores=true)
+ *
+ * 크기 = 코어 수 * 2 + 1 (HikariCP "About Pool Sizing" 의 connections = core_count * 2 + effective_spindle_count)
+ * DB가 동시에 처리할 수 있는 쿼리 수보다 커넥션이 많으면 대기만 길어지므로 요청 스레드 수(200)에 맞추지 않는다.
+ * virtual 프로필에서는 이 값이 실제 동시 요청 한도가 된다. (VirtualThreadConfig)
+ *
+ * 커넥션을 만들고 닫는 비용이 요청 처리 중에 생기지 않도록 minimum-idle도 같은 값으로 둔다. (고정 크기 풀)
+ * spring.datasource.hikari.maximum-pool-size를 직접 설정했으면 건드리지 않는다.
+ */
+@Slf4j
+public class HikariPoolSizer implements BeanPostProcessor {
+
+    private final int poolSize;
+    private final boolean explicitlyConfigured;
+
+    public HikariPoolSizer(int availableProcessors, boolean explicitlyConfigured) {
+        this.poolSize = poolSize(availableProcessors);
+        this.explicitlyConfigured = explicitlyConfigured;
+    }
+
+    public static int poolSize(int availableProcessors) {
+        return availableProcessors * 2 + 1;
+    }
+
+    // 설정 값 바인딩(@ConfigurationProperties)이 끝난 뒤, 풀이 시작(첫 getConnection)되기 전
+    @Override
+    public Object postProcessBeforeInitialization(Object bean, String beanName) {
+        if (!(bean instanceof HikariDataSource) || explicitlyConfigured) {
+            return bean;
+        }
+        HikariDataSource dataSource = (HikariDataSource) bean;
+        dataSource.setMaximumPoolSize(poolSize);
+        dataSource.setMinimumIdle(poolSize);
+        log.info("커넥션 풀 크기 : {} (코어 수 기준)", poolSize);
+        return dataSource;
+    }
+}
@@ -0,0 +1,168 @@
+package board.myboard.global.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.persister.entity.AbstractEntityPersister;
+import org.springframework.beans.factory.ListableBeanFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.core.RepositoryInformation;
+import org.springframework.data.repository.query.parser.Part;
+import org.springframework.data.repository.query.parser.PartTree;
+import org.springframework.data.repository.support.Repositories;
+import org.springframework.stereotype.Component;
+
+import javax.persistence.EntityManagerFactory;
+import javax.sql.DataSource;
+import java.lang.reflect.Method;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 시작 시 Repository 조회 메서드의 조건 컬럼에 인덱스가 있는지 확인. (datasource.index-check.enabled)
+ * 인덱스가 없는 메서드가 있으면 시작을 실패시킨다. -> 마이그레이션(db/migration)에 인덱스를 추가해야 함.
+ *
+ * - 메서드 이름 쿼리 (findByUsername) : 조건(Or 마다)의 첫 번째 속성
+ * - @Query (JPQL) : where / or 바로 뒤의 첫 번째 속성 (where m.username = :username)
+ * 위 컬럼이 PK나 인덱스의 첫 번째 컬럼이어야 한다. (복합 인덱스의 두 번째 컬럼부터는 단독 조회에 쓰이지 않음)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "datasource.index-check.enabled", havingValue = "true")
+public class RepositoryIndexVerifier implements ApplicationRunner {
+
+    // where m.username = ..., or (m.username = ...
+    private static final Pattern JPQL_PREDICATE = Pattern.compile("\\b(?:where|or)\\s+\\(*\\s*\\w+\\.(\\w+)",
+            Pattern.CASE_INSENSITIVE);
+
+    private final ListableBeanFactory beanFactory;
+    private final EntityManagerFactory entityManagerFactory;
+    private final DataSource dataSource;
+
+    public RepositoryIndexVerifier(ListableBeanFactory beanFactory, EntityManagerFactory entityManagerFactory,
+                                   DataSource dataSource) {
+        this.beanFactory = beanFactory;
+        this.entityManagerFactory = entityManagerFactory;
+        this.dataSource = dataSource;
+    }
+
+    /**
+     * @throws IllegalStateException 인덱스가 없는 조회 메서드가 있는 경우
+     */
+    @Override
+    public void run(ApplicationArguments args) throws SQLException {
+        List<String> missing = verify();
+        if (!missing.isEmpty()) {
+            throw new IllegalStateException("인덱스가 없는 Repository 조회 메서드가 있습니다. (db/migration에 인덱스 추가)\n"
+                    + String.join("\n", missing));
+        }
+        log.info("Repository 조회 메서드 인덱스 확인 완료");
+    }
+
+    /**
+     * @return 인덱스가 없는 "Repository.method : table.column" 목록
+     */
+    public List<String> verify() throws SQLException {
+        Repositories repositories = new Repositories(beanFactory);
+        SessionFactoryImplementor sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+        Map<String, Set<String>> indexedColumnsByTable = new HashMap<>();
+        List<String> missing = new ArrayList<>();
+
+        try (Connection connection = dataSource.getConnection()) {
+            DatabaseMetaData metaData = connection.getMetaData();
+            for (Class<?> domainType : repositories) {
+                RepositoryInformation information = repositories.getRequiredRepositoryInformation(domainType);
+                AbstractEntityPersister persister =
+                        (AbstractEntityPersister) sessionFactory.getMetamodel().entityPersister(domainType);
+                String table = persister.getTableName();
+                Set<String> indexedColumns = indexedColumnsByTable.computeIfAbsent(table, name -> indexedColumns(metaData, name));
+
+                for (Method method : information.getQueryMethods()) {
+                    for (String property : leadingProperties(method, domainType)) {
+                        String column = column(persister, property);
+                        if (!indexedColumns.contains(column.toLowerCase(Locale.ROOT))) {
+                            missing.add(information.getRepositoryInterface().getSimpleName() + "." + method.getName()
+                                    + " : " + table + "." + column);
+                        }
+                    }
+                }
+            }
+        }
+        return missing;
+    }
+
+    private static List<String> leadingProperties(Method method, Class<?> domainType) {
+        Query query = AnnotatedElementUtils.findMergedAnnotation(method, Query.class);
+        if (query != null) {
+            return leadingProperties(query.value());
+        }
+        List<String> properties = new ArrayList<>();
+        for (PartTree.OrPart orPart : new PartTree(method.getName(), domainType)) {
+            Iterator<Part> parts = orPart.iterator();
+            if (parts.hasNext()) {
+                properties.add(parts.next().getProperty().toDotPath());
+            }
+        }
+        return properties;
+    }
+
+    static List<String> leadingProperties(String jpql) {
+        List<String> properties = new ArrayList<>();
+        Matcher matcher = JPQL_PREDICATE.matcher(jpql);
+        while (matcher.find()) {
+            properties.add(matcher.group(1));
+        }
+        return properties;
+    }
+
+    // 연관 엔티티의 속성(author.id)은 외래 키 컬럼
+    private static String column(AbstractEntityPersister persister, String propertyPath) {
+        String property = propertyPath.split("\\.")[0];
+        if (property.equals(persister.getIdentifierPropertyName())) {
+            return persister.getIdentifierColumnNames()[0];
+        }
+        return persister.getPropertyColumnNames(property)[0];
+    }
+
+    // PK, 인덱스의 첫 번째 컬럼 (소문자)
+    private static Set<String> indexedColumns(DatabaseMetaData metaData, String table) {
+        Set<String> columns = new HashSet<>();
+        try {
+            String name = metaData.storesUpperCaseIdentifiers() ? table.toUpperCase(Locale.ROOT)
+                    : metaData.storesLowerCaseIdentifiers() ? table.toLowerCase(Locale.ROOT) : table;
+            try (ResultSet primaryKeys = metaData.getPrimaryKeys(null, null, name)) {
+                while (primaryKeys.next()) {
+                    if (primaryKeys.getShort("KEY_SEQ") == 1) {
+                        columns.add(primaryKeys.getString("COLUMN_NAME").toLowerCase(Locale.ROOT));
+                    }
+                }
+            }
+            try (ResultSet indexes = metaData.getIndexInfo(null, null, name, false, true)) {
+                while (indexes.next()) {
+                    String column = indexes.getString("COLUMN_NAME");
+                    if (indexes.getShort("ORDINAL_POSITION") == 1 && column != null) {
+                        columns.add(column.toLowerCase(Locale.ROOT));
+                    }
+                }
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException(table + " 테이블의 인덱스를 조회할 수 없습니다.", e);
+        }
+        return columns;
+    }
+}
@@ -0,0 +1,114 @@
+package board.myboard.global.datasource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Statement의 execute* 실행 시간을 재서 SlowQuerySampler에 넘기는 DataSource.
+ *
+ * DelegatingDataSource를 상속하므로 unwrap(HikariDataSource.class), Hikari 메트릭 등록은 그대로 동작한다.
+ * ResultSet을 읽는 시간은 포함하지 않는다.
+ */
+public class SlowQueryDataSource extends DelegatingDataSource {
+
+    private static final String BATCH = "(batch)";
+
+    private final SlowQuerySampler sampler;
+
+    public SlowQueryDataSource(DataSource targetDataSource, SlowQuerySampler sampler) {
+        super(targetDataSource);
+        this.sampler = sampler;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        Connection connection = super.getConnection();
+        return proxy(Connection.class, new ConnectionHandler(connection));
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        Connection connection = super.getConnection(username, password);
+        return proxy(Connection.class, new ConnectionHandler(connection));
+    }
+
+    private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+        return type.cast(Proxy.newProxyInstance(SlowQueryDataSource.class.getClassLoader(), new Class<?>[]{type}, handler));
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    private class ConnectionHandler implements InvocationHandler {
+
+        private final Connection connection;
+
+        ConnectionHandler(Connection connection) {
+            this.connection = connection;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Object result = SlowQueryDataSource.invoke(connection, method, args);
+            switch (method.getName()) {
+                case "createStatement":
+                    return proxy(Statement.class, new StatementHandler((Statement) result, null));
+                case "prepareStatement":
+                    return proxy(PreparedStatement.class, new StatementHandler((Statement) result, (String) args[0]));
+                case "prepareCall":
+                    return proxy(CallableStatement.class, new StatementHandler((Statement) result, (String) args[0]));
+                default:
+                    return result;
+            }
+        }
+    }
+
+    private class StatementHandler implements InvocationHandler {
+
+        private final Statement statement;
+        private final String preparedSql; // createStatement 이면 null (execute의 인자로 SQL이 옴)
+
+        StatementHandler(Statement statement, String preparedSql) {
+            this.statement = statement;
+            this.preparedSql = preparedSql;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if (!method.getName().startsWith("execute")) {
+                return SlowQueryDataSource.invoke(statement, method, args);
+            }
+            long start = System.nanoTime();
+            try {
+                return SlowQueryDataSource.invoke(statement, method, args);
+            } finally {
+                sampler.record(sql(method, args), System.nanoTime() - start);
+            }
+        }
+
+        private String sql(Method method, Object[] args) {
+            if (args != null && args.length > 0 && args[0] instanceof String) {
+                return (String) args[0];
+            }
+            if (preparedSql != null) {
+                return preparedSql;
+            }
+            return method.getName().equals("executeBatch") ? BATCH : null;
+        }
+    }
+}
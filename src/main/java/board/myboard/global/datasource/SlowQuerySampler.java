@@ -0,0 +1,66 @@
+package board.myboard.global.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 느린 쿼리 표본 로그.
+ *
+ * 실행 시간이 threshold 이상인 쿼리 중 sampleRate 비율만 로그로 남긴다.
+ * (p6spy처럼 모든 쿼리를 로그로 남기면 운영 환경에서는 로그 I/O가 쿼리보다 비싸진다)
+ * 로그에는 SQL만 남기고 파라미터 값은 남기지 않는다.
+ *
+ * 표본에서 빠진 쿼리도 개수는 센다. (slowQueries)
+ */
+@Slf4j
+public class SlowQuerySampler {
+
+    private final long thresholdNanos;
+    private final double sampleRate;
+
+    private final LongAdder slowQueries = new LongAdder();
+    private final LongAdder sampledQueries = new LongAdder();
+
+    /**
+     * @param thresholdMillis 이 시간(ms) 이상 걸린 쿼리만 대상
+     * @param sampleRate      0 ~ 1, 대상 쿼리 중 로그로 남길 비율
+     */
+    public SlowQuerySampler(long thresholdMillis, double sampleRate) {
+        if (thresholdMillis < 0) {
+            throw new IllegalArgumentException("threshold는 0 이상이어야 합니다. : " + thresholdMillis);
+        }
+        if (sampleRate < 0 || sampleRate > 1) {
+            throw new IllegalArgumentException("sample-rate는 0 ~ 1 사이여야 합니다. : " + sampleRate);
+        }
+        this.thresholdNanos = TimeUnit.MILLISECONDS.toNanos(thresholdMillis);
+        this.sampleRate = sampleRate;
+    }
+
+    /**
+     * @return 로그로 남겼으면 true
+     */
+    public boolean record(String sql, long elapsedNanos) {
+        if (elapsedNanos < thresholdNanos) {
+            return false;
+        }
+        slowQueries.increment();
+        if (sampleRate < 1 && ThreadLocalRandom.current().nextDouble() >= sampleRate) {
+            return false;
+        }
+        sampledQueries.increment();
+        log.warn("느린 쿼리 {}ms (누적 {}건) : {}",
+                TimeUnit.NANOSECONDS.toMillis(elapsedNanos), slowQueries.sum(), sql);
+        return true;
+    }
+
+    public long getSlowQueries() {
+        return slowQueries.sum();
+    }
+
+    public long getSampledQueries() {
+        return sampledQueries.sum();
+    }
+}
@@ -0,0 +1,51 @@
+package board.myboard.global.jwt.key;
+
+import board.myboard.jwt.verifier.Jwks;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+import java.security.PublicKey;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 검증용 공개키 목록 (JWK Set)
+ *
+ * 다른 서비스는 jwt-verifier 모듈(JwksKeyCache)로 이 응답을 캐시하고 로컬에서 토큰을 검증한다.
+ * ETag는 kid 목록으로 만들므로 키가 바뀌지 않았으면 304 Not Modified.
+ * hmac 모드에서는 공개할 키가 없으므로 404.
+ */
+@RestController
+@RequiredArgsConstructor
+public class JwksController {
+
+    private static final long MAX_AGE_SECONDS = 300;
+
+    private final ObjectProvider<JwtKeyRing> jwtKeyRingProvider;
+
+    @GetMapping("/.well-known/jwks.json")
+    public ResponseEntity<Map<String, Object>> jwks(WebRequest webRequest) {
+        JwtKeyRing jwtKeyRing = jwtKeyRingProvider.getIfAvailable();
+        if (jwtKeyRing == null) {
+            return ResponseEntity.notFound().build();
+        }
+
+        // kid 순서가 바뀌어도 같은 ETag가 나오도록 정렬
+        TreeMap<String, PublicKey> publicKeys = new TreeMap<>(jwtKeyRing.getPublicKeys());
+        String etag = "\"" + Integer.toHexString(String.join(",", publicKeys.keySet()).hashCode()) + "\"";
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(CacheControl.maxAge(MAX_AGE_SECONDS, TimeUnit.SECONDS).cachePublic())
+                .body(Jwks.toJwkSet(publicKeys));
+    }
+}
@@ -0,0 +1,361 @@
+package board.myboard.global.jwt.key;
+
+import com.auth0.jwt.algorithms.Algorithm;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 비대칭 서명 키 (jwt.signing.mode = es256 | rs256)
+ *
+ * 키 저장소 디렉토리(jwt.signing.keystore)의 파일
+ *   <kid>.pub : 공개키 (X.509, PEM)
+ *   <kid>.key : 개인키 (PKCS#8, PEM) - 서명하는 노드에만 필요. 소유자만 읽을 수 있게(rw-------) 만든다.
+ *
+ * - kid는 생성 시각 (yyyyMMddHHmmssSSS, UTC). 키 순서는 kid의 시각으로 정한다.
+ *   (파일 수정 시각은 복사, 백업 복원 시 바뀌므로 kid 형식이 아닌 키에만 사용)
+ * - 개인키가 있는 가장 최근 키가 active (토큰 서명, kid 헤더)
+ * - active 이전 키 jwt.signing.previous-keys 개까지는 검증에 계속 사용 (이전에 발급된 토큰 유지)
+ * - 주기적으로(jwt.signing.reload-interval) 디렉토리를 다시 읽으므로 키 파일만 추가하면 재시작 없이 교체된다.
+ * - jwt.signing.rotation-interval > 0 이면 active 키가 그보다 오래됐을 때 새 키를 만들어 교체.
+ *   교체 후 검증에도 쓰지 않는 오래된 키 파일은 삭제한다.
+ *   rotation-interval * previous-keys 가 AccessToken 유효 시간보다 짧으면 유효한 토큰이 검증에 실패하므로 시작 시 거부.
+ *
+ * 요청 경로에서는 kid -> 공개키 조회(ConcurrentHashMap.get), active 키(volatile) 읽기만 하므로 lock이 없다.
+ */
+@Slf4j
+@Component
+@ConditionalOnExpression("!'${jwt.signing.mode:hmac}'.equalsIgnoreCase('hmac')")
+public class JwtKeyRing {
+
+    private static final String PUBLIC_KEY_SUFFIX = ".pub";
+    private static final String PRIVATE_KEY_SUFFIX = ".key";
+    private static final DateTimeFormatter KID_FORMAT =
+            DateTimeFormatter.ofPattern("yyyyMMddHHmmssSSS").withZone(ZoneOffset.UTC);
+    // 생성 시각 + 같은 시각에 만든 키 구분용 번호
+    private static final Pattern KID_PATTERN = Pattern.compile("(\\d{17})(?:-(\\d+))?");
+
+    private final JwtKeyType keyType;
+    private final Path keystore;
+    private final int previousKeys;
+    private final boolean generateIfMissing;
+    private final long rotationIntervalMillis;
+
+    private final Map<String, PublicKey> publicKeys = new ConcurrentHashMap<>();
+    private volatile SigningKey activeKey;
+    private volatile Instant activeKeyCreatedAt;
+
+    private final Algorithm algorithm;
+
+    public JwtKeyRing(@Value("${jwt.signing.mode}") String mode,
+                      @Value("${jwt.signing.keystore:keys}") String keystore,
+                      @Value("${jwt.signing.previous-keys:2}") int previousKeys,
+                      @Value("${jwt.signing.generate-if-missing:true}") boolean generateIfMissing,
+                      @Value("${jwt.signing.rotation-interval:0}") long rotationIntervalMillis,
+                      @Value("${jwt.access.expiration}") long accessTokenValidityInSeconds) {
+        // 교체된 키는 previous-keys 번 더 교체될 때까지 검증에 사용된다.
+        if (rotationIntervalMillis > 0 && rotationIntervalMillis * previousKeys < accessTokenValidityInSeconds * 1000) {
+            throw new IllegalStateException("jwt.signing.rotation-interval * previous-keys (" + rotationIntervalMillis * previousKeys
+                    + "ms) 가 AccessToken 유효 시간 (" + accessTokenValidityInSeconds * 1000 + "ms) 보다 짧습니다.");
+        }
+        this.keyType = JwtKeyType.from(mode);
+        this.keystore = Paths.get(keystore);
+        this.previousKeys = previousKeys;
+        this.generateIfMissing = generateIfMissing;
+        this.rotationIntervalMillis = rotationIntervalMillis;
+
+        reload();
+        if (activeKey == null) {
+            if (!generateIfMissing) {
+                throw new IllegalStateException("서명에 사용할 개인키가 없습니다. " + this.keystore.toAbsolutePath());
+            }
+            rotate();
+        }
+        this.algorithm = keyType.algorithm(this);
+    }
+
+    /**
+     * 검증용 : kid로 공개키를 찾는 Algorithm
+     */
+    public Algorithm getAlgorithm() {
+        return algorithm;
+    }
+
+    /**
+     * 서명용 : active 키에 고정된 Algorithm. 토큰 하나를 서명하는 동안 같은 값을 사용해야 한다.
+     * (서명 중에 키가 교체되어도 kid 헤더와 서명 키가 달라지지 않음)
+     */
+    public Algorithm getSigningAlgorithm() {
+        return activeKey.getAlgorithm();
+    }
+
+    public JwtKeyType getKeyType() {
+        return keyType;
+    }
+
+    public SigningKey getActiveKey() {
+        return activeKey;
+    }
+
+    /**
+     * 없는 kid면 null (-> 검증 실패)
+     */
+    public PublicKey findPublicKey(String kid) {
+        return kid == null ? null : publicKeys.get(kid);
+    }
+
+    /**
+     * 검증에 사용 중인 공개키 (kid -> 공개키)
+     */
+    public Map<String, PublicKey> getPublicKeys() {
+        return Collections.unmodifiableMap(publicKeys);
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.signing.reload-interval:60000}",
+            initialDelayString = "${jwt.signing.reload-interval:60000}")
+    public void refresh() {
+        try {
+            reload();
+            if (rotationIntervalMillis > 0 && generateIfMissing
+                    && activeKeyCreatedAt.plusMillis(rotationIntervalMillis).isBefore(Instant.now())) {
+                rotate();
+            }
+        } catch (RuntimeException e) {
+            // 읽기에 실패하면 기존 키를 그대로 사용
+            log.error("JWT 서명 키를 다시 읽지 못했습니다. {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 새 키를 만들어 저장소에 쓰고 active로 교체.
+     */
+    public synchronized void rotate() {
+        String kid = KID_FORMAT.format(Instant.now());
+        for (int i = 1; Files.exists(keystore.resolve(kid + PUBLIC_KEY_SUFFIX)); i++) {
+            kid = KID_FORMAT.format(Instant.now()) + "-" + i;
+        }
+        try {
+            KeyPair keyPair = keyType.keyPairGenerator().generateKeyPair();
+            Files.createDirectories(keystore);
+            // 공개키를 먼저 써야 다른 노드가 새 kid로 서명된 토큰을 검증할 수 있다.
+            write(keystore.resolve(kid + PUBLIC_KEY_SUFFIX), "PUBLIC KEY", keyPair.getPublic().getEncoded(), false);
+            write(keystore.resolve(kid + PRIVATE_KEY_SUFFIX), "PRIVATE KEY", keyPair.getPrivate().getEncoded(), true);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+        reload();
+        log.info("JWT 서명 키를 교체합니다. kid: {}", kid);
+        deleteExpiredKeys();
+    }
+
+    /**
+     * 검증에도 사용하지 않는(previous-keys 보다 오래된) 키 파일 삭제.
+     * 삭제에 실패해도 이미 검증에서 빠진 키이므로 다음 교체 때 다시 시도한다.
+     */
+    private void deleteExpiredKeys() {
+        for (KeyFile keyFile : list()) {
+            if (publicKeys.containsKey(keyFile.kid) || keyFile.kid.equals(activeKey.getKid())) {
+                continue;
+            }
+            try {
+                if (keyFile.privateKey != null) {
+                    Files.deleteIfExists(keyFile.privateKey);
+                }
+                Files.deleteIfExists(keyFile.publicKey);
+                log.info("오래된 JWT 서명 키를 삭제했습니다. kid: {}", keyFile.kid);
+            } catch (IOException e) {
+                log.warn("오래된 JWT 서명 키를 삭제하지 못했습니다. kid: {}, {}", keyFile.kid, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 저장소를 다시 읽어 active 키와 검증용 공개키를 교체.
+     */
+    public synchronized void reload() {
+        List<KeyFile> keyFiles = list();
+
+        // active보다 새 키(개인키 없음)는 다른 노드가 이미 서명에 쓰고 있을 수 있으므로 함께 읽는다.
+        // 개인키가 하나도 없으면(검증 전용) 최근 키부터 previous-keys + 1 개.
+        int activeIndex = -1;
+        for (int i = 0; i < keyFiles.size() && activeIndex < 0; i++) {
+            if (keyFiles.get(i).privateKey != null) {
+                activeIndex = i;
+            }
+        }
+        int limit = Math.min(keyFiles.size(), Math.max(activeIndex, 0) + previousKeys + 1);
+
+        Map<String, PublicKey> loaded = new LinkedHashMap<>();
+        for (int i = 0; i < limit; i++) {
+            KeyFile keyFile = keyFiles.get(i);
+            loaded.put(keyFile.kid, readPublicKey(keyFile.publicKey));
+        }
+
+        SigningKey loadedActiveKey = null;
+        if (activeIndex >= 0) {
+            KeyFile active = keyFiles.get(activeIndex);
+            loadedActiveKey = new SigningKey(active.kid, readPrivateKey(active.privateKey), keyType);
+            activeKeyCreatedAt = active.createdAt;
+        }
+
+        // 새 공개키를 먼저 넣고 active를 바꾼다. (새 kid로 서명된 토큰이 바로 검증되도록)
+        publicKeys.putAll(loaded);
+        if (loadedActiveKey != null) {
+            activeKey = loadedActiveKey;
+        }
+        publicKeys.keySet().retainAll(loaded.keySet());
+    }
+
+    // 최근 키부터 (.pub 파일이 있는 kid만)
+    private List<KeyFile> list() {
+        if (!Files.isDirectory(keystore)) {
+            return List.of();
+        }
+        Map<String, KeyFile> keyFiles = new HashMap<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(keystore)) {
+            for (Path file : files) {
+                String fileName = file.getFileName().toString();
+                if (fileName.endsWith(PUBLIC_KEY_SUFFIX)) {
+                    String kid = fileName.substring(0, fileName.length() - PUBLIC_KEY_SUFFIX.length());
+                    KeyFile keyFile = keyFiles.computeIfAbsent(kid, KeyFile::new);
+                    keyFile.publicKey = file;
+                    if (keyFile.createdAt == null) {
+                        keyFile.createdAt = Files.getLastModifiedTime(file).toInstant();
+                    }
+                } else if (fileName.endsWith(PRIVATE_KEY_SUFFIX)) {
+                    String kid = fileName.substring(0, fileName.length() - PRIVATE_KEY_SUFFIX.length());
+                    keyFiles.computeIfAbsent(kid, KeyFile::new).privateKey = file;
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        List<KeyFile> sorted = new ArrayList<>();
+        for (KeyFile keyFile : keyFiles.values()) {
+            if (keyFile.publicKey != null) {
+                sorted.add(keyFile);
+            }
+        }
+        sorted.sort(Comparator.comparing((KeyFile keyFile) -> keyFile.createdAt)
+                .thenComparingInt(keyFile -> keyFile.sequence)
+                .thenComparing(keyFile -> keyFile.kid)
+                .reversed());
+        return sorted;
+    }
+
+    private PublicKey readPublicKey(Path file) {
+        try {
+            PublicKey publicKey = KeyFactory.getInstance(keyType.getKeyAlgorithm())
+                    .generatePublic(new X509EncodedKeySpec(readPem(file)));
+            if (!keyType.supports(publicKey)) {
+                throw new IllegalStateException("jwt.signing.mode와 맞지 않는 키입니다. " + file);
+            }
+            return publicKey;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("공개키를 읽을 수 없습니다. " + file, e);
+        }
+    }
+
+    private PrivateKey readPrivateKey(Path file) {
+        try {
+            PrivateKey privateKey = KeyFactory.getInstance(keyType.getKeyAlgorithm())
+                    .generatePrivate(new PKCS8EncodedKeySpec(readPem(file)));
+            if (!keyType.supports(privateKey)) {
+                throw new IllegalStateException("jwt.signing.mode와 맞지 않는 키입니다. " + file);
+            }
+            return privateKey;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("개인키를 읽을 수 없습니다. " + file, e);
+        }
+    }
+
+    // -----BEGIN ...----- / -----END ...----- 사이의 Base64
+    private static byte[] readPem(Path file) {
+        try {
+            StringBuilder base64 = new StringBuilder();
+            for (String line : Files.readAllLines(file, StandardCharsets.US_ASCII)) {
+                if (!line.startsWith("-----")) {
+                    base64.append(line.trim());
+                }
+            }
+            return Base64.getDecoder().decode(base64.toString());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // 임시 파일에 쓰고 이동 (다른 노드가 반쯤 쓴 파일을 읽지 않도록)
+    // 개인키는 내용을 쓰기 전에 소유자만 읽을 수 있는 파일로 만든다. (POSIX 파일 시스템)
+    private static void write(Path file, String type, byte[] encoded, boolean ownerOnly) throws IOException {
+        String pem = "-----BEGIN " + type + "-----\n"
+                + Base64.getMimeEncoder(64, new byte[]{'\n'}).encodeToString(encoded)
+                + "\n-----END " + type + "-----\n";
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        Files.deleteIfExists(temp);
+        if (ownerOnly && FileSystems.getDefault().supportedFileAttributeViews().contains("posix")) {
+            Files.createFile(temp, PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString("rw-------")));
+        }
+        Files.write(temp, pem.getBytes(StandardCharsets.US_ASCII));
+        Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    private static class KeyFile {
+        private final String kid;
+        private Path publicKey;
+        private Path privateKey;
+        // kid 형식이면 kid의 시각, 아니면 .pub 파일 수정 시각
+        private Instant createdAt;
+        private int sequence;
+
+        private KeyFile(String kid) {
+            this.kid = kid;
+            Matcher matcher = KID_PATTERN.matcher(kid);
+            if (matcher.matches()) {
+                try {
+                    this.createdAt = Instant.from(KID_FORMAT.parse(matcher.group(1)));
+                    this.sequence = matcher.group(2) == null ? 0 : Integer.parseInt(matcher.group(2));
+                } catch (DateTimeParseException | NumberFormatException e) {
+                    this.createdAt = null;
+                }
+            }
+        }
+    }
+}
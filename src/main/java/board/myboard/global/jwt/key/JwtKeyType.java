@@ -0,0 +1,164 @@
+package board.myboard.global.jwt.key;
+
+import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.interfaces.ECDSAKeyProvider;
+import com.auth0.jwt.interfaces.RSAKeyProvider;
+
+import java.security.InvalidAlgorithmParameterException;
+import java.security.KeyPairGenerator;
+import java.security.NoSuchAlgorithmException;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.interfaces.ECPrivateKey;
+import java.security.interfaces.ECPublicKey;
+import java.security.interfaces.RSAPrivateKey;
+import java.security.interfaces.RSAPublicKey;
+import java.security.spec.ECGenParameterSpec;
+
+/**
+ * 비대칭 서명 방식 (jwt.signing.mode)
+ */
+public enum JwtKeyType {
+
+    ES256("EC") {
+        @Override
+        Algorithm algorithm(JwtKeyRing keyRing) {
+            return Algorithm.ECDSA256(new ECDSAKeyProvider() {
+                @Override
+                public ECPublicKey getPublicKeyById(String keyId) {
+                    return (ECPublicKey) keyRing.findPublicKey(keyId);
+                }
+
+                @Override
+                public ECPrivateKey getPrivateKey() {
+                    return null;
+                }
+
+                @Override
+                public String getPrivateKeyId() {
+                    return null;
+                }
+            });
+        }
+
+        @Override
+        Algorithm signingAlgorithm(String kid, PrivateKey privateKey) {
+            return Algorithm.ECDSA256(new ECDSAKeyProvider() {
+                @Override
+                public ECPublicKey getPublicKeyById(String keyId) {
+                    return null;
+                }
+
+                @Override
+                public ECPrivateKey getPrivateKey() {
+                    return (ECPrivateKey) privateKey;
+                }
+
+                @Override
+                public String getPrivateKeyId() {
+                    return kid;
+                }
+            });
+        }
+
+        @Override
+        KeyPairGenerator keyPairGenerator() throws NoSuchAlgorithmException, InvalidAlgorithmParameterException {
+            KeyPairGenerator generator = KeyPairGenerator.getInstance(getKeyAlgorithm());
+            generator.initialize(new ECGenParameterSpec("secp256r1"));
+            return generator;
+        }
+    },
+
+    RS256("RSA") {
+        @Override
+        Algorithm algorithm(JwtKeyRing keyRing) {
+            return Algorithm.RSA256(new RSAKeyProvider() {
+                @Override
+                public RSAPublicKey getPublicKeyById(String keyId) {
+                    return (RSAPublicKey) keyRing.findPublicKey(keyId);
+                }
+
+                @Override
+                public RSAPrivateKey getPrivateKey() {
+                    return null;
+                }
+
+                @Override
+                public String getPrivateKeyId() {
+                    return null;
+                }
+            });
+        }
+
+        @Override
+        Algorithm signingAlgorithm(String kid, PrivateKey privateKey) {
+            return Algorithm.RSA256(new RSAKeyProvider() {
+                @Override
+                public RSAPublicKey getPublicKeyById(String keyId) {
+                    return null;
+                }
+
+                @Override
+                public RSAPrivateKey getPrivateKey() {
+                    return (RSAPrivateKey) privateKey;
+                }
+
+                @Override
+                public String getPrivateKeyId() {
+                    return kid;
+                }
+            });
+        }
+
+        @Override
+        KeyPairGenerator keyPairGenerator() throws NoSuchAlgorithmException {
+            KeyPairGenerator generator = KeyPairGenerator.getInstance(getKeyAlgorithm());
+            generator.initialize(2048);
+            return generator;
+        }
+    };
+
+    private final String keyAlgorithm;
+
+    JwtKeyType(String keyAlgorithm) {
+        this.keyAlgorithm = keyAlgorithm;
+    }
+
+    /**
+     * KeyFactory / KeyPairGenerator 알고리즘 이름 (EC, RSA)
+     */
+    public String getKeyAlgorithm() {
+        return keyAlgorithm;
+    }
+
+    /**
+     * 검증용 : kid로 공개키를 찾는 Algorithm. 키가 바뀌어도 Algorithm, JWTVerifier는 다시 만들지 않는다.
+     * (서명에는 사용할 수 없음)
+     */
+    abstract Algorithm algorithm(JwtKeyRing keyRing);
+
+    /**
+     * 서명용 : 한 키(kid + 개인키)에 고정된 Algorithm.
+     * java-jwt는 kid(헤더)와 개인키(서명)를 따로 읽으므로, 그 사이에 키가 교체되어도 같은 키를 쓰도록 키마다 만든다.
+     */
+    abstract Algorithm signingAlgorithm(String kid, PrivateKey privateKey);
+
+    abstract KeyPairGenerator keyPairGenerator() throws NoSuchAlgorithmException, InvalidAlgorithmParameterException;
+
+    static JwtKeyType from(String mode) {
+        for (JwtKeyType type : values()) {
+            if (type.name().equalsIgnoreCase(mode)) {
+                return type;
+            }
+        }
+        throw new IllegalArgumentException("지원하지 않는 jwt.signing.mode 입니다. " + mode);
+    }
+
+    boolean supports(PublicKey publicKey) {
+        return keyAlgorithm.equals(publicKey.getAlgorithm());
+    }
+
+    boolean supports(PrivateKey privateKey) {
+        return keyAlgorithm.equals(privateKey.getAlgorithm());
+    }
+}
@@ -0,0 +1,25 @@
+package board.myboard.global.jwt.key;
+
+import com.auth0.jwt.algorithms.Algorithm;
+import lombok.Getter;
+
+import java.security.PrivateKey;
+
+/**
+ * 현재 토큰 서명에 쓰는 키 (kid 헤더 + 개인키)
+ *
+ * algorithm : 이 키로만 서명하는 Algorithm. 토큰마다 SigningKey 하나를 읽어 쓰면 kid와 서명 키가 항상 같다.
+ */
+@Getter
+public class SigningKey {
+
+    private final String kid;
+    private final PrivateKey privateKey;
+    private final Algorithm algorithm;
+
+    public SigningKey(String kid, PrivateKey privateKey, JwtKeyType keyType) {
+        this.kid = kid;
+        this.privateKey = privateKey;
+        this.algorithm = keyType.signingAlgorithm(kid, privateKey);
+    }
+}
@@ -0,0 +1,109 @@
+package board.myboard.global.jwt.revoke;
+
+import board.myboard.auth.revoke.AccessTokenDenylist;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Date;
+
+/**
+ * AccessToken 폐기 + 다른 노드(메인 애플리케이션 여러 대, 게이트웨이)에 전달. (access_token_revocation 테이블)
+ *
+ * - 폐기 : 이 노드의 AccessTokenDenylist에 바로 반영하고 테이블에 기록
+ * - 전달 : jwt.revocation.sync-interval 마다 마지막으로 읽은 id 이후의 행을 읽어 반영 (시작 시에는 만료되지 않은 행 전체)
+ *   id 순서와 커밋 순서가 다를 수 있으므로 마지막 SYNC_OVERLAP 건은 다시 읽는다. (반영은 멱등)
+ * - 정리 : jwt.revocation.purge-interval 마다 끝난 세대(AccessTokenDenylist.purge)와 만료된 행 삭제
+ *
+ * 다른 노드에는 sync-interval 만큼 늦게 반영된다.
+ * 게이트웨이는 같은 테이블을 R2DBC로 읽고 쓴다. (jwt-gateway AccessTokenRevocations)
+ */
+@Slf4j
+@Component
+public class AccessTokenRevocations {
+
+    private static final int SYNC_OVERLAP = 100;
+
+    private static final String INSERT_SQL = "insert into access_token_revocation "
+            + "(jti, username, revoked_before, expires_at) values (?, ?, ?, ?)";
+    private static final String SELECT_SQL = "select id, jti, username, revoked_before, expires_at "
+            + "from access_token_revocation where id > ? and expires_at > ? order by id";
+    private static final String DELETE_EXPIRED_SQL = "delete from access_token_revocation where expires_at <= ?";
+
+    private final AccessTokenDenylist accessTokenDenylist;
+    private final JdbcTemplate jdbcTemplate;
+    private final long accessTokenValidityMillis;
+
+    // 마지막으로 반영한 행 id (sync는 스케줄러 스레드에서만 실행)
+    private long lastId;
+
+    public AccessTokenRevocations(AccessTokenDenylist accessTokenDenylist, JdbcTemplate jdbcTemplate,
+                                  @Value("${jwt.access.expiration}") long accessTokenValidityInSeconds) {
+        this.accessTokenDenylist = accessTokenDenylist;
+        this.jdbcTemplate = jdbcTemplate;
+        this.accessTokenValidityMillis = accessTokenValidityInSeconds * 1000;
+    }
+
+    /**
+     * jti가 없거나(이전에 발급된 토큰) 이미 만료된 토큰은 기록하지 않는다.
+     * 커밋 후(afterCommit) 호출되어도 기록이 남도록 새 트랜잭션에서 실행한다.
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void revoke(DecodedJWT accessToken) {
+        Date expiresAt = accessToken.getExpiresAt();
+        if (!accessTokenDenylist.isEnabled() || accessToken.getId() == null || expiresAt == null
+                || expiresAt.getTime() <= System.currentTimeMillis()) {
+            return;
+        }
+        accessTokenDenylist.revoke(accessToken.getId(), expiresAt.getTime());
+        jdbcTemplate.update(INSERT_SQL, accessToken.getId(), null, null, expiresAt.getTime());
+    }
+
+    /**
+     * 회원의 지금까지 발급된 AccessToken 전체 폐기 (AccessTokenDenylist.revokeAll)
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void revokeAll(String username) {
+        if (!accessTokenDenylist.isEnabled() || username == null) {
+            return;
+        }
+        long revokedBefore = System.currentTimeMillis() / 1000;
+        accessTokenDenylist.revokeAll(username, revokedBefore);
+        // 이 시각 이하에 발급된 토큰이 모두 만료되는 시각
+        jdbcTemplate.update(INSERT_SQL, null, username, revokedBefore, (revokedBefore + 1) * 1000 + accessTokenValidityMillis);
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.revocation.sync-interval:1000}")
+    public void sync() {
+        if (!accessTokenDenylist.isEnabled()) {
+            return;
+        }
+        jdbcTemplate.query(SELECT_SQL, this::apply, Math.max(0, lastId - SYNC_OVERLAP), System.currentTimeMillis());
+    }
+
+    private void apply(ResultSet rs) throws SQLException {
+        lastId = Math.max(lastId, rs.getLong("id"));
+        String jti = rs.getString("jti");
+        if (jti != null) {
+            accessTokenDenylist.revoke(jti, rs.getLong("expires_at"));
+        } else {
+            accessTokenDenylist.revokeAll(rs.getString("username"), rs.getLong("revoked_before"));
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.revocation.purge-interval:60000}")
+    public void purge() {
+        accessTokenDenylist.purge();
+        int deleted = jdbcTemplate.update(DELETE_EXPIRED_SQL, System.currentTimeMillis());
+        if (deleted > 0) {
+            log.debug("만료된 AccessToken 폐기 기록 {}건을 정리합니다.", deleted);
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package board.myboard.global.jwt.revoke;
+
+import board.myboard.domain.member.Member;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.persistence.PostRemove;
+import javax.persistence.PostUpdate;
+
+/**
+ * Member의 비밀번호/권한이 변경되거나 회원이 삭제되면 트랜잭션 커밋 후 그 회원의 AccessToken을 모두 폐기.
+ * (stateless 인증은 토큰의 role 클레임을 그대로 쓰므로, 폐기하지 않으면 만료 전까지 이전 권한으로 접근 가능)
+ *
+ * 롤백되면 폐기하지 않는다. (트랜잭션 밖이면 바로 폐기)
+ * 게이트웨이 등 다른 노드에도 전달된다. (AccessTokenRevocations)
+ * EntityManagerFactory 생성 시점의 순환 참조를 피하기 위해 ObjectProvider로 늦게 가져온다.
+ */
+public class AccessTokenRevokeListener {
+
+    private final ObjectProvider<AccessTokenRevocations> accessTokenRevocations;
+
+    public AccessTokenRevokeListener(ObjectProvider<AccessTokenRevocations> accessTokenRevocations) {
+        this.accessTokenRevocations = accessTokenRevocations;
+    }
+
+    @PostUpdate
+    public void credentialsChanged(Member member) {
+        if (member.isCredentialsChanged()) {
+            revokeAfterCommit(member.getUsername());
+        }
+    }
+
+    @PostRemove
+    public void removed(Member member) {
+        revokeAfterCommit(member.getUsername());
+    }
+
+    private void revokeAfterCommit(String username) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            revokeAll(username);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                revokeAll(username);
+            }
+        });
+    }
+
+    private void revokeAll(String username) {
+        accessTokenRevocations.ifAvailable(revocations -> revocations.revokeAll(username));
+    }
+}
@@ -1,5 +1,9 @@
 package board.myboard.global.jwt.service;
 
+import board.myboard.domain.member.Member;
+import board.myboard.domain.member.Role;
+import com.auth0.jwt.interfaces.DecodedJWT;
+
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import java.util.Optional;
@@ -9,12 +13,26 @@ public interface JwtService {
 
 
     String createAccessToken(String username);
+
+    // memberId, role 클레임을 함께 담은 AccessToken (stateless 인증용)
+    String createAccessToken(Member member);
     String createRefreshToken();
 
     void updateRefreshToken(String username, String refreshToken);
 
     void destroyRefreshToken(String username);
 
+    // 로그아웃 : 이 RefreshToken과 같은 로그인에서 이어진 토큰(계열)만 삭제 (다른 기기의 로그인은 유지)
+    void destroyRefreshTokenFamily(String refreshToken);
+
+    // 만료 전 AccessToken 폐기 (jti 기준, 로그아웃). 유효하지 않은 토큰이면 false
+    boolean revokeAccessToken(String accessToken);
+
+    // RefreshToken rotation : 새 AccessToken + 새 RefreshToken 발급, 기존 토큰은 사용됨으로 표시.
+    // 이미 사용된 토큰이면 토큰 계열 전체를 폐기하고 empty
+    // 저장소 오류 등으로 재발급에 실패하면 예외 (같은 토큰으로 기다리던 요청도 같은 예외)
+    Optional<ReissuedTokens> reissue(String refreshToken);
+
 
     void sendAccessAndRefreshToken(HttpServletResponse response, String accessToken, String refreshToken);
     void sendAccessToken(HttpServletResponse response, String accessToken);
@@ -26,6 +44,15 @@ public interface JwtService {
 
     Optional<String> extractUsername(String accessToken);
 
+    // 이미 검증된 토큰에서 username 추출 (재검증 X)
+    Optional<String> extractUsername(DecodedJWT decodedToken);
+
+    // 토큰에 role 클레임이 없으면 Optional.empty()
+    Optional<Role> extractRole(DecodedJWT decodedToken);
+
+    // 서명, 만료를 한 번만 검증하고 디코딩된 결과를 반환. 유효하지 않으면 Optional.empty()
+    Optional<DecodedJWT> verify(String token);
+
 
 
     void setAccessTokenHeader(HttpServletResponse response, String accessToken);
@@ -1,23 +1,46 @@
 package board.myboard.global.jwt.service;
 
+import board.myboard.auth.token.JwtTokenIssuer;
+import board.myboard.domain.member.Member;
+import board.myboard.domain.member.Role;
 import board.myboard.domain.member.repository.MemberRepository;
+import board.myboard.global.jwt.key.JwtKeyRing;
+import board.myboard.global.jwt.revoke.AccessTokenRevocations;
+import board.myboard.global.jwt.store.RefreshTokenStore;
+import board.myboard.global.jwt.store.StoredRefreshToken;
+import board.myboard.global.login.cache.MemberPrincipalCache;
+import board.myboard.global.metrics.AuthMetrics;
+import board.myboard.jwt.verifier.JwtClaims;
 import com.auth0.jwt.JWT;
+import com.auth0.jwt.JWTVerifier;
 import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.exceptions.SignatureVerificationException;
+import com.auth0.jwt.exceptions.TokenExpiredException;
+import com.auth0.jwt.interfaces.DecodedJWT;
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+
+import javax.annotation.PostConstruct;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
-import java.util.Date;
+import java.time.Instant;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 
 @Transactional
 @Service
@@ -29,6 +52,10 @@ public class JwtServicelmpl implements JwtService {
     @Value("${jwt.secret}")
     private String secret;
 
+    // hmac : jwt.secret (HMAC512) | es256, rs256 : JwtKeyRing (kid 헤더, 키 교체 가능)
+    @Value("${jwt.signing.mode:hmac}")
+    private String signingMode;
+
     @Value("${jwt.access.expiration}")
     private long accessTokenValidityInSeconds;
 
@@ -41,54 +68,176 @@ public class JwtServicelmpl implements JwtService {
     @Value("${jwt.refresh.header}")
     private String refreshHeader;
 
+    // 재발급 결과를 같은 RefreshToken 요청에 재사용하는 시간 (ms)
+    @Value("${jwt.refresh.reuse-grace:2000}")
+    private long reuseGraceMillis;
 
-    private static final String ACCESS_TOKEN_SUBJECT = "AccessToken";
-    private static final String REFRESH_TOKEN_SUBJECT = "RefreshToken";
-    private static final String USERNAME_CLAIM = "username";
-    private static final String BEARER = "Bearer ";
+
+    // 다른 서비스의 검증(jwt-verifier 모듈)과 같은 이름을 사용
+    private static final String ACCESS_TOKEN_SUBJECT = JwtClaims.ACCESS_TOKEN_SUBJECT;
+    private static final String REFRESH_TOKEN_SUBJECT = JwtClaims.REFRESH_TOKEN_SUBJECT;
+    private static final String USERNAME_CLAIM = JwtClaims.USERNAME;
+    private static final String ROLE_CLAIM = JwtClaims.ROLE;
+    private static final String BEARER = JwtClaims.BEARER;
+    private static final String HMAC = "hmac";
 
 
     private final MemberRepository memberRepository;
+    private final RefreshTokenStore refreshTokenStore;
+    private final MemberPrincipalCache memberPrincipalCache;
+    private final AuthMetrics authMetrics;
+    private final ObjectProvider<JwtKeyRing> jwtKeyRingProvider;
+    private final AccessTokenRevocations accessTokenRevocations;
+
+    // 재발급 single-flight : RefreshToken -> 재발급 결과.
+    // 같은 토큰으로 동시에 온 요청은 먼저 온 요청의 결과를 기다려서 함께 사용한다. (조회, 서명 1번)
+    // 완료 후에도 reuse-grace 동안 남겨두어, 조금 늦게 도착한 병렬 요청이 재사용으로 판단되지 않도록 한다.
+    private final ConcurrentHashMap<String, CompletableFuture<Optional<ReissuedTokens>>> reissuing = new ConcurrentHashMap<>();
 
+    // Algorithm, JWTVerifier는 불변(thread-safe) 객체이므로 시작 시 한 번만 만들어 재사용한다.
+    // (요청마다 HMAC 키와 verifier를 다시 만들지 않도록 함.)
+    private Algorithm algorithm;
+    private JWTVerifier verifier;
+    // 비대칭 모드 (HMAC 이면 null)
+    private JwtKeyRing keyRing;
+    // 게이트웨이와 같은 토큰 발급 (auth-core)
+    private JwtTokenIssuer tokenIssuer;
+
+    // 비대칭 모드에서는 검증용 Algorithm이 kid로 JwtKeyRing의 공개키를 찾으므로, 키가 교체되어도 다시 만들지 않는다.
+    @PostConstruct
+    public void init() {
+        if (HMAC.equalsIgnoreCase(signingMode)) {
+            this.algorithm = Algorithm.HMAC512(secret);
+        } else {
+            this.keyRing = jwtKeyRingProvider.getObject();
+            this.algorithm = keyRing.getAlgorithm();
+        }
+        this.verifier = JWT.require(algorithm).build();
+        this.tokenIssuer = new JwtTokenIssuer(this::signingAlgorithm,
+                accessTokenValidityInSeconds, refreshTokenValidityInSeconds);
+    }
+
+    // 토큰마다 한 번만 읽는다. (비대칭 모드 : 서명 중에 키가 교체되어도 kid 헤더와 서명 키가 같은 키)
+    private Algorithm signingAlgorithm() {
+        return keyRing == null ? algorithm : keyRing.getSigningAlgorithm();
+    }
 
 
     @Override
     public String createAccessToken(String username) {
-        return JWT.create()
-                .withSubject(ACCESS_TOKEN_SUBJECT)
-                .withExpiresAt(new Date(System.currentTimeMillis() + accessTokenValidityInSeconds * 1000))
-                .withClaim(USERNAME_CLAIM, username)
-                .sign(Algorithm.HMAC512(secret));
+        return createAccessToken(username, null, null);
+    }
+
+    @Override
+    public String createAccessToken(Member member) {
+        return createAccessToken(member.getUsername(), member.getId(), member.getRole());
+    }
+
+    // memberId, role이 null이면 클레임을 넣지 않는다. (username만 있는 토큰)
+    private String createAccessToken(String username, Long memberId, Role role) {
+        long start = System.nanoTime();
+        String accessToken = tokenIssuer.createAccessToken(username, memberId, role == null ? null : role.name());
+        authMetrics.recordSign(AuthMetrics.ACCESS, start);
+        return accessToken;
     }
 
     @Override
     public String createRefreshToken() {
-        return JWT.create()
-                .withSubject(REFRESH_TOKEN_SUBJECT)
-                .withExpiresAt(new Date(System.currentTimeMillis() + refreshTokenValidityInSeconds * 1000))
-                .sign(Algorithm.HMAC512(secret));
+        long start = System.nanoTime();
+        String refreshToken = tokenIssuer.createRefreshToken();
+        authMetrics.recordSign(AuthMetrics.REFRESH, start);
+        return refreshToken;
     }
 
     @Override
     public void updateRefreshToken(String username, String refreshToken) {
-        memberRepository.findByUsername(username)
-                .ifPresentOrElse(
-                        // member가 있을경우 updateRefreshToken
-                        member -> member.updateRefreshToken(refreshToken),
-                        // 없을경우 Exception
-                        () -> new Exception("회원이 없습니다.")
-                );
+        // 로그인 한 번 = 새로운 토큰 계열(familyId)
+        refreshTokenStore.save(refreshToken, username, UUID.randomUUID().toString(),
+                Instant.now().plusSeconds(refreshTokenValidityInSeconds));
     }
 
     @Override
     public void destroyRefreshToken(String username) {
-        memberRepository.findByUsername(username)
-                .ifPresentOrElse(
-                        // member가 있을경우 updateRefreshToken
-                        member -> member.deleteRefreshToken(),
-                        // 없을경우 Exception
-                        () -> new Exception("회원이 없습니다.")
-                );
+        refreshTokenStore.deleteByUsername(username);
+        memberPrincipalCache.evict(username);
+    }
+
+    /**
+     * 트랜잭션 없이 실행 : 기다리는 요청들이 DB 커넥션을 잡고 있지 않도록 (조회, 저장은 각자 트랜잭션)
+     */
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Optional<ReissuedTokens> reissue(String refreshToken) {
+        CompletableFuture<Optional<ReissuedTokens>> created = new CompletableFuture<>();
+        CompletableFuture<Optional<ReissuedTokens>> inFlight = reissuing.putIfAbsent(refreshToken, created);
+        if (inFlight != null) {
+            return await(inFlight);
+        }
+
+        try {
+            created.complete(rotate(refreshToken));
+        } catch (RuntimeException e) {
+            created.completeExceptionally(e);
+            reissuing.remove(refreshToken, created);
+            throw e;
+        }
+        CompletableFuture.delayedExecutor(reuseGraceMillis, TimeUnit.MILLISECONDS)
+                .execute(() -> reissuing.remove(refreshToken, created));
+        return created.join();
+    }
+
+    // 먼저 시작한 재발급의 결과를 기다린다. 실패했으면 CompletionException이 아닌 원래 예외를 그대로 던진다.
+    private Optional<ReissuedTokens> await(CompletableFuture<Optional<ReissuedTokens>> inFlight) {
+        try {
+            return inFlight.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    private Optional<ReissuedTokens> rotate(String refreshToken) {
+        Optional<StoredRefreshToken> stored = refreshTokenStore.find(refreshToken)
+                .filter(token -> !token.isExpired(Instant.now()));
+        if (stored.isEmpty()) {
+            return Optional.empty();
+        }
+
+        StoredRefreshToken token = stored.get();
+        if (token.isUsed() || !refreshTokenStore.markUsed(refreshToken)) {
+            // 이미 재발급에 사용된 토큰 -> 탈취된 것으로 보고 같은 로그인에서 이어진 토큰을 모두 폐기
+            int deleted = refreshTokenStore.deleteByFamilyId(token.getFamilyId());
+            // 탈취한 쪽이 이미 받은 AccessToken도 폐기 (AccessToken에는 계열이 없으므로 회원의 토큰 전체)
+            accessTokenRevocations.revokeAll(token.getUsername());
+            authMetrics.recordRefreshReuse();
+            log.warn("사용된 RefreshToken이 다시 사용되었습니다. 토큰 계열을 폐기합니다. username: {}, 폐기: {}건",
+                    token.getUsername(), deleted);
+            return Optional.empty();
+        }
+
+        return memberPrincipalCache.get(token.getUsername()).map(member -> {
+            String newRefreshToken = createRefreshToken();
+            refreshTokenStore.save(newRefreshToken, member.getUsername(), token.getFamilyId(),
+                    Instant.now().plusSeconds(refreshTokenValidityInSeconds));
+            return new ReissuedTokens(
+                    createAccessToken(member.getUsername(), member.getId(), member.getRole()), newRefreshToken);
+        });
+    }
+
+    @Override
+    public void destroyRefreshTokenFamily(String refreshToken) {
+        refreshTokenStore.find(refreshToken)
+                .ifPresent(token -> refreshTokenStore.deleteByFamilyId(token.getFamilyId()));
+    }
+
+    @Override
+    public boolean revokeAccessToken(String accessToken) {
+        return verify(accessToken).map(decodedToken -> {
+            accessTokenRevocations.revoke(decodedToken);
+            return true;
+        }).orElse(false);
     }
 
     @Override
@@ -129,11 +278,42 @@ public class JwtServicelmpl implements JwtService {
 
     @Override
     public Optional<String> extractUsername(String accessToken) {
+        return verify(accessToken).flatMap(this::extractUsername);
+    }
+
+    @Override
+    public Optional<String> extractUsername(DecodedJWT decodedToken) {
+        return Optional.ofNullable(decodedToken.getClaim(USERNAME_CLAIM).asString());
+    }
+
+    @Override
+    public Optional<Role> extractRole(DecodedJWT decodedToken) {
+        try {
+            return Optional.ofNullable(decodedToken.getClaim(ROLE_CLAIM).asString()).map(Role::valueOf);
+        }catch (IllegalArgumentException e){
+            log.error("알 수 없는 권한입니다. {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public Optional<DecodedJWT> verify(String token) {
+        long start = System.nanoTime();
         try {
-            return Optional.ofNullable(JWT.require(Algorithm.HMAC512(secret)).build()
-                    .verify(accessToken).getClaim(USERNAME_CLAIM).asString());
+            DecodedJWT decodedToken = verifier.verify(token);
+            authMetrics.recordVerify(AuthMetrics.VALID, start);
+            return Optional.of(decodedToken);
+        }catch (TokenExpiredException e){
+            authMetrics.recordVerify(AuthMetrics.EXPIRED, start);
+            log.debug("만료된 토큰입니다. {}", e.getMessage());
+            return Optional.empty();
+        }catch (SignatureVerificationException e){
+            authMetrics.recordVerify(AuthMetrics.BAD_SIGNATURE, start);
+            log.error("서명이 올바르지 않은 토큰입니다. {}", e.getMessage());
+            return Optional.empty();
         }catch (Exception e){
-            log.error(e.getMessage());
+            authMetrics.recordVerify(AuthMetrics.INVALID, start);
+            log.error("유효하지 않은 토큰입니다. {}", e.getMessage());
             return Optional.empty();
         }
     }
@@ -150,13 +330,7 @@ public class JwtServicelmpl implements JwtService {
 
     @Override
     public boolean isTokenValid(String token) {
-        try {
-            JWT.require(Algorithm.HMAC512(secret)).build().verify(token);
-            return true;
-        }catch (Exception e){
-            log.error("유효하지 않은 토큰입니다." , e.getMessage());
-            return false;
-        }
+        return verify(token).isPresent();
     }
 
 }
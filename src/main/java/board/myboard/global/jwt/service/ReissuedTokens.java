@@ -0,0 +1,18 @@
+package board.myboard.global.jwt.service;
+
+import lombok.Getter;
+
+/**
+ * RefreshToken 재발급(rotation) 결과. 새 AccessToken + 새 RefreshToken
+ */
+@Getter
+public class ReissuedTokens {
+
+    private final String accessToken;
+    private final String refreshToken;
+
+    public ReissuedTokens(String accessToken, String refreshToken) {
+        this.accessToken = accessToken;
+        this.refreshToken = refreshToken;
+    }
+}
@@ -0,0 +1,101 @@
+package board.myboard.global.jwt.store;
+
+import board.myboard.domain.token.RefreshToken;
+import board.myboard.domain.token.repository.RefreshTokenRepository;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Optional;
+
+/**
+ * refresh_token 테이블에 저장 (jwt.refresh.store=jpa, 기본값)
+ *
+ * jwt.refresh.write-behind.enabled=true 이면 저장은 RefreshTokenWriteBehindQueue가 모아서 batch로 기록한다.
+ */
+@Component
+@Transactional
+@ConditionalOnProperty(name = "jwt.refresh.store", havingValue = "jpa", matchIfMissing = true)
+public class JpaRefreshTokenStore implements RefreshTokenStore {
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    // write-behind 미사용 시 null
+    private final RefreshTokenWriteBehindQueue writeBehindQueue;
+
+    public JpaRefreshTokenStore(RefreshTokenRepository refreshTokenRepository,
+                                ObjectProvider<RefreshTokenWriteBehindQueue> writeBehindQueue) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.writeBehindQueue = writeBehindQueue.getIfAvailable();
+    }
+
+    @Override
+    public void save(String refreshToken, String username, String familyId, Instant expiresAt) {
+        if (writeBehindQueue != null) {
+            writeBehindQueue.enqueue(refreshToken, username, familyId, expiresAt);
+            return;
+        }
+        refreshTokenRepository.save(RefreshToken.builder()
+                .token(refreshToken)
+                .username(username)
+                .familyId(familyId)
+                .expiresAt(toLocalDateTime(expiresAt))
+                .build());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<StoredRefreshToken> find(String refreshToken) {
+        if (writeBehindQueue != null) {
+            Optional<StoredRefreshToken> pending = writeBehindQueue.findPending(refreshToken);
+            if (pending.isPresent()) {
+                return pending;
+            }
+        }
+        return refreshTokenRepository.findById(RefreshToken.hash(refreshToken))
+                .map(token -> new StoredRefreshToken(token.getUsername(), token.getFamilyId(),
+                        token.getExpiresAt().atZone(ZoneId.systemDefault()).toInstant(), token.isUsed()));
+    }
+
+    @Override
+    public void deleteByUsername(String username) {
+        if (writeBehindQueue != null) {
+            writeBehindQueue.discard(username);
+        }
+        refreshTokenRepository.deleteByUsername(username);
+    }
+
+    @Override
+    public boolean markUsed(String refreshToken) {
+        // 아직 기록되지 않은 토큰이면 그 토큰만 먼저 기록 (큐 전체를 flush 하지 않음)
+        if (writeBehindQueue != null && writeBehindQueue.findPending(refreshToken).isPresent()) {
+            writeBehindQueue.writeNow(refreshToken);
+            // 기록에 실패한 토큰 (큐에 다시 들어갔거나 버려짐). UPDATE 결과 0건을 재사용으로 판단하지 않도록 예외
+            if (writeBehindQueue.findPending(refreshToken).isPresent()
+                    || !refreshTokenRepository.existsById(RefreshToken.hash(refreshToken))) {
+                throw new IllegalStateException("RefreshToken을 기록하지 못했습니다.");
+            }
+        }
+        return refreshTokenRepository.markUsed(RefreshToken.hash(refreshToken)) == 1;
+    }
+
+    @Override
+    public int deleteByFamilyId(String familyId) {
+        if (writeBehindQueue != null) {
+            writeBehindQueue.discardFamily(familyId);
+        }
+        return refreshTokenRepository.deleteByFamilyId(familyId);
+    }
+
+    @Override
+    public int purgeExpired(Instant now) {
+        return refreshTokenRepository.deleteExpired(toLocalDateTime(now));
+    }
+
+    private static LocalDateTime toLocalDateTime(Instant instant) {
+        return LocalDateTime.ofInstant(instant, ZoneId.systemDefault());
+    }
+}
@@ -0,0 +1,462 @@
+package board.myboard.global.jwt.store;
+
+import board.myboard.domain.token.RefreshToken;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 메모리 맵 파일(off-heap)에 RefreshToken을 저장 (jwt.refresh.store=mapped)
+ *
+ * - 단일 노드 배포에서 토큰 발급/재발급/삭제가 DB를 전혀 사용하지 않도록 함.
+ * - 고정 크기 슬롯 + 선형 탐사(open addressing). 키는 토큰의 SHA-256 해시.
+ * - 삭제는 backward shift : 뒤따르는 같은 탐사 구간의 슬롯을 앞으로 당겨 빈 칸을 메운다.
+ *   삭제 표시(tombstone)가 남지 않으므로 로그인/로그아웃이 반복되어도 조회 실패 시 탐사가 EMPTY에서 바로 끝난다.
+ * - 파일에 그대로 남으므로 재시작 후에도 유지된다. (username, familyId -> 슬롯 인덱스만 시작 시 다시 만든다)
+ * - 만료된 토큰은 RefreshTokenSweeper가 주기적으로 정리. (PURGE_CHUNK 슬롯마다 lock을 놓아 로그인이 오래 기다리지 않도록)
+ * - 같은 파일을 다른 프로세스가 함께 쓰지 않도록 파일 lock을 잡는다.
+ *
+ * 슬롯 구조 (SLOT_SIZE = 160 byte)
+ *   0      state (EMPTY, LIVE, USED)  USED : 재발급에 사용된 토큰 (재사용 확인을 위해 만료 시까지 유지)
+ *   1      username 길이 (UTF-8 byte)
+ *   8      expiresAt (epoch millis)
+ *   16     familyId (UUID, 16 byte)
+ *   32     token hash (SHA-256, 32 byte)
+ *   64     username (UTF-8, 최대 96 byte)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "jwt.refresh.store", havingValue = "mapped")
+public class MappedRefreshTokenStore implements RefreshTokenStore {
+
+    private static final int MAGIC = 0x52544B53; // "RTKS"
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 64;
+
+    static final int SLOT_SIZE = 160;
+    private static final int STATE = 0;
+    private static final int USERNAME_LENGTH = 1;
+    private static final int EXPIRES_AT = 8;
+    private static final int FAMILY_ID = 16;
+    private static final int HASH = 32;
+    private static final int HASH_SIZE = 32;
+    private static final int USERNAME = 64;
+    private static final int USERNAME_MAX_BYTES = SLOT_SIZE - USERNAME;
+
+    private static final byte EMPTY = 0;
+    private static final byte LIVE = 1;
+    private static final byte USED = 2;
+
+    // purgeExpired 에서 write lock을 한 번 잡고 확인할 슬롯 수
+    static final int PURGE_CHUNK = 4096;
+
+    private final int slotCount;
+    private final FileChannel channel;
+    private final FileLock fileLock;
+    private final MappedByteBuffer buffer;
+
+    // username, familyId -> 슬롯 인덱스 (deleteByUsername, deleteByFamilyId 용, lock으로 보호)
+    // 삭제 시 슬롯이 앞으로 옮겨지면 인덱스도 함께 바꾼다.
+    private final Map<String, List<Integer>> slotsByUsername = new HashMap<>();
+    private final Map<UUID, List<Integer>> slotsByFamily = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public MappedRefreshTokenStore(@Value("${jwt.refresh.mapped.path:refresh-tokens.dat}") String path,
+                                   @Value("${jwt.refresh.mapped.slots:1048576}") int slotCount) {
+        if (slotCount <= 0 || (long) slotCount * SLOT_SIZE + HEADER_SIZE > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("jwt.refresh.mapped.slots 값이 올바르지 않습니다. " + slotCount);
+        }
+        this.slotCount = slotCount;
+
+        Path file = Paths.get(path);
+        try {
+            boolean exists = Files.exists(file) && Files.size(file) > 0;
+            this.channel = FileChannel.open(file,
+                    StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            this.fileLock = lock(channel, path);
+            this.buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE + (long) slotCount * SLOT_SIZE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("RefreshToken 파일을 열 수 없습니다. " + path, e);
+        }
+
+        if (buffer.getInt(0) == MAGIC && buffer.getInt(4) == VERSION && buffer.getInt(8) == slotCount) {
+            rebuildIndexes();
+            log.info("RefreshToken 파일을 불러옵니다. path: {}, tokens: {}", path, countLive());
+        } else {
+            if (buffer.getInt(0) == MAGIC) {
+                log.warn("RefreshToken 파일의 슬롯 수가 달라 초기화합니다. path: {}", path);
+            }
+            initialize();
+        }
+    }
+
+    @Override
+    public void save(String refreshToken, String username, String familyId, Instant expiresAt) {
+        byte[] hash = RefreshToken.digest(refreshToken);
+        byte[] usernameBytes = username.getBytes(StandardCharsets.UTF_8);
+        if (usernameBytes.length > USERNAME_MAX_BYTES) {
+            throw new IllegalArgumentException("username이 너무 깁니다. " + username);
+        }
+        UUID family = UUID.fromString(familyId);
+
+        lock.writeLock().lock();
+        try {
+            int slot = findFreeSlot(hash);
+            int offset = offset(slot);
+            buffer.putLong(offset + EXPIRES_AT, expiresAt.toEpochMilli());
+            buffer.putLong(offset + FAMILY_ID, family.getMostSignificantBits());
+            buffer.putLong(offset + FAMILY_ID + 8, family.getLeastSignificantBits());
+            put(offset + HASH, hash);
+            put(offset + USERNAME, usernameBytes);
+            buffer.put(offset + USERNAME_LENGTH, (byte) usernameBytes.length);
+            // state는 마지막에 기록 (중간에 종료되어도 반쯤 쓴 슬롯이 LIVE로 보이지 않도록)
+            buffer.put(offset + STATE, LIVE);
+
+            addToIndexes(username, family, slot);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public Optional<StoredRefreshToken> find(String refreshToken) {
+        byte[] hash = RefreshToken.digest(refreshToken);
+
+        lock.readLock().lock();
+        try {
+            int slot = findSlot(hash);
+            if (slot < 0) {
+                return Optional.empty();
+            }
+            int offset = offset(slot);
+            return Optional.of(new StoredRefreshToken(username(offset), family(offset).toString(),
+                    Instant.ofEpochMilli(buffer.getLong(offset + EXPIRES_AT)), buffer.get(offset + STATE) == USED));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void deleteByUsername(String username) {
+        lock.writeLock().lock();
+        try {
+            // 삭제할 때마다 다른 슬롯이 옮겨질 수 있으므로 매번 인덱스에서 다시 꺼낸다.
+            List<Integer> slots;
+            while ((slots = slotsByUsername.get(username)) != null) {
+                delete(slots.get(0));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public boolean markUsed(String refreshToken) {
+        byte[] hash = RefreshToken.digest(refreshToken);
+
+        lock.writeLock().lock();
+        try {
+            int slot = findSlot(hash);
+            if (slot < 0 || buffer.get(offset(slot) + STATE) != LIVE) {
+                return false;
+            }
+            buffer.put(offset(slot) + STATE, USED);
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public int deleteByFamilyId(String familyId) {
+        UUID family = UUID.fromString(familyId);
+        int deleted = 0;
+
+        lock.writeLock().lock();
+        try {
+            List<Integer> slots;
+            while ((slots = slotsByFamily.get(family)) != null) {
+                delete(slots.get(0));
+                deleted++;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        return deleted;
+    }
+
+    /**
+     * PURGE_CHUNK 슬롯마다 write lock을 잡았다가 놓는다. (전체를 한 번에 잡으면 그동안 로그인, 재발급이 모두 멈춤)
+     * 확인하는 동안 다른 삭제로 옮겨진 토큰은 다음 실행에서 정리된다.
+     * 파일 동기화(force)는 lock 밖에서 한다.
+     */
+    @Override
+    public int purgeExpired(Instant now) {
+        long nowMillis = now.toEpochMilli();
+        int purged = 0;
+
+        for (int start = 0; start < slotCount; start += PURGE_CHUNK) {
+            int end = Math.min(start + PURGE_CHUNK, slotCount);
+            lock.writeLock().lock();
+            try {
+                int slot = start;
+                while (slot < end) {
+                    int offset = offset(slot);
+                    if (isStored(buffer.get(offset + STATE)) && buffer.getLong(offset + EXPIRES_AT) <= nowMillis) {
+                        // 뒤의 슬롯이 이 자리로 옮겨질 수 있으므로 같은 슬롯을 다시 확인
+                        delete(slot);
+                        purged++;
+                    } else {
+                        slot++;
+                    }
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+        buffer.force();
+        return purged;
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        lock.writeLock().lock();
+        try {
+            buffer.force();
+            fileLock.release();
+            channel.close();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void initialize() {
+        for (int slot = 0; slot < slotCount; slot++) {
+            buffer.put(offset(slot) + STATE, EMPTY);
+        }
+        buffer.putInt(4, VERSION);
+        buffer.putInt(8, slotCount);
+        buffer.putInt(0, MAGIC);
+        buffer.force();
+    }
+
+    private static FileLock lock(FileChannel channel, String path) throws IOException {
+        FileLock fileLock;
+        try {
+            fileLock = channel.tryLock();
+        } catch (OverlappingFileLockException e) {
+            fileLock = null; // 같은 JVM에서 이미 열려 있음
+        }
+        if (fileLock == null) {
+            channel.close();
+            throw new IllegalStateException("다른 프로세스가 RefreshToken 파일을 사용 중입니다. " + path);
+        }
+        return fileLock;
+    }
+
+    private void rebuildIndexes() {
+        for (int slot = 0; slot < slotCount; slot++) {
+            int offset = offset(slot);
+            if (isStored(buffer.get(offset + STATE))) {
+                addToIndexes(username(offset), family(offset), slot);
+            }
+        }
+    }
+
+    private int countLive() {
+        return slotsByUsername.values().stream().mapToInt(List::size).sum();
+    }
+
+    /**
+     * 슬롯을 비우고 (backward shift) 뒤따르는 탐사 구간의 토큰을 앞으로 당긴다.
+     * 빈 칸(hole)이 토큰의 홈 슬롯 ~ 현재 슬롯 사이에 있으면 그 토큰을 빈 칸으로 옮기고, 옮긴 자리가 새 빈 칸이 된다.
+     * EMPTY를 만나면 끝. (write lock 안에서 호출)
+     */
+    private void delete(int slot) {
+        int offset = offset(slot);
+        removeFromIndexes(username(offset), family(offset), slot);
+
+        int hole = slot;
+        int current = next(slot);
+        while (true) {
+            int currentOffset = offset(current);
+            byte state = buffer.get(currentOffset + STATE);
+            if (state == EMPTY) {
+                break;
+            }
+            int home = homeOf(currentOffset);
+            if (isBetween(home, hole, current)) {
+                // 먼저 복사한 뒤 빈 칸으로 만든다. (중간에 종료되어도 토큰이 사라지지 않고 중복만 남음)
+                copy(current, hole, state);
+                moveInIndexes(username(currentOffset), family(currentOffset), current, hole);
+                hole = current;
+            }
+            current = next(current);
+            if (current == slot) {
+                break; // 한 바퀴 (가득 찬 경우)
+            }
+        }
+        buffer.put(offset(hole) + STATE, EMPTY);
+    }
+
+    // hole 이 [home, current) 탐사 구간 안에 있는지 (한 바퀴 돌아가는 경우 포함)
+    private static boolean isBetween(int home, int hole, int current) {
+        if (home <= current) {
+            return home <= hole && hole < current;
+        }
+        return hole >= home || hole < current;
+    }
+
+    // from 슬롯의 내용을 to 슬롯으로 복사. state는 마지막에 기록
+    private void copy(int from, int to, byte state) {
+        int fromOffset = offset(from);
+        int toOffset = offset(to);
+        for (int i = Long.BYTES; i < SLOT_SIZE; i += Long.BYTES) {
+            buffer.putLong(toOffset + i, buffer.getLong(fromOffset + i));
+        }
+        buffer.put(toOffset + USERNAME_LENGTH, buffer.get(fromOffset + USERNAME_LENGTH));
+        buffer.put(toOffset + STATE, state);
+    }
+
+    private void addToIndexes(String username, UUID family, int slot) {
+        slotsByUsername.computeIfAbsent(username, key -> new ArrayList<>()).add(slot);
+        slotsByFamily.computeIfAbsent(family, key -> new ArrayList<>()).add(slot);
+    }
+
+    private void removeFromIndexes(String username, UUID family, int slot) {
+        removeFromIndex(slotsByUsername, username, slot);
+        removeFromIndex(slotsByFamily, family, slot);
+    }
+
+    private void moveInIndexes(String username, UUID family, int from, int to) {
+        replaceInIndex(slotsByUsername, username, from, to);
+        replaceInIndex(slotsByFamily, family, from, to);
+    }
+
+    // 해시가 있는 LIVE 또는 USED 슬롯. 없으면 -1
+    private int findSlot(byte[] hash) {
+        int slot = home(hash);
+        for (int probe = 0; probe < slotCount; probe++) {
+            int offset = offset(slot);
+            byte state = buffer.get(offset + STATE);
+            if (state == EMPTY) {
+                return -1;
+            }
+            if (isStored(state) && hashEquals(offset, hash)) {
+                return slot;
+            }
+            slot = next(slot);
+        }
+        return -1;
+    }
+
+    // 홈 슬롯부터 처음 만나는 EMPTY 슬롯
+    private int findFreeSlot(byte[] hash) {
+        int slot = home(hash);
+        for (int probe = 0; probe < slotCount; probe++) {
+            if (buffer.get(offset(slot) + STATE) == EMPTY) {
+                return slot;
+            }
+            slot = next(slot);
+        }
+        throw new IllegalStateException("RefreshToken 저장 공간이 가득 찼습니다. (jwt.refresh.mapped.slots=" + slotCount + ")");
+    }
+
+    private static <K> void removeFromIndex(Map<K, List<Integer>> index, K key, int slot) {
+        List<Integer> slots = index.get(key);
+        if (slots != null) {
+            slots.remove(Integer.valueOf(slot));
+            if (slots.isEmpty()) {
+                index.remove(key);
+            }
+        }
+    }
+
+    private static <K> void replaceInIndex(Map<K, List<Integer>> index, K key, int from, int to) {
+        List<Integer> slots = index.get(key);
+        if (slots != null) {
+            int position = slots.indexOf(from);
+            if (position >= 0) {
+                slots.set(position, to);
+            }
+        }
+    }
+
+    private static boolean isStored(byte state) {
+        return state == LIVE || state == USED;
+    }
+
+    private int home(byte[] hash) {
+        // SHA-256은 고르게 분포하므로 앞 8 byte를 그대로 사용
+        return home(ByteBuffer.wrap(hash, 0, 8).getLong());
+    }
+
+    // 슬롯에 저장된 해시의 홈 슬롯
+    private int homeOf(int offset) {
+        return home(buffer.getLong(offset + HASH));
+    }
+
+    private int home(long h) {
+        return (int) Math.floorMod(h, (long) slotCount);
+    }
+
+    private int next(int slot) {
+        return slot + 1 == slotCount ? 0 : slot + 1;
+    }
+
+    private static int offset(int slot) {
+        return HEADER_SIZE + slot * SLOT_SIZE;
+    }
+
+    private boolean hashEquals(int offset, byte[] hash) {
+        for (int i = 0; i < HASH_SIZE; i++) {
+            if (buffer.get(offset + HASH + i) != hash[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private UUID family(int offset) {
+        return new UUID(buffer.getLong(offset + FAMILY_ID), buffer.getLong(offset + FAMILY_ID + 8));
+    }
+
+    private String username(int offset) {
+        int length = buffer.get(offset + USERNAME_LENGTH) & 0xFF;
+        byte[] bytes = new byte[length];
+        for (int i = 0; i < length; i++) {
+            bytes[i] = buffer.get(offset + USERNAME + i);
+        }
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private void put(int offset, byte[] bytes) {
+        for (int i = 0; i < bytes.length; i++) {
+            buffer.put(offset + i, bytes[i]);
+        }
+    }
+}
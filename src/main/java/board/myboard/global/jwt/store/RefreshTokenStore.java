@@ -0,0 +1,33 @@
+package board.myboard.global.jwt.store;
+
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * RefreshToken 저장소 SPI.
+ *
+ * jwt.refresh.store 설정으로 구현체를 선택한다.
+ * - jpa    : refresh_token 테이블 (기본값) -> JpaRefreshTokenStore
+ * - mapped : 메모리 맵 파일 (단일 노드용, DB 사용 X) -> MappedRefreshTokenStore
+ *
+ * 모든 구현체는 토큰 원문이 아닌 SHA-256 해시를 키로 저장한다.
+ */
+public interface RefreshTokenStore {
+
+    void save(String refreshToken, String username, String familyId, Instant expiresAt);
+
+    // 만료 여부와 상관없이 조회 (만료 확인은 StoredRefreshToken.isExpired)
+    Optional<StoredRefreshToken> find(String refreshToken);
+
+    void deleteByUsername(String username);
+
+    // 재발급에 사용됨으로 표시. 이미 사용된(또는 없는) 토큰이면 false (동시에 여러 번 호출되어도 한 번만 true)
+    // 저장소 오류로 확인할 수 없으면 예외 (false는 재사용으로 판단되어 토큰 계열이 폐기됨)
+    boolean markUsed(String refreshToken);
+
+    // 토큰 계열(한 번의 로그인에서 이어진 토큰들) 전체 삭제. 삭제한 개수 반환
+    int deleteByFamilyId(String familyId);
+
+    // 만료된 토큰 정리. 정리한 개수 반환
+    int purgeExpired(Instant now);
+}
@@ -0,0 +1,27 @@
+package board.myboard.global.jwt.store;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+
+/**
+ * 만료된 RefreshToken 주기적 정리 (jwt.refresh.sweep-interval, ms)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RefreshTokenSweeper {
+
+    private final RefreshTokenStore refreshTokenStore;
+
+    @Scheduled(fixedDelayString = "${jwt.refresh.sweep-interval:60000}")
+    public void sweep() {
+        int purged = refreshTokenStore.purgeExpired(Instant.now());
+        if (purged > 0) {
+            log.debug("만료된 RefreshToken {}건을 정리합니다.", purged);
+        }
+    }
+}
@@ -0,0 +1,342 @@
+package board.myboard.global.jwt.store;
+
+import board.myboard.domain.token.RefreshToken;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PreDestroy;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 로그인 시 RefreshToken 저장을 모아서 JDBC batch INSERT로 기록 (jwt.refresh.write-behind.enabled=true)
+ *
+ * - 로그인 요청은 큐에 넣기만 하고 바로 응답 -> 로그인 지연시간에 DB 쓰기가 포함되지 않음.
+ * - batch-size 만큼 쌓이거나 flush-interval(ms) 마다 백그라운드 스레드가 한 번에 INSERT.
+ * - 기록 전까지는 pending에서 조회되므로, 로그인 직후 재발급 요청도 정상 처리된다.
+ * - 종료 시(@PreDestroy) 남은 토큰을 모두 기록한다. (프로세스가 강제 종료되면 flush-interval 동안의 토큰은 유실될 수 있음)
+ * - 큐가 가득 차면 요청 스레드에서 바로 기록한다.
+ * - 기록에 실패한 토큰은 큐 뒤에 다시 넣어 다음 flush에서 재시도하고, max-attempts 번 실패하면 버린다.
+ *   (버려진 토큰으로는 재발급할 수 없으므로 해당 회원은 다시 로그인해야 한다)
+ * - 로그아웃(discard), 토큰 계열 폐기(discardFamily) 시 큐에서도 제거한다. (회원, 계열별 인덱스로 해당 토큰만)
+ *
+ * 메트릭 : jwt.refresh.write_behind.queue (큐 크기), jwt.refresh.write_behind.flush (flush 시간),
+ *         jwt.refresh.write_behind.written, jwt.refresh.write_behind.dropped (재시도 후 버린 수)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "jwt.refresh.write-behind.enabled", havingValue = "true")
+public class RefreshTokenWriteBehindQueue {
+
+    private static final String INSERT_SQL =
+            "insert into refresh_token (token_hash, username, family_id, expires_at, used) values (?, ?, ?, ?, false)";
+
+    private final JdbcTemplate jdbcTemplate;
+    // 호출한 쪽(JpaRefreshTokenStore.markUsed)의 트랜잭션과 관계없이 autocommit으로 기록
+    private final TransactionTemplate withoutTransaction;
+    private final int batchSize;
+    private final int queueCapacity;
+    private final int maxAttempts;
+
+    // 아직 기록되지 않은 토큰 (token hash -> 토큰). 조회용, 락 없이 읽는다.
+    private final Map<String, PendingRefreshToken> pending = new ConcurrentHashMap<>();
+
+    // 아래 세 필드는 this로 동기화 (짧게만 잡는다)
+    // 기록 순서 (먼저 들어온 토큰부터)
+    private final LinkedHashMap<String, PendingRefreshToken> queue = new LinkedHashMap<>();
+    private final Map<String, Set<String>> hashesByUsername = new HashMap<>();
+    private final Map<String, Set<String>> hashesByFamily = new HashMap<>();
+
+    // 기록 중(DB INSERT)에는 writeLock만 잡는다. -> 로그인(enqueue)은 기록을 기다리지 않음.
+    // discard는 writeLock을 먼저 잡아, 기록 중인 토큰이 삭제 이후에 INSERT 되지 않도록 한다.
+    private final Object writeLock = new Object();
+
+    private final ScheduledExecutorService executor;
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+
+    private final Timer flushTimer;
+    private final Counter written;
+    private final Counter dropped;
+
+    public RefreshTokenWriteBehindQueue(JdbcTemplate jdbcTemplate,
+                                        PlatformTransactionManager transactionManager,
+                                        MeterRegistry meterRegistry,
+                                        @Value("${jwt.refresh.write-behind.batch-size:100}") int batchSize,
+                                        @Value("${jwt.refresh.write-behind.flush-interval:200}") long flushIntervalMillis,
+                                        @Value("${jwt.refresh.write-behind.queue-capacity:100000}") int queueCapacity,
+                                        @Value("${jwt.refresh.write-behind.max-attempts:3}") int maxAttempts) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.withoutTransaction = new TransactionTemplate(transactionManager);
+        this.withoutTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_NOT_SUPPORTED);
+        this.batchSize = batchSize;
+        this.queueCapacity = queueCapacity;
+        this.maxAttempts = maxAttempts;
+        this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "refresh-token-write-behind");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        Gauge.builder("jwt.refresh.write_behind.queue", this, RefreshTokenWriteBehindQueue::size)
+                .description("기록 대기 중인 RefreshToken 수")
+                .register(meterRegistry);
+        this.flushTimer = Timer.builder("jwt.refresh.write_behind.flush")
+                .description("RefreshToken batch INSERT 시간")
+                .register(meterRegistry);
+        this.written = Counter.builder("jwt.refresh.write_behind.written")
+                .description("기록된 RefreshToken 수")
+                .register(meterRegistry);
+        this.dropped = Counter.builder("jwt.refresh.write_behind.dropped")
+                .description("재시도 후에도 기록하지 못해 버린 RefreshToken 수")
+                .register(meterRegistry);
+
+        executor.scheduleWithFixedDelay(this::flushQuietly, flushIntervalMillis, flushIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    public void enqueue(String refreshToken, String username, String familyId, Instant expiresAt) {
+        PendingRefreshToken token = new PendingRefreshToken(RefreshToken.hash(refreshToken),
+                new StoredRefreshToken(username, familyId, expiresAt));
+
+        int size;
+        synchronized (this) {
+            size = queue.size();
+            if (size < queueCapacity) {
+                add(token);
+            }
+        }
+
+        if (size >= queueCapacity) {
+            // 큐가 가득 참 -> 요청 스레드에서 바로 기록 (backpressure)
+            synchronized (writeLock) {
+                withoutTransaction.executeWithoutResult(status -> insert(token));
+            }
+            written.increment();
+            return;
+        }
+        if (size + 1 >= batchSize && flushRequested.compareAndSet(false, true)) {
+            executor.execute(this::flushQuietly);
+        }
+    }
+
+    public Optional<StoredRefreshToken> findPending(String refreshToken) {
+        PendingRefreshToken token = pending.get(RefreshToken.hash(refreshToken));
+        return token == null ? Optional.empty() : Optional.of(token.token);
+    }
+
+    // 아직 기록되지 않은 회원의 토큰은 기록하지 않도록 제거
+    public void discard(String username) {
+        synchronized (writeLock) {
+            synchronized (this) {
+                removeAll(hashesByUsername.get(username));
+            }
+        }
+    }
+
+    // 폐기된 토큰 계열은 기록하지 않도록 제거
+    public void discardFamily(String familyId) {
+        synchronized (writeLock) {
+            synchronized (this) {
+                removeAll(hashesByFamily.get(familyId));
+            }
+        }
+    }
+
+    public synchronized int size() {
+        return queue.size();
+    }
+
+    /**
+     * flush 시작 시점에 큐에 있던 토큰을 batch-size 단위로 기록.
+     * 실패해서 다시 넣은 토큰은 다음 flush에서 재시도한다. (같은 flush 안에서 반복하지 않음)
+     */
+    public void flush() {
+        flushRequested.set(false);
+        withoutTransaction.executeWithoutResult(status -> {
+            int remaining = size();
+            while (remaining > 0) {
+                // batch 단위로 writeLock을 잡는다 -> writeNow, discard는 batch 하나만 기다린다.
+                synchronized (writeLock) {
+                    List<PendingRefreshToken> batch = peek(Math.min(batchSize, remaining));
+                    if (batch.isEmpty()) {
+                        return;
+                    }
+                    remaining -= batch.size();
+                    write(batch);
+                }
+            }
+        });
+    }
+
+    /**
+     * 기록 대기 중인 토큰 한 건만 요청 스레드에서 바로 기록. (재발급 시 JpaRefreshTokenStore.markUsed)
+     * 큐의 다른 토큰은 기록하지 않으므로 큐 크기와 관계없이 INSERT 한 번이다.
+     * 실패하면 flush와 같이 큐 뒤로 옮기거나 max-attempts 번째이면 버린다.
+     */
+    public void writeNow(String refreshToken) {
+        String hash = RefreshToken.hash(refreshToken);
+        withoutTransaction.executeWithoutResult(status -> {
+            synchronized (writeLock) {
+                PendingRefreshToken token;
+                synchronized (this) {
+                    token = queue.get(hash);
+                }
+                // 이미 flush 되었거나 버려진 토큰
+                if (token != null) {
+                    write(Collections.singletonList(token));
+                }
+            }
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+        flush();
+        log.info("종료 전 RefreshToken 기록을 완료합니다.");
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (Exception e) {
+            log.error("RefreshToken 기록에 실패했습니다. {}", e.getMessage());
+        }
+    }
+
+    // writeLock 안에서 호출
+    private void write(List<PendingRefreshToken> batch) {
+        Set<PendingRefreshToken> failed = new HashSet<>();
+        try {
+            flushTimer.record(() -> jdbcTemplate.batchUpdate(INSERT_SQL, batch, batch.size(),
+                    (ps, token) -> bind(ps, token)));
+        } catch (DataAccessException e) {
+            // autocommit 이므로 batch 중 일부는 기록되었을 수 있다. -> 한 건씩 다시 기록 (이미 기록된 토큰은 DuplicateKey)
+            log.warn("RefreshToken batch 기록에 실패해서 한 건씩 기록합니다. {}", e.getMessage());
+            for (PendingRefreshToken token : batch) {
+                try {
+                    insert(token);
+                } catch (DuplicateKeyException duplicate) {
+                    // 앞의 batch에서 기록됨
+                } catch (DataAccessException tokenFailure) {
+                    failed.add(token);
+                }
+            }
+        }
+
+        synchronized (this) {
+            for (PendingRefreshToken token : batch) {
+                if (!failed.contains(token)) {
+                    remove(token);
+                } else if (++token.attempts >= maxAttempts) {
+                    remove(token);
+                    dropped.increment();
+                    log.error("RefreshToken을 {}번 기록하지 못해 버립니다. username: {}", token.attempts, token.token.getUsername());
+                } else {
+                    // 큐 뒤로 옮겨서 다음 flush에서 재시도
+                    queue.remove(token.hash);
+                    queue.put(token.hash, token);
+                }
+            }
+        }
+        written.increment(batch.size() - failed.size());
+    }
+
+    private void insert(PendingRefreshToken token) {
+        jdbcTemplate.update(INSERT_SQL, ps -> bind(ps, token));
+    }
+
+    private static void bind(PreparedStatement ps, PendingRefreshToken token) throws SQLException {
+        ps.setString(1, token.hash);
+        ps.setString(2, token.token.getUsername());
+        ps.setString(3, token.token.getFamilyId());
+        ps.setTimestamp(4, Timestamp.valueOf(LocalDateTime.ofInstant(token.token.getExpiresAt(), ZoneId.systemDefault())));
+    }
+
+    // 큐 앞에서부터 count 개 (제거하지 않음. 기록이 끝나면 remove)
+    private synchronized List<PendingRefreshToken> peek(int count) {
+        List<PendingRefreshToken> batch = new ArrayList<>(count);
+        Iterator<PendingRefreshToken> iterator = queue.values().iterator();
+        while (batch.size() < count && iterator.hasNext()) {
+            batch.add(iterator.next());
+        }
+        return batch;
+    }
+
+    // 아래는 this로 동기화된 상태에서 호출
+
+    private void add(PendingRefreshToken token) {
+        queue.put(token.hash, token);
+        pending.put(token.hash, token);
+        hashesByUsername.computeIfAbsent(token.token.getUsername(), key -> new HashSet<>()).add(token.hash);
+        hashesByFamily.computeIfAbsent(token.token.getFamilyId(), key -> new HashSet<>()).add(token.hash);
+    }
+
+    private void removeAll(Set<String> hashes) {
+        if (hashes == null) {
+            return;
+        }
+        for (String hash : new ArrayList<>(hashes)) {
+            PendingRefreshToken token = queue.get(hash);
+            if (token != null) {
+                remove(token);
+            }
+        }
+    }
+
+    private void remove(PendingRefreshToken token) {
+        queue.remove(token.hash);
+        pending.remove(token.hash, token);
+        removeIndex(hashesByUsername, token.token.getUsername(), token.hash);
+        removeIndex(hashesByFamily, token.token.getFamilyId(), token.hash);
+    }
+
+    private static void removeIndex(Map<String, Set<String>> index, String key, String hash) {
+        Set<String> hashes = index.get(key);
+        if (hashes != null && hashes.remove(hash) && hashes.isEmpty()) {
+            index.remove(key);
+        }
+    }
+
+    private static class PendingRefreshToken {
+        private final String hash;
+        private final StoredRefreshToken token;
+        private int attempts; // 기록 실패 횟수 (RefreshTokenWriteBehindQueue로 동기화)
+
+        private PendingRefreshToken(String hash, StoredRefreshToken token) {
+            this.hash = hash;
+            this.token = token;
+        }
+    }
+}
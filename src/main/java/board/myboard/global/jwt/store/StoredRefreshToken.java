@@ -0,0 +1,33 @@
+package board.myboard.global.jwt.store;
+
+import lombok.Getter;
+
+import java.time.Instant;
+
+/**
+ * RefreshTokenStore에 저장된 토큰 정보. (토큰 원문은 보관하지 않음)
+ */
+@Getter
+public class StoredRefreshToken {
+
+    private final String username;
+    private final String familyId;
+    private final Instant expiresAt;
+    // 재발급에 이미 사용된 토큰 (다시 오면 재사용 -> 계열 폐기)
+    private final boolean used;
+
+    public StoredRefreshToken(String username, String familyId, Instant expiresAt) {
+        this(username, familyId, expiresAt, false);
+    }
+
+    public StoredRefreshToken(String username, String familyId, Instant expiresAt, boolean used) {
+        this.username = username;
+        this.familyId = familyId;
+        this.expiresAt = expiresAt;
+        this.used = used;
+    }
+
+    public boolean isExpired(Instant now) {
+        return !expiresAt.isAfter(now);
+    }
+}
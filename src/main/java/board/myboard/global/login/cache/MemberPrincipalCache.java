@@ -0,0 +1,91 @@
+package board.myboard.global.login.cache;
+
+import board.myboard.domain.member.MemberPrincipal;
+import board.myboard.domain.member.repository.MemberRepository;
+import board.myboard.global.metrics.AuthMetrics;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * JwtAuthenticationProcessingFilter와 MemberRepository 사이의 회원 캐시.
+ *
+ * - username -> MemberPrincipal(id, username, role)
+ * - 최대 크기, TTL(마지막 저장 후) 을 넘으면 제거
+ * - 회원 정보 수정(updateName, updatePassword, updateRole) 시 MemberPrincipalCacheEvictListener 가 (커밋 후),
+ *   destroyRefreshToken 시 JwtService 가 제거
+ *
+ * hit/miss/eviction 수는 cache.gets, cache.evictions 메트릭(name=memberPrincipal) 으로,
+ * 회원 수정에 의한 제거는 member.principal.cache.invalidations 로 노출.
+ */
+@Slf4j
+@Component
+public class MemberPrincipalCache {
+
+    private static final String CACHE_NAME = "memberPrincipal";
+
+    private final MemberRepository memberRepository;
+    private final AuthMetrics authMetrics;
+    private final boolean enabled;
+    private final Cache<String, MemberPrincipal> cache;
+    private final Counter invalidations;
+
+    public MemberPrincipalCache(MemberRepository memberRepository,
+                                MeterRegistry meterRegistry,
+                                AuthMetrics authMetrics,
+                                @Value("${jwt.principal-cache.enabled:true}") boolean enabled,
+                                @Value("${jwt.principal-cache.maximum-size:10000}") long maximumSize,
+                                @Value("${jwt.principal-cache.ttl:30}") long ttlInSeconds) {
+        this.memberRepository = memberRepository;
+        this.authMetrics = authMetrics;
+        this.enabled = enabled;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlInSeconds))
+                .recordStats()
+                .build();
+        this.invalidations = Counter.builder("member.principal.cache.invalidations")
+                .description("회원 정보 변경으로 캐시에서 제거된 수")
+                .register(meterRegistry);
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    public Optional<MemberPrincipal> get(String username) {
+        if (!enabled) {
+            return load(username);
+        }
+        // 없는 회원은 캐시하지 않음 (null 반환 시 저장 X)
+        return Optional.ofNullable(cache.get(username, key -> load(key).orElse(null)));
+    }
+
+    // 캐시 미스일 때만 DB 조회 (member.lookup 타이머 기록)
+    private Optional<MemberPrincipal> load(String username) {
+        long start = System.nanoTime();
+        Optional<MemberPrincipal> principal = memberRepository.findPrincipalByUsername(username);
+        authMetrics.recordMemberLookup(AuthMetrics.JWT_FILTER, principal.isPresent(), start);
+        return principal;
+    }
+
+    public void evict(String username) {
+        if (username == null) {
+            return;
+        }
+        cache.invalidate(username);
+        invalidations.increment();
+        log.debug("회원 캐시를 제거합니다. username: {}", username);
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+}
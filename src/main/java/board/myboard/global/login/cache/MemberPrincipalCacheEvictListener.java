@@ -0,0 +1,47 @@
+package board.myboard.global.login.cache;
+
+import board.myboard.domain.member.Member;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.persistence.PostRemove;
+import javax.persistence.PostUpdate;
+
+/**
+ * Member가 수정/삭제되면 트랜잭션 커밋 후 MemberPrincipalCache에서 제거.
+ *
+ * flush 시점(@PostUpdate)에 바로 제거하면 커밋 전에 다른 요청이 이전 값을 다시 읽어 캐시에 넣을 수 있으므로
+ * 커밋이 끝난 뒤(afterCommit) 제거한다. 롤백되면 제거하지 않는다. (트랜잭션 밖이면 바로 제거)
+ *
+ * 엔티티 리스너는 EntityManagerFactory를 만들 때 생성되므로
+ * 순환 참조를 피하기 위해 ObjectProvider로 캐시를 늦게 가져온다.
+ */
+public class MemberPrincipalCacheEvictListener {
+
+    private final ObjectProvider<MemberPrincipalCache> memberPrincipalCache;
+
+    public MemberPrincipalCacheEvictListener(ObjectProvider<MemberPrincipalCache> memberPrincipalCache) {
+        this.memberPrincipalCache = memberPrincipalCache;
+    }
+
+    @PostUpdate
+    @PostRemove
+    public void evict(Member member) {
+        String username = member.getUsername();
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evict(username);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                evict(username);
+            }
+        });
+    }
+
+    private void evict(String username) {
+        memberPrincipalCache.ifAvailable(cache -> cache.evict(username));
+    }
+}
@@ -0,0 +1,101 @@
+package board.myboard.global.login.executor;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 로그인 인증(회원 조회 + 비밀번호 해시 비교) 전용 스레드 풀.
+ *
+ * BCrypt 비교를 Tomcat 요청 스레드가 아닌 이 풀에서 실행해서
+ * 로그인 요청이 몰려도 (credential stuffing 등) 일반 API 요청 스레드가 묶이지 않도록 함.
+ * 큐가 가득 차면 바로 RejectedExecutionException -> 503 응답.
+ *
+ * 메트릭 : login.executor.queue (대기 수), login.executor.active, login.executor.rejected,
+ *         login.executor.wait (큐 대기 시간)
+ */
+@Slf4j
+@Component
+public class LoginExecutor {
+
+    @Getter
+    private final boolean enabled;
+    @Getter
+    private final long timeoutMillis;
+
+    private final ThreadPoolExecutor executor;
+    private final Timer waitTimer;
+    private final Counter rejected;
+
+    public LoginExecutor(MeterRegistry meterRegistry,
+                         @Value("${login.executor.enabled:true}") boolean enabled,
+                         @Value("${login.executor.threads:0}") int threads,
+                         @Value("${login.executor.queue-capacity:64}") int queueCapacity,
+                         @Value("${login.executor.timeout:10000}") long timeoutMillis) {
+        this.enabled = enabled;
+        this.timeoutMillis = timeoutMillis;
+
+        // 0이면 CPU 코어 수 (해시는 CPU 작업이므로 코어 수 이상은 의미 없음)
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "login-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+
+        Gauge.builder("login.executor.queue", executor, e -> e.getQueue().size())
+                .description("대기 중인 로그인 요청 수")
+                .register(meterRegistry);
+        Gauge.builder("login.executor.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("처리 중인 로그인 요청 수")
+                .register(meterRegistry);
+        this.rejected = Counter.builder("login.executor.rejected")
+                .description("큐가 가득 차서 거부된 로그인 요청 수 (503)")
+                .register(meterRegistry);
+        this.waitTimer = Timer.builder("login.executor.wait")
+                .description("로그인 요청의 큐 대기 시간")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    /**
+     * @throws RejectedExecutionException 큐가 가득 찬 경우
+     */
+    public void execute(Runnable task) {
+        long enqueuedAt = System.nanoTime();
+        try {
+            executor.execute(() -> {
+                waitTimer.record(System.nanoTime() - enqueuedAt, TimeUnit.NANOSECONDS);
+                task.run();
+            });
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            throw e;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(timeoutMillis, TimeUnit.MILLISECONDS)) {
+            log.warn("처리되지 않은 로그인 요청이 있습니다. {}", executor.getQueue().size());
+            executor.shutdownNow();
+        }
+    }
+}
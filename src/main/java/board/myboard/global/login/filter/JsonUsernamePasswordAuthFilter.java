@@ -1,64 +1,263 @@
 package board.myboard.global.login.filter;
 
+import board.myboard.auth.ratelimit.LoginRateLimiter;
+import board.myboard.global.login.executor.LoginExecutor;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
 import org.springframework.security.authentication.AuthenticationServiceException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.web.authentication.AbstractAuthenticationProcessingFilter;
 import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
-import org.springframework.util.StreamUtils;
 
+import javax.servlet.AsyncContext;
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
+import javax.servlet.FilterChain;
 import javax.servlet.ServletException;
+import javax.servlet.ServletRequest;
+import javax.servlet.ServletResponse;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
-import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 
 /**
  * Security 커스텀하여 JSON로그인 구현.
  * (성공시 JWT 발급 구현할 예정)
+ *
+ * LoginExecutor가 설정되면 (login.executor.enabled=true)
+ * 본문 파싱까지만 요청 스레드에서 하고, 인증(회원 조회 + BCrypt)은 Servlet async로 LoginExecutor에서 실행.
+ * LoginExecutor의 큐가 가득 차면 503 (Retry-After) 으로 바로 응답.
+ * login.executor.timeout 안에 끝나지 않으면 503으로 응답하고, 아직 실행되지 않은 인증은 건너뛴다.
+ * (응답은 timeout 과 인증 스레드 중 먼저 차지한 쪽만 쓴다.
+ *  인증 스레드가 응답을 쓰는 중에 timeout 되면 다 쓸 때까지 기다렸다가 complete -> 컨테이너의 error dispatch 방지)
  */
-
+@Slf4j
 public class JsonUsernamePasswordAuthFilter extends AbstractAuthenticationProcessingFilter {
 
     // /login/oauth2/ + ????? 로 오는 요청을 처리
     private static final String DEFAULT_LOGIN_REQUEST_URL = "/login";
     private static final String HTTP_METHOD = "POST";
-    private static final String CONTENT_TYPE = "application/json"; // json타입의 데이터로만 로그인 한다.
+    private static final MediaType CONTENT_TYPE = MediaType.APPLICATION_JSON; // json타입의 데이터로만 로그인 한다.
+
+    private final LoginRequestParser loginRequestParser;
+
+    // 로그인 실패 시 LoginFailHandler가 실패 횟수를 기록할 수 있도록 username을 담아둔다.
+    public static final String USERNAME_ATTRIBUTE = JsonUsernamePasswordAuthFilter.class.getName() + ".username";
 
-    private final ObjectMapper objectMapper;
+    @Setter
+    private LoginExecutor loginExecutor;
 
-    private static final String USERNAME_KEY = "username";
-    private static final String PASSWORD_KEY = "password";
+    @Setter
+    private LoginRateLimiter loginRateLimiter;
 
     // /login요청에 , POST로 온 요청 매칭.
     private static final AntPathRequestMatcher DEFAULT_LOGIN_PATH_REQUEST_MATCHER =
             new AntPathRequestMatcher(DEFAULT_LOGIN_REQUEST_URL, HTTP_METHOD);
 
-    public JsonUsernamePasswordAuthFilter(ObjectMapper objectMapper) {
+    public JsonUsernamePasswordAuthFilter(ObjectMapper objectMapper, int maxBodySize) {
         // 위에 설정한 /login/oauth2/* 의 요청에 , GET으로 온 요청을 처리하기 위한 설정.
         super(DEFAULT_LOGIN_PATH_REQUEST_MATCHER);
-        this.objectMapper = objectMapper;
+        this.loginRequestParser = new LoginRequestParser(objectMapper.getFactory(), maxBodySize);
+    }
+
+    @Override
+    public void doFilter(ServletRequest req, ServletResponse res, FilterChain chain) throws IOException, ServletException {
+        HttpServletRequest request = (HttpServletRequest) req;
+        HttpServletResponse response = (HttpServletResponse) res;
+
+        if (loginExecutor == null || !loginExecutor.isEnabled() || !requiresAuthentication(request, response)) {
+            super.doFilter(req, res, chain);
+            return;
+        }
+
+        // 파싱은 가벼우므로 요청 스레드에서 처리하고 잘못된 요청은 바로 실패
+        UsernamePasswordAuthenticationToken authRequest;
+        try {
+            authRequest = readAuthenticationRequest(request);
+        } catch (AuthenticationException e) {
+            unsuccessfulAuthentication(request, response, e);
+            return;
+        }
+
+        AsyncContext asyncContext = request.startAsync(request, response);
+        asyncContext.setTimeout(loginExecutor.getTimeoutMillis());
+        // 응답을 쓴 쪽 (timeout 또는 인증 스레드)
+        AtomicBoolean responded = new AtomicBoolean();
+        // 인증 스레드가 응답 쓰기를 끝냈는지
+        CountDownLatch written = new CountDownLatch(1);
+        asyncContext.addListener(new LoginTimeoutListener(response, responded, written, loginExecutor.getTimeoutMillis()));
+        try {
+            loginExecutor.execute(() -> authenticateAsync(request, response, chain, authRequest, asyncContext, responded, written));
+        } catch (RejectedExecutionException e) {
+            log.warn("로그인 요청이 많아 거부합니다.");
+            responded.set(true);
+            serviceUnavailable(response);
+            asyncContext.complete();
+        }
+    }
+
+    private void authenticateAsync(HttpServletRequest request, HttpServletResponse response, FilterChain chain,
+                                   UsernamePasswordAuthenticationToken authRequest, AsyncContext asyncContext,
+                                   AtomicBoolean responded, CountDownLatch written) {
+        // 큐에서 기다리는 동안 timeout (이미 503 응답) -> 해시 비교를 하지 않음
+        if (responded.get()) {
+            return;
+        }
+        // 이 스레드가 응답을 쓰게 되었는지 (timeout 보다 먼저)
+        boolean owner = false;
+        try {
+            Authentication authResult = this.getAuthenticationManager().authenticate(authRequest);
+            // 해시 비교 중 timeout -> 토큰을 발급하지 않음
+            owner = responded.compareAndSet(false, true);
+            if (owner) {
+                successfulAuthentication(request, response, chain, authResult);
+            }
+        } catch (AuthenticationException e) {
+            owner = owner || responded.compareAndSet(false, true);
+            if (owner) {
+                try {
+                    unsuccessfulAuthentication(request, response, e);
+                } catch (Exception ex) {
+                    log.error("로그인 실패 처리 중 오류가 발생했습니다. {}", ex.getMessage());
+                }
+            }
+        } catch (Exception e) {
+            log.error("로그인 처리 중 오류가 발생했습니다. {}", e.getMessage());
+            owner = owner || responded.compareAndSet(false, true);
+            if (owner) {
+                response.setStatus(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
+            }
+        } finally {
+            // 풀 스레드는 재사용되므로 SecurityContext를 남기지 않는다.
+            SecurityContextHolder.clearContext();
+            // 응답을 쓰는 중에 timeout 된 경우 LoginTimeoutListener 가 기다리고 있음
+            written.countDown();
+            // timeout 으로 이미 응답한 경우는 LoginTimeoutListener 가 complete
+            if (owner) {
+                completeQuietly(asyncContext);
+            }
+        }
+    }
+
+    private static void serviceUnavailable(HttpServletResponse response) {
+        response.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+        response.setHeader("Retry-After", "1");
+    }
+
+    // timeout 처리와 동시에 끝난 경우 이미 complete 되어 있을 수 있음
+    private static void completeQuietly(AsyncContext asyncContext) {
+        try {
+            asyncContext.complete();
+        } catch (IllegalStateException e) {
+            log.debug("이미 끝난 로그인 요청입니다. {}", e.getMessage());
+        }
+    }
+
+    /**
+     * login.executor.timeout 이 지나면 503으로 응답하고, 인증 스레드가 응답을 쓰지 않도록 표시한다.
+     * 인증 스레드가 이미 응답을 쓰고 있으면 다 쓸 때까지 (최대 waitMillis) 기다린 후 complete 한다.
+     * (onTimeout 에서 complete 하지 않으면 컨테이너가 쓰는 중인 응답에 error dispatch 를 한다)
+     */
+    private static class LoginTimeoutListener implements AsyncListener {
+
+        private final HttpServletResponse response;
+        private final AtomicBoolean responded;
+        private final CountDownLatch written;
+        private final long waitMillis;
+
+        LoginTimeoutListener(HttpServletResponse response, AtomicBoolean responded, CountDownLatch written, long waitMillis) {
+            this.response = response;
+            this.responded = responded;
+            this.written = written;
+            this.waitMillis = waitMillis;
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            if (responded.compareAndSet(false, true)) {
+                log.warn("로그인 처리 시간이 초과되었습니다.");
+                serviceUnavailable(response);
+                completeQuietly(event.getAsyncContext());
+                return;
+            }
+            // 인증 스레드가 응답을 쓰는 중
+            try {
+                if (!written.await(waitMillis, TimeUnit.MILLISECONDS)) {
+                    log.warn("로그인 응답을 쓰는 시간이 초과되었습니다.");
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            completeQuietly(event.getAsyncContext());
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+        }
     }
 
     @Override
     public Authentication attemptAuthentication(HttpServletRequest request, HttpServletResponse response)
             throws AuthenticationException, IOException, ServletException {
-        if (request.getContentType() == null || !request.getContentType().equals(CONTENT_TYPE)){
+        UsernamePasswordAuthenticationToken authRequest = readAuthenticationRequest(request);
+        // AnticationManager => SecurityConfig 파일에서 설정해줄것.
+        return this.getAuthenticationManager().authenticate(authRequest);
+    }
+
+    private UsernamePasswordAuthenticationToken readAuthenticationRequest(HttpServletRequest request) throws IOException {
+        // IP별 시도 제한은 본문을 읽기 전에 확인
+        if (loginRateLimiter != null) {
+            loginRateLimiter.checkIp(request.getRemoteAddr());
+        }
+        if (!isJson(request.getContentType())){
             throw new AuthenticationServiceException("Content-Type not supported" + request.getContentType());
         }
+        // Content-Length를 알 수 있으면 본문을 읽기 전에 거부
+        if (request.getContentLengthLong() > loginRequestParser.getMaxBodySize()) {
+            throw new AuthenticationServiceException("로그인 요청 본문이 너무 큽니다.");
+        }
 
-        String messageBody = StreamUtils.copyToString(request.getInputStream(), StandardCharsets.UTF_8);
+        LoginRequest loginRequest = loginRequestParser.parse(request.getInputStream());
+        String username = loginRequest.getUsername();
+        String password = loginRequest.getPassword();
 
-        Map<String, String> usernamePasswordMap = objectMapper.readValue(messageBody, Map.class);
-        String username = usernamePasswordMap.get(USERNAME_KEY);
-        String password = usernamePasswordMap.get(PASSWORD_KEY);
+        // 실패가 많은 계정은 회원 조회, BCrypt 비교 전에 거부
+        request.setAttribute(USERNAME_ATTRIBUTE, username);
+        if (loginRateLimiter != null) {
+            loginRateLimiter.checkUsername(username);
+        }
 
-        UsernamePasswordAuthenticationToken authRequest = new UsernamePasswordAuthenticationToken(username,password);
-        // AnticationManager => SecurityConfig 파일에서 설정해줄것.
-        return this.getAuthenticationManager().authenticate(authRequest);
+        return new UsernamePasswordAuthenticationToken(username,password);
+    }
+
+    // application/json;charset=UTF-8 등 파라미터가 붙은 경우도 허용
+    private boolean isJson(String contentType) {
+        if (contentType == null) {
+            return false;
+        }
+        try {
+            return CONTENT_TYPE.equalsTypeAndSubtype(MediaType.parseMediaType(contentType));
+        } catch (InvalidMediaTypeException e) {
+            return false;
+        }
     }
 }
@@ -1,10 +1,18 @@
 package board.myboard.global.login.filter;
 
 
-import board.myboard.domain.member.Member;
-import board.myboard.domain.member.repository.MemberRepository;
+import board.myboard.auth.revoke.AccessTokenDenylist;
+import board.myboard.domain.member.MemberPrincipal;
+import board.myboard.domain.member.Role;
+import board.myboard.global.config.PublicEndpoints;
 import board.myboard.global.jwt.service.JwtService;
+import board.myboard.global.jwt.service.ReissuedTokens;
+import board.myboard.global.login.cache.MemberPrincipalCache;
+import board.myboard.global.metrics.AuthMetrics;
+import com.auth0.jwt.interfaces.DecodedJWT;
 import lombok.RequiredArgsConstructor;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.authority.mapping.GrantedAuthoritiesMapper;
@@ -20,6 +28,7 @@ import javax.servlet.ServletException;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import java.io.IOException;
+import java.util.Optional;
 
 /**
  * OncePerRequestFilter는 그 이름에서도 알 수 있듯이
@@ -28,15 +37,33 @@ import java.io.IOException;
  * 이 추상 클래스를 구현한 필터는 사용자의 한번에
  * 요청 당 딱 한번만 실행되는 필터를 만들 수 있다.
  */
+@Slf4j
 @RequiredArgsConstructor
 public class JwtAuthenticationProcessingFilter extends OncePerRequestFilter {
 
     private final JwtService jwtService;
-    private final MemberRepository memberRepository;
+    private final MemberPrincipalCache memberPrincipalCache;
+    private final AuthMetrics authMetrics;
+    private final AccessTokenDenylist accessTokenDenylist;
 
     private GrantedAuthoritiesMapper authoritiesMapper = new NullAuthoritiesMapper();
 
-    private final String NO_CHECK_URL = "/login";
+    /**
+     * true : AccessToken의 username, role 클레임만으로 Authentication을 만든다. (요청마다 DB 조회 X)
+     *        -> 권한 변경, 정지 등은 AccessToken이 만료될 때까지 반영되지 않음.
+     * false : 기존처럼 요청마다 회원을 조회. (기본값)
+     */
+    @Setter
+    private boolean stateless = false;
+
+    /**
+     * 인증이 필요없는 경로(로그인, 회원가입, 정적 리소스, health 등)는 토큰을 보지 않고 바로 통과.
+     * SecurityConfig의 permitAll과 같은 matcher 사용.
+     */
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return PublicEndpoints.PERMIT_ALL.matches(request);
+    }
 
     /**
      * 1. 리프레시 토큰이 올 경우
@@ -47,11 +74,6 @@ public class JwtAuthenticationProcessingFilter extends OncePerRequestFilter {
      */
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
-        if (request.getRequestURI().equals(NO_CHECK_URL)) {
-            filterChain.doFilter(request,response);
-            return;
-        }
-
         String refreshToken = jwtService.extractRefreshToken(request)
 //                  .filter(s -> jwtService.isTokenValid(s)).orElse(null);
                 .filter(jwtService::isTokenValid).orElse(null);
@@ -70,22 +92,42 @@ public class JwtAuthenticationProcessingFilter extends OncePerRequestFilter {
             throws ServletException, IOException {
         // 유저정보 저장 후 필터 계속 진행
         // 매개변수 Member member.
-        jwtService.extractAccessToken(request).filter(jwtService::isTokenValid).ifPresent(
-                accessToken -> jwtService.extractUsername(accessToken).ifPresent(
-                        username -> memberRepository.findByUsername(username).ifPresent(
-                                this::saveAuthentication
-                        )
-                )
-        );
+        // 검증(HMAC + 파싱)은 한 번만 하고, 디코딩된 결과에서 username을 꺼낸다.
+        jwtService.extractAccessToken(request)
+                .flatMap(jwtService::verify)
+                .ifPresent(this::authenticate);
 
         filterChain.doFilter(request,response);
     }
 
-    private void saveAuthentication(Member member) {
+    private void authenticate(DecodedJWT accessToken) {
+        // 폐기된 토큰은 인증하지 않음 (만료 전이라도)
+        if (accessTokenDenylist.isRevoked(accessToken)) {
+            return;
+        }
+
+        Optional<String> username = jwtService.extractUsername(accessToken);
+        Optional<Role> role = jwtService.extractRole(accessToken);
+
+        // role 클레임이 없는 (이전에 발급된) 토큰은 stateless 모드여도 회원을 조회한다.
+        if (stateless && username.isPresent() && role.isPresent()) {
+            saveAuthentication(username.get(), role.get());
+            return;
+        }
+
+        username.flatMap(memberPrincipalCache::get).ifPresent(this::saveAuthentication);
+    }
+
+    private void saveAuthentication(MemberPrincipal member) {
+        saveAuthentication(member.getUsername(), member.getRole());
+    }
+
+    private void saveAuthentication(String username, Role role) {
+        // 인증 이후에는 비밀번호가 필요없으므로 빈 값으로 둔다.
         UserDetails user = User.builder()
-                .username(member.getUsername())
-                .password(member.getPassword())
-                .roles(member.getRole().name())
+                .username(username)
+                .password("")
+                .roles(role.name())
                 .build();
 
         Authentication authentication = new UsernamePasswordAuthenticationToken(user,null,
@@ -98,9 +140,24 @@ public class JwtAuthenticationProcessingFilter extends OncePerRequestFilter {
     }
 
 
+    // RefreshToken rotation : 새 AccessToken과 새 RefreshToken을 함께 보낸다. (기존 RefreshToken은 다시 사용할 수 없음)
+    // 재발급할 수 없는 토큰(없음, 만료, 재사용으로 계열 폐기)이거나 재발급에 실패하면(저장소 오류 등) 401 -> 클라이언트는 다시 로그인
     private void checkRefreshTokenAndReIssueAccessToken(HttpServletResponse response, String refreshToken) {
-        memberRepository.findByRefreshToken(refreshToken).ifPresent(
-                member -> jwtService.sendAccessToken(response, jwtService.createAccessToken(member.getUsername()))
-        );
+        long start = System.nanoTime();
+        Optional<ReissuedTokens> reissued;
+        try {
+            reissued = jwtService.reissue(refreshToken);
+        } catch (RuntimeException e) {
+            log.warn("토큰 재발급에 실패했습니다.", e);
+            authMetrics.recordReissue(false, start);
+            response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
+            return;
+        }
+        if (reissued.isPresent()) {
+            jwtService.sendAccessAndRefreshToken(response, reissued.get().getAccessToken(), reissued.get().getRefreshToken());
+        } else {
+            response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
+        }
+        authMetrics.recordReissue(reissued.isPresent(), start);
     }
 }
@@ -0,0 +1,18 @@
+package board.myboard.global.login.filter;
+
+import lombok.Getter;
+
+/**
+ * 로그인 요청 본문 {"username": "...", "password": "..."}
+ */
+@Getter
+public class LoginRequest {
+
+    private final String username;
+    private final String password;
+
+    public LoginRequest(String username, String password) {
+        this.username = username;
+        this.password = password;
+    }
+}
@@ -0,0 +1,113 @@
+package board.myboard.global.login.filter;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import org.springframework.security.authentication.AuthenticationServiceException;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * 로그인 요청 본문을 스트리밍으로 파싱.
+ *
+ * 본문 전체를 String으로 복사하고 Map으로 읽는 대신
+ * JsonParser로 입력 스트림에서 username, password만 바로 읽는다.
+ *
+ * 다음의 경우 바로 거부 (AuthenticationServiceException -> LoginFailHandler)
+ * - 본문이 maxBodySize(byte)보다 큰 경우 (끝까지 읽지 않고 중단)
+ * - username, password 외의 필드, 중복 필드, 문자열이 아닌 값
+ * - JSON 객체 하나가 아닌 경우
+ */
+public class LoginRequestParser {
+
+    private static final String USERNAME_KEY = "username";
+    private static final String PASSWORD_KEY = "password";
+
+    private final JsonFactory jsonFactory;
+    private final int maxBodySize;
+
+    public LoginRequestParser(JsonFactory jsonFactory, int maxBodySize) {
+        this.jsonFactory = jsonFactory;
+        this.maxBodySize = maxBodySize;
+    }
+
+    public int getMaxBodySize() {
+        return maxBodySize;
+    }
+
+    public LoginRequest parse(InputStream inputStream) throws IOException {
+        try (JsonParser parser = jsonFactory.createParser(new LimitedInputStream(inputStream, maxBodySize))) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new AuthenticationServiceException("로그인 요청 형식이 올바르지 않습니다.");
+            }
+
+            String username = null;
+            String password = null;
+
+            JsonToken token;
+            while ((token = parser.nextToken()) == JsonToken.FIELD_NAME) {
+                String field = parser.getCurrentName();
+                if (parser.nextToken() != JsonToken.VALUE_STRING) {
+                    throw new AuthenticationServiceException("로그인 요청 값은 문자열이어야 합니다. " + field);
+                }
+
+                if (USERNAME_KEY.equals(field) && username == null) {
+                    username = parser.getText();
+                } else if (PASSWORD_KEY.equals(field) && password == null) {
+                    password = parser.getText();
+                } else {
+                    throw new AuthenticationServiceException("허용되지 않은 로그인 요청 필드입니다. " + field);
+                }
+            }
+
+            if (token != JsonToken.END_OBJECT || parser.nextToken() != null) {
+                throw new AuthenticationServiceException("로그인 요청 형식이 올바르지 않습니다.");
+            }
+            return new LoginRequest(username, password);
+        } catch (JsonProcessingException e) {
+            throw new AuthenticationServiceException("로그인 요청 형식이 올바르지 않습니다.", e);
+        }
+    }
+
+    /**
+     * limit byte를 넘게 읽으려 하면 바로 실패.
+     */
+    private static class LimitedInputStream extends FilterInputStream {
+
+        private int remaining;
+
+        LimitedInputStream(InputStream in, int limit) {
+            super(in);
+            this.remaining = limit;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b != -1) {
+                consume(1);
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            // limit + 1 byte 까지만 읽어서 초과 여부만 확인
+            int n = super.read(b, off, Math.min(len, remaining + 1));
+            if (n > 0) {
+                consume(n);
+            }
+            return n;
+        }
+
+        private void consume(int n) {
+            remaining -= n;
+            if (remaining < 0) {
+                throw new AuthenticationServiceException("로그인 요청 본문이 너무 큽니다.");
+            }
+        }
+    }
+}
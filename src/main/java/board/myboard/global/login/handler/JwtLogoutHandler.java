@@ -0,0 +1,32 @@
+package board.myboard.global.login.handler;
+
+import board.myboard.global.jwt.service.JwtService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.web.authentication.logout.LogoutHandler;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+/**
+ * 로그아웃 (POST /logout)
+ *
+ * LogoutFilter는 JwtAuthenticationProcessingFilter보다 앞에서 실행되므로 authentication은 항상 null.
+ * -> 요청 헤더의 토큰을 직접 읽는다.
+ * - AccessToken : 만료 전까지 사용할 수 없도록 폐기 (AccessTokenDenylist)
+ * - RefreshToken : 같은 로그인에서 이어진 토큰 계열 삭제 (다른 기기의 로그인은 유지)
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class JwtLogoutHandler implements LogoutHandler {
+
+    private final JwtService jwtService;
+
+    @Override
+    public void logout(HttpServletRequest request, HttpServletResponse response, Authentication authentication) {
+        jwtService.extractAccessToken(request).ifPresent(jwtService::revokeAccessToken);
+        jwtService.extractRefreshToken(request).ifPresent(jwtService::destroyRefreshTokenFamily);
+        log.info("로그아웃 되었습니다.");
+    }
+}
@@ -1,6 +1,11 @@
 package board.myboard.global.login.handler;
 
+import board.myboard.auth.ratelimit.LoginRateLimitException;
+import board.myboard.auth.ratelimit.LoginRateLimiter;
+import board.myboard.global.login.filter.JsonUsernamePasswordAuthFilter;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.web.authentication.SimpleUrlAuthenticationFailureHandler;
 
@@ -10,10 +15,28 @@ import javax.servlet.http.HttpServletResponse;
 import java.io.IOException;
 
 @Slf4j
+@RequiredArgsConstructor
 public class LoginFailHandler extends SimpleUrlAuthenticationFailureHandler {
 
+    private static final int SC_TOO_MANY_REQUESTS = 429;
+
+    private final LoginRateLimiter loginRateLimiter;
+
     @Override
     public void onAuthenticationFailure(HttpServletRequest request, HttpServletResponse response, AuthenticationException exception) throws IOException, ServletException {
+        // 시도 제한 초과 -> 429
+        if (exception instanceof LoginRateLimitException) {
+            response.setStatus(SC_TOO_MANY_REQUESTS);
+            response.setHeader("Retry-After", String.valueOf(((LoginRateLimitException) exception).getRetryAfterSeconds()));
+            log.info("로그인 시도 제한을 초과했습니다.");
+            return;
+        }
+
+        // 아이디, 비밀번호가 틀린 경우 실패 횟수 기록 (없는 아이디도 BadCredentialsException)
+        if (exception instanceof BadCredentialsException) {
+            loginRateLimiter.recordFailure((String) request.getAttribute(JsonUsernamePasswordAuthFilter.USERNAME_ATTRIBUTE));
+        }
+
         response.setStatus(HttpServletResponse.SC_OK); // 일단 보안을 위해 로그인 오류지만 200반환.
         response.getWriter().write("fail");
         log.info("로그인에 실패합니다.");
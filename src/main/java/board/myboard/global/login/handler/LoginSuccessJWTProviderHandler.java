@@ -1,11 +1,13 @@
 package board.myboard.global.login.handler;
 
+import board.myboard.domain.member.Member;
 import board.myboard.domain.member.repository.MemberRepository;
 import board.myboard.global.jwt.service.JwtService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.web.authentication.SimpleUrlAuthenticationSuccessHandler;
 
 import javax.servlet.ServletException;
@@ -25,22 +27,21 @@ public class LoginSuccessJWTProviderHandler extends SimpleUrlAuthenticationSucce
 
         String username = extractUsername(authentication);
 
-        String accessToken = jwtService.createAccessToken(username);
+        // 로그인 성공 시 JWT를 제공하는 코드 작성
+        // AccessToken에 memberId, role을 담아서 stateless 모드에서는 요청마다 회원 조회를 하지 않도록 함.
+        Member member = memberRepository.findByUsername(username).orElseThrow(
+                () -> new UsernameNotFoundException("해당 아이디가 없습니다.")
+        );
+
+        String accessToken = jwtService.createAccessToken(member);
         String refreshToken = jwtService.createRefreshToken();
 
         jwtService.sendAccessAndRefreshToken(response, accessToken, refreshToken);
 
-        // isPresent() 메소드
-        //- Boolean 타입
-        //- Optional 객체가 값을 가지고 있다면 true, 값이 없다면 false 리턴
-
-        // 로그인 성공 시 JWT를 제공하는 코드 작성
-        memberRepository.findByUsername(username).ifPresent(
-                member -> member.updateRefreshToken(refreshToken));
+        jwtService.updateRefreshToken(username, refreshToken);
 
+        // 토큰 값은 로그에 남기지 않는다. (로그 유출 = 토큰 유출)
         log.info("로그인에 성공합니다. username: {}", username);
-        log.info("AccessToken을 발급합니다.  AccessToken : {}", accessToken);
-        log.info("RefreshToken을 발급합니다. RefreshToken: {}", refreshToken);
     }
 
     private String extractUsername(Authentication authentication){
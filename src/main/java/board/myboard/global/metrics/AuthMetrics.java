@@ -0,0 +1,105 @@
+package board.myboard.global.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 인증 과정의 타이머 모음. (/actuator/prometheus 로 노출)
+ *
+ * - jwt.verify           outcome = valid | expired | bad_signature | invalid
+ * - jwt.sign             type = access | refresh
+ * - member.lookup        source = jwt_filter | login, outcome = found | unknown_user
+ * - jwt.refresh.reissue  outcome = reissued | unknown_token
+ * - jwt.refresh.reuse    사용된 RefreshToken 재사용 (토큰 계열 폐기) 횟수
+ * - password.hash        (TimedPasswordEncoder)
+ *
+ * 요청마다 레지스트리를 조회하지 않도록 태그 조합별 Timer를 미리 등록해둔다.
+ */
+@Component
+public class AuthMetrics {
+
+    public static final String VALID = "valid";
+    public static final String EXPIRED = "expired";
+    public static final String BAD_SIGNATURE = "bad_signature";
+    public static final String INVALID = "invalid";
+
+    public static final String ACCESS = "access";
+    public static final String REFRESH = "refresh";
+
+    public static final String JWT_FILTER = "jwt_filter";
+    public static final String LOGIN = "login";
+    public static final String FOUND = "found";
+    public static final String UNKNOWN_USER = "unknown_user";
+
+    public static final String REISSUED = "reissued";
+    public static final String UNKNOWN_TOKEN = "unknown_token";
+
+    private final Map<String, Timer> verifyTimers = new HashMap<>();
+    private final Map<String, Timer> signTimers = new HashMap<>();
+    private final Map<String, Timer> memberLookupTimers = new HashMap<>();
+    private final Map<String, Timer> reissueTimers = new HashMap<>();
+    private final Counter refreshReuse;
+
+    public AuthMetrics(MeterRegistry meterRegistry) {
+        for (String outcome : new String[]{VALID, EXPIRED, BAD_SIGNATURE, INVALID}) {
+            verifyTimers.put(outcome, Timer.builder("jwt.verify")
+                    .description("토큰 검증 시간")
+                    .tag("outcome", outcome)
+                    .register(meterRegistry));
+        }
+        for (String type : new String[]{ACCESS, REFRESH}) {
+            signTimers.put(type, Timer.builder("jwt.sign")
+                    .description("토큰 발급(서명) 시간")
+                    .tag("type", type)
+                    .register(meterRegistry));
+        }
+        for (String source : new String[]{JWT_FILTER, LOGIN}) {
+            for (String outcome : new String[]{FOUND, UNKNOWN_USER}) {
+                memberLookupTimers.put(source + outcome, Timer.builder("member.lookup")
+                        .description("회원 조회 시간")
+                        .tag("source", source)
+                        .tag("outcome", outcome)
+                        .register(meterRegistry));
+            }
+        }
+        for (String outcome : new String[]{REISSUED, UNKNOWN_TOKEN}) {
+            reissueTimers.put(outcome, Timer.builder("jwt.refresh.reissue")
+                    .description("RefreshToken으로 AccessToken 재발급 시간")
+                    .tag("outcome", outcome)
+                    .register(meterRegistry));
+        }
+        this.refreshReuse = Counter.builder("jwt.refresh.reuse")
+                .description("사용된 RefreshToken 재사용 감지 (토큰 계열 폐기)")
+                .register(meterRegistry);
+    }
+
+    public void recordVerify(String outcome, long startNanos) {
+        record(verifyTimers.get(outcome), startNanos);
+    }
+
+    public void recordSign(String type, long startNanos) {
+        record(signTimers.get(type), startNanos);
+    }
+
+    public void recordMemberLookup(String source, boolean found, long startNanos) {
+        record(memberLookupTimers.get(source + (found ? FOUND : UNKNOWN_USER)), startNanos);
+    }
+
+    public void recordReissue(boolean reissued, long startNanos) {
+        record(reissueTimers.get(reissued ? REISSUED : UNKNOWN_TOKEN), startNanos);
+    }
+
+    public void recordRefreshReuse() {
+        refreshReuse.increment();
+    }
+
+    private static void record(Timer timer, long startNanos) {
+        timer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+}
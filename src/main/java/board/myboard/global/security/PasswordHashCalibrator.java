@@ -0,0 +1,66 @@
+package board.myboard.global.security;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+
+/**
+ * 시작 시 이 서버에서 BCrypt strength별 해시 시간을 측정하고,
+ * 목표 시간(security.password.calibrate.target-millis) 안에 들어오는 가장 높은 strength를 알려준다.
+ * (security.password.calibrate.enabled=true 일 때만)
+ *
+ * 결과를 보고 security.password.bcrypt-strength를 설정하면 된다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "security.password.calibrate.enabled", havingValue = "true")
+public class PasswordHashCalibrator implements ApplicationRunner {
+
+    private static final int MIN_STRENGTH = 4;
+    private static final int MAX_STRENGTH = 16;
+    private static final int SAMPLES = 5;
+    private static final String SAMPLE_PASSWORD = "calibrate-password";
+
+    private final long targetMillis;
+
+    public PasswordHashCalibrator(@Value("${security.password.calibrate.target-millis:250}") long targetMillis) {
+        this.targetMillis = targetMillis;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        int recommended = calibrate();
+        log.info("BCrypt 목표 시간 {}ms 에 맞는 strength : {} (security.password.bcrypt-strength)", targetMillis, recommended);
+    }
+
+    public int calibrate() {
+        int recommended = MIN_STRENGTH;
+        for (int strength = MIN_STRENGTH; strength <= MAX_STRENGTH; strength++) {
+            double millis = medianMillis(new BCryptPasswordEncoder(strength));
+            log.info("BCrypt strength {} : {}ms", strength, String.format("%.1f", millis));
+            if (millis > targetMillis) {
+                break;
+            }
+            recommended = strength;
+        }
+        return recommended;
+    }
+
+    private static double medianMillis(BCryptPasswordEncoder encoder) {
+        encoder.encode(SAMPLE_PASSWORD); // warm up
+        long[] samples = new long[SAMPLES];
+        for (int i = 0; i < SAMPLES; i++) {
+            long start = System.nanoTime();
+            encoder.encode(SAMPLE_PASSWORD);
+            samples[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(samples);
+        return samples[SAMPLES / 2] / 1_000_000.0;
+    }
+}
@@ -0,0 +1,51 @@
+-- 회원, RefreshToken, 회원 일괄 등록 작업
+-- 엔티티를 변경하면 새 버전(V2__...)으로 추가한다. (이미 적용된 파일은 수정하지 않음)
+
+-- Member.id : pooled-lo, 한 번 조회로 100개 할당 (increment_size와 같아야 함)
+create sequence member_seq start with 1 increment by 100;
+
+create table member (
+    member_id          bigint       not null,
+    created_date       timestamp,
+    last_modified_date timestamp,
+    username           varchar(30)  not null,
+    password           varchar(255),
+    name               varchar(30)  not null,
+    nick_name          varchar(30)  not null,
+    age                integer      not null,
+    role               varchar(255),
+    primary key (member_id),
+    -- findByUsername, findPrincipalByUsername, findUsernamesIn
+    constraint uk_member_username unique (username)
+);
+
+-- RefreshToken.tokenHash (SHA-256 hex) 가 PK : 재발급 시 조회, markUsed
+create table refresh_token (
+    token_hash varchar(64) not null,
+    username   varchar(30) not null,
+    family_id  varchar(36) not null,
+    expires_at timestamp   not null,
+    used       boolean     not null,
+    primary key (token_hash)
+);
+
+-- findByUsername, deleteByUsername
+create index idx_refresh_token_username on refresh_token (username);
+-- deleteByFamilyId (재사용 감지 시 계열 전체 삭제)
+create index idx_refresh_token_family_id on refresh_token (family_id);
+-- deleteExpired (만료 토큰 정리)
+create index idx_refresh_token_expires_at on refresh_token (expires_at);
+
+create sequence member_import_job_seq start with 1 increment by 1;
+
+create table member_import_job (
+    member_import_job_id bigint      not null,
+    created_date         timestamp,
+    last_modified_date   timestamp,
+    status               varchar(20) not null,
+    checkpoint_line      bigint      not null,
+    imported             bigint      not null,
+    skipped              bigint      not null,
+    failed               bigint      not null,
+    primary key (member_import_job_id)
+);
@@ -0,0 +1,19 @@
+-- 게시글
+
+-- Post.id : pooled-lo, 한 번 조회로 100개 할당
+create sequence post_seq start with 1 increment by 100;
+
+create table post (
+    post_id            bigint        not null,
+    created_date       timestamp     not null,
+    last_modified_date timestamp,
+    title              varchar(100)  not null,
+    content            varchar(2000) not null,
+    member_id          bigint        not null,
+    primary key (post_id),
+    constraint fk_post_member foreign key (member_id) references member (member_id)
+);
+
+-- findLatest, findLatestBefore (keyset) : order by created_date desc, post_id desc 와 같은 순서
+-- -> 인덱스를 cursor 위치부터 읽다가 limit 에서 멈춘다. (정렬 X, 앞 페이지 행 X)
+create index idx_post_created_date_id on post (created_date desc, post_id desc);
@@ -0,0 +1,3 @@
+-- 회원 일괄 등록 작업의 마지막 진행 시각
+-- 서버가 종료되어 RUNNING으로 남은 작업을 다시 시작할 수 있는지 판단한다. (기존 행은 null -> 다시 시작 가능)
+alter table member_import_job add column heartbeat_at timestamp;
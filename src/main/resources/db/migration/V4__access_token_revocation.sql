@@ -0,0 +1,16 @@
+-- AccessToken 폐기를 노드 사이(메인 애플리케이션 여러 대, 게이트웨이)에 전달 (AccessTokenRevocations)
+-- 각 노드는 마지막으로 읽은 id 이후의 행을 주기적으로 읽어 자기 AccessTokenDenylist에 반영한다.
+--   jti 폐기       : jti, expires_at (= 토큰 만료 시각)
+--   회원 단위 폐기 : username, revoked_before (epoch second, 이 시각 이하에 발급된 토큰 폐기)
+-- expires_at(epoch ms)이 지난 행은 더 이상 막을 토큰이 없으므로 삭제한다.
+create table access_token_revocation (
+    id             bigint generated by default as identity,
+    jti            varchar(36),
+    username       varchar(30),
+    revoked_before bigint,
+    expires_at     bigint not null,
+    primary key (id)
+);
+
+-- 만료된 행 정리
+create index idx_access_token_revocation_expires_at on access_token_revocation (expires_at);
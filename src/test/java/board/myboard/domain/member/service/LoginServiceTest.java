@@ -0,0 +1,146 @@
+package board.myboard.domain.member.service;
+
+import board.myboard.domain.member.Member;
+import board.myboard.domain.member.Role;
+import board.myboard.domain.member.repository.MemberRepository;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.MessageDigestPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+
+@SpringBootTest
+@Transactional
+class LoginServiceTest {
+
+    @Autowired
+    AuthenticationManager authenticationManager;
+
+    @Autowired
+    MemberRepository memberRepository;
+
+    @Autowired
+    PasswordEncoder passwordEncoder;
+
+    @Autowired
+    EntityManager em;
+
+    private static final String USERNAME = "rehashUser";
+    private static final String PASSWORD = "123456789";
+
+    private void saveMember(String encodedPassword) {
+        memberRepository.save(Member.builder().username(USERNAME).password(encodedPassword)
+                .name("MEMBER1").nickName("NickName1").role(Role.USER).age(28).build());
+        clear();
+    }
+
+    private void clear() {
+        em.flush();
+        em.clear();
+    }
+
+    private void login() {
+        authenticationManager.authenticate(new UsernamePasswordAuthenticationToken(USERNAME, PASSWORD));
+        clear();
+    }
+
+    @Test
+    public void 낮은_비용_해시_로그인시_재암호화() throws Exception {
+        //given
+        String weakHash = "{bcrypt}" + new BCryptPasswordEncoder(4).encode(PASSWORD);
+        saveMember(weakHash);
+
+        //when
+        login();
+
+        //then
+        String password = memberRepository.findByUsername(USERNAME).get().getPassword();
+        Assertions.assertThat(password).isNotEqualTo(weakHash);
+        Assertions.assertThat(password).startsWith("{bcrypt}$2a$10$");
+        Assertions.assertThat(passwordEncoder.matches(PASSWORD, password)).isTrue();
+    }
+
+    @Test
+    public void 다른_알고리즘_해시_로그인시_재암호화() throws Exception {
+        //given
+        saveMember("{noop}" + PASSWORD);
+
+        //when
+        login();
+
+        //then
+        Assertions.assertThat(memberRepository.findByUsername(USERNAME).get().getPassword()).startsWith("{bcrypt}");
+    }
+
+    @Test
+    public void 반복_횟수가_다른_pbkdf2_해시_로그인시_재암호화() throws Exception {
+        //given (pbkdf2-iterations를 바꾸기 전에 저장된 해시)
+        String oldHash = "{pbkdf2@1000}" + new Pbkdf2PasswordEncoder("", 16, 1000, 256).encode(PASSWORD);
+        saveMember(oldHash);
+
+        //when
+        login();
+
+        //then
+        Assertions.assertThat(memberRepository.findByUsername(USERNAME).get().getPassword()).startsWith("{bcrypt}");
+    }
+
+    @Test
+    public void 스프링_기본_pbkdf2_해시_로그인() throws Exception {
+        //given (PasswordEncoderFactories 로 저장된 해시)
+        saveMember("{pbkdf2}" + new Pbkdf2PasswordEncoder().encode(PASSWORD));
+
+        //when
+        login();
+
+        //then
+        Assertions.assertThat(memberRepository.findByUsername(USERNAME).get().getPassword()).startsWith("{bcrypt}");
+    }
+
+    @Test
+    @SuppressWarnings("deprecation")
+    public void 다이제스트_해시_로그인시_재암호화() throws Exception {
+        //given
+        saveMember("{SHA-256}" + new MessageDigestPasswordEncoder("SHA-256").encode(PASSWORD));
+
+        //when
+        login();
+
+        //then
+        Assertions.assertThat(memberRepository.findByUsername(USERNAME).get().getPassword()).startsWith("{bcrypt}");
+    }
+
+    @Test
+    public void argon2_해시_로그인() throws Exception {
+        //given
+        saveMember("{argon2}" + new Argon2PasswordEncoder().encode(PASSWORD));
+
+        //when
+        login();
+
+        //then
+        Assertions.assertThat(memberRepository.findByUsername(USERNAME).get().getPassword()).startsWith("{bcrypt}");
+    }
+
+    @Test
+    public void 현재_설정_해시는_그대로() throws Exception {
+        //given
+        String hash = passwordEncoder.encode(PASSWORD);
+        saveMember(hash);
+
+        //when
+        login();
+
+        //then
+        Assertions.assertThat(memberRepository.findByUsername(USERNAME).get().getPassword()).isEqualTo(hash);
+    }
+}
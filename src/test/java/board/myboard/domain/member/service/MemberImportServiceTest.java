@@ -0,0 +1,235 @@
+package board.myboard.domain.member.service;
+
+import board.myboard.domain.member.Member;
+import board.myboard.domain.member.MemberImportJob;
+import board.myboard.domain.member.Role;
+import board.myboard.domain.member.dto.MemberImportFormat;
+import board.myboard.domain.member.dto.MemberImportResult;
+import board.myboard.domain.member.repository.MemberImportJobRepository;
+import board.myboard.domain.member.repository.MemberRepository;
+import board.myboard.global.jwt.service.JwtService;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import java.io.FilterReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.time.LocalDateTime;
+
+@AutoConfigureMockMvc
+@Transactional
+@SpringBootTest(properties = "member.import.batch-size=2")
+class MemberImportServiceTest {
+
+    @Autowired
+    MemberImportService memberImportService;
+
+    @Autowired
+    MemberRepository memberRepository;
+
+    @Autowired
+    MemberImportJobRepository memberImportJobRepository;
+
+    @Autowired
+    PasswordEncoder passwordEncoder;
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    EntityManager em;
+
+    @Autowired
+    JwtService jwtService;
+
+    @Value("${jwt.access.header}")
+    private String accessHeader;
+
+    private static final String BEARER = "Bearer ";
+
+    @Test
+    public void CSV_일괄등록() throws Exception {
+        //given
+        memberRepository.save(Member.builder().username("exists").password("123456789")
+                .name("Member").nickName("Nickname").role(Role.USER).age(22).build());
+        String csv = "username,password,name,nickName,age\n"
+                + "import1,123456789,Member1,Nickname1,21\n"
+                + "import2,123456789,Member2,Nickname2,22\n"
+                + "exists,123456789,Member3,Nickname3,23\n"
+                + "import1,123456789,Member4,Nickname4,24\n"
+                + "import5,123456789,Member5\n"
+                + "import6,123456789,Member6,Nickname6,26\n";
+
+        //when
+        MemberImportResult result = memberImportService.importMembers(new StringReader(csv), MemberImportFormat.CSV);
+
+        //then
+        Assertions.assertThat(result.getImported()).isEqualTo(3);
+        Assertions.assertThat(result.getSkipped()).isEqualTo(2);
+        Assertions.assertThat(result.getFailed()).isEqualTo(1);
+        Assertions.assertThat(result.getErrors()).containsExactly("6: 형식이 올바르지 않습니다.");
+
+        Member member = memberRepository.findByUsername("import6").orElseThrow();
+        Assertions.assertThat(member.getRole()).isEqualTo(Role.USER);
+        Assertions.assertThat(passwordEncoder.matches("123456789", member.getPassword())).isTrue();
+    }
+
+    @Test
+    public void JSON_lines_일괄등록_암호화된_비밀번호_그대로_저장() throws Exception {
+        //given
+        String encodedPassword = passwordEncoder.encode("123456789");
+        String jsonLines = "{\"username\":\"json1\",\"password\":\"" + encodedPassword + "\",\"name\":\"Member1\",\"nickName\":\"Nickname1\",\"age\":21}\n"
+                + "{\"username\":\"\",\"password\":\"123456789\",\"name\":\"Member2\",\"nickName\":\"Nickname2\",\"age\":22}\n"
+                + "not json\n";
+
+        //when
+        MemberImportResult result = memberImportService.importMembers(new StringReader(jsonLines), MemberImportFormat.JSON_LINES);
+
+        //then
+        Assertions.assertThat(result.getImported()).isEqualTo(1);
+        Assertions.assertThat(result.getFailed()).isEqualTo(2);
+        Assertions.assertThat(memberRepository.findByUsername("json1").orElseThrow().getPassword()).isEqualTo(encodedPassword);
+    }
+
+    @Test
+    public void 스프링_기본_pbkdf2_해시_그대로_저장() throws Exception {
+        //given
+        String encodedPassword = "{pbkdf2}" + new Pbkdf2PasswordEncoder().encode("123456789");
+        String jsonLines = "{\"username\":\"pbkdf2User\",\"password\":\"" + encodedPassword + "\",\"name\":\"Member1\",\"nickName\":\"Nickname1\",\"age\":21}\n";
+
+        //when
+        MemberImportResult result = memberImportService.importMembers(new StringReader(jsonLines), MemberImportFormat.JSON_LINES);
+
+        //then
+        Assertions.assertThat(result.getImported()).isEqualTo(1);
+        Assertions.assertThat(memberRepository.findByUsername("pbkdf2User").orElseThrow().getPassword()).isEqualTo(encodedPassword);
+    }
+
+    @Test
+    public void 해시가_아닌_접두사_비밀번호_거부() throws Exception {
+        //given
+        String jsonLines = "{\"username\":\"noop1\",\"password\":\"{noop}123456789\",\"name\":\"Member1\",\"nickName\":\"Nickname1\",\"age\":21}\n"
+                + "{\"username\":\"noop2\",\"password\":\"{bcrypt}123456789\",\"name\":\"Member2\",\"nickName\":\"Nickname2\",\"age\":22}\n"
+                + "{\"username\":\"noop3\",\"password\":\"{md5}e10adc3949ba59abbe56e057f20f883e\",\"name\":\"Member3\",\"nickName\":\"Nickname3\",\"age\":23}\n";
+
+        //when
+        MemberImportResult result = memberImportService.importMembers(new StringReader(jsonLines), MemberImportFormat.JSON_LINES);
+
+        //then
+        Assertions.assertThat(result.getImported()).isZero();
+        Assertions.assertThat(result.getFailed()).isEqualTo(3);
+        Assertions.assertThat(result.getErrors()).containsExactly(
+                "1: 지원하지 않는 비밀번호 해시 형식입니다.",
+                "2: 지원하지 않는 비밀번호 해시 형식입니다.",
+                "3: 지원하지 않는 비밀번호 해시 형식입니다.");
+        Assertions.assertThat(memberRepository.findByUsername("noop1")).isEmpty();
+    }
+
+    @Test
+    public void 실패한_작업_이어서_저장() throws Exception {
+        //given
+        StringBuilder csv = new StringBuilder();
+        for (int i = 1; i <= 6; i++) {
+            csv.append("resume").append(i).append(",123456789,Member").append(i).append(",Nickname").append(i).append(",20\n");
+        }
+        // 3번째 줄까지 읽은 뒤 연결이 끊긴 경우
+        String firstThreeLines = csv.substring(0, csv.indexOf("resume4"));
+        Reader disconnected = new FilterReader(new StringReader(firstThreeLines)) {
+            @Override
+            public int read(char[] buffer, int offset, int length) throws IOException {
+                int read = super.read(buffer, offset, length);
+                if (read == -1) {
+                    throw new IOException("연결이 끊겼습니다.");
+                }
+                return read;
+            }
+        };
+
+        Assertions.assertThatThrownBy(() -> memberImportService.importMembers(disconnected, MemberImportFormat.CSV))
+                .isInstanceOf(IOException.class);
+        MemberImportJob failedJob = memberImportJobRepository.findAll().stream()
+                .filter(job -> job.getStatus() == MemberImportJob.Status.FAILED)
+                .findFirst().orElseThrow();
+        // batch-size=2 -> 2번째 줄까지 저장
+        Assertions.assertThat(failedJob.getCheckpointLine()).isEqualTo(2);
+
+        //when
+        MemberImportResult result = memberImportService.importMembers(new StringReader(csv.toString()),
+                MemberImportFormat.CSV, failedJob.getId());
+
+        //then
+        Assertions.assertThat(result.getStatus()).isEqualTo(MemberImportJob.Status.COMPLETED);
+        Assertions.assertThat(result.getCheckpointLine()).isEqualTo(6);
+        Assertions.assertThat(result.getImported()).isEqualTo(6);
+        Assertions.assertThat(result.getSkipped()).isZero();
+        Assertions.assertThat(memberImportService.findProgress(failedJob.getId()).orElseThrow().getStatus())
+                .isEqualTo(MemberImportJob.Status.COMPLETED);
+    }
+
+    @Test
+    public void 서버_종료로_멈춘_작업_이어서_저장() throws Exception {
+        //given (RUNNING 상태로 남은 작업)
+        MemberImportJob job = memberImportJobRepository.save(MemberImportJob.start());
+        String csv = "stale1,123456789,Member1,Nickname1,21\n";
+
+        // 최근까지 진행된 작업은 다른 서버에서 실행 중일 수 있음
+        Assertions.assertThat(memberImportService.isResumable(job.getId())).isFalse();
+        Assertions.assertThatThrownBy(() -> memberImportService.importMembers(new StringReader(csv),
+                        MemberImportFormat.CSV, job.getId()))
+                .isInstanceOf(IllegalStateException.class);
+
+        //when (stale-after-seconds 이상 진행이 없음)
+        em.createQuery("update MemberImportJob j set j.heartbeatAt = :heartbeatAt where j.id = :id")
+                .setParameter("heartbeatAt", LocalDateTime.now().minusHours(1))
+                .setParameter("id", job.getId())
+                .executeUpdate();
+        em.clear();
+
+        //then
+        Assertions.assertThat(memberImportService.isResumable(job.getId())).isTrue();
+        MemberImportResult result = memberImportService.importMembers(new StringReader(csv),
+                MemberImportFormat.CSV, job.getId());
+        Assertions.assertThat(result.getStatus()).isEqualTo(MemberImportJob.Status.COMPLETED);
+        Assertions.assertThat(result.getImported()).isEqualTo(1);
+
+        // 이미 다시 시작해서 완료된 작업
+        Assertions.assertThat(memberImportJobRepository.resume(job.getId(), LocalDateTime.now(), LocalDateTime.now()))
+                .isZero();
+    }
+
+    @Test
+    public void ADMIN만_일괄등록_가능() throws Exception {
+        //given
+        Member user = memberRepository.save(Member.builder().username("importUser").password("123456789")
+                .name("Member").nickName("Nickname").role(Role.USER).age(22).build());
+        Member admin = memberRepository.save(Member.builder().username("importAdmin").password("123456789")
+                .name("Admin").nickName("Admin").role(Role.ADMIN).age(22).build());
+        String csv = "api1,123456789,Member1,Nickname1,21\n";
+
+        //when, then
+        mockMvc.perform(MockMvcRequestBuilders.post("/admin/members/import")
+                        .header(accessHeader, BEARER + jwtService.createAccessToken(user))
+                        .contentType("text/csv")
+                        .content(csv))
+                .andExpect(MockMvcResultMatchers.status().isForbidden());
+
+        mockMvc.perform(MockMvcRequestBuilders.post("/admin/members/import")
+                        .header(accessHeader, BEARER + jwtService.createAccessToken(admin))
+                        .contentType("text/csv")
+                        .content(csv))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.imported").value(1));
+    }
+}
@@ -0,0 +1,226 @@
+package board.myboard.domain.post.service;
+
+import board.myboard.domain.member.Member;
+import board.myboard.domain.member.Role;
+import board.myboard.domain.member.repository.MemberRepository;
+import board.myboard.domain.post.dto.PostCreateRequest;
+import board.myboard.domain.post.dto.PostCursor;
+import board.myboard.domain.post.dto.PostPage;
+import board.myboard.domain.post.dto.PostResponse;
+import board.myboard.domain.post.dto.PostSummary;
+import board.myboard.domain.post.repository.PostRepository;
+import org.assertj.core.api.Assertions;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * 게시글 POST_COUNT 건 (id 1 ~ POST_COUNT, 두 건씩 같은 작성 시각) 에서 cursor 페이징.
+ *
+ * 깊은 페이지도 첫 페이지와 같은 행 수만 읽는지는 H2 EXPLAIN ANALYZE 의 scanCount로 확인한다.
+ * (PostRepository 쿼리를 실행할 때 Hibernate가 만든 SQL을 StatementInspector로 가져와 같은 파라미터로 실행)
+ * post 테이블이 비어 있어야 하므로 이 테스트만 쓰는 메모리 DB(posttest)에서 실행한다.
+ */
+@SpringBootTest(properties = {
+        // 고정 post_id로 POST_COUNT 건을 넣고 post_seq를 바꾸므로 다른 테스트와 나누어 쓰지 않는 전용 메모리 DB
+        "spring.datasource.url=jdbc:h2:mem:posttest;DB_CLOSE_DELAY=-1",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=board.myboard.domain.post.service.PostServiceTest$SqlCapture"
+})
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class PostServiceTest {
+
+    private static final int POST_COUNT = 1_000_000;
+    private static final int PAGE_SIZE = 20;
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2024, 1, 1, 0, 0);
+    private static final Pattern SCAN_COUNT = Pattern.compile("scanCount: (\\d+)");
+
+    @Autowired
+    PostService postService;
+
+    @Autowired
+    PostRepository postRepository;
+
+    @Autowired
+    MemberRepository memberRepository;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    private Member author;
+
+    @BeforeAll
+    void seed() {
+        author = memberRepository.save(Member.builder().username("postAuthor").password("1234567")
+                .name("작성자").nickName("postAuthor").role(Role.USER).age(20).build());
+
+        // 작성 시각 = BASE_TIME + (id / 2)초 -> 같은 시각의 글은 id로 구분되어야 한다.
+        jdbcTemplate.update("insert into post (post_id, created_date, last_modified_date, title, content, member_id) "
+                + "select x, dateadd('SECOND', x / 2, timestamp '" + Timestamp.valueOf(BASE_TIME) + "'), null, "
+                + "'title' || x, 'content', ? from system_range(1, ?)", author.getId(), POST_COUNT);
+        jdbcTemplate.execute("alter sequence post_seq restart with " + (POST_COUNT + 1));
+    }
+
+    @AfterAll
+    void clear() {
+        jdbcTemplate.update("delete from post where member_id = ?", author.getId());
+        memberRepository.delete(author);
+    }
+
+    private static LocalDateTime createdDate(long id) {
+        return BASE_TIME.plusSeconds(id / 2);
+    }
+
+    private static List<Long> ids(PostPage page) {
+        return page.getPosts().stream().map(PostSummary::getId).collect(Collectors.toList());
+    }
+
+    // 현재 스레드에서 실행한 SQL만 기록 (스케줄러 등 다른 스레드의 SQL 제외)
+    public static class SqlCapture implements StatementInspector {
+
+        private static final ThreadLocal<List<String>> captured = new ThreadLocal<>();
+
+        @Override
+        public String inspect(String sql) {
+            List<String> statements = captured.get();
+            if (statements != null) {
+                statements.add(sql);
+            }
+            return sql;
+        }
+
+        static String capture(Runnable query) {
+            List<String> statements = new ArrayList<>();
+            captured.set(statements);
+            try {
+                query.run();
+            } finally {
+                captured.remove();
+            }
+            // 연관관계(author)는 지연 로딩이므로 게시글 조회 SQL 한 건
+            Assertions.assertThat(statements).hasSize(1);
+            return statements.get(0);
+        }
+    }
+
+    // limit/offset 파라미터 순서는 Dialect가 정하므로 SQL에 나온 순서대로 넣는다.
+    private static Object[] withPage(String sql, int limit, long offset, Object... parameters) {
+        List<Object> bound = new ArrayList<>(List.of(parameters));
+        int limitAt = Math.max(sql.lastIndexOf("limit ?"), sql.lastIndexOf("fetch "));
+        int offsetAt = sql.lastIndexOf("offset ?");
+        if (offsetAt < 0) {
+            bound.add(limit);
+        } else if (offsetAt < limitAt) {
+            bound.add(offset);
+            bound.add(limit);
+        } else {
+            bound.add(limit);
+            bound.add(offset);
+        }
+        return bound.toArray();
+    }
+
+    private long scanCount(String sql, Object... parameters) {
+        String plan = jdbcTemplate.queryForObject("explain analyze " + sql, String.class, parameters);
+        long scanCount = 0;
+        Matcher matcher = SCAN_COUNT.matcher(plan);
+        while (matcher.find()) {
+            scanCount += Long.parseLong(matcher.group(1));
+        }
+        return scanCount;
+    }
+
+    @Test
+    public void 첫_페이지_최신순() throws Exception {
+        //when
+        PostPage page = postService.findPosts(null, PAGE_SIZE);
+
+        //then
+        Assertions.assertThat(ids(page)).hasSize(PAGE_SIZE).startsWith(1_000_000L, 999_999L).endsWith(999_981L);
+        Assertions.assertThat(page.isHasNext()).isTrue();
+        Assertions.assertThat(page.getPosts().get(0).getAuthorNickName()).isEqualTo("postAuthor");
+    }
+
+    @Test
+    public void cursor로_다음_페이지_이어서_조회() throws Exception {
+        //given
+        PostPage first = postService.findPosts(null, PAGE_SIZE);
+
+        //when
+        PostPage second = postService.findPosts(first.getNextCursor(), PAGE_SIZE);
+
+        //then 같은 작성 시각(999_980, 999_981)이 페이지 경계에 걸려도 빠지거나 겹치지 않음
+        Assertions.assertThat(ids(second)).hasSize(PAGE_SIZE).startsWith(999_980L).endsWith(999_961L);
+    }
+
+    @Test
+    public void 마지막_페이지() throws Exception {
+        //given id 21 까지 본 상태
+        String cursor = new PostCursor(createdDate(21), 21L).encode();
+
+        //when
+        PostPage page = postService.findPosts(cursor, PAGE_SIZE);
+
+        //then
+        Assertions.assertThat(ids(page)).hasSize(20).startsWith(20L).endsWith(1L);
+        Assertions.assertThat(page.isHasNext()).isFalse();
+        Assertions.assertThat(page.getNextCursor()).isNull();
+    }
+
+    @Test
+    public void 깊은_페이지도_첫_페이지와_같은_행_수만_읽음() throws Exception {
+        //given PostService와 같은 호출 (다음 페이지 확인용 +1건)
+        int limit = PAGE_SIZE + 1;
+        String first = SqlCapture.capture(() -> postRepository.findLatest(PageRequest.of(0, limit)));
+        String keyset = SqlCapture.capture(() ->
+                postRepository.findLatestBefore(createdDate(41), 41L, PageRequest.of(0, limit)));
+        // 비교 : OFFSET 으로 같은 깊이의 페이지
+        PageRequest deepOffset = PageRequest.of((POST_COUNT - 40) / limit, limit);
+        String offsetQuery = SqlCapture.capture(() -> postRepository.findLatest(deepOffset));
+        Timestamp deepCursor = Timestamp.valueOf(createdDate(41));
+
+        //when
+        long firstPage = scanCount(first, withPage(first, limit, 0));
+        long deepPage = scanCount(keyset, withPage(keyset, limit, 0, deepCursor, deepCursor, 41L));
+        long offsetDeepPage = scanCount(offsetQuery, withPage(offsetQuery, limit, deepOffset.getOffset()));
+
+        //then
+        Assertions.assertThat(firstPage).isLessThanOrEqualTo(PAGE_SIZE * 2);
+        Assertions.assertThat(deepPage).isLessThanOrEqualTo(PAGE_SIZE * 2);
+        Assertions.assertThat(offsetDeepPage).isGreaterThan(POST_COUNT - 100);
+    }
+
+    @Test
+    public void 잘못된_cursor() {
+        //when, then
+        Assertions.assertThatThrownBy(() -> postService.findPosts("not-a-cursor", PAGE_SIZE))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @Transactional
+    public void 게시글_작성() throws Exception {
+        //when
+        Long id = postService.write("postAuthor", new PostCreateRequest("제목", "내용"));
+
+        //then
+        PostResponse post = postService.findPost(id).orElseThrow();
+        Assertions.assertThat(post.getTitle()).isEqualTo("제목");
+        Assertions.assertThat(post.getAuthorNickName()).isEqualTo("postAuthor");
+        Assertions.assertThat(post.getCreatedDate()).isNotNull();
+    }
+}
@@ -0,0 +1,102 @@
+package board.myboard.global.config;
+
+import board.myboard.domain.member.Member;
+import board.myboard.domain.member.Role;
+import board.myboard.domain.member.repository.MemberRepository;
+import board.myboard.global.jwt.service.JwtService;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.web.FilterChainProxy;
+import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 인증이 필요없는 경로는 JWT 처리를 건너뛰고,
+ * health check 는 보안 필터가 없는 체인으로 처리되는지 확인.
+ */
+@AutoConfigureMockMvc
+@Transactional
+@SpringBootTest
+class PublicEndpointsTest {
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    FilterChainProxy filterChainProxy;
+
+    @Autowired
+    MemberRepository memberRepository;
+
+    @Autowired
+    JwtService jwtService;
+
+    @Value("${jwt.access.header}")
+    private String accessHeader;
+
+    @Value("${jwt.refresh.header}")
+    private String refreshHeader;
+
+    private static final String BEARER = "Bearer ";
+
+    @Test
+    public void health_보안필터_없음() {
+        //given
+        MockHttpServletRequest request = request("/actuator/health");
+
+        //when
+        SecurityFilterChain chain = filterChainProxy.getFilterChains().stream()
+                .filter(c -> c.matches(request))
+                .findFirst().orElseThrow();
+
+        //then
+        Assertions.assertThat(chain.getFilters()).isEmpty();
+    }
+
+    @Test
+    public void health_잘못된_토큰이어도_응답() throws Exception {
+        //when, then
+        mockMvc.perform(MockMvcRequestBuilders.get("/actuator/health")
+                        .header(accessHeader, BEARER + "invalid"))
+                .andExpect(MockMvcResultMatchers.status().isOk());
+    }
+
+    @Test
+    public void 인증없는_경로는_토큰_재발급_안함() throws Exception {
+        //given
+        Member member = memberRepository.save(Member.builder().username("publicUser").password("123456789")
+                .name("Member1").nickName("Nickname1").role(Role.USER).age(22).build());
+        String refreshToken = jwtService.createRefreshToken();
+        jwtService.updateRefreshToken(member.getUsername(), refreshToken);
+
+        //when, then
+        mockMvc.perform(MockMvcRequestBuilders.get("/")
+                        .header(refreshHeader, BEARER + refreshToken))
+                .andExpect(MockMvcResultMatchers.header().doesNotExist(accessHeader));
+    }
+
+    @Test
+    public void 인증이_필요한_경로는_필터_적용() {
+        //given
+        MockHttpServletRequest request = request("/member/info");
+
+        //when, then
+        Assertions.assertThat(PublicEndpoints.PERMIT_ALL.matches(request)).isFalse();
+        Assertions.assertThat(PublicEndpoints.PERMIT_ALL.matches(request("/css/app.css"))).isTrue();
+    }
+
+    // AntPathRequestMatcher는 servletPath 기준으로 비교
+    private MockHttpServletRequest request(String path) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", path);
+        request.setServletPath(path);
+        return request;
+    }
+}
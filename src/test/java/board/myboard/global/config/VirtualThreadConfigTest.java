@@ -0,0 +1,202 @@
+package board.myboard.global.config;
+
+import board.myboard.domain.member.Member;
+import board.myboard.domain.member.Role;
+import board.myboard.domain.member.repository.MemberRepository;
+import board.myboard.global.jwt.service.JwtService;
+import board.myboard.global.login.filter.JwtAuthenticationProcessingFilter;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIf;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.web.embedded.tomcat.TomcatWebServer;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * virtual 프로필 (JDK 21 미만이면 건너뜀, ./gradlew test -PvirtualThreads)
+ *
+ * JwtAuthenticationProcessingFilter.saveAuthentication 은 SecurityContextHolder(ThreadLocal)에 인증을 저장한다.
+ * 가상 스레드는 대기(sleep, JDBC) 중 다른 캐리어 스레드로 옮겨질 수 있으므로,
+ * 요청마다 자기 인증만 보이는지, 다음 요청으로 넘어가지 않는지 확인.
+ */
+@EnabledIf("board.myboard.global.config.VirtualThreadConfig#isSupported")
+@ActiveProfiles("virtual")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class VirtualThreadConfigTest {
+
+    private static final int MEMBER_COUNT = 100;
+    private static final int REQUEST_COUNT = 2000;
+    private static final String BEARER = "Bearer ";
+
+    @Autowired
+    ServletWebServerApplicationContext context;
+
+    @Autowired
+    @Qualifier("applicationTaskExecutor")
+    AsyncTaskExecutor applicationTaskExecutor;
+
+    @Autowired
+    JwtAuthenticationProcessingFilter filter;
+
+    @Autowired
+    MemberRepository memberRepository;
+
+    @Autowired
+    JwtService jwtService;
+
+    @Value("${jwt.access.header}")
+    private String accessHeader;
+
+    private final List<Member> members = new ArrayList<>();
+
+    @BeforeEach
+    public void init() {
+        for (int i = 0; i < MEMBER_COUNT; i++) {
+            members.add(memberRepository.save(Member.builder().username("virtual" + i).password("123456789")
+                    .name("Member" + i).nickName("Nickname" + i).role(Role.USER).age(22).build()));
+        }
+    }
+
+    @AfterEach
+    public void clear() {
+        memberRepository.deleteAll(members);
+    }
+
+    @Test
+    public void Tomcat_요청_가상스레드에서_처리() throws Exception {
+        //given
+        Executor executor = ((TomcatWebServer) context.getWebServer()).getTomcat()
+                .getConnector().getProtocolHandler().getExecutor();
+        CompletableFuture<Thread> thread = new CompletableFuture<>();
+
+        //when
+        executor.execute(() -> thread.complete(Thread.currentThread()));
+
+        //then
+        Assertions.assertThat(isVirtual(thread.get(5, TimeUnit.SECONDS))).isTrue();
+    }
+
+    @Test
+    public void Async_가상스레드에서_실행() throws Exception {
+        //when
+        Thread thread = applicationTaskExecutor.submit(Thread::currentThread).get(5, TimeUnit.SECONDS);
+
+        //then
+        Assertions.assertThat(isVirtual(thread)).isTrue();
+    }
+
+    @Test
+    public void 동시_요청_SecurityContext_격리() throws Exception {
+        //given
+        List<String> accessTokens = new ArrayList<>();
+        members.forEach(member -> accessTokens.add(jwtService.createAccessToken(member)));
+        AtomicInteger authenticated = new AtomicInteger();
+        AtomicInteger mismatched = new AtomicInteger();
+
+        //when
+        ExecutorService executor = VirtualThreadConfig.newVirtualThreadPerTaskExecutor();
+        for (int i = 0; i < REQUEST_COUNT; i++) {
+            Member member = members.get(i % MEMBER_COUNT);
+            String accessToken = accessTokens.get(i % MEMBER_COUNT);
+            executor.execute(() -> {
+                MockHttpServletRequest request = new MockHttpServletRequest("GET", "/member/info");
+                request.addHeader(accessHeader, BEARER + accessToken);
+                try {
+                    filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+                        String before = authenticatedName();
+                        // 대기하는 동안 캐리어 스레드에서 내려갔다가 다른 캐리어에서 다시 실행될 수 있음
+                        sleep();
+                        String after = authenticatedName();
+                        if (member.getUsername().equals(before) && member.getUsername().equals(after)) {
+                            authenticated.incrementAndGet();
+                        } else {
+                            mismatched.incrementAndGet();
+                        }
+                    });
+                } catch (Exception e) {
+                    mismatched.incrementAndGet();
+                } finally {
+                    SecurityContextHolder.clearContext();
+                }
+            });
+        }
+        executor.shutdown();
+
+        //then
+        Assertions.assertThat(executor.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+        Assertions.assertThat(mismatched.get()).isZero();
+        Assertions.assertThat(authenticated.get()).isEqualTo(REQUEST_COUNT);
+    }
+
+    @Test
+    public void 정리하지_않은_SecurityContext_다음_요청에_안넘어감() throws Exception {
+        //given
+        // 스레드 풀과 달리 가상 스레드는 작업마다 새로 만들어지므로 ThreadLocal이 재사용되지 않는다.
+        Executor executor = ((TomcatWebServer) context.getWebServer()).getTomcat()
+                .getConnector().getProtocolHandler().getExecutor();
+        Member member = members.get(0);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/member/info");
+        request.addHeader(accessHeader, BEARER + jwtService.createAccessToken(member));
+
+        CompletableFuture<String> first = new CompletableFuture<>();
+        executor.execute(() -> {
+            try {
+                filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> { });
+                first.complete(authenticatedName());
+            } catch (Exception e) {
+                first.completeExceptionally(e);
+            }
+        });
+        Assertions.assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo(member.getUsername());
+
+        //when
+        AtomicReference<Authentication> next = new AtomicReference<>();
+        CompletableFuture<Void> second = new CompletableFuture<>();
+        executor.execute(() -> {
+            next.set(SecurityContextHolder.getContext().getAuthentication());
+            second.complete(null);
+        });
+        second.get(5, TimeUnit.SECONDS);
+
+        //then
+        Assertions.assertThat(next.get()).isNull();
+    }
+
+    private static String authenticatedName() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication == null ? null : authentication.getName();
+    }
+
+    private static void sleep() {
+        try {
+            Thread.sleep(5);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // Thread.isVirtual 은 JDK 21 API (빌드는 Java 11)
+    private static boolean isVirtual(Thread thread) throws ReflectiveOperationException {
+        return (boolean) Thread.class.getMethod("isVirtual").invoke(thread);
+    }
+}
@@ -0,0 +1,57 @@
+package board.myboard.global.datasource;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+@SpringBootTest
+class RepositoryIndexVerifierTest {
+
+    @Autowired
+    RepositoryIndexVerifier repositoryIndexVerifier;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Test
+    public void 모든_조회_메서드에_인덱스_존재() throws Exception {
+        //when
+        List<String> missing = repositoryIndexVerifier.verify();
+
+        //then
+        Assertions.assertThat(missing).isEmpty();
+    }
+
+    @Test
+    public void 인덱스가_없으면_조회_메서드_목록_반환() throws Exception {
+        //given
+        jdbcTemplate.execute("drop index idx_refresh_token_family_id");
+
+        try {
+            //when
+            List<String> missing = repositoryIndexVerifier.verify();
+
+            //then
+            Assertions.assertThat(missing).containsExactly("RefreshTokenRepository.deleteByFamilyId : refresh_token.family_id");
+        } finally {
+            jdbcTemplate.execute("create index idx_refresh_token_family_id on refresh_token (family_id)");
+        }
+    }
+
+    @Test
+    public void JPQL_조건의_첫_번째_속성() {
+        //when
+        List<String> properties = RepositoryIndexVerifier.leadingProperties(
+                "update RefreshToken t set t.used = true where t.tokenHash = :tokenHash and t.used = false");
+        List<String> orProperties = RepositoryIndexVerifier.leadingProperties(
+                "select m from Member m where (m.username = :username) or m.id = :id order by m.id");
+
+        //then
+        Assertions.assertThat(properties).containsExactly("tokenHash");
+        Assertions.assertThat(orProperties).containsExactly("username", "id");
+    }
+}
@@ -0,0 +1,89 @@
+package board.myboard.global.datasource;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+class SlowQueryDataSourceTest {
+
+    private static final String URL = "jdbc:h2:mem:slowquery;DB_CLOSE_DELAY=-1";
+
+    private void executeQueries(DataSource dataSource) throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            try (PreparedStatement statement = connection.prepareStatement("select ? from dual")) {
+                statement.setInt(1, 1);
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    Assertions.assertThat(resultSet.next()).isTrue();
+                }
+            }
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("select 2 from dual");
+            }
+        }
+    }
+
+    @Test
+    public void 기준_시간_이상인_쿼리_로그() throws Exception {
+        //given
+        SlowQuerySampler sampler = new SlowQuerySampler(0, 1);
+        DataSource dataSource = new SlowQueryDataSource(new DriverManagerDataSource(URL), sampler);
+
+        //when
+        executeQueries(dataSource);
+
+        //then
+        Assertions.assertThat(sampler.getSlowQueries()).isEqualTo(2);
+        Assertions.assertThat(sampler.getSampledQueries()).isEqualTo(2);
+    }
+
+    @Test
+    public void 표본에서_빠진_쿼리도_개수는_기록() throws Exception {
+        //given
+        SlowQuerySampler sampler = new SlowQuerySampler(0, 0);
+        DataSource dataSource = new SlowQueryDataSource(new DriverManagerDataSource(URL), sampler);
+
+        //when
+        executeQueries(dataSource);
+
+        //then
+        Assertions.assertThat(sampler.getSlowQueries()).isEqualTo(2);
+        Assertions.assertThat(sampler.getSampledQueries()).isZero();
+    }
+
+    @Test
+    public void 기준_시간_미만인_쿼리는_무시() throws Exception {
+        //given
+        SlowQuerySampler sampler = new SlowQuerySampler(60000, 1);
+        DataSource dataSource = new SlowQueryDataSource(new DriverManagerDataSource(URL), sampler);
+
+        //when
+        executeQueries(dataSource);
+
+        //then
+        Assertions.assertThat(sampler.getSlowQueries()).isZero();
+    }
+
+    @Test
+    public void 원래_DataSource로_unwrap() throws Exception {
+        //given
+        DriverManagerDataSource target = new DriverManagerDataSource(URL);
+        DataSource dataSource = new SlowQueryDataSource(target, new SlowQuerySampler(200, 0.1));
+
+        //when, then
+        Assertions.assertThat(dataSource.unwrap(DriverManagerDataSource.class)).isSameAs(target);
+    }
+
+    @Test
+    public void 코어_수_기준_커넥션_풀_크기() {
+        //when, then
+        Assertions.assertThat(HikariPoolSizer.poolSize(1)).isEqualTo(3);
+        Assertions.assertThat(HikariPoolSizer.poolSize(8)).isEqualTo(17);
+    }
+}
@@ -0,0 +1,184 @@
+package board.myboard.global.jwt.key;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.JWTVerifier;
+import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.exceptions.SignatureVerificationException;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+class JwtKeyRingTest {
+
+    @TempDir
+    Path keystore;
+
+    private JwtKeyRing keyRing(String mode, int previousKeys) {
+        return new JwtKeyRing(mode, keystore.toString(), previousKeys, true, 0, 20);
+    }
+
+    private String sign(JwtKeyRing keyRing) {
+        return JWT.create().withClaim("username", "username").sign(keyRing.getSigningAlgorithm());
+    }
+
+    @Test
+    public void 키가_없으면_생성_후_kid_헤더로_서명() throws Exception {
+        //when
+        JwtKeyRing keyRing = keyRing("es256", 2);
+        String token = sign(keyRing);
+
+        //then
+        String kid = keyRing.getActiveKey().getKid();
+        Assertions.assertThat(Files.exists(keystore.resolve(kid + ".pub"))).isTrue();
+        Assertions.assertThat(Files.exists(keystore.resolve(kid + ".key"))).isTrue();
+        Assertions.assertThat(PosixFilePermissions.toString(Files.getPosixFilePermissions(keystore.resolve(kid + ".key"))))
+                .isEqualTo("rw-------");
+
+        DecodedJWT decodedJWT = JWT.require(keyRing.getAlgorithm()).build().verify(token);
+        Assertions.assertThat(decodedJWT.getKeyId()).isEqualTo(kid);
+        Assertions.assertThat(decodedJWT.getAlgorithm()).isEqualTo("ES256");
+    }
+
+    @Test
+    public void 키_교체_후에도_이전_토큰_검증() throws Exception {
+        //given
+        JwtKeyRing keyRing = keyRing("rs256", 2);
+        JWTVerifier verifier = JWT.require(keyRing.getAlgorithm()).build();
+        String oldKid = keyRing.getActiveKey().getKid();
+        String oldToken = sign(keyRing);
+
+        //when
+        keyRing.rotate();
+        String newToken = sign(keyRing);
+
+        //then
+        Assertions.assertThat(keyRing.getActiveKey().getKid()).isNotEqualTo(oldKid);
+        Assertions.assertThat(verifier.verify(oldToken).getKeyId()).isEqualTo(oldKid);
+        Assertions.assertThat(verifier.verify(newToken).getKeyId()).isEqualTo(keyRing.getActiveKey().getKid());
+    }
+
+    @Test
+    public void previous_keys_보다_오래된_키로_서명된_토큰_검증_실패() throws Exception {
+        //given
+        JwtKeyRing keyRing = keyRing("es256", 1);
+        JWTVerifier verifier = JWT.require(keyRing.getAlgorithm()).build();
+        String oldestToken = sign(keyRing);
+
+        //when
+        keyRing.rotate();
+        keyRing.rotate();
+
+        //then
+        Assertions.assertThat(keyRing.getPublicKeys()).hasSize(2);
+        Assertions.assertThatThrownBy(() -> verifier.verify(oldestToken))
+                .isInstanceOf(SignatureVerificationException.class);
+        // 검증에 쓰지 않는 키 파일은 삭제
+        try (Stream<Path> files = Files.list(keystore)) {
+            Assertions.assertThat(files.count()).isEqualTo(4);
+        }
+    }
+
+    @Test
+    public void 파일_수정_시각과_상관없이_kid_시각으로_active_선택() throws Exception {
+        //given
+        JwtKeyRing keyRing = keyRing("es256", 2);
+        String oldKid = keyRing.getActiveKey().getKid();
+        keyRing.rotate();
+        String newKid = keyRing.getActiveKey().getKid();
+
+        //when (백업 복원 등으로 이전 키 파일이 더 최근에 수정됨)
+        Files.setLastModifiedTime(keystore.resolve(newKid + ".pub"), FileTime.from(Instant.now().minusSeconds(3600)));
+        Files.setLastModifiedTime(keystore.resolve(oldKid + ".pub"), FileTime.from(Instant.now()));
+        keyRing.reload();
+
+        //then
+        Assertions.assertThat(keyRing.getActiveKey().getKid()).isEqualTo(newKid);
+    }
+
+    @Test
+    public void 교체_주기가_AccessToken_유효시간보다_짧으면_시작_실패() throws Exception {
+        //when, then (1초 * 2 < 20초)
+        Assertions.assertThatThrownBy(() -> new JwtKeyRing("es256", keystore.toString(), 2, true, 1000, 20))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    public void 다른_노드가_추가한_키를_reload로_반영() throws Exception {
+        //given
+        JwtKeyRing keyRing = keyRing("es256", 2);
+        JwtKeyRing otherNode = keyRing("es256", 2);
+
+        //when
+        otherNode.rotate();
+        String token = sign(otherNode);
+        keyRing.reload();
+
+        //then
+        Assertions.assertThat(keyRing.getActiveKey().getKid()).isEqualTo(otherNode.getActiveKey().getKid());
+        Assertions.assertThat(JWT.require(keyRing.getAlgorithm()).build().verify(token).getKeyId())
+                .isEqualTo(otherNode.getActiveKey().getKid());
+    }
+
+    @Test
+    public void 서명_중_키가_교체되어도_kid와_서명_키가_같음() throws Exception {
+        //given (kid 헤더를 만든 뒤 서명하기 전에 교체된 경우)
+        JwtKeyRing keyRing = keyRing("es256", 2);
+        JWTVerifier verifier = JWT.require(keyRing.getAlgorithm()).build();
+        String oldKid = keyRing.getActiveKey().getKid();
+        Algorithm signing = keyRing.getSigningAlgorithm();
+
+        //when
+        keyRing.rotate();
+        String token = JWT.create().withClaim("username", "username").sign(signing);
+
+        //then
+        Assertions.assertThat(verifier.verify(token).getKeyId()).isEqualTo(oldKid);
+    }
+
+    @Test
+    public void 동시에_교체해도_서명한_토큰_모두_검증() throws Exception {
+        //given
+        JwtKeyRing keyRing = keyRing("es256", 50);
+        JWTVerifier verifier = JWT.require(keyRing.getAlgorithm()).build();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        //when
+        List<Future<List<String>>> futures = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            futures.add(executor.submit(() -> {
+                List<String> tokens = new ArrayList<>();
+                for (int j = 0; j < 500; j++) {
+                    tokens.add(sign(keyRing));
+                }
+                return tokens;
+            }));
+        }
+        for (int i = 0; i < 20; i++) {
+            keyRing.rotate();
+        }
+        List<String> tokens = new ArrayList<>();
+        for (Future<List<String>> future : futures) {
+            tokens.addAll(future.get(30, TimeUnit.SECONDS));
+        }
+        executor.shutdown();
+
+        //then
+        for (String token : tokens) {
+            verifier.verify(token);
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package board.myboard.global.jwt.revoke;
+
+import board.myboard.auth.revoke.AccessTokenDenylist;
+import board.myboard.global.jwt.service.JwtService;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.UUID;
+
+/**
+ * 폐기를 다른 노드(게이트웨이 등)에 전달 (access_token_revocation)
+ *
+ * 다른 노드 = 같은 DB를 읽는 별도의 AccessTokenDenylist + AccessTokenRevocations
+ */
+@SpringBootTest
+class AccessTokenRevocationsTest {
+
+    @Autowired
+    JwtService jwtService;
+
+    @Autowired
+    AccessTokenRevocations accessTokenRevocations;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Value("${jwt.access.expiration}")
+    long accessTokenValidityInSeconds;
+
+    private final String username = "revocation" + UUID.randomUUID().toString().substring(0, 8);
+
+    @Test
+    public void 다른_노드에_AccessToken_폐기_전달() throws Exception {
+        //given
+        AccessTokenDenylist otherNode = otherNodeDenylist();
+        String accessToken = jwtService.createAccessToken(username);
+
+        //when
+        jwtService.revokeAccessToken(accessToken);
+        sync(otherNode);
+
+        //then
+        Assertions.assertThat(otherNode.isRevoked(jwtService.verify(accessToken).orElseThrow())).isTrue();
+    }
+
+    @Test
+    public void 다른_노드에_회원_단위_폐기_전달() throws Exception {
+        //given
+        AccessTokenDenylist otherNode = otherNodeDenylist();
+        String accessToken = jwtService.createAccessToken(username);
+        String otherAccessToken = jwtService.createAccessToken(username + "other");
+
+        //when
+        accessTokenRevocations.revokeAll(username);
+        sync(otherNode);
+
+        //then
+        Assertions.assertThat(otherNode.isRevoked(jwtService.verify(accessToken).orElseThrow())).isTrue();
+        Assertions.assertThat(otherNode.isRevoked(jwtService.verify(otherAccessToken).orElseThrow())).isFalse();
+    }
+
+    private AccessTokenDenylist otherNodeDenylist() {
+        return new AccessTokenDenylist(true, accessTokenValidityInSeconds * 1000, 1000, 0.01, System::currentTimeMillis);
+    }
+
+    private void sync(AccessTokenDenylist denylist) {
+        new AccessTokenRevocations(denylist, jdbcTemplate, accessTokenValidityInSeconds).sync();
+    }
+}
@@ -0,0 +1,92 @@
+package board.myboard.global.jwt.revoke;
+
+import board.myboard.auth.revoke.AccessTokenDenylist;
+import board.myboard.domain.member.Member;
+import board.myboard.domain.member.Role;
+import board.myboard.domain.member.repository.MemberRepository;
+import board.myboard.global.jwt.service.JwtService;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.UUID;
+
+/**
+ * 비밀번호/권한 변경 커밋 후 회원의 AccessToken 폐기
+ *
+ * 커밋 후 동작을 확인하므로 @Transactional 없이 저장하고 직접 삭제한다.
+ * 회원 단위 폐기는 유효 시간 동안 남으므로 테스트마다 다른 회원을 사용한다.
+ */
+@SpringBootTest
+class AccessTokenRevokeListenerTest {
+
+    @Autowired
+    MemberRepository memberRepository;
+
+    @Autowired
+    JwtService jwtService;
+
+    @Autowired
+    AccessTokenDenylist accessTokenDenylist;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    private final String username = "revoke" + UUID.randomUUID().toString().substring(0, 8);
+
+    private String accessToken;
+
+    @BeforeEach
+    public void init() {
+        Member member = memberRepository.save(Member.builder().username(username).password("123456789")
+                .name("Member1").nickName("NickName1").role(Role.USER).age(22).build());
+        accessToken = jwtService.createAccessToken(member);
+    }
+
+    @AfterEach
+    public void clear() {
+        memberRepository.findByUsername(username).ifPresent(memberRepository::delete);
+    }
+
+    @Test
+    public void 권한_변경_커밋후_AccessToken_폐기() throws Exception {
+        //when
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                memberRepository.findByUsername(username).get().updateRole(Role.ADMIN));
+
+        //then
+        Assertions.assertThat(isRevoked(accessToken)).isTrue();
+    }
+
+    @Test
+    public void 롤백되면_AccessToken_유지() throws Exception {
+        //when
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            memberRepository.findByUsername(username).get().updateRole(Role.ADMIN);
+            memberRepository.flush();
+            status.setRollbackOnly();
+        });
+
+        //then
+        Assertions.assertThat(isRevoked(accessToken)).isFalse();
+    }
+
+    @Test
+    public void 이름_변경은_AccessToken_유지() throws Exception {
+        //when
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                memberRepository.findByUsername(username).get().updateName("Member2"));
+
+        //then
+        Assertions.assertThat(isRevoked(accessToken)).isFalse();
+    }
+
+    private boolean isRevoked(String accessToken) {
+        return accessTokenDenylist.isRevoked(jwtService.verify(accessToken).orElseThrow());
+    }
+}
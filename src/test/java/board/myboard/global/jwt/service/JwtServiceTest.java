@@ -3,6 +3,8 @@ package board.myboard.global.jwt.service;
 import board.myboard.domain.member.Member;
 import board.myboard.domain.member.Role;
 import board.myboard.domain.member.repository.MemberRepository;
+import board.myboard.domain.token.RefreshToken;
+import board.myboard.domain.token.repository.RefreshTokenRepository;
 import com.auth0.jwt.JWT;
 import com.auth0.jwt.algorithms.Algorithm;
 import com.auth0.jwt.interfaces.DecodedJWT;
@@ -31,7 +33,10 @@ class JwtServiceTest {
     MemberRepository memberRepository;
 
     @Autowired
-    JwtService jwtService = new JwtServicelmpl(memberRepository);
+    RefreshTokenRepository refreshTokenRepository;
+
+    @Autowired
+    JwtService jwtService;
 
     @Autowired
     EntityManager em;
@@ -102,6 +107,20 @@ class JwtServiceTest {
         Assertions.assertThat(subject).isEqualTo(ACCESS_TOKEN_SUBJECT);
     }
 
+    @Test
+    public void createAccessToken_회원_클레임_발급_성공() throws Exception {
+        //given
+        Member member = memberRepository.findByUsername(username).get();
+
+        //when
+        DecodedJWT verify = getVerify(jwtService.createAccessToken(member));
+
+        //then
+        Assertions.assertThat(verify.getClaim(USERNAME_CLAIM).asString()).isEqualTo(username);
+        Assertions.assertThat(verify.getClaim("memberId").asLong()).isEqualTo(member.getId());
+        Assertions.assertThat(jwtService.extractRole(verify)).contains(Role.USER);
+    }
+
     @Test
     public void createRefreshToken_발급_성공() throws Exception {
         // given, when
@@ -128,7 +147,10 @@ class JwtServiceTest {
         clear();
 
         //then
-        Assertions.assertThat(memberRepository.findByRefreshToken(refreshToken));
+        // 로그인마다 새로운 토큰 계열로 저장되고, 원문이 아닌 해시로 조회된다.
+        Assertions.assertThat(refreshTokenRepository.findById(RefreshToken.hash(reRefreshToken))).isPresent();
+        Assertions.assertThat(refreshTokenRepository.findById(RefreshToken.hash(reRefreshToken)).map(RefreshToken::getUsername)).contains(username);
+        Assertions.assertThat(refreshTokenRepository.findById(RefreshToken.hash(reRefreshToken + "AAA"))).isEmpty();
     }
 
     @Test
@@ -141,8 +163,8 @@ class JwtServiceTest {
         jwtService.destroyRefreshToken(username);
         clear();
         //then
-        Member member = memberRepository.findByUsername(username).get();
-        Assertions.assertThat(member.getRefreshToken()).isNull();
+        Assertions.assertThat(refreshTokenRepository.findByUsername(username)).isEmpty();
+        Assertions.assertThat(refreshTokenRepository.findById(RefreshToken.hash(refreshToken))).isEmpty();
 
     }
     @Test
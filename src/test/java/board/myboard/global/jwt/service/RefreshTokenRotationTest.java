@@ -0,0 +1,137 @@
+package board.myboard.global.jwt.service;
+
+import board.myboard.auth.revoke.AccessTokenDenylist;
+import board.myboard.domain.member.Member;
+import board.myboard.domain.member.Role;
+import board.myboard.domain.member.repository.MemberRepository;
+import board.myboard.domain.token.RefreshToken;
+import board.myboard.domain.token.repository.RefreshTokenRepository;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * RefreshToken rotation / 재사용 감지 / 동시 재발급(single-flight)
+ *
+ * 여러 스레드(각자 트랜잭션)에서 재발급하므로 @Transactional 없이 저장하고 직접 삭제한다.
+ */
+@SpringBootTest(properties = "jwt.refresh.reuse-grace=300")
+class RefreshTokenRotationTest {
+
+    @Autowired
+    JwtService jwtService;
+
+    @Autowired
+    MemberRepository memberRepository;
+
+    @Autowired
+    RefreshTokenRepository refreshTokenRepository;
+
+    @Autowired
+    AccessTokenDenylist accessTokenDenylist;
+
+    private static final String USERNAME = "rotationUser";
+
+    private String refreshToken;
+
+    @BeforeEach
+    public void init() {
+        memberRepository.save(Member.builder().username(USERNAME).password("123456789")
+                .name("Member1").nickName("NickName1").role(Role.USER).age(22).build());
+        refreshToken = jwtService.createRefreshToken();
+        jwtService.updateRefreshToken(USERNAME, refreshToken);
+    }
+
+    @AfterEach
+    public void clear() {
+        jwtService.destroyRefreshToken(USERNAME);
+        memberRepository.findByUsername(USERNAME).ifPresent(memberRepository::delete);
+    }
+
+    @Test
+    public void 재발급시_새_RefreshToken_발급_기존_토큰_사용됨() throws Exception {
+        //when
+        Optional<ReissuedTokens> reissued = jwtService.reissue(refreshToken);
+
+        //then
+        Assertions.assertThat(reissued).isPresent();
+        Assertions.assertThat(reissued.get().getRefreshToken()).isNotEqualTo(refreshToken);
+        Assertions.assertThat(jwtService.extractUsername(reissued.get().getAccessToken())).contains(USERNAME);
+
+        RefreshToken old = refreshTokenRepository.findById(RefreshToken.hash(refreshToken)).orElseThrow();
+        RefreshToken rotated = refreshTokenRepository.findById(RefreshToken.hash(reissued.get().getRefreshToken())).orElseThrow();
+        Assertions.assertThat(old.isUsed()).isTrue();
+        Assertions.assertThat(rotated.isUsed()).isFalse();
+        Assertions.assertThat(rotated.getFamilyId()).isEqualTo(old.getFamilyId());
+    }
+
+    @Test
+    public void 사용된_토큰_재사용시_토큰_계열과_AccessToken_전체_폐기() throws Exception {
+        //given
+        ReissuedTokens reissued = jwtService.reissue(refreshToken).orElseThrow();
+        // reuse-grace(300ms) 이후
+        Thread.sleep(600);
+
+        //when
+        Optional<ReissuedTokens> reused = jwtService.reissue(refreshToken);
+
+        //then
+        Assertions.assertThat(reused).isEmpty();
+        Assertions.assertThat(refreshTokenRepository.findByUsername(USERNAME)).isEmpty();
+        Assertions.assertThat(jwtService.reissue(reissued.getRefreshToken())).isEmpty();
+        // 이미 발급된 AccessToken도 사용할 수 없음
+        Assertions.assertThat(accessTokenDenylist.isRevoked(jwtService.verify(reissued.getAccessToken()).orElseThrow())).isTrue();
+    }
+
+    @Test
+    public void 동시_재발급_100건은_한번만_재발급() throws Exception {
+        //given
+        int threads = 100;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch ready = new CountDownLatch(threads);
+        CountDownLatch start = new CountDownLatch(1);
+
+        //when
+        List<Future<Optional<ReissuedTokens>>> futures = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            futures.add(executor.submit(() -> {
+                ready.countDown();
+                start.await();
+                return jwtService.reissue(refreshToken);
+            }));
+        }
+        ready.await();
+        start.countDown();
+
+        List<Optional<ReissuedTokens>> results = new ArrayList<>();
+        for (Future<Optional<ReissuedTokens>> future : futures) {
+            results.add(future.get(30, TimeUnit.SECONDS));
+        }
+        executor.shutdown();
+
+        //then
+        // 모두 성공하고 같은 토큰을 받음 (재사용으로 판단되어 계열이 폐기되지 않음)
+        Assertions.assertThat(results).allMatch(Optional::isPresent);
+        Set<String> refreshTokens = results.stream()
+                .map(result -> result.get().getRefreshToken())
+                .collect(Collectors.toSet());
+        Assertions.assertThat(refreshTokens).hasSize(1);
+
+        // 기존 토큰(사용됨) + 새 토큰 1개만 저장
+        Assertions.assertThat(refreshTokenRepository.findByUsername(USERNAME)).hasSize(2);
+    }
+}
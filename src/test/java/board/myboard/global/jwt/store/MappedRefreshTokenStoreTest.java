@@ -0,0 +1,178 @@
+package board.myboard.global.jwt.store;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+class MappedRefreshTokenStoreTest {
+
+    @TempDir
+    Path tempDir;
+
+    private static final String USERNAME = "username";
+
+    private MappedRefreshTokenStore open(int slots) {
+        return new MappedRefreshTokenStore(tempDir.resolve("refresh-tokens.dat").toString(), slots);
+    }
+
+    @Test
+    public void 저장_조회_성공() throws Exception {
+        //given
+        MappedRefreshTokenStore store = open(16);
+        String familyId = UUID.randomUUID().toString();
+        Instant expiresAt = Instant.now().plusSeconds(60);
+
+        //when
+        store.save("refreshToken", USERNAME, familyId, expiresAt);
+
+        //then
+        StoredRefreshToken token = store.find("refreshToken").orElseThrow(() -> new Exception("토큰이 없습니다."));
+        Assertions.assertThat(token.getUsername()).isEqualTo(USERNAME);
+        Assertions.assertThat(token.getFamilyId()).isEqualTo(familyId);
+        Assertions.assertThat(token.getExpiresAt()).isEqualTo(Instant.ofEpochMilli(expiresAt.toEpochMilli()));
+        Assertions.assertThat(store.find("otherToken")).isEmpty();
+        store.close();
+    }
+
+    @Test
+    public void 재시작_후_유지() throws Exception {
+        //given
+        MappedRefreshTokenStore store = open(16);
+        store.save("refreshToken", USERNAME, UUID.randomUUID().toString(), Instant.now().plusSeconds(60));
+        store.close();
+
+        //when
+        MappedRefreshTokenStore reopened = open(16);
+
+        //then
+        Assertions.assertThat(reopened.find("refreshToken")).isPresent();
+        reopened.deleteByUsername(USERNAME);
+        Assertions.assertThat(reopened.find("refreshToken")).isEmpty();
+        reopened.close();
+    }
+
+    @Test
+    public void 회원_토큰_전체_삭제() throws Exception {
+        //given
+        MappedRefreshTokenStore store = open(16);
+        store.save("refreshToken1", USERNAME, UUID.randomUUID().toString(), Instant.now().plusSeconds(60));
+        store.save("refreshToken2", USERNAME, UUID.randomUUID().toString(), Instant.now().plusSeconds(60));
+        store.save("refreshToken3", "다른회원", UUID.randomUUID().toString(), Instant.now().plusSeconds(60));
+
+        //when
+        store.deleteByUsername(USERNAME);
+
+        //then
+        Assertions.assertThat(store.find("refreshToken1")).isEmpty();
+        Assertions.assertThat(store.find("refreshToken2")).isEmpty();
+        Assertions.assertThat(store.find("refreshToken3").get().getUsername()).isEqualTo("다른회원");
+        store.close();
+    }
+
+    @Test
+    public void 만료_토큰_정리() throws Exception {
+        //given
+        MappedRefreshTokenStore store = open(16);
+        Instant now = Instant.now();
+        store.save("expired", USERNAME, UUID.randomUUID().toString(), now.minusSeconds(1));
+        store.save("alive", USERNAME, UUID.randomUUID().toString(), now.plusSeconds(60));
+
+        //when
+        int purged = store.purgeExpired(now);
+
+        //then
+        Assertions.assertThat(purged).isEqualTo(1);
+        Assertions.assertThat(store.find("expired")).isEmpty();
+        Assertions.assertThat(store.find("alive")).isPresent();
+        store.close();
+    }
+
+    @Test
+    public void 슬롯_가득참_실패() throws Exception {
+        //given
+        MappedRefreshTokenStore store = open(2);
+        store.save("refreshToken1", USERNAME, UUID.randomUUID().toString(), Instant.now().plusSeconds(60));
+        store.save("refreshToken2", USERNAME, UUID.randomUUID().toString(), Instant.now().plusSeconds(60));
+
+        //when, then
+        Assertions.assertThatThrownBy(() ->
+                store.save("refreshToken3", USERNAME, UUID.randomUUID().toString(), Instant.now().plusSeconds(60)))
+                .isInstanceOf(IllegalStateException.class);
+        store.close();
+    }
+
+    @Test
+    public void 삭제_반복_후에도_조회_일관성_유지() throws Exception {
+        //given (슬롯이 적어 탐사 구간이 계속 겹침)
+        MappedRefreshTokenStore store = open(8);
+        Map<String, String> alive = new HashMap<>(); // token -> username
+
+        //when
+        for (int i = 0; i < 1000; i++) {
+            String username = "user" + (i % 5);
+            store.save("refreshToken" + i, username, UUID.randomUUID().toString(), Instant.now().plusSeconds(60));
+            alive.put("refreshToken" + i, username);
+            if (alive.size() == 7) {
+                store.deleteByUsername(username);
+                alive.values().removeIf(username::equals);
+            }
+
+            //then
+            for (String token : alive.keySet()) {
+                Assertions.assertThat(store.find(token)).isPresent();
+            }
+        }
+        Assertions.assertThat(store.find("refreshToken1000")).isEmpty();
+
+        // 삭제 표시가 남지 않으므로 남은 슬롯을 모두 다시 쓸 수 있음
+        int free = 8 - alive.size();
+        for (int i = 0; i < free; i++) {
+            store.save("extra" + i, USERNAME, UUID.randomUUID().toString(), Instant.now().plusSeconds(60));
+        }
+        for (int i = 0; i < free; i++) {
+            Assertions.assertThat(store.find("extra" + i)).isPresent();
+        }
+        store.close();
+    }
+
+    @Test
+    public void 토큰_패밀리_삭제() throws Exception {
+        //given
+        MappedRefreshTokenStore store = open(8);
+        String familyId = UUID.randomUUID().toString();
+        store.save("refreshToken1", USERNAME, familyId, Instant.now().plusSeconds(60));
+        store.save("refreshToken2", USERNAME, familyId, Instant.now().plusSeconds(60));
+        store.save("refreshToken3", USERNAME, UUID.randomUUID().toString(), Instant.now().plusSeconds(60));
+
+        //when
+        int deleted = store.deleteByFamilyId(familyId);
+
+        //then
+        Assertions.assertThat(deleted).isEqualTo(2);
+        Assertions.assertThat(store.find("refreshToken1")).isEmpty();
+        Assertions.assertThat(store.find("refreshToken2")).isEmpty();
+        Assertions.assertThat(store.find("refreshToken3")).isPresent();
+        Assertions.assertThat(store.deleteByFamilyId(familyId)).isEqualTo(0);
+        store.close();
+    }
+
+    @Test
+    public void 사용중인_파일_열기_실패() throws Exception {
+        //given
+        MappedRefreshTokenStore store = open(16);
+
+        //when, then
+        Assertions.assertThatThrownBy(() -> open(16))
+                .isInstanceOf(IllegalStateException.class);
+        store.close();
+
+        MappedRefreshTokenStore reopened = open(16);
+        reopened.close();
+    }
+}
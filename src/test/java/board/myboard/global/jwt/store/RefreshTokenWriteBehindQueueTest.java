@@ -0,0 +1,156 @@
+package board.myboard.global.jwt.store;
+
+import board.myboard.domain.token.RefreshToken;
+import board.myboard.domain.token.repository.RefreshTokenRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * flush-interval을 길게 두고 flush()를 직접 호출해서 확인.
+ */
+@SpringBootTest(properties = {
+        "jwt.refresh.write-behind.enabled=true",
+        "jwt.refresh.write-behind.batch-size=1000",
+        "jwt.refresh.write-behind.flush-interval=600000",
+        "jwt.refresh.write-behind.max-attempts=3"
+})
+class RefreshTokenWriteBehindQueueTest {
+
+    @Autowired
+    RefreshTokenStore refreshTokenStore;
+
+    @Autowired
+    RefreshTokenWriteBehindQueue writeBehindQueue;
+
+    @Autowired
+    RefreshTokenRepository refreshTokenRepository;
+
+    @Autowired
+    MeterRegistry meterRegistry;
+
+    private static final String USERNAME = "writeBehindUser";
+    // refresh_token.username (varchar 30) 보다 길어서 INSERT 실패
+    private static final String TOO_LONG_USERNAME = "writeBehindUser-username-longer-than-30";
+
+    @AfterEach
+    public void clear() {
+        refreshTokenStore.deleteByUsername(USERNAME);
+    }
+
+    private void save(String refreshToken) {
+        refreshTokenStore.save(refreshToken, USERNAME, UUID.randomUUID().toString(), Instant.now().plusSeconds(60));
+    }
+
+    @Test
+    public void 기록_전에도_조회_성공() throws Exception {
+        //when
+        save("refreshToken1");
+
+        //then
+        Assertions.assertThat(refreshTokenStore.find("refreshToken1").get().getUsername()).isEqualTo(USERNAME);
+        Assertions.assertThat(refreshTokenRepository.findById(RefreshToken.hash("refreshToken1"))).isEmpty();
+        Assertions.assertThat(meterRegistry.get("jwt.refresh.write_behind.queue").gauge().value()).isEqualTo(1);
+    }
+
+    @Test
+    public void flush_batch_기록_성공() throws Exception {
+        //given
+        save("refreshToken1");
+        save("refreshToken2");
+        save("refreshToken3");
+
+        //when
+        writeBehindQueue.flush();
+
+        //then
+        Assertions.assertThat(refreshTokenRepository.findByUsername(USERNAME)).hasSize(3);
+        Assertions.assertThat(refreshTokenStore.find("refreshToken2")).isPresent();
+        Assertions.assertThat(meterRegistry.get("jwt.refresh.write_behind.flush").timer().count()).isPositive();
+    }
+
+    @Test
+    public void markUsed_해당_토큰만_기록() throws Exception {
+        //given
+        save("refreshToken1");
+        save("refreshToken2");
+
+        //when
+        boolean marked = refreshTokenStore.markUsed("refreshToken1");
+
+        //then refreshToken2는 큐에 남아 있음
+        Assertions.assertThat(marked).isTrue();
+        Assertions.assertThat(refreshTokenRepository.findById(RefreshToken.hash("refreshToken1")).get().isUsed()).isTrue();
+        Assertions.assertThat(refreshTokenRepository.findById(RefreshToken.hash("refreshToken2"))).isEmpty();
+        Assertions.assertThat(writeBehindQueue.size()).isEqualTo(1);
+        Assertions.assertThat(refreshTokenStore.find("refreshToken2")).isPresent();
+    }
+
+    @Test
+    public void 삭제된_회원_토큰_기록안함() throws Exception {
+        //given
+        save("refreshToken1");
+
+        //when
+        refreshTokenStore.deleteByUsername(USERNAME);
+        writeBehindQueue.flush();
+
+        //then
+        Assertions.assertThat(refreshTokenStore.find("refreshToken1")).isEmpty();
+        Assertions.assertThat(refreshTokenRepository.findByUsername(USERNAME)).isEmpty();
+    }
+
+    @Test
+    public void 삭제된_회원_토큰_큐에서_제거() throws Exception {
+        //given
+        save("refreshToken1");
+        refreshTokenStore.save("refreshToken2", USERNAME, "family", Instant.now().plusSeconds(60));
+
+        //when
+        refreshTokenStore.deleteByFamilyId("family");
+
+        //then
+        Assertions.assertThat(writeBehindQueue.size()).isEqualTo(1);
+        Assertions.assertThat(refreshTokenStore.find("refreshToken2")).isEmpty();
+
+        //when
+        refreshTokenStore.deleteByUsername(USERNAME);
+
+        //then
+        Assertions.assertThat(writeBehindQueue.size()).isZero();
+        Assertions.assertThat(meterRegistry.get("jwt.refresh.write_behind.queue").gauge().value()).isZero();
+    }
+
+    @Test
+    public void 기록_실패한_토큰_재시도_후_제거() throws Exception {
+        //given
+        save("refreshToken1");
+        refreshTokenStore.save("failingToken", TOO_LONG_USERNAME, UUID.randomUUID().toString(), Instant.now().plusSeconds(60));
+        double dropped = meterRegistry.get("jwt.refresh.write_behind.dropped").counter().count();
+
+        //when batch 실패 -> 한 건씩 기록 : 정상 토큰은 기록, 실패한 토큰은 큐에 남아 재시도
+        writeBehindQueue.flush();
+
+        //then
+        Assertions.assertThat(refreshTokenRepository.findById(RefreshToken.hash("refreshToken1"))).isPresent();
+        Assertions.assertThat(refreshTokenStore.find("failingToken")).isPresent();
+        Assertions.assertThat(writeBehindQueue.size()).isEqualTo(1);
+        // 기록되지 않은 토큰을 재사용으로 판단하지 않음 (markUsed의 writeNow에서 2번째 실패)
+        Assertions.assertThatThrownBy(() -> refreshTokenStore.markUsed("failingToken"))
+                .isInstanceOf(IllegalStateException.class);
+
+        //when max-attempts(3) 번째 실패
+        writeBehindQueue.flush();
+
+        //then pending에서도 제거
+        Assertions.assertThat(refreshTokenStore.find("failingToken")).isEmpty();
+        Assertions.assertThat(writeBehindQueue.size()).isZero();
+        Assertions.assertThat(meterRegistry.get("jwt.refresh.write_behind.dropped").counter().count()).isEqualTo(dropped + 1);
+    }
+}
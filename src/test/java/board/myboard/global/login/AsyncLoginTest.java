@@ -0,0 +1,237 @@
+package board.myboard.global.login;
+
+import board.myboard.domain.member.Member;
+import board.myboard.domain.member.Role;
+import board.myboard.domain.member.repository.MemberRepository;
+import board.myboard.global.jwt.service.JwtService;
+import board.myboard.global.login.executor.LoginExecutor;
+import board.myboard.global.login.filter.JsonUsernamePasswordAuthFilter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockAsyncContext;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로그인 인증이 LoginExecutor(Servlet async)에서 실행되는지 확인.
+ *
+ * 인증은 다른 스레드(다른 트랜잭션)에서 실행되므로 @Transactional 없이 회원을 저장하고 직접 삭제한다.
+ */
+@AutoConfigureMockMvc
+@SpringBootTest
+public class AsyncLoginTest {
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    MemberRepository memberRepository;
+
+    @Autowired
+    PasswordEncoder passwordEncoder;
+
+    @Autowired
+    JwtService jwtService;
+
+    @Autowired
+    LoginExecutor loginExecutor;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    @Value("${jwt.access.header}")
+    private String accessHeader;
+
+    private static final String USERNAME = "asyncLoginUser";
+    private static final String PASSWORD = "123456789";
+
+    @BeforeEach
+    public void init() {
+        memberRepository.save(Member.builder().username(USERNAME).password(passwordEncoder.encode(PASSWORD))
+                .name("MEMBER1").nickName("NickName1").role(Role.USER).age(28).build());
+    }
+
+    @AfterEach
+    public void clear() {
+        jwtService.destroyRefreshToken(USERNAME);
+        memberRepository.findByUsername(USERNAME).ifPresent(memberRepository::delete);
+    }
+
+    private MvcResult login(String password) throws Exception {
+        return login(USERNAME, password);
+    }
+
+    private MvcResult login(String username, String password) throws Exception {
+        MvcResult result = mockMvc.perform(MockMvcRequestBuilders.post("/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"username\":\"" + username + "\",\"password\":\"" + password + "\"}"))
+                .andReturn();
+
+        // AsyncContext.complete() 될 때까지 대기
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (result.getRequest().isAsyncStarted() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        return result;
+    }
+
+    @Test
+    public void 비동기_로그인_성공() throws Exception {
+        //when
+        MvcResult result = login(PASSWORD);
+
+        //then
+        Assertions.assertThat(result.getRequest().isAsyncStarted()).isFalse();
+        Assertions.assertThat(result.getResponse().getStatus()).isEqualTo(200);
+        Assertions.assertThat(result.getResponse().getHeader(accessHeader)).isNotBlank();
+    }
+
+    @Test
+    public void 비동기_로그인_비밀번호_오류_실패() throws Exception {
+        //when
+        MvcResult result = login(PASSWORD + "AAA");
+
+        //then
+        Assertions.assertThat(result.getRequest().isAsyncStarted()).isFalse();
+        Assertions.assertThat(result.getResponse().getHeader(accessHeader)).isNull();
+        Assertions.assertThat(result.getResponse().getContentAsString()).isEqualTo("fail");
+    }
+
+    @Test
+    public void 로그인_실패_반복시_계정_잠금_429() throws Exception {
+        //given
+        // 다른 테스트에 영향이 없도록 없는 아이디 사용 (없는 아이디도 실패로 기록)
+        String username = "lockedUser";
+        for (int i = 0; i < 5; i++) {
+            login(username, PASSWORD);
+        }
+
+        //when
+        MvcResult result = login(username, PASSWORD);
+
+        //then
+        Assertions.assertThat(result.getResponse().getStatus()).isEqualTo(429);
+        Assertions.assertThat(result.getResponse().getHeader("Retry-After")).isNotBlank();
+    }
+
+    @Test
+    public void 비동기_로그인_시간초과_503() throws Exception {
+        //given (로그인 스레드가 모두 사용 중이라 큐에서 대기)
+        int threads = Runtime.getRuntime().availableProcessors();
+        CountDownLatch running = new CountDownLatch(threads);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(threads);
+        for (int i = 0; i < threads; i++) {
+            loginExecutor.execute(() -> {
+                running.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+        }
+        running.await();
+
+        MvcResult result = mockMvc.perform(MockMvcRequestBuilders.post("/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"username\":\"" + USERNAME + "\",\"password\":\"" + PASSWORD + "\"}"))
+                .andReturn();
+
+        //when (login.executor.timeout 경과)
+        MockAsyncContext asyncContext = (MockAsyncContext) result.getRequest().getAsyncContext();
+        for (AsyncListener listener : asyncContext.getListeners()) {
+            listener.onTimeout(new AsyncEvent(asyncContext));
+        }
+
+        //then
+        Assertions.assertThat(result.getResponse().getStatus()).isEqualTo(503);
+        Assertions.assertThat(result.getResponse().getHeader("Retry-After")).isNotBlank();
+
+        // 대기하던 인증은 해시 비교, 토큰 발급 없이 끝남
+        release.countDown();
+        for (int i = 0; i < threads; i++) {
+            loginExecutor.execute(done::countDown);
+        }
+        done.await();
+        Assertions.assertThat(result.getResponse().getStatus()).isEqualTo(503);
+        Assertions.assertThat(result.getResponse().getHeader(accessHeader)).isNull();
+    }
+
+    @Test
+    public void 응답_쓰는_중_시간초과시_응답을_다_쓴_후_complete() throws Exception {
+        //given (성공 응답을 천천히 쓰는 로그인 필터)
+        CountDownLatch writing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        JsonUsernamePasswordAuthFilter filter = new JsonUsernamePasswordAuthFilter(objectMapper, 1024);
+        filter.setAuthenticationManager(authentication -> new UsernamePasswordAuthenticationToken(
+                authentication.getPrincipal(), null, Collections.emptyList()));
+        filter.setAuthenticationSuccessHandler((request, response, authentication) -> {
+            writing.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            response.getWriter().write("success");
+        });
+        filter.setLoginExecutor(loginExecutor);
+
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/login");
+        request.setServletPath("/login");
+        request.setAsyncSupported(true);
+        request.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        request.setContent(("{\"username\":\"" + USERNAME + "\",\"password\":\"" + PASSWORD + "\"}")
+                .getBytes(StandardCharsets.UTF_8));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        writing.await();
+
+        //when (인증 스레드가 응답을 쓰는 중에 login.executor.timeout 경과)
+        MockAsyncContext asyncContext = (MockAsyncContext) request.getAsyncContext();
+        CompletableFuture<Void> timeout = CompletableFuture.runAsync(() -> {
+            for (AsyncListener listener : asyncContext.getListeners()) {
+                try {
+                    listener.onTimeout(new AsyncEvent(asyncContext));
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+        });
+
+        //then (timeout 처리는 503을 쓰거나 complete 하지 않고 응답을 다 쓸 때까지 기다림)
+        Thread.sleep(100);
+        Assertions.assertThat(timeout).isNotDone();
+        Assertions.assertThat(request.isAsyncStarted()).isTrue();
+
+        release.countDown();
+        timeout.get(10, TimeUnit.SECONDS);
+        Assertions.assertThat(request.isAsyncStarted()).isFalse();
+        Assertions.assertThat(response.getStatus()).isEqualTo(200);
+        Assertions.assertThat(response.getContentAsString()).isEqualTo("success");
+    }
+}
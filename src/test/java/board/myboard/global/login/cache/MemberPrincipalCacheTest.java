@@ -0,0 +1,136 @@
+package board.myboard.global.login.cache;
+
+import board.myboard.domain.member.Member;
+import board.myboard.domain.member.Role;
+import board.myboard.domain.member.repository.MemberRepository;
+import board.myboard.global.jwt.service.JwtService;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.transaction.TestTransaction;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+
+@SpringBootTest
+@Transactional
+class MemberPrincipalCacheTest {
+
+    @Autowired
+    MemberPrincipalCache memberPrincipalCache;
+
+    @Autowired
+    MemberRepository memberRepository;
+
+    @Autowired
+    JwtService jwtService;
+
+    @Autowired
+    EntityManager em;
+
+    private String username = "cacheUser";
+
+    @BeforeEach
+    public void init(){
+        memberRepository.save(Member.builder().username(username).password("123456789").name("Member1")
+                .nickName("Nickname1").role(Role.USER).age(22).build());
+        clear();
+        memberPrincipalCache.evict(username);
+    }
+
+    private void clear() {
+        em.flush();
+        em.clear();
+    }
+
+    @Test
+    public void 두번째_조회_캐시_적중() throws Exception {
+        //given
+        long hitCount = memberPrincipalCache.stats().hitCount();
+
+        //when
+        memberPrincipalCache.get(username);
+        memberPrincipalCache.get(username);
+
+        //then
+        Assertions.assertThat(memberPrincipalCache.stats().hitCount()).isEqualTo(hitCount + 1);
+        Assertions.assertThat(memberPrincipalCache.get(username).get().getRole()).isEqualTo(Role.USER);
+    }
+
+    @Test
+    public void 권한_변경시_커밋_후_캐시_제거() throws Exception {
+        //given
+        memberPrincipalCache.get(username);
+
+        //when
+        memberRepository.findByUsername(username).get().updateRole(Role.ADMIN);
+        clear();
+
+        // 커밋 전에는 제거하지 않음 (다른 요청이 이전 값을 다시 캐시에 넣지 않도록 커밋 후 제거)
+        long hitCount = memberPrincipalCache.stats().hitCount();
+        Assertions.assertThat(memberPrincipalCache.get(username).get().getRole()).isEqualTo(Role.USER);
+        Assertions.assertThat(memberPrincipalCache.stats().hitCount()).isEqualTo(hitCount + 1);
+
+        TestTransaction.flagForCommit();
+        TestTransaction.end();
+
+        //then
+        long missCount = memberPrincipalCache.stats().missCount();
+        Assertions.assertThat(memberPrincipalCache.get(username).get().getRole()).isEqualTo(Role.ADMIN);
+        Assertions.assertThat(memberPrincipalCache.stats().missCount()).isEqualTo(missCount + 1);
+
+        // 커밋한 회원 삭제
+        TestTransaction.start();
+        memberRepository.findByUsername(username).ifPresent(memberRepository::delete);
+        TestTransaction.flagForCommit();
+        TestTransaction.end();
+    }
+
+    @Test
+    public void 롤백되면_캐시_유지() throws Exception {
+        //given
+        memberPrincipalCache.get(username);
+        memberRepository.findByUsername(username).get().updateRole(Role.ADMIN);
+        clear();
+
+        //when
+        TestTransaction.flagForRollback();
+        TestTransaction.end();
+
+        //then
+        long hitCount = memberPrincipalCache.stats().hitCount();
+        memberPrincipalCache.get(username);
+        Assertions.assertThat(memberPrincipalCache.stats().hitCount()).isEqualTo(hitCount + 1);
+        memberPrincipalCache.evict(username);
+    }
+
+    @Test
+    public void destroyRefreshToken_캐시_제거() throws Exception {
+        //given
+        jwtService.updateRefreshToken(username, jwtService.createRefreshToken());
+        clear();
+        memberPrincipalCache.get(username);
+
+        //when
+        jwtService.destroyRefreshToken(username);
+        clear();
+
+        //then
+        long missCount = memberPrincipalCache.stats().missCount();
+        memberPrincipalCache.get(username);
+        Assertions.assertThat(memberPrincipalCache.stats().missCount()).isEqualTo(missCount + 1);
+    }
+
+    @Test
+    public void 없는_회원_캐시안함() throws Exception {
+        //given
+        long hitCount = memberPrincipalCache.stats().hitCount();
+
+        //when, then
+        Assertions.assertThat(memberPrincipalCache.get(username + "AAA")).isEmpty();
+        Assertions.assertThat(memberPrincipalCache.get(username + "AAA")).isEmpty();
+        Assertions.assertThat(memberPrincipalCache.stats().hitCount()).isEqualTo(hitCount);
+    }
+}
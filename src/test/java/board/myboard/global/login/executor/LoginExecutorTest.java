@@ -0,0 +1,57 @@
+package board.myboard.global.login.executor;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+
+class LoginExecutorTest {
+
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    public void 큐_가득참_거부() throws Exception {
+        //given
+        LoginExecutor loginExecutor = new LoginExecutor(meterRegistry, true, 1, 1, 1000);
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        Runnable blocking = () -> {
+            running.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+        loginExecutor.execute(blocking); // 실행 중
+        running.await();
+        loginExecutor.execute(blocking); // 큐 대기
+
+        //when, then
+        Assertions.assertThatThrownBy(() -> loginExecutor.execute(blocking))
+                .isInstanceOf(RejectedExecutionException.class);
+        Assertions.assertThat(meterRegistry.get("login.executor.rejected").counter().count()).isEqualTo(1);
+        Assertions.assertThat(meterRegistry.get("login.executor.queue").gauge().value()).isEqualTo(1);
+
+        release.countDown();
+        loginExecutor.shutdown();
+    }
+
+    @Test
+    public void 대기시간_기록() throws Exception {
+        //given
+        LoginExecutor loginExecutor = new LoginExecutor(meterRegistry, true, 1, 4, 1000);
+        CountDownLatch done = new CountDownLatch(1);
+
+        //when
+        loginExecutor.execute(done::countDown);
+        done.await();
+        loginExecutor.shutdown();
+
+        //then
+        Assertions.assertThat(meterRegistry.get("login.executor.wait").timer().count()).isEqualTo(1);
+    }
+}
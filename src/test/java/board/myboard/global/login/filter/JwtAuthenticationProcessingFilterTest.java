@@ -0,0 +1,138 @@
+package board.myboard.global.login.filter;
+
+import board.myboard.domain.member.Member;
+import board.myboard.domain.member.Role;
+import board.myboard.domain.member.repository.MemberRepository;
+import board.myboard.global.jwt.service.JwtService;
+import org.assertj.core.api.Assertions;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+
+/**
+ * jwt.access.stateless=true 일 때
+ * 인증된 요청에서 SQL이 한 건도 실행되지 않는지 확인.
+ */
+@AutoConfigureMockMvc
+@Transactional
+@SpringBootTest(properties = {
+        "jwt.access.stateless=true",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class JwtAuthenticationProcessingFilterTest {
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    MemberRepository memberRepository;
+
+    @Autowired
+    JwtService jwtService;
+
+    @Autowired
+    EntityManager em;
+
+    @Autowired
+    EntityManagerFactory emf;
+
+    @Value("${jwt.access.header}")
+    private String accessHeader;
+
+    @Value("${jwt.refresh.header}")
+    private String refreshHeader;
+
+    private static final String BEARER = "Bearer ";
+
+    private Member member;
+
+    @BeforeEach
+    public void init(){
+        member = memberRepository.save(Member.builder().username("statelessUser").password("123456789")
+                .name("Member1").nickName("Nickname1").role(Role.USER).age(22).build());
+        em.flush();
+        em.clear();
+    }
+
+    @Test
+    public void stateless_인증_SQL_실행안함() throws Exception {
+        //given
+        String accessToken = jwtService.createAccessToken(member);
+        Statistics statistics = emf.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        //when
+        // 매핑된 컨트롤러가 없으므로 인증에 성공하면 404, 실패하면 403
+        mockMvc.perform(MockMvcRequestBuilders.get("/member/info")
+                        .header(accessHeader, BEARER + accessToken))
+                .andExpect(MockMvcResultMatchers.status().isNotFound());
+
+        //then
+        Assertions.assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    @Test
+    public void stateless_토큰없음_인증_실패() throws Exception {
+        //when, then
+        mockMvc.perform(MockMvcRequestBuilders.get("/member/info"))
+                .andExpect(MockMvcResultMatchers.status().isForbidden());
+    }
+
+    @Test
+    public void 폐기된_AccessToken_인증_실패() throws Exception {
+        //given
+        String accessToken = jwtService.createAccessToken(member);
+        mockMvc.perform(MockMvcRequestBuilders.get("/member/info")
+                        .header(accessHeader, BEARER + accessToken))
+                .andExpect(MockMvcResultMatchers.status().isNotFound());
+
+        //when
+        boolean revoked = jwtService.revokeAccessToken(accessToken);
+
+        //then
+        Assertions.assertThat(revoked).isTrue();
+        mockMvc.perform(MockMvcRequestBuilders.get("/member/info")
+                        .header(accessHeader, BEARER + accessToken))
+                .andExpect(MockMvcResultMatchers.status().isForbidden());
+    }
+
+    @Test
+    public void 로그아웃하면_AccessToken_인증_실패() throws Exception {
+        //given
+        String accessToken = jwtService.createAccessToken(member);
+
+        //when
+        mockMvc.perform(MockMvcRequestBuilders.post("/logout")
+                        .header(accessHeader, BEARER + accessToken))
+                .andExpect(MockMvcResultMatchers.status().isOk());
+
+        //then
+        mockMvc.perform(MockMvcRequestBuilders.get("/member/info")
+                        .header(accessHeader, BEARER + accessToken))
+                .andExpect(MockMvcResultMatchers.status().isForbidden());
+    }
+
+    @Test
+    public void 재발급할_수_없는_RefreshToken은_401() throws Exception {
+        //given (서명은 올바르지만 저장되지 않은 토큰)
+        String refreshToken = jwtService.createRefreshToken();
+
+        //when, then
+        mockMvc.perform(MockMvcRequestBuilders.get("/member/info")
+                        .header(refreshHeader, BEARER + refreshToken))
+                .andExpect(MockMvcResultMatchers.status().isUnauthorized())
+                .andExpect(MockMvcResultMatchers.header().doesNotExist(accessHeader));
+    }
+}
@@ -0,0 +1,69 @@
+package board.myboard.global.login.filter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.AuthenticationServiceException;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+class LoginRequestParserTest {
+
+    LoginRequestParser parser = new LoginRequestParser(new ObjectMapper().getFactory(), 64);
+
+    private InputStream body(String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void 파싱_성공() throws Exception {
+        //when
+        LoginRequest loginRequest = parser.parse(body("{\"username\":\"아이디\",\"password\":\"123456789\"}"));
+
+        //then
+        Assertions.assertThat(loginRequest.getUsername()).isEqualTo("아이디");
+        Assertions.assertThat(loginRequest.getPassword()).isEqualTo("123456789");
+    }
+
+    @Test
+    public void 본문_크기_초과_실패() throws Exception {
+        //given
+        String json = "{\"username\":\"" + "a".repeat(100) + "\",\"password\":\"123456789\"}";
+
+        //when, then
+        Assertions.assertThatThrownBy(() -> parser.parse(body(json)))
+                .isInstanceOf(AuthenticationServiceException.class);
+    }
+
+    @Test
+    public void 허용되지_않은_필드_실패() throws Exception {
+        //when, then
+        Assertions.assertThatThrownBy(() -> parser.parse(body("{\"username\":\"a\",\"role\":\"ADMIN\"}")))
+                .isInstanceOf(AuthenticationServiceException.class);
+    }
+
+    @Test
+    public void 중복_필드_실패() throws Exception {
+        //when, then
+        Assertions.assertThatThrownBy(() -> parser.parse(body("{\"username\":\"a\",\"username\":\"b\"}")))
+                .isInstanceOf(AuthenticationServiceException.class);
+    }
+
+    @Test
+    public void 문자열_아닌_값_실패() throws Exception {
+        //when, then
+        Assertions.assertThatThrownBy(() -> parser.parse(body("{\"username\":{\"a\":1}}")))
+                .isInstanceOf(AuthenticationServiceException.class);
+    }
+
+    @Test
+    public void JSON_형식_오류_실패() throws Exception {
+        //when, then
+        Assertions.assertThatThrownBy(() -> parser.parse(body("{\"username\":")))
+                .isInstanceOf(AuthenticationServiceException.class);
+        Assertions.assertThatThrownBy(() -> parser.parse(body("{} {}")))
+                .isInstanceOf(AuthenticationServiceException.class);
+    }
+}
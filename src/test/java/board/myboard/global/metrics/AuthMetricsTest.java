@@ -0,0 +1,152 @@
+package board.myboard.global.metrics;
+
+import board.myboard.domain.member.Member;
+import board.myboard.domain.member.Role;
+import board.myboard.domain.member.repository.MemberRepository;
+import board.myboard.global.jwt.service.JwtService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.autoconfigure.actuate.metrics.AutoConfigureMetrics;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+
+/**
+ * 로그인 1회 + 인증 요청 1회 후 인증 타이머가 기록되고
+ * /actuator/prometheus 로 노출되는지 확인.
+ *
+ * 로그인은 LoginExecutor(다른 스레드)에서 실행되므로 @Transactional 없이 회원을 저장하고 직접 삭제한다.
+ */
+@AutoConfigureMetrics
+@AutoConfigureMockMvc
+@SpringBootTest
+class AuthMetricsTest {
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    MemberRepository memberRepository;
+
+    @Autowired
+    PasswordEncoder passwordEncoder;
+
+    @Autowired
+    JwtService jwtService;
+
+    @Autowired
+    MeterRegistry meterRegistry;
+
+    @Value("${jwt.access.header}")
+    private String accessHeader;
+
+    private static final String USERNAME = "metricsUser";
+    private static final String PASSWORD = "123456789";
+    private static final String BEARER = "Bearer ";
+
+    @BeforeEach
+    public void init() {
+        memberRepository.save(Member.builder().username(USERNAME).password(passwordEncoder.encode(PASSWORD))
+                .name("MEMBER1").nickName("NickName1").role(Role.USER).age(28).build());
+    }
+
+    @AfterEach
+    public void clear() {
+        jwtService.destroyRefreshToken(USERNAME);
+        memberRepository.findByUsername(USERNAME).ifPresent(memberRepository::delete);
+    }
+
+    private long count(String name, String... tags) {
+        Timer timer = meterRegistry.find(name).tags(tags).timer();
+        return timer == null ? 0 : timer.count();
+    }
+
+    private String login() throws Exception {
+        MvcResult result = mockMvc.perform(MockMvcRequestBuilders.post("/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"username\":\"" + USERNAME + "\",\"password\":\"" + PASSWORD + "\"}"))
+                .andReturn();
+
+        // AsyncContext.complete() 될 때까지 대기
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (result.getRequest().isAsyncStarted() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        return result.getResponse().getHeader(accessHeader);
+    }
+
+    @Test
+    public void 로그인_인증요청_타이머_기록() throws Exception {
+        //given
+        long signBefore = count("jwt.sign", "type", "access");
+        long loginLookupBefore = count("member.lookup", "source", "login", "outcome", "found");
+        long verifyBefore = count("jwt.verify", "outcome", "valid");
+        long hashBefore = count("password.hash", "operation", "matches");
+
+        //when
+        String accessToken = login();
+        mockMvc.perform(MockMvcRequestBuilders.get("/member/info")
+                .header(accessHeader, BEARER + accessToken));
+
+        //then
+        Assertions.assertThat(accessToken).isNotBlank();
+        Assertions.assertThat(count("jwt.sign", "type", "access")).isEqualTo(signBefore + 1);
+        Assertions.assertThat(count("jwt.sign", "type", "refresh")).isGreaterThanOrEqualTo(1);
+        Assertions.assertThat(count("member.lookup", "source", "login", "outcome", "found")).isEqualTo(loginLookupBefore + 1);
+        Assertions.assertThat(count("password.hash", "operation", "matches")).isEqualTo(hashBefore + 1);
+        Assertions.assertThat(count("jwt.verify", "outcome", "valid")).isEqualTo(verifyBefore + 1);
+    }
+
+    @Test
+    public void 잘못된_서명_토큰_outcome() throws Exception {
+        //given
+        long badSignatureBefore = count("jwt.verify", "outcome", "bad_signature");
+        String accessToken = jwtService.createAccessToken(USERNAME);
+        String tampered = accessToken.substring(0, accessToken.length() - 2) + "AA";
+
+        //when
+        mockMvc.perform(MockMvcRequestBuilders.get("/member/info")
+                .header(accessHeader, BEARER + tampered));
+
+        //then
+        Assertions.assertThat(count("jwt.verify", "outcome", "bad_signature")).isEqualTo(badSignatureBefore + 1);
+    }
+
+    @Test
+    public void prometheus_엔드포인트_ADMIN만_노출() throws Exception {
+        //given
+        Member admin = memberRepository.save(Member.builder().username("metricsAdmin").password("123456789")
+                .name("Admin").nickName("Admin").role(Role.ADMIN).age(22).build());
+        Member user = memberRepository.findByUsername(USERNAME).orElseThrow();
+
+        //when
+        int anonymousStatus = mockMvc.perform(MockMvcRequestBuilders.get("/actuator/prometheus"))
+                .andReturn().getResponse().getStatus();
+        int userStatus = mockMvc.perform(MockMvcRequestBuilders.get("/actuator/prometheus")
+                        .header(accessHeader, BEARER + jwtService.createAccessToken(user)))
+                .andReturn().getResponse().getStatus();
+        MvcResult result = mockMvc.perform(MockMvcRequestBuilders.get("/actuator/prometheus")
+                        .header(accessHeader, BEARER + jwtService.createAccessToken(admin)))
+                .andReturn();
+        memberRepository.delete(admin);
+
+        //then
+        Assertions.assertThat(anonymousStatus).isEqualTo(403);
+        Assertions.assertThat(userStatus).isEqualTo(403);
+        Assertions.assertThat(result.getResponse().getStatus()).isEqualTo(200);
+        Assertions.assertThat(result.getResponse().getContentAsString())
+                .contains("jwt_verify_seconds")
+                .contains("member_lookup_seconds")
+                .contains("password_hash_seconds");
+    }
+}